@@ -0,0 +1,79 @@
+package com.nalsil.bear.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YoutubeUrlParser 벤치마크
+ * 이전 방식(contains/substring 연쇄)과 영상 ID 추출 시간, 할당량 비교
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=YoutubeUrlParser
+ * (gc.alloc.rate.norm: 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class YoutubeUrlParserBenchmark {
+
+    /**
+     * 관리자가 입력하는 대표 URL (이전 방식이 지원하던 형식만 사용)
+     */
+    private final String[] urls = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&t=42s&list=PL1234567890",
+            "https://youtu.be/dQw4w9WgXcQ?si=AbCdEfGhIjKlMnOp",
+            "https://youtu.be/dQw4w9WgXcQ"
+    };
+
+    @Benchmark
+    public void parser(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(YoutubeUrlParser.extractVideoId(url));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(legacyExtractVideoId(url));
+        }
+    }
+
+    /**
+     * 이전 YoutubeVideoService.extractVideoId
+     */
+    private static String legacyExtractVideoId(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        if (url.contains("youtube.com/watch?v=")) {
+            int index = url.indexOf("v=");
+            if (index != -1) {
+                String videoId = url.substring(index + 2);
+                int ampersandIndex = videoId.indexOf('&');
+                if (ampersandIndex != -1) {
+                    videoId = videoId.substring(0, ampersandIndex);
+                }
+                return videoId;
+            }
+        } else if (url.contains("youtu.be/")) {
+            int index = url.indexOf("youtu.be/");
+            if (index != -1) {
+                String videoId = url.substring(index + 9);
+                int questionIndex = videoId.indexOf('?');
+                if (questionIndex != -1) {
+                    videoId = videoId.substring(0, questionIndex);
+                }
+                return videoId;
+            }
+        }
+        return null;
+    }
+}
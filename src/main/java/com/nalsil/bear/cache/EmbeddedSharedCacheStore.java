@@ -0,0 +1,70 @@
+package com.nalsil.bear.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내장 공유 캐시 저장소 (app.cache.shared.type=embedded)
+ *
+ * 프로세스 안의 메모리에 직렬화된 값을 보관합니다.
+ * 노드 간에는 공유되지 않으므로 단일 노드 운영이나 개발/테스트에서 L2 경로를 그대로 사용할 때 씁니다.
+ * 항목 수가 상한에 도달하면 만료 항목을 정리하고, 그래도 가득 차 있으면 모두 비웁니다.
+ */
+public class EmbeddedSharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public EmbeddedSharedCacheStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.fromSupplier(() -> {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(key, entry);
+                return null;
+            }
+            return entry.value();
+        });
+    }
+
+    @Override
+    public Mono<Void> put(String key, byte[] value, Duration ttl) {
+        return Mono.fromRunnable(() -> {
+            if (entries.size() >= maxEntries) {
+                long now = System.nanoTime();
+                entries.values().removeIf(entry -> entry.isExpired(now));
+                if (entries.size() >= maxEntries) {
+                    entries.clear();
+                }
+            }
+            entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+        });
+    }
+
+    @Override
+    public Mono<Void> evict(String key) {
+        return Mono.fromRunnable(() -> entries.remove(key));
+    }
+
+    @Override
+    public String name() {
+        return "embedded";
+    }
+
+    private record Entry(byte[] value, long expiresAtNanos) {
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
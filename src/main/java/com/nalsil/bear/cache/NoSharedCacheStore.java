@@ -0,0 +1,37 @@
+package com.nalsil.bear.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 공유 캐시 미사용 (app.cache.shared.type=none)
+ * 노드별 L1 캐시만 사용합니다.
+ */
+public class NoSharedCacheStore implements SharedCacheStore {
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> put(String key, byte[] value, Duration ttl) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> evict(String key) {
+        return Mono.empty();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public String name() {
+        return "none";
+    }
+}
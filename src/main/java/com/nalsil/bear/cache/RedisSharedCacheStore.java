@@ -0,0 +1,63 @@
+package com.nalsil.bear.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Redis 호환 공유 캐시 저장소 (app.cache.shared.type=redis)
+ *
+ * Lettuce 리액티브 API로 GET / SET PX / DEL만 사용하므로 Redis, Valkey, KeyDB 등에서 동작합니다.
+ * 연결은 첫 사용 시 맺으며 (기동 시 서버가 없어도 애플리케이션은 시작), 연결 실패는 캐시하지 않아
+ * 다음 호출에서 다시 시도합니다. 맺어진 연결의 재연결은 Lettuce가 처리합니다.
+ */
+@Slf4j
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+    private final RedisClient client;
+    private final Mono<StatefulRedisConnection<String, byte[]>> connection;
+
+    public RedisSharedCacheStore(String url) {
+        this.client = RedisClient.create();
+        RedisURI uri = RedisURI.create(url);
+        this.connection = Mono.defer(() -> Mono.fromCompletionStage(client.connectAsync(CODEC, uri)))
+                .doOnNext(connected -> log.info("공유 캐시 Redis 연결: {}:{}", uri.getHost(), uri.getPort()))
+                .cache(connected -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return connection.flatMap(connected -> connected.reactive().get(key));
+    }
+
+    @Override
+    public Mono<Void> put(String key, byte[] value, Duration ttl) {
+        return connection.flatMap(connected -> connected.reactive().set(key, value, SetArgs.Builder.px(ttl.toMillis())))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> evict(String key) {
+        return connection.flatMap(connected -> connected.reactive().del(key)).then();
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    @Override
+    public void close() {
+        client.shutdown();
+    }
+}
@@ -0,0 +1,58 @@
+package com.nalsil.bear.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * SharedCacheStore (L2 캐시 SPI)
+ * 여러 노드가 함께 사용하는 공유 캐시 저장소
+ *
+ * 값은 TieredCache가 직렬화한 바이트 배열로 저장하며, 구현체는 키/값/만료만 다룹니다.
+ * 구현체: NoSharedCacheStore(사용 안 함), EmbeddedSharedCacheStore(단일 노드/개발용 메모리 저장소),
+ * RedisSharedCacheStore(Redis 호환 서버)
+ */
+public interface SharedCacheStore extends AutoCloseable {
+
+    /**
+     * 값 조회
+     *
+     * @param key 키
+     * @return 값 (없거나 만료되었으면 Mono.empty())
+     */
+    Mono<byte[]> get(String key);
+
+    /**
+     * 값 저장
+     *
+     * @param key 키
+     * @param value 값
+     * @param ttl 만료 시간
+     * @return 완료 신호
+     */
+    Mono<Void> put(String key, byte[] value, Duration ttl);
+
+    /**
+     * 값 삭제
+     *
+     * @param key 키
+     * @return 완료 신호
+     */
+    Mono<Void> evict(String key);
+
+    /**
+     * 공유 저장소 사용 여부 (false면 TieredCache가 L2 단계를 건너뜀)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 저장소 이름 (로그/메트릭용)
+     */
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
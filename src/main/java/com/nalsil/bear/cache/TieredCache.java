@@ -0,0 +1,326 @@
+package com.nalsil.bear.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * TieredCache
+ * 캐시 영역(region) 하나의 2단계 캐시 (노드별 L1 메모리 + 공유 L2 저장소)
+ *
+ * 조회 순서: L1 → L2 → 원본(loader)
+ * - 신선 기간(ttl) 안의 값은 그대로 응답합니다.
+ * - 신선 기간이 지나고 유예 기간(stale-while-revalidate) 안이면 기존 값으로 즉시 응답하고,
+ *   백그라운드에서 한 번만 다시 읽어 교체합니다. (다른 노드가 이미 갱신한 L2 값이 있으면 그 값을 사용)
+ * - 같은 키의 동시 미스는 하나의 조회로 합칩니다. (요청 병합)
+ * - 원본이 빈 결과를 반환하면 캐시하지 않습니다.
+ * - L2 호출이 실패하거나 제한 시간을 넘기면 L2 없이 진행합니다.
+ *
+ * 값의 저장 시각은 L2 항목에 함께 기록하므로 노드가 달라도 같은 기준으로 신선도를 판단합니다.
+ * 삭제(evict)는 현재 노드의 L1과 L2에서 지우며, 다른 노드의 L1은 신선 기간이 지나면 L2/원본에서 다시 읽습니다.
+ *
+ * @param <T> 값 타입
+ */
+@Slf4j
+public class TieredCache<T> {
+
+    private static final String STORED_AT_FIELD = "t";
+    private static final String VALUE_FIELD = "v";
+
+    private final String region;
+    private final JavaType type;
+    private final SharedCacheStore sharedStore;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final int maxEntries;
+    private final Duration sharedTimeout;
+
+    /**
+     * 키 → L1 항목
+     */
+    private final Map<String, Entry<T>> local = new ConcurrentHashMap<>();
+
+    /**
+     * 키 → 진행 중인 조회 (동시 미스 병합)
+     */
+    private final Map<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 백그라운드 갱신 중인 키
+     */
+    private final Map<String, Boolean> revalidating = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l1StaleHits;
+    private final Counter l2Hits;
+    private final Counter l2StaleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter sharedErrors;
+
+    TieredCache(String region, JavaType type, SharedCacheStore sharedStore, ObjectMapper objectMapper,
+                String keyPrefix, Duration ttl, Duration staleWhileRevalidate, int maxEntries,
+                Duration sharedTimeout, MeterRegistry meterRegistry) {
+        this.region = region;
+        this.type = type;
+        this.sharedStore = sharedStore;
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix + ":" + region + ":";
+        this.ttlMillis = ttl.toMillis();
+        this.staleMillis = staleWhileRevalidate.toMillis();
+        this.maxEntries = maxEntries;
+        this.sharedTimeout = sharedTimeout;
+
+        this.l1Hits = gets(meterRegistry, "l1", "hit");
+        this.l1StaleHits = gets(meterRegistry, "l1", "stale");
+        this.l2Hits = gets(meterRegistry, "l2", "hit");
+        this.l2StaleHits = gets(meterRegistry, "l2", "stale");
+        this.misses = gets(meterRegistry, "source", "miss");
+        this.coalesced = Counter.builder("cache.coalesced")
+                .description("진행 중인 조회에 합쳐진 미스 수")
+                .tag("cache", region)
+                .register(meterRegistry);
+        this.sharedErrors = Counter.builder("cache.shared.errors")
+                .description("L2 공유 저장소 호출 실패/시간 초과 수")
+                .tag("cache", region)
+                .tag("store", sharedStore.name())
+                .register(meterRegistry);
+        Gauge.builder("cache.size", local, Map::size)
+                .description("L1 항목 수")
+                .tag("cache", region)
+                .register(meterRegistry);
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.gets")
+                .description("캐시 조회 결과 (tier: l1/l2/source, result: hit/stale/miss)")
+                .tag("cache", region)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (없으면 원본에서 읽어 저장)
+     *
+     * @param key 키
+     * @param loader 원본 조회 (빈 결과는 캐시하지 않음)
+     * @return 값
+     */
+    public Mono<T> get(String key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            Entry<T> entry = local.get(key);
+            if (entry != null) {
+                long age = System.currentTimeMillis() - entry.storedAtMillis();
+                if (age <= ttlMillis) {
+                    l1Hits.increment();
+                    return Mono.just(entry.value());
+                }
+                if (age <= ttlMillis + staleMillis) {
+                    l1StaleHits.increment();
+                    revalidate(key, loader);
+                    return Mono.just(entry.value());
+                }
+                local.remove(key, entry);
+            }
+            return coalesce(key, () -> readShared(key)
+                    .flatMap(shared -> {
+                        long age = System.currentTimeMillis() - shared.storedAtMillis();
+                        if (age > ttlMillis + staleMillis) {
+                            return Mono.empty();
+                        }
+                        putLocal(key, shared);
+                        if (age <= ttlMillis) {
+                            l2Hits.increment();
+                        } else {
+                            l2StaleHits.increment();
+                            revalidate(key, loader);
+                        }
+                        return Mono.just(shared.value());
+                    })
+                    .switchIfEmpty(Mono.defer(() -> loadSource(key, loader))));
+        });
+    }
+
+    /**
+     * 원본에서 다시 읽어 L1/L2 교체 (콘텐츠 변경 직후 사용)
+     * 원본이 빈 결과를 반환하면 키를 삭제합니다.
+     *
+     * @param key 키
+     * @param loader 원본 조회
+     * @return 새 값
+     */
+    public Mono<T> reload(String key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> loadSource(key, loader))
+                .switchIfEmpty(Mono.defer(() -> evict(key).then(Mono.empty())));
+    }
+
+    /**
+     * 키 삭제 (현재 노드 L1 + L2)
+     *
+     * @param key 키
+     * @return 완료 신호
+     */
+    public Mono<Void> evict(String key) {
+        return Mono.defer(() -> {
+            local.remove(key);
+            if (!sharedStore.isEnabled()) {
+                return Mono.empty();
+            }
+            return sharedStore.evict(keyPrefix + key)
+                    .timeout(sharedTimeout)
+                    .onErrorResume(error -> {
+                        sharedErrors.increment();
+                        log.warn("공유 캐시 삭제 실패: region={}, key={}, error={}", region, key, error.toString());
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    /**
+     * 영역 이름
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * 같은 키의 동시 조회를 하나로 합침
+     */
+    private Mono<T> coalesce(String key, Supplier<Mono<T>> lookup) {
+        Mono<T> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        Mono<T> mono = Mono.defer(lookup)
+                // 이후 등록된 새 조회는 남겨두고 자신만 제거
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(mono);
+        Mono<T> raced = inFlight.putIfAbsent(key, mono);
+        if (raced != null) {
+            coalesced.increment();
+            return raced;
+        }
+        return mono;
+    }
+
+    /**
+     * 유예 기간 값으로 응답한 뒤 백그라운드 갱신 (키당 한 번)
+     * 다른 노드가 이미 갱신한 L2 값이 신선하면 원본을 읽지 않습니다.
+     * 원본이 빈 결과를 반환하면(삭제/비공개 전환) 유예 값을 계속 내보내지 않도록 키를 삭제합니다.
+     */
+    private void revalidate(String key, Supplier<Mono<T>> loader) {
+        if (revalidating.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        readShared(key)
+                .filter(shared -> System.currentTimeMillis() - shared.storedAtMillis() <= ttlMillis)
+                .doOnNext(shared -> putLocal(key, shared))
+                .map(Entry::value)
+                .switchIfEmpty(Mono.defer(() -> loadSource(key, loader)
+                        .switchIfEmpty(Mono.defer(() -> evict(key).then(Mono.empty())))))
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(value -> log.debug("캐시 갱신: region={}, key={}", region, key),
+                        error -> log.warn("캐시 갱신 실패 (기존 값 유지): region={}, key={}, error={}",
+                                region, key, error.toString()));
+    }
+
+    private Mono<T> loadSource(String key, Supplier<Mono<T>> loader) {
+        misses.increment();
+        return loader.get()
+                .doOnNext(value -> {
+                    Entry<T> entry = new Entry<>(value, System.currentTimeMillis());
+                    putLocal(key, entry);
+                    writeShared(key, entry);
+                });
+    }
+
+    private void putLocal(String key, Entry<T> entry) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (local.size() >= maxEntries && !local.containsKey(key)) {
+            long now = System.currentTimeMillis();
+            local.values().removeIf(existing -> now - existing.storedAtMillis() > ttlMillis + staleMillis);
+            if (local.size() >= maxEntries) {
+                local.clear();
+            }
+        }
+        local.put(key, entry);
+    }
+
+    private Mono<Entry<T>> readShared(String key) {
+        if (!sharedStore.isEnabled()) {
+            return Mono.empty();
+        }
+        return sharedStore.get(keyPrefix + key)
+                .timeout(sharedTimeout)
+                .map(this::decode)
+                .onErrorResume(error -> {
+                    sharedErrors.increment();
+                    log.debug("공유 캐시 조회 실패 (원본 조회로 진행): region={}, key={}, error={}",
+                            region, key, error.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * L2 저장 (응답을 기다리게 하지 않도록 결과를 기다리지 않음)
+     */
+    private void writeShared(String key, Entry<T> entry) {
+        if (!sharedStore.isEnabled()) {
+            return;
+        }
+        Mono.fromCallable(() -> encode(entry))
+                .flatMap(bytes -> sharedStore.put(keyPrefix + key, bytes, Duration.ofMillis(ttlMillis + staleMillis)))
+                .timeout(sharedTimeout)
+                .subscribe(null, error -> {
+                    sharedErrors.increment();
+                    log.debug("공유 캐시 저장 실패: region={}, key={}, error={}", region, key, error.toString());
+                });
+    }
+
+    private byte[] encode(Entry<T> entry) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put(STORED_AT_FIELD, entry.storedAtMillis());
+        node.set(VALUE_FIELD, objectMapper.valueToTree(entry.value()));
+        return objectMapper.writeValueAsBytes(node);
+    }
+
+    private Entry<T> decode(byte[] bytes) {
+        try {
+            JsonNode node = objectMapper.readTree(bytes);
+            T value = objectMapper.convertValue(node.get(VALUE_FIELD), type);
+            return new Entry<>(value, node.get(STORED_AT_FIELD).asLong());
+        } catch (IOException e) {
+            throw new IllegalStateException("공유 캐시 값 역직렬화 실패: region=" + region, e);
+        }
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param value 값
+     * @param storedAtMillis 원본에서 읽은 시각 (epoch millis)
+     */
+    private record Entry<T>(T value, long storedAtMillis) {
+    }
+}
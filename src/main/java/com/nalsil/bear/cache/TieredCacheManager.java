@@ -0,0 +1,71 @@
+package com.nalsil.bear.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nalsil.bear.config.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TieredCacheManager
+ * 캐시 영역(region)별 TieredCache 생성 및 보관
+ *
+ * 영역별 신선 기간/유예 기간/L1 크기는 app.cache.regions.{영역}에서 지정하며,
+ * 지정하지 않은 영역은 기본값을 사용합니다. 모든 영역은 같은 L2 공유 저장소를 사용합니다.
+ */
+@Slf4j
+public class TieredCacheManager {
+
+    private final CacheProperties properties;
+    private final SharedCacheStore sharedStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TieredCache<?>> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheProperties properties, SharedCacheStore sharedStore,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sharedStore = sharedStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        log.info("2단계 캐시 공유 저장소: {}", sharedStore.name());
+    }
+
+    /**
+     * 단일 값 캐시 영역
+     *
+     * @param region 영역 이름
+     * @param type 값 타입
+     * @return 캐시
+     */
+    public <T> TieredCache<T> getCache(String region, Class<T> type) {
+        return getCache(region, objectMapper.constructType(type));
+    }
+
+    /**
+     * 목록 캐시 영역
+     *
+     * @param region 영역 이름
+     * @param elementType 원소 타입
+     * @return 캐시
+     */
+    public <E> TieredCache<List<E>> getListCache(String region, Class<E> elementType) {
+        return getCache(region, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TieredCache<T> getCache(String region, JavaType type) {
+        TieredCache<?> cache = caches.computeIfAbsent(region, name -> {
+            CacheProperties.Region settings = properties.region(name);
+            return new TieredCache<>(name, type, sharedStore, objectMapper,
+                    properties.getShared().getKeyPrefix(), settings.getTtl(), settings.getStaleWhileRevalidate(),
+                    settings.getMaxEntries(), properties.getShared().getTimeout(), meterRegistry);
+        });
+        return (TieredCache<T>) cache;
+    }
+}
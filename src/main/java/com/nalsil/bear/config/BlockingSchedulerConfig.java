@@ -0,0 +1,42 @@
+package com.nalsil.bear.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 블로킹 작업 전용 스케줄러 설정
+ *
+ * 파일 입출력, BCrypt 해시, SMTP 발송처럼 Netty/R2DBC 이벤트 루프를 막으면 안 되는 작업은
+ * 이 스케줄러로 옮겨 실행합니다. (subscribeOn / publishOn)
+ *
+ * - virtual-threads=true(기본): 작업마다 가상 스레드 사용 (Java 21)
+ * - virtual-threads=false: max-threads개 플랫폼 스레드 풀 사용
+ * - 실행 시간/대기 시간은 executor.* 메트릭(name=blocking)으로 기록
+ */
+@Slf4j
+@Configuration
+public class BlockingSchedulerConfig {
+
+    private static final String NAME = "blocking";
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(MeterRegistry meterRegistry,
+                                       @Value("${app.blocking-scheduler.virtual-threads:true}") boolean virtualThreads,
+                                       @Value("${app.blocking-scheduler.max-threads:32}") int maxThreads) {
+        ExecutorService executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(NAME + "-", 0).factory())
+                : Executors.newFixedThreadPool(maxThreads, Thread.ofPlatform().name(NAME + "-", 0).daemon().factory());
+        log.info("블로킹 작업 스케줄러: virtualThreads={}, maxThreads={}", virtualThreads, virtualThreads ? "-" : maxThreads);
+
+        return Schedulers.fromExecutorService(ExecutorServiceMetrics.monitor(meterRegistry, executor, NAME), NAME);
+    }
+}
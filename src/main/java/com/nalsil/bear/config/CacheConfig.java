@@ -0,0 +1,54 @@
+package com.nalsil.bear.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nalsil.bear.cache.EmbeddedSharedCacheStore;
+import com.nalsil.bear.cache.NoSharedCacheStore;
+import com.nalsil.bear.cache.RedisSharedCacheStore;
+import com.nalsil.bear.cache.SharedCacheStore;
+import com.nalsil.bear.cache.TieredCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 2단계 캐시 설정
+ *
+ * app.cache.shared.type에 따라 L2 공유 저장소(none, embedded, redis)를 선택하고
+ * CompanyService, BoardService, TenantReadModel 등이 사용하는 TieredCacheManager를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * L2 공유 저장소
+     *
+     * @param properties 캐시 설정
+     * @return SharedCacheStore
+     */
+    @Bean(destroyMethod = "close")
+    public SharedCacheStore sharedCacheStore(CacheProperties properties) {
+        CacheProperties.Shared shared = properties.getShared();
+        return switch (shared.getType()) {
+            case NONE -> new NoSharedCacheStore();
+            case EMBEDDED -> new EmbeddedSharedCacheStore(shared.getEmbeddedMaxEntries());
+            case REDIS -> new RedisSharedCacheStore(shared.getRedisUrl());
+        };
+    }
+
+    /**
+     * 캐시 영역 관리자
+     *
+     * @param properties 캐시 설정
+     * @param sharedCacheStore L2 공유 저장소
+     * @param objectMapper L2 값 직렬화
+     * @param meterRegistry 영역별 적중/미스 메트릭
+     * @return TieredCacheManager
+     */
+    @Bean
+    public TieredCacheManager tieredCacheManager(CacheProperties properties, SharedCacheStore sharedCacheStore,
+                                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new TieredCacheManager(properties, sharedCacheStore, objectMapper, meterRegistry);
+    }
+}
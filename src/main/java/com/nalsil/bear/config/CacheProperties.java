@@ -0,0 +1,111 @@
+package com.nalsil.bear.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 (노드별 L1 + 공유 L2)
+ *
+ * 영역(region)별 설정은 app.cache.regions.{영역}에 지정하며, 없으면 Region 기본값을 사용합니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    /**
+     * L2 공유 저장소 설정
+     */
+    private Shared shared = new Shared();
+
+    /**
+     * 영역별 설정
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * 영역 설정 조회 (지정하지 않은 영역은 기본값)
+     *
+     * @param name 영역 이름
+     * @return 영역 설정
+     */
+    public Region region(String name) {
+        Region region = regions.get(name);
+        return region != null ? region : new Region();
+    }
+
+    /**
+     * L2 저장소 종류
+     */
+    public enum StoreType {
+        /**
+         * 사용 안 함 (L1만 사용)
+         */
+        NONE,
+        /**
+         * 프로세스 내장 메모리 저장소 (단일 노드/개발용)
+         */
+        EMBEDDED,
+        /**
+         * Redis 호환 서버
+         */
+        REDIS
+    }
+
+    /**
+     * L2 공유 저장소 설정
+     */
+    @Data
+    public static class Shared {
+
+        /**
+         * 저장소 종류
+         */
+        private StoreType type = StoreType.EMBEDDED;
+
+        /**
+         * Redis 접속 URL (type=redis)
+         */
+        private String redisUrl = "redis://localhost:6379";
+
+        /**
+         * 키 접두어 (값 형식이 바뀌면 변경하여 기존 항목을 무시)
+         */
+        private String keyPrefix = "bear:v1";
+
+        /**
+         * L2 호출 제한 시간 (초과 시 L2 없이 진행)
+         */
+        private Duration timeout = Duration.ofMillis(200);
+
+        /**
+         * 내장 저장소 최대 항목 수 (type=embedded)
+         */
+        private int embeddedMaxEntries = 100_000;
+    }
+
+    /**
+     * 영역 설정
+     */
+    @Data
+    public static class Region {
+
+        /**
+         * 신선 기간 (이 기간 안의 값은 그대로 응답)
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 유예 기간 (신선 기간 이후 이 기간 동안은 기존 값으로 응답하며 백그라운드 갱신)
+         */
+        private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+
+        /**
+         * L1 최대 항목 수 (0이면 L1을 사용하지 않음)
+         */
+        private int maxEntries = 10_000;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nalsil.bear.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.WebFilter;
+import org.thymeleaf.spring6.ISpringWebFluxTemplateEngine;
+
+/**
+ * 지연 초기화 설정
+ *
+ * fast-startup 프로파일(spring.main.lazy-initialization=true)에서 기동 시간을 줄이기 위해
+ * 서비스/컨트롤러 등은 처음 사용할 때 생성하되, 아래 빈은 기동 시 바로 생성합니다.
+ *
+ * - 첫 요청 처리에 반드시 필요한 인프라: WebFilter, 보안 필터 체인, ConnectionFactory, 뷰 리졸버, 템플릿 엔진
+ * - @Scheduled 메서드가 있는 빈: 생성되지 않으면 주기 작업이 등록되지 않음
+ *
+ * 지연 초기화를 켜지 않으면 이 필터는 사용되지 않습니다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                WebFilter.class.isAssignableFrom(beanType)
+                        || SecurityWebFilterChain.class.isAssignableFrom(beanType)
+                        || ConnectionFactory.class.isAssignableFrom(beanType)
+                        || ViewResolver.class.isAssignableFrom(beanType)
+                        || ISpringWebFluxTemplateEngine.class.isAssignableFrom(beanType)
+                        || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.nalsil.bear.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정
+ *
+ * app.datasource.replica.enabled=true인 경우 spring.r2dbc.* 주 데이터베이스 풀과
+ * 복제본 풀을 묶은 라우팅 ConnectionFactory를 등록합니다.
+ * (ConnectionFactory 빈이 존재하므로 Spring Boot 기본 ConnectionFactory 자동 설정은 비활성화됨)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReadReplicaProperties.class, R2dbcProperties.class})
+public class ReadReplicaConfig {
+
+    /**
+     * 복제본 지연 감시기
+     *
+     * @param properties 복제본 설정
+     * @param r2dbcProperties 주 데이터베이스 설정 (계정 기본값)
+     * @return ReplicaLagMonitor
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties properties, R2dbcProperties r2dbcProperties) {
+        Map<String, ConnectionFactory> replicas = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Node> nodes = properties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReadReplicaProperties.Node node = nodes.get(i);
+            String username = node.getUsername() != null ? node.getUsername() : r2dbcProperties.getUsername();
+            String password = node.getPassword() != null ? node.getPassword() : r2dbcProperties.getPassword();
+            replicas.put("replica-" + i, createPool(node.getUrl(), username, password, 1, node.getMaxPoolSize()));
+        }
+
+        log.info("읽기 복제본 라우팅 활성화: replicas={}", replicas.size());
+        return new ReplicaLagMonitor(replicas, properties.getMaxLag(), properties.getLagCheckInterval());
+    }
+
+    /**
+     * 주 데이터베이스 커넥션 풀 (spring.r2dbc.* 설정 사용)
+     *
+     * @param r2dbcProperties 주 데이터베이스 설정
+     * @return ConnectionPool
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool primaryConnectionPool(R2dbcProperties r2dbcProperties) {
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        return createPool(r2dbcProperties.getUrl(), r2dbcProperties.getUsername(),
+                r2dbcProperties.getPassword(), pool.getInitialSize(), pool.getMaxSize());
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 ConnectionFactory
+     * 리포지토리, 트랜잭션 관리자 등이 주입받는 기본 ConnectionFactory
+     *
+     * @param primaryConnectionPool 주 데이터베이스 커넥션 풀
+     * @param replicaLagMonitor 복제본 지연 감시기
+     * @return ReadWriteRoutingConnectionFactory
+     */
+    @Bean
+    @Primary
+    public ReadWriteRoutingConnectionFactory connectionFactory(ConnectionPool primaryConnectionPool,
+                                                               ReplicaLagMonitor replicaLagMonitor) {
+        ConnectionFactory primary = primaryConnectionPool;
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(ReadWriteRoutingConnectionFactory.PRIMARY_KEY, primary);
+        targets.putAll(replicaLagMonitor.getReplicas());
+
+        ReadWriteRoutingConnectionFactory routing = new ReadWriteRoutingConnectionFactory(replicaLagMonitor);
+        routing.setTargetConnectionFactories(targets);
+        routing.setDefaultTargetConnectionFactory(primary);
+        // 알 수 없는 키(복제본 목록 변경 등)는 주 데이터베이스로 처리
+        routing.setLenientFallback(true);
+        return routing;
+    }
+
+    /**
+     * 커넥션 풀 생성
+     *
+     * @param url R2DBC URL
+     * @param username 사용자명
+     * @param password 비밀번호
+     * @param initialSize 초기 크기
+     * @param maxSize 최대 크기
+     * @return ConnectionPool
+     */
+    private static ConnectionPool createPool(String url, String username, String password, int initialSize, int maxSize) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+        if (username != null) {
+            builder.username(username);
+        }
+        if (password != null) {
+            builder.password(password);
+        }
+        ConnectionFactory connectionFactory = builder.build();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+    }
+}
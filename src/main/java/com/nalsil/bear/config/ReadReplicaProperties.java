@@ -0,0 +1,76 @@
+package com.nalsil.bear.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(Read Replica) 설정
+ *
+ * app.datasource.replica.enabled=true인 경우에만 라우팅 ConnectionFactory가 등록됩니다.
+ * 주 데이터베이스 연결 정보는 spring.r2dbc.* 설정을 그대로 사용합니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 복제본 라우팅 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 연결 목록
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * 쓰기 요청 이후 같은 클라이언트의 읽기를 주 데이터베이스로 보내는 기간 (read-your-writes)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * 허용 복제 지연 (초과 시 해당 복제본 제외)
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * 복제 지연 확인 주기
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 항상 주 데이터베이스를 사용할 경로 패턴 (GET 요청이라도 적용)
+     */
+    private List<String> primaryPaths = new ArrayList<>();
+
+    /**
+     * 복제본 연결 정보
+     */
+    @Data
+    public static class Node {
+
+        /**
+         * R2DBC URL (예: r2dbc:postgresql://replica-1:5432/bear_db)
+         */
+        private String url;
+
+        /**
+         * 사용자명 (미지정 시 spring.r2dbc.username)
+         */
+        private String username;
+
+        /**
+         * 비밀번호 (미지정 시 spring.r2dbc.password)
+         */
+        private String password;
+
+        /**
+         * 커넥션 풀 최대 크기
+         */
+        private int maxPoolSize = 20;
+    }
+}
@@ -0,0 +1,40 @@
+package com.nalsil.bear.config;
+
+import com.nalsil.bear.util.DataSourceRoutingContextHolder;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder.Route;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * 읽기/쓰기 라우팅 ConnectionFactory
+ *
+ * Reactor Context의 라우팅 대상이 REPLICA이면 정상 복제본 중 하나로,
+ * 그 외(쓰기, 트랜잭션, 복제본 장애/지연)에는 주 데이터베이스로 연결합니다.
+ */
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    /**
+     * 주 데이터베이스 lookup 키
+     */
+    public static final String PRIMARY_KEY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingConnectionFactory(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return DataSourceRoutingContextHolder.getCurrentRoute()
+                .map(route -> {
+                    if (route == Route.REPLICA) {
+                        String replicaKey = replicaLagMonitor.selectReplica();
+                        if (replicaKey != null) {
+                            return replicaKey;
+                        }
+                    }
+                    return PRIMARY_KEY;
+                });
+    }
+}
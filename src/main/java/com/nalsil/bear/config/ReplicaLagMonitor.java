@@ -0,0 +1,145 @@
+package com.nalsil.bear.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 지연(Replication Lag) 감시
+ *
+ * 주기적으로 각 복제본의 재생 지연을 조회하여 허용 지연을 넘거나 응답하지 않는 복제본을
+ * 라우팅 대상에서 제외하고, 정상 복제본 사이에서 라운드 로빈으로 선택합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * 복제 지연(초) 조회
+     * 주 데이터베이스에 쓰기가 없으면 마지막 재생 시각이 오래되어도 지연이 아니므로
+     * 수신 LSN과 재생 LSN이 같으면 0으로 간주합니다.
+     */
+    private static final String LAG_SQL = """
+            SELECT (CASE
+                        WHEN NOT pg_is_in_recovery() THEN 0
+                        WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                    END)::float8 AS lag_seconds
+            """;
+
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(2);
+
+    private final Map<String, ConnectionFactory> replicas;
+    private final List<String> replicaKeys;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+    private Disposable subscription;
+
+    public ReplicaLagMonitor(Map<String, ConnectionFactory> replicas, Duration maxLag, Duration checkInterval) {
+        this.replicas = replicas;
+        this.replicaKeys = new ArrayList<>(replicas.keySet());
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        // 첫 확인 전까지는 모든 복제본을 정상으로 간주
+        this.healthyReplicas.addAll(replicaKeys);
+    }
+
+    /**
+     * 복제본 ConnectionFactory 목록
+     *
+     * @return 복제본 키 → ConnectionFactory
+     */
+    public Map<String, ConnectionFactory> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 감시 시작
+     */
+    public void start() {
+        subscription = Flux.interval(Duration.ZERO, checkInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(replicaKeys).flatMap(this::check))
+                .subscribe();
+    }
+
+    /**
+     * 감시 중지
+     */
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        replicas.values().forEach(connectionFactory -> {
+            if (connectionFactory instanceof ConnectionPool pool) {
+                pool.dispose();
+            }
+        });
+    }
+
+    /**
+     * 정상 복제본 중 하나 선택 (라운드 로빈)
+     *
+     * @return 복제본 키 (정상 복제본이 없으면 null)
+     */
+    public String selectReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 단일 복제본 지연 확인 및 상태 갱신
+     *
+     * @param key 복제본 키
+     * @return 완료 신호
+     */
+    private Mono<Void> check(String key) {
+        ConnectionFactory connectionFactory = replicas.get(key);
+
+        return Mono.usingWhen(
+                        connectionFactory.create(),
+                        connection -> Mono.from(connection.createStatement(LAG_SQL).execute())
+                                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get("lag_seconds", Double.class)))),
+                        Connection::close)
+                .timeout(CHECK_TIMEOUT)
+                .map(lagSeconds -> {
+                    if (lagSeconds > maxLagSeconds) {
+                        log.warn("복제본 지연 초과 - 라우팅 제외: replica={}, lag={}s", key, lagSeconds);
+                        return false;
+                    }
+                    return true;
+                })
+                .onErrorResume(error -> {
+                    log.warn("복제본 상태 확인 실패 - 라우팅 제외: replica={}, reason={}", key, error.getMessage());
+                    return Mono.just(false);
+                })
+                .doOnNext(healthy -> {
+                    boolean changed = healthy ? healthyReplicas.add(key) : healthyReplicas.remove(key);
+                    if (changed && healthy) {
+                        log.info("복제본 라우팅 복귀: replica={}", key);
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,48 @@
+package com.nalsil.bear.config;
+
+import com.nalsil.bear.util.RequestTimings;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리포지토리 호출 시간 측정
+ *
+ * Spring Data 리포지토리 빈을 감싸 Mono/Flux를 반환하는 메서드의 구독~종료 시간을
+ * 현재 요청의 db 단계(RequestTimings)에 "리포지토리.메서드" 이름으로 기록합니다.
+ * 요청 밖(스케줄 작업 등)에서 호출되면 측정하지 않습니다.
+ */
+@Component
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof Repository<?, ?>)) {
+            return bean;
+        }
+
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(bean);
+        String repositoryName = interfaces.length > 0 ? interfaces[0].getSimpleName() : beanName;
+
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.setInterfaces(interfaces);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            String detail = repositoryName + "." + invocation.getMethod().getName();
+            if (result instanceof Mono<?> mono) {
+                return RequestTimings.time(RequestTimings.DB, detail, mono);
+            }
+            if (result instanceof Flux<?> flux) {
+                return RequestTimings.time(RequestTimings.DB, detail, flux);
+            }
+            return result;
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -1,6 +1,7 @@
 package com.nalsil.bear.config;
 
 import com.nalsil.bear.filter.JwtAuthenticationFilter;
+import com.nalsil.bear.service.TokenRevocationService;
 import com.nalsil.bear.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,7 +50,7 @@ public class SecurityConfig {
                         .pathMatchers(HttpMethod.GET, "/admin/login").permitAll()
                         .pathMatchers(HttpMethod.POST, "/admin/login").permitAll()
                         // 정적 리소스는 인증 없이 접근 가능
-                        .pathMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
+                        .pathMatchers("/css/**", "/js/**", "/assets/**", "/images/**", "/favicon.ico").permitAll()
                         .pathMatchers("/actuator/health").permitAll()
                         // 기타 모든 admin 경로는 인증 필요
                         .pathMatchers("/admin/**").authenticated()
@@ -62,11 +63,12 @@ public class SecurityConfig {
     /**
      * JWT 인증 필터 Bean
      *
+     * @param tokenRevocationService 토큰 폐기 확인
      * @return JwtAuthenticationFilter
      */
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(TokenRevocationService tokenRevocationService) {
+        return new JwtAuthenticationFilter(jwtUtil, tokenRevocationService);
     }
 
 }
@@ -0,0 +1,91 @@
+package com.nalsil.bear.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringWebFluxTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * 템플릿 캐시 사전 적재 (Pre-warm)
+ *
+ * 애플리케이션 기동 완료 시 templates/ 하위의 모든 템플릿을 한 번씩 파싱하여
+ * Thymeleaf 템플릿 캐시에 적재합니다. 첫 요청에서 발생하는 클래스패스 읽기 및 파싱 비용을 제거합니다.
+ *
+ * spring.thymeleaf.cache=false(개발 환경)인 경우 동작하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateCacheWarmer {
+
+    private final SpringWebFluxTemplateEngine templateEngine;
+    private final ThymeleafProperties thymeleafProperties;
+
+    /**
+     * 기동 완료 후 전체 템플릿 사전 파싱
+     *
+     * Thymeleaf는 캐시 가능한 템플릿을 파싱 직후(처리 전) 캐시에 저장하므로,
+     * 요청 컨텍스트가 없어 처리 단계에서 실패하더라도 파싱 결과는 캐시에 남습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!thymeleafProperties.isCache()) {
+            log.debug("템플릿 캐시 비활성화 상태 - 사전 적재 생략");
+            return;
+        }
+
+        String prefix = thymeleafProperties.getPrefix();
+        String suffix = thymeleafProperties.getSuffix();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+        try {
+            String root = resolver.getResource(prefix).getURL().toString();
+            Resource[] resources = resolver.getResources(prefix + "**/*" + suffix);
+
+            long start = System.nanoTime();
+            int warmed = 0;
+            for (Resource resource : resources) {
+                String url = resource.getURL().toString();
+                if (!url.startsWith(root)) {
+                    continue;
+                }
+                String templateName = url.substring(root.length(), url.length() - suffix.length());
+                warm(templateName);
+                warmed++;
+            }
+
+            log.info("템플릿 캐시 사전 적재 완료: {}개, {}ms", warmed, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("템플릿 목록 조회 실패 - 사전 적재 생략", e);
+        }
+    }
+
+    /**
+     * 단일 템플릿 파싱 및 캐시 적재
+     *
+     * 뷰 리졸버가 사용하는 캐시 키(선택자 없음, HTML 모드)와 동일한 TemplateSpec을 사용합니다.
+     *
+     * @param templateName 템플릿 이름 (예: public/home)
+     */
+    private void warm(String templateName) {
+        TemplateSpec spec = new TemplateSpec(templateName, (Set<String>) null, TemplateMode.HTML, null);
+        try {
+            templateEngine.process(spec, new Context(), Writer.nullWriter());
+        } catch (Exception e) {
+            // 요청 컨텍스트(@{...} 링크, 모델 등)가 없어 처리 단계에서 실패하는 것은 정상
+            log.debug("템플릿 사전 처리 중단 (파싱 결과는 캐시됨): {} - {}", templateName, e.getMessage());
+        }
+    }
+}
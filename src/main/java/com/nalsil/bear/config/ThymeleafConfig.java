@@ -1,5 +1,7 @@
 package com.nalsil.bear.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,10 +14,16 @@ import org.thymeleaf.extras.springsecurity6.dialect.SpringSecurityDialect;
 /**
  * Thymeleaf 설정 클래스
  * Thymeleaf 템플릿 엔진 및 Spring Security 통합 설정
+ *
+ * 템플릿 캐시 여부는 spring.thymeleaf.cache 프로퍼티를 따릅니다.
+ * (개발 환경: false, prod 프로파일: true)
  */
 @Configuration
+@RequiredArgsConstructor
 public class ThymeleafConfig {
 
+    private final ThymeleafProperties thymeleafProperties;
+
     /**
      * Thymeleaf 템플릿 리졸버 설정
      *
@@ -30,7 +38,7 @@ public class ThymeleafConfig {
         resolver.setSuffix(".html");
         resolver.setTemplateMode(TemplateMode.HTML);
         resolver.setCharacterEncoding("UTF-8");
-        resolver.setCacheable(false); // 개발 환경용, 운영 환경에서는 true로 변경
+        resolver.setCacheable(thymeleafProperties.isCache()); // 프로파일별 spring.thymeleaf.cache 설정 적용
         resolver.setCheckExistence(true);
         return resolver;
     }
@@ -1,12 +1,17 @@
 package com.nalsil.bear.config;
 
+import com.nalsil.bear.util.TimedViewResolver;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.reactive.config.CorsRegistry;
 import org.springframework.web.reactive.config.ResourceHandlerRegistry;
 import org.springframework.web.reactive.config.ViewResolverRegistry;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.resource.EncodedResourceResolver;
 import org.thymeleaf.spring6.view.reactive.ThymeleafReactiveViewResolver;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * WebFlux 설정 클래스
  * CORS, 필터 등 웹 설정
@@ -25,13 +30,13 @@ public class WebFluxConfig implements WebFluxConfigurer {
 
     /**
      * 뷰 리졸버 설정
-     * Thymeleaf 뷰 리졸버 등록
+     * Thymeleaf 뷰 리졸버 등록 (렌더링 시간을 Server-Timing render 단계로 기록)
      *
      * @param registry ViewResolverRegistry
      */
     @Override
     public void configureViewResolvers(ViewResolverRegistry registry) {
-        registry.viewResolver(thymeleafReactiveViewResolver);
+        registry.viewResolver(new TimedViewResolver(thymeleafReactiveViewResolver));
     }
 
     /**
@@ -42,6 +47,14 @@ public class WebFluxConfig implements WebFluxConfigurer {
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 빌드 시 생성된 해시 파일명 자원: 내용이 바뀌면 파일명이 바뀌므로 1년 immutable 캐시
+        // EncodedResourceResolver가 Accept-Encoding에 따라 사전 압축된 .gz 파일을 제공
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
         registry.addResourceHandler("/css/**")
                 .addResourceLocations("classpath:/static/css/");
 
@@ -1,26 +1,29 @@
 package com.nalsil.bear.controller.admin;
 
 import com.nalsil.bear.dto.request.CreatePostRequest;
+import com.nalsil.bear.dto.request.ToggleHiddenRequest;
 import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.exception.UnauthorizedAccessException;
 import com.nalsil.bear.mapper.PostMapper;
 import com.nalsil.bear.service.AdminService;
+import com.nalsil.bear.service.BoardAccessAuthorizer;
 import com.nalsil.bear.service.BoardService;
 import com.nalsil.bear.service.CompanyService;
 import com.nalsil.bear.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 /**
  * 관리자 게시판 컨트롤러
  *
  * 관리자가 게시글을 등록, 수정, 삭제, 숨김 처리할 수 있습니다.
+ * 게시판/게시글 소속 확인은 BoardAccessAuthorizer가 맡고, 수정/삭제 쿼리도 게시판 ID를 조건으로 겁니다.
  */
 @Slf4j
 @Controller
@@ -31,6 +34,7 @@ public class AdminBoardController {
     private final BoardService boardService;
     private final PostService postService;
     private final AdminService adminService;
+    private final BoardAccessAuthorizer boardAccessAuthorizer;
     private final CompanyService companyService;
     private final PostMapper postMapper;
 
@@ -74,13 +78,8 @@ public class AdminBoardController {
                 .flatMap(company -> {
                     model.addAttribute("company", company);
 
-                    return boardService.getBoardById(boardId)
+                    return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
                             .flatMap(board -> {
-                                // 권한 확인
-                                if (!board.getCompanyId().equals(adminCompanyId)) {
-                                    return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                                }
-
                                 model.addAttribute("board", board);
 
                                 // 숨김 포함 전체 게시글 조회 (관리자용)
@@ -90,7 +89,7 @@ public class AdminBoardController {
                             });
                 })
                 .thenReturn("admin/board/list")
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     log.error("게시판 접근 권한 없음: boardId={}, companyId={}", boardId, adminCompanyId);
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
@@ -117,20 +116,15 @@ public class AdminBoardController {
                 .flatMap(company -> {
                     model.addAttribute("company", company);
 
-                    return boardService.getBoardById(boardId)
-                            .flatMap(board -> {
-                                // 권한 확인
-                                if (!board.getCompanyId().equals(adminCompanyId)) {
-                                    return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                                }
-
+                    return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
+                            .map(board -> {
                                 model.addAttribute("board", board);
                                 model.addAttribute("post", new CreatePostRequest());
                                 model.addAttribute("isEdit", false);
-                                return Mono.just("admin/board/form");
+                                return "admin/board/form";
                             });
                 })
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
@@ -152,21 +146,18 @@ public class AdminBoardController {
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
         log.info("게시글 작성: boardId={}, title={}", boardId, request.getTitle());
 
-        return boardService.getBoardById(boardId)
+        return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
                 .flatMap(board -> {
-                    // 권한 확인
-                    if (!board.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
-
                     // Post 엔티티 생성 (MapStruct 사용)
                     Post post = postMapper.toEntity(request);
+                    // 폼의 boardId는 무시하고 소속을 확인한 경로의 게시판으로 고정 (다른 기업 게시판 등록 차단)
+                    post.setBoardId(board.getId());
                     post.setAuthor("관리자"); // Default author
 
                     return postService.createPost(post);
                 })
                 .thenReturn("redirect:/admin/boards/" + boardId + "/posts?success=created")
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
@@ -194,35 +185,32 @@ public class AdminBoardController {
                 .flatMap(company -> {
                     model.addAttribute("company", company);
 
-                    return boardService.getBoardById(boardId)
-                            .zipWith(postService.getPostById(postId))
-                            .flatMap(tuple -> {
+                    // 게시글은 게시판·기업 조건을 건 조인 쿼리로 조회 (다른 게시판 게시글 차단)
+                    return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
+                            .zipWith(boardAccessAuthorizer.requirePost(adminCompanyId, boardId, postId))
+                            .map(tuple -> {
                                 var board = tuple.getT1();
                                 var post = tuple.getT2();
 
-                                // 권한 확인
-                                if (!board.getCompanyId().equals(adminCompanyId)) {
-                                    return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                                }
-
                                 model.addAttribute("board", board);
                                 model.addAttribute("post", post);
                                 model.addAttribute("isEdit", true);
                                 model.addAttribute("postId", postId);
-                                return Mono.just("admin/board/form");
+                                return "admin/board/form";
                             });
                 })
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
 
     /**
      * 게시글 수정 처리
+     * 폼을 연 뒤 다른 관리자가 먼저 수정했다면 수정 폼으로 돌아가 충돌을 알립니다.
      *
      * @param boardId 게시판 ID
      * @param postId 게시글 ID
-     * @param request 게시글 수정 요청
+     * @param request 게시글 수정 요청 (폼을 열 때의 버전 포함)
      * @param exchange ServerWebExchange
      * @return 게시글 목록으로 리다이렉트
      */
@@ -234,26 +222,29 @@ public class AdminBoardController {
             ServerWebExchange exchange) {
 
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
-        log.info("게시글 수정: boardId={}, postId={}", boardId, postId);
-
-        return boardService.getBoardById(boardId)
-                .zipWith(postService.getPostById(postId))
-                .flatMap(tuple -> {
-                    var board = tuple.getT1();
-                    var post = tuple.getT2();
+        log.info("게시글 수정: boardId={}, postId={}, version={}", boardId, postId, request.getVersion());
 
-                    // 권한 확인
-                    if (!board.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
+        if (request.getVersion() == null) {
+            return Mono.just("redirect:/admin/boards/" + boardId + "/posts/" + postId + "/edit?error=conflict");
+        }
 
-                    // 게시글 업데이트 (MapStruct 사용)
-                    postMapper.updateEntityFromRequest(request, post);
-
-                    return postService.updatePost(post);
+        return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
+                .flatMap(board -> {
+                    // 수정할 컬럼만 담은 게시글 (MapStruct 사용)
+                    Post changes = postMapper.toEntity(request);
+                    changes.setId(postId);
+                    changes.setBoardId(boardId);
+                    changes.setVersion(request.getVersion());
+
+                    return postService.updatePost(changes)
+                            .switchIfEmpty(Mono.error(() -> UnauthorizedAccessException.forResource("게시글", postId)));
                 })
                 .thenReturn("redirect:/admin/boards/" + boardId + "/posts?success=updated")
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(OptimisticLockingFailureException.class, e -> {
+                    log.warn("게시글 수정 충돌: postId={}, version={}", postId, request.getVersion());
+                    return Mono.just("redirect:/admin/boards/" + boardId + "/posts/" + postId + "/edit?error=conflict");
+                })
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
@@ -275,26 +266,23 @@ public class AdminBoardController {
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
         log.info("게시글 삭제: boardId={}, postId={}", boardId, postId);
 
-        return boardService.getBoardById(boardId)
-                .flatMap(board -> {
-                    // 권한 확인
-                    if (!board.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
-
-                    return postService.deletePost(postId);
-                })
+        return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
+                .flatMap(board -> postService.deletePost(boardId, postId))
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> UnauthorizedAccessException.forResource("게시글", postId)))
                 .thenReturn("redirect:/admin/boards/" + boardId + "/posts?success=deleted")
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
 
     /**
      * 게시글 숨김/표시 토글
+     * 목록을 연 뒤 다른 관리자가 먼저 변경했다면 목록으로 돌아가 충돌을 알립니다.
      *
      * @param boardId 게시판 ID
      * @param postId 게시글 ID
+     * @param request 변경할 숨김 여부와 목록을 열 때의 버전
      * @param exchange ServerWebExchange
      * @return 게시글 목록으로 리다이렉트
      */
@@ -302,30 +290,25 @@ public class AdminBoardController {
     public Mono<String> toggleHidden(
             @PathVariable Long boardId,
             @PathVariable Long postId,
+            @ModelAttribute ToggleHiddenRequest request,
             ServerWebExchange exchange) {
 
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
-        log.info("게시글 숨김 토글: boardId={}, postId={}", boardId, postId);
+        log.info("게시글 숨김 토글: boardId={}, postId={}, isHidden={}", boardId, postId, request.getIsHidden());
 
-        return boardService.getBoardById(boardId)
-                .zipWith(postService.getPostById(postId))
-                .flatMap(tuple -> {
-                    var board = tuple.getT1();
-                    var post = tuple.getT2();
+        if (request.getIsHidden() == null || request.getVersion() == null) {
+            return Mono.just("redirect:/admin/boards/" + boardId + "/posts?error=conflict");
+        }
 
-                    // 권한 확인
-                    if (!board.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
-
-                    // 숨김 상태 토글
-                    post.setIsHidden(!post.getIsHidden());
-                    post.setUpdatedAt(LocalDateTime.now());
-
-                    return postService.updatePost(post);
-                })
+        // 숨김 컬럼만 변경 (UPDATE 조건에 게시판 ID 포함)
+        return boardAccessAuthorizer.requireBoard(adminCompanyId, boardId)
+                .flatMap(board -> postService.updatePostHidden(boardId, postId, request.getVersion(), request.getIsHidden()))
+                .switchIfEmpty(Mono.error(() -> UnauthorizedAccessException.forResource("게시글", postId)))
                 .thenReturn("redirect:/admin/boards/" + boardId + "/posts")
-                .onErrorResume(IllegalAccessException.class, e -> {
+                .onErrorResume(OptimisticLockingFailureException.class, e -> {
+                    return Mono.just("redirect:/admin/boards/" + boardId + "/posts?error=conflict");
+                })
+                .onErrorResume(UnauthorizedAccessException.class, e -> {
                     return Mono.just("redirect:/admin/dashboard?error=access_denied");
                 });
     }
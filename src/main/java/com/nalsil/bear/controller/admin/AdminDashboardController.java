@@ -69,7 +69,7 @@ public class AdminDashboardController {
                     // 통계 데이터 수집 (관리자용 - 숨김 포함)
                     Mono<Long> totalPosts = postService.countPostsByCompanyId(adminCompanyId);
                     Mono<Long> totalFaqs = faqService.getAllFaqsByCompanyId(adminCompanyId).count();
-                    Mono<Long> unansweredQnas = qnaService.getQnasByAnswerStatus(adminCompanyId, false, 0, Integer.MAX_VALUE).count();
+                    Mono<Long> unansweredQnas = qnaService.countQnasByAnswerStatus(adminCompanyId, false);
                     Mono<Long> totalYoutubeVideos = youtubeVideoService.getAllVideosByCompanyId(adminCompanyId).count();
                     Mono<Long> totalProducts = productService.getProductsByCompanyId(adminCompanyId).count();
 
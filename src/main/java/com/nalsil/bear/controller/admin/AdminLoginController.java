@@ -1,6 +1,7 @@
 package com.nalsil.bear.controller.admin;
 
 import com.nalsil.bear.service.AdminService;
+import com.nalsil.bear.service.TokenRevocationService;
 import com.nalsil.bear.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import reactor.core.publisher.Mono;
  * 관리자 로그인 컨트롤러 - JWT 기반
  *
  * 관리자 로그인, 로그아웃 기능을 제공합니다.
+ * 로그아웃 시 쿠키 삭제와 함께 토큰을 서버 측에서 폐기하여, 쿠키 값이 유출되어도 다시 사용할 수 없게 합니다.
  */
 @Slf4j
 @Controller
@@ -24,6 +26,7 @@ public class AdminLoginController {
 
     private final AdminService adminService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 관리자 로그인 페이지
@@ -107,25 +110,51 @@ public class AdminLoginController {
     }
 
     /**
-     * 관리자 로그아웃 - JWT 토큰 쿠키 삭제
+     * 관리자 로그아웃 - JWT 토큰 폐기 및 쿠키 삭제
+     * 폐기 저장에 실패하면 토큰이 다른 노드에서 계속 유효하므로 쿠키를 유지하고 대시보드에 실패를 알립니다.
      *
      * @param exchange ServerWebExchange
-     * @return 로그인 페이지로 리다이렉트
+     * @return 로그인 페이지로 리다이렉트 (폐기 실패 시 대시보드)
      */
     @GetMapping("/logout")
     public Mono<String> logout(ServerWebExchange exchange) {
         log.info("관리자 로그아웃");
 
-        // JWT 토큰 쿠키 삭제
-        ResponseCookie cookie = ResponseCookie.from("JWT-TOKEN", "")
-                .httpOnly(true)
-                .secure(false)
-                .path("/")
-                .maxAge(0) // 즉시 만료
-                .build();
+        return revokeCurrentToken(exchange)
+                .then(Mono.fromSupplier(() -> {
+                    // JWT 토큰 쿠키 삭제
+                    ResponseCookie cookie = ResponseCookie.from("JWT-TOKEN", "")
+                            .httpOnly(true)
+                            .secure(false)
+                            .path("/")
+                            .maxAge(0) // 즉시 만료
+                            .build();
 
-        exchange.getResponse().addCookie(cookie);
+                    exchange.getResponse().addCookie(cookie);
 
-        return Mono.just("redirect:/admin/login?logout");
+                    return "redirect:/admin/login?logout";
+                }))
+                .onErrorResume(e -> {
+                    log.error("로그아웃 토큰 폐기 중 오류 발생", e);
+                    return Mono.just("redirect:/admin/dashboard?error=logout_failed");
+                });
+    }
+
+    /**
+     * 요청 쿠키의 JWT 토큰 폐기 (유효한 토큰이 없으면 아무것도 하지 않음)
+     *
+     * @param exchange ServerWebExchange
+     * @return 완료 신호
+     */
+    private Mono<Void> revokeCurrentToken(ServerWebExchange exchange) {
+        var cookie = exchange.getRequest().getCookies().getFirst("JWT-TOKEN");
+        if (cookie == null || !jwtUtil.validateToken(cookie.getValue())) {
+            return Mono.empty();
+        }
+        String token = cookie.getValue();
+        return tokenRevocationService.revoke(
+                jwtUtil.getTokenIdFromToken(token),
+                jwtUtil.getAdminIdFromToken(token),
+                jwtUtil.getExpirationFromToken(token));
     }
 }
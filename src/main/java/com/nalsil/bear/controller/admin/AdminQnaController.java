@@ -1,16 +1,23 @@
 package com.nalsil.bear.controller.admin;
 
 import com.nalsil.bear.domain.qna.Qna;
+import com.nalsil.bear.dto.request.AnswerQnaRequest;
+import com.nalsil.bear.dto.request.ToggleHiddenRequest;
 import com.nalsil.bear.mapper.QnaMapper;
 import com.nalsil.bear.service.AdminService;
 import com.nalsil.bear.service.CompanyService;
+import com.nalsil.bear.service.QnaEventStream;
 import com.nalsil.bear.service.QnaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -28,6 +35,7 @@ public class AdminQnaController {
     private final AdminService adminService;
     private final QnaMapper qnaMapper;
     private final CompanyService companyService;
+    private final QnaEventStream qnaEventStream;
 
     /**
      * QnA 목록
@@ -52,6 +60,22 @@ public class AdminQnaController {
                 .thenReturn("admin/qna/list");
     }
 
+    /**
+     * QnA 실시간 이벤트 (Server-Sent Events)
+     * 로그인한 관리자 기업의 새 질문, 답변/숨김 상태 변경을 전달합니다.
+     *
+     * @param exchange ServerWebExchange
+     * @return 이벤트 스트림
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public Flux<ServerSentEvent<QnaEventStream.QnaEvent>> events(ServerWebExchange exchange) {
+        Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
+        log.info("관리자 QnA 이벤트 구독: companyId={}", adminCompanyId);
+
+        return qnaEventStream.stream(adminCompanyId);
+    }
+
     /**
      * QnA 상세 (답변 작성 폼 포함)
      *
@@ -73,15 +97,12 @@ public class AdminQnaController {
                 .flatMap(company -> {
                     model.addAttribute("company", company);
 
-                    return qnaService.getQnaById(id)
-                            .flatMap(qna -> {
-                                // 권한 확인
-                                if (!qna.getCompanyId().equals(adminCompanyId)) {
-                                    return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                                }
-
+                    // 기업 조건을 건 조회 (다른 기업 QnA는 empty)
+                    return qnaService.getQnaByIdAndCompanyId(id, adminCompanyId)
+                            .switchIfEmpty(Mono.error(new IllegalAccessException("접근 권한이 없습니다.")))
+                            .map(qna -> {
                                 model.addAttribute("qna", qna);
-                                return Mono.just("admin/qna/detail");
+                                return "admin/qna/detail";
                             });
                 })
                 .onErrorResume(IllegalAccessException.class, e -> {
@@ -91,35 +112,43 @@ public class AdminQnaController {
 
     /**
      * QnA 답변 작성/수정
+     * 답변 폼을 연 뒤 다른 관리자가 먼저 답변/변경했다면 상세 화면으로 돌아가 충돌을 알립니다.
      *
      * @param id QnA ID
-     * @param answer 답변 내용
+     * @param request 답변 내용과 답변 폼을 열 때의 버전
      * @param exchange ServerWebExchange
      * @return QnA 목록으로 리다이렉트
      */
     @PostMapping("/{id}/answer")
     public Mono<String> answer(
             @PathVariable Long id,
-            @RequestParam String answer,
+            @ModelAttribute AnswerQnaRequest request,
             ServerWebExchange exchange) {
 
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
         Long adminId = (Long) exchange.getAttributes().get("adminId");
-        log.info("QnA 답변 작성: id={}, adminId={}", id, adminId);
-
-        return qnaService.getQnaById(id)
-                .flatMap(qna -> {
-                    // 권한 확인
-                    if (!qna.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
-
-                    // 답변 추가 (MapStruct 사용)
-                    qnaMapper.updateWithAnswer(answer, adminId, qna);
-
-                    return qnaService.updateQna(qna);
-                })
+        log.info("QnA 답변 작성: id={}, adminId={}, version={}", id, adminId, request.getVersion());
+
+        if (request.getVersion() == null) {
+            return Mono.just("redirect:/admin/qnas/" + id + "?error=conflict");
+        }
+
+        // 답변 컬럼만 담은 QnA (MapStruct 사용), 기업 일치 여부는 UPDATE 조건으로 확인
+        Qna changes = Qna.builder()
+                .id(id)
+                .companyId(adminCompanyId)
+                .version(request.getVersion())
+                .build();
+        qnaMapper.updateWithAnswer(request.getAnswer(), adminId, changes);
+
+        // 답변 저장 + 질문자 알림 outbox 기록
+        return qnaService.answerQna(changes)
+                .switchIfEmpty(Mono.error(new IllegalAccessException("접근 권한이 없습니다.")))
                 .thenReturn("redirect:/admin/qnas?success=answered")
+                .onErrorResume(OptimisticLockingFailureException.class, e -> {
+                    log.warn("QnA 답변 충돌: id={}, version={}", id, request.getVersion());
+                    return Mono.just("redirect:/admin/qnas/" + id + "?error=conflict");
+                })
                 .onErrorResume(IllegalAccessException.class, e -> {
                     return Mono.just("redirect:/admin/qnas?error=access_denied");
                 });
@@ -129,26 +158,30 @@ public class AdminQnaController {
      * QnA 숨김/표시 토글
      *
      * @param id QnA ID
+     * @param request 변경할 숨김 여부와 목록을 열 때의 버전
      * @param exchange ServerWebExchange
      * @return QnA 목록으로 리다이렉트
      */
     @PostMapping("/{id}/toggle-hidden")
-    public Mono<String> toggleHidden(@PathVariable Long id, ServerWebExchange exchange) {
-        Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
-        log.info("QnA 숨김 토글: id={}", id);
+    public Mono<String> toggleHidden(
+            @PathVariable Long id,
+            @ModelAttribute ToggleHiddenRequest request,
+            ServerWebExchange exchange) {
 
-        return qnaService.getQnaById(id)
-                .flatMap(qna -> {
-                    // 권한 확인
-                    if (!qna.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
+        Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
+        log.info("QnA 숨김 토글: id={}, isHidden={}", id, request.getIsHidden());
 
-                    qna.setIsHidden(!qna.getIsHidden());
+        if (request.getIsHidden() == null || request.getVersion() == null) {
+            return Mono.just("redirect:/admin/qnas?error=conflict");
+        }
 
-                    return qnaService.updateQna(qna);
-                })
+        // 기업 일치 여부는 UPDATE 조건으로 확인
+        return qnaService.updateQnaHidden(id, adminCompanyId, request.getVersion(), request.getIsHidden())
+                .switchIfEmpty(Mono.error(new IllegalAccessException("접근 권한이 없습니다.")))
                 .thenReturn("redirect:/admin/qnas")
+                .onErrorResume(OptimisticLockingFailureException.class, e -> {
+                    return Mono.just("redirect:/admin/qnas?error=conflict");
+                })
                 .onErrorResume(IllegalAccessException.class, e -> {
                     return Mono.just("redirect:/admin/qnas?error=access_denied");
                 });
@@ -166,15 +199,9 @@ public class AdminQnaController {
         Long adminCompanyId = (Long) exchange.getAttributes().get("companyId");
         log.info("QnA 삭제: id={}", id);
 
-        return qnaService.getQnaById(id)
-                .flatMap(qna -> {
-                    // 권한 확인
-                    if (!qna.getCompanyId().equals(adminCompanyId)) {
-                        return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
-                    }
-
-                    return qnaService.deleteQna(id);
-                })
+        // 기업 조건을 건 삭제 (다른 기업 QnA는 삭제되지 않음)
+        return qnaService.deleteQna(id, adminCompanyId)
+                .switchIfEmpty(Mono.error(new IllegalAccessException("접근 권한이 없습니다.")))
                 .thenReturn("redirect:/admin/qnas?success=deleted")
                 .onErrorResume(IllegalAccessException.class, e -> {
                     return Mono.just("redirect:/admin/qnas?error=access_denied");
@@ -88,14 +88,10 @@ public class AdminYoutubeController {
             return Mono.just("redirect:/admin/youtube/new?error=invalid_url");
         }
 
-        // MapStruct를 사용하여 엔티티 생성 준비
+        // MapStruct를 사용하여 엔티티 생성 준비 (영상 ID, embed/썸네일 URL은 저장 시 계산)
         YoutubeVideo preparedVideo = youtubeVideoMapper.prepareForCreate(video);
         preparedVideo.setCompanyId(adminCompanyId);
 
-        // 썸네일 URL 자동 생성
-        String videoId = youtubeVideoService.extractVideoId(video.getVideoUrl());
-        preparedVideo.setThumbnailUrl(youtubeVideoService.getThumbnailUrl(videoId));
-
         return youtubeVideoService.createVideo(preparedVideo)
                 .thenReturn("redirect:/admin/youtube?success=created");
     }
@@ -166,13 +162,9 @@ public class AdminYoutubeController {
                         return Mono.error(new IllegalAccessException("접근 권한이 없습니다."));
                     }
 
-                    // MapStruct를 사용하여 엔티티 업데이트
+                    // MapStruct를 사용하여 엔티티 업데이트 (영상 ID, embed/썸네일 URL은 저장 시 다시 계산)
                     youtubeVideoMapper.updateVideo(video, existingVideo);
 
-                    // 썸네일 URL 갱신
-                    String videoId = youtubeVideoService.extractVideoId(video.getVideoUrl());
-                    existingVideo.setThumbnailUrl(youtubeVideoService.getThumbnailUrl(videoId));
-
                     return youtubeVideoService.updateVideo(existingVideo);
                 })
                 .thenReturn("redirect:/admin/youtube?success=updated")
@@ -3,7 +3,9 @@ package com.nalsil.bear.controller.public_;
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.service.BoardService;
 import com.nalsil.bear.service.CompanyService;
+import com.nalsil.bear.service.PopularPostService;
 import com.nalsil.bear.service.PostService;
+import com.nalsil.bear.util.ConditionalGetSupport;
 import com.nalsil.bear.util.TenantContextHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.reactive.result.view.Rendering;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 /**
@@ -29,6 +32,8 @@ public class BoardController {
     private final CompanyService companyService;
     private final BoardService boardService;
     private final PostService postService;
+    private final PopularPostService popularPostService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     /**
      * 게시판 목록 페이지
@@ -47,7 +52,7 @@ public class BoardController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        log.info("Accessing board list for company: {}, type: {}, page: {}", companyCode, boardType, page);
+        log.debug("Accessing board list for company: {}, type: {}, page: {}", companyCode, boardType, page);
 
         // 기업 정보 조회
         Mono<Company> companyMono = companyService.getActiveCompanyByCode(companyCode);
@@ -56,23 +61,17 @@ public class BoardController {
                 // 게시판 정보 조회
                 boardService.getBoardByCompanyIdAndType(company.getId(), boardType)
                         .flatMap(board ->
-                                // 게시글 목록 조회
-                                postService.getVisiblePostsByBoardId(board.getId(), PageRequest.of(page, size))
-                                        .collectList()
-                                        .zipWith(postService.countVisiblePostsByBoardId(board.getId()))
-                                        .map(tuple -> {
-                                            long totalPosts = tuple.getT2();
-                                            int totalPages = (int) Math.ceil((double) totalPosts / size);
-
-                                            return Rendering.view("public/board/list")
-                                                    .modelAttribute("company", company)
-                                                    .modelAttribute("board", board)
-                                                    .modelAttribute("posts", tuple.getT1())
-                                                    .modelAttribute("currentPage", page)
-                                                    .modelAttribute("totalPages", totalPages)
-                                                    .modelAttribute("totalPosts", totalPosts)
-                                                    .build();
-                                        })
+                                // 게시글 목록과 전체 개수를 한 번에 조회
+                                postService.getVisiblePostPageByBoardId(board.getId(), PageRequest.of(page, size))
+                                        .map(postPage -> Rendering.view("public/board/list")
+                                                .modelAttribute("company", company)
+                                                .modelAttribute("board", board)
+                                                .modelAttribute("posts", postPage.getContent())
+                                                .modelAttribute("popularPosts", popularPostService.getPopularPostsByBoardId(board.getId()))
+                                                .modelAttribute("currentPage", page)
+                                                .modelAttribute("totalPages", postPage.getTotalPages())
+                                                .modelAttribute("totalPosts", postPage.getTotalElements())
+                                                .build())
                         )
                         .switchIfEmpty(Mono.just(Rendering.view("public/board/list")
                                 .modelAttribute("company", company)
@@ -90,15 +89,17 @@ public class BoardController {
      * @param companyCode 기업 코드
      * @param boardType 게시판 타입
      * @param postId 게시글 ID
+     * @param exchange ServerWebExchange (조건부 GET 처리용)
      * @return Rendering (Thymeleaf 템플릿)
      */
     @GetMapping("/{boardType}/{postId}")
     public Mono<Rendering> postDetail(
             @PathVariable String companyCode,
             @PathVariable String boardType,
-            @PathVariable Long postId) {
+            @PathVariable Long postId,
+            ServerWebExchange exchange) {
 
-        log.info("Accessing post detail for company: {}, type: {}, postId: {}", companyCode, boardType, postId);
+        log.debug("Accessing post detail for company: {}, type: {}, postId: {}", companyCode, boardType, postId);
 
         // 기업 정보 조회
         Mono<Company> companyMono = companyService.getActiveCompanyByCode(companyCode);
@@ -108,10 +109,17 @@ public class BoardController {
                 boardService.getBoardByCompanyIdAndType(company.getId(), boardType)
                         .flatMap(board ->
                                 // 게시글 조회 (숨김 제외)
-                                postService.getPostByIdAndIsHidden(postId, false)
+                                postService.getPostByIdAndIsHidden(board.getId(), postId, false)
                                         .flatMap(post -> {
-                                            // 조회수 증가
-                                            return postService.incrementViewCount(postId)
+                                            // 변경이 없으면 렌더링 및 조회수 증가 없이 304 응답
+                                            // 조회수는 자주 바뀌므로 검증자에서 제외 (게시글 버전 기준)
+                                            return conditionalGetSupport.checkNotModified(exchange,
+                                                            ConditionalGetSupport.latest(post.getUpdatedAt(), company.getUpdatedAt()),
+                                                            company.getId(), company.getUpdatedAt(), board.getId(), board.getName(),
+                                                            post.getId(), post.getVersion())
+                                                    // 조회수 증가 및 인기 게시글 점수 반영
+                                                    .then(postService.incrementViewCount(board.getId(), postId))
+                                                    .doOnSuccess(v -> popularPostService.recordView(board, post))
                                                     .then(Mono.just(Rendering.view("public/board/detail")
                                                             .modelAttribute("company", company)
                                                             .modelAttribute("board", board)
@@ -0,0 +1,28 @@
+package com.nalsil.bear.controller.public_;
+
+import com.nalsil.bear.exception.NotModifiedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * 공개 페이지 조건부 GET 응답 처리
+ *
+ * ConditionalGetSupport가 발생시킨 NotModifiedException을 본문 없는 304 응답으로 변환합니다.
+ * ETag, Last-Modified, Cache-Control 헤더는 검사 시점에 이미 응답에 설정되어 있습니다.
+ */
+@ControllerAdvice(basePackages = "com.nalsil.bear.controller.public_")
+public class ConditionalGetAdvice {
+
+    /**
+     * NotModifiedException 처리
+     *
+     * @param ex NotModifiedException
+     * @return 304 Not Modified 응답
+     */
+    @ExceptionHandler(NotModifiedException.class)
+    public ResponseEntity<Void> handleNotModified(NotModifiedException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+}
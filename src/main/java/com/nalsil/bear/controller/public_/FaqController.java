@@ -42,7 +42,7 @@ public class FaqController {
             @RequestParam(required = false) String keyword,
             Model model) {
 
-        log.info("FAQ 목록 조회: companyCode={}, category={}, keyword={}",
+        log.debug("FAQ 목록 조회: companyCode={}, category={}, keyword={}",
                 companyCode, category, keyword);
 
         return companyService.getActiveCompanyByCode(companyCode)
@@ -2,6 +2,7 @@ package com.nalsil.bear.controller.public_;
 
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.service.CompanyService;
+import com.nalsil.bear.service.PopularPostService;
 import com.nalsil.bear.service.ProductService;
 import com.nalsil.bear.util.TenantContextHolder;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class HomeController {
 
     private final CompanyService companyService;
     private final ProductService productService;
+    private final PopularPostService popularPostService;
 
     /**
      * 기업 홈페이지 메인 페이지
@@ -37,7 +39,7 @@ public class HomeController {
      */
     @GetMapping
     public Mono<Rendering> home(@PathVariable String companyCode) {
-        log.info("Accessing home page for company: {}", companyCode);
+        log.debug("Accessing home page for company: {}", companyCode);
 
         // 기업 정보 조회
         Mono<Company> companyMono = companyService.getActiveCompanyByCode(companyCode);
@@ -52,6 +54,7 @@ public class HomeController {
                                 .map(products -> Rendering.view("public/home")
                                         .modelAttribute("company", company)
                                         .modelAttribute("products", products)
+                                        .modelAttribute("popularPosts", popularPostService.getPopularPostsByCompanyId(company.getId()))
                                         .build())
                 )
         ).contextWrite(ctx -> TenantContextHolder.setCurrentTenant(ctx, companyCode));
@@ -66,7 +69,7 @@ public class HomeController {
      */
     @GetMapping("/about")
     public Mono<Rendering> about(@PathVariable String companyCode) {
-        log.info("Accessing about page for company: {}", companyCode);
+        log.debug("Accessing about page for company: {}", companyCode);
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .map(company -> Rendering.view("public/about")
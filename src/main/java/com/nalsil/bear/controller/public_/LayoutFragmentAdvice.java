@@ -0,0 +1,52 @@
+package com.nalsil.bear.controller.public_;
+
+import com.nalsil.bear.util.LayoutFragmentCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 공개 페이지 레이아웃 조각 주입
+ *
+ * 테넌트별로 캐시된 header, footer HTML을 모델(layoutHeader, layoutFooter)에 추가합니다.
+ * 템플릿은 해당 값이 없으면 기존 th:replace 방식으로 조각을 직접 렌더링합니다.
+ */
+@ControllerAdvice(basePackages = "com.nalsil.bear.controller.public_")
+@RequiredArgsConstructor
+public class LayoutFragmentAdvice {
+
+    private final LayoutFragmentCache layoutFragmentCache;
+
+    /**
+     * 레이아웃 조각 모델 속성 추가
+     *
+     * @param companyCode 기업 코드
+     * @param exchange ServerWebExchange
+     * @param model 모델
+     * @return 완료 신호
+     */
+    @ModelAttribute
+    public Mono<Void> layoutFragments(
+            @PathVariable(required = false) String companyCode,
+            ServerWebExchange exchange,
+            Model model) {
+
+        // 페이지를 렌더링하지 않는 요청(POST 리다이렉트 등)은 건너뛰기
+        if (!layoutFragmentCache.isEnabled() || companyCode == null
+                || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return Mono.empty();
+        }
+
+        return layoutFragmentCache.getFragments(companyCode, exchange)
+                .doOnNext(fragments -> {
+                    model.addAttribute("layoutHeader", fragments.header());
+                    model.addAttribute("layoutFooter", fragments.footer());
+                })
+                .then();
+    }
+}
@@ -3,6 +3,7 @@ package com.nalsil.bear.controller.public_;
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.service.CompanyService;
 import com.nalsil.bear.service.ProductService;
+import com.nalsil.bear.util.ConditionalGetSupport;
 import com.nalsil.bear.util.TenantContextHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.reactive.result.view.Rendering;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 /**
@@ -27,6 +29,7 @@ public class ProductController {
 
     private final CompanyService companyService;
     private final ProductService productService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     /**
      * 제품 목록 페이지
@@ -45,45 +48,30 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size) {
 
-        log.info("Accessing product list for company: {}, category: {}, page: {}", companyCode, category, page);
+        log.debug("Accessing product list for company: {}, category: {}, page: {}", companyCode, category, page);
 
         // 기업 정보 조회
         Mono<Company> companyMono = companyService.getActiveCompanyByCode(companyCode);
 
         return companyMono.flatMap(company -> {
-            // 카테고리별 또는 전체 제품 조회
-            Mono<Long> totalCountMono;
-            reactor.core.publisher.Flux<com.nalsil.bear.domain.product.Product> productFlux;
+            // 선택한 카테고리 (공백이면 전체)
+            String selectedCategory = category != null && !category.trim().isEmpty() ? category : null;
 
-            if (category != null && !category.trim().isEmpty()) {
-                // 카테고리별 제품 조회
-                productFlux = productService.getVisibleProductsByCompanyIdAndCategory(
-                        company.getId(), category, PageRequest.of(page, size));
-                totalCountMono = productService.countVisibleProductsByCompanyIdAndCategory(company.getId(), category);
-            } else {
-                // 전체 제품 조회
-                productFlux = productService.getVisibleProductsByCompanyId(
-                        company.getId(), PageRequest.of(page, size));
-                totalCountMono = productService.countVisibleProductsByCompanyId(company.getId());
-            }
-
-            return productFlux.collectList()
-                    .zipWith(totalCountMono)
-                    .zipWith(productService.getCategoriesByCompanyId(company.getId()).collectList())
-                    .map(tuple -> {
-                        long totalProducts = tuple.getT1().getT2();
-                        int totalPages = (int) Math.ceil((double) totalProducts / size);
-
-                        return Rendering.view("public/product/list")
-                                .modelAttribute("company", company)
-                                .modelAttribute("products", tuple.getT1().getT1())
-                                .modelAttribute("categories", tuple.getT2())
-                                .modelAttribute("selectedCategory", category)
-                                .modelAttribute("currentPage", page)
-                                .modelAttribute("totalPages", totalPages)
-                                .modelAttribute("totalProducts", totalProducts)
-                                .build();
-                    });
+            // 제품 페이지(목록 + 개수), 카테고리 패싯 모두 기업별 메모리 스냅샷에서 조회 (DB 조회 없음)
+            return Mono.zip(
+                            productService.getVisibleProductPage(company.getId(), selectedCategory, PageRequest.of(page, size)),
+                            productService.countVisibleProductsByCompanyId(company.getId()),
+                            productService.getCategoryFacetsByCompanyId(company.getId()).collectList())
+                    .map(tuple -> Rendering.view("public/product/list")
+                            .modelAttribute("company", company)
+                            .modelAttribute("products", tuple.getT1().getContent())
+                            .modelAttribute("categoryFacets", tuple.getT3())
+                            .modelAttribute("allProductCount", tuple.getT2())
+                            .modelAttribute("selectedCategory", selectedCategory)
+                            .modelAttribute("currentPage", page)
+                            .modelAttribute("totalPages", tuple.getT1().getTotalPages())
+                            .modelAttribute("totalProducts", tuple.getT1().getTotalElements())
+                            .build());
         }).contextWrite(ctx -> TenantContextHolder.setCurrentTenant(ctx, companyCode));
     }
 
@@ -93,21 +81,28 @@ public class ProductController {
      *
      * @param companyCode 기업 코드
      * @param productId 제품 ID
+     * @param exchange ServerWebExchange (조건부 GET 처리용)
      * @return Rendering (Thymeleaf 템플릿)
      */
     @GetMapping("/{productId}")
     public Mono<Rendering> productDetail(
             @PathVariable String companyCode,
-            @PathVariable Long productId) {
+            @PathVariable Long productId,
+            ServerWebExchange exchange) {
 
-        log.info("Accessing product detail for company: {}, productId: {}", companyCode, productId);
+        log.debug("Accessing product detail for company: {}, productId: {}", companyCode, productId);
 
         // 기업 정보 조회
         Mono<Company> companyMono = companyService.getActiveCompanyByCode(companyCode);
 
         return companyMono.flatMap(company ->
-                // 제품 조회 (숨김 제외)
-                productService.getProductByIdAndIsHidden(productId, false)
+                // 제품 조회 (해당 기업의 공개 제품만)
+                productService.getVisibleProduct(company.getId(), productId)
+                        // 변경이 없으면 렌더링 없이 304 응답
+                        .flatMap(product -> conditionalGetSupport.checkNotModified(exchange,
+                                        ConditionalGetSupport.latest(product.getUpdatedAt(), company.getUpdatedAt()),
+                                        company.getId(), company.getUpdatedAt(), product.getId(), product.getUpdatedAt())
+                                .thenReturn(product))
                         .map(product -> Rendering.view("public/product/detail")
                                 .modelAttribute("company", company)
                                 .modelAttribute("product", product)
@@ -5,11 +5,16 @@ import com.nalsil.bear.dto.request.CreateQnaRequest;
 import com.nalsil.bear.mapper.QnaMapper;
 import com.nalsil.bear.service.CompanyService;
 import com.nalsil.bear.service.QnaService;
+import com.nalsil.bear.service.QnaSubmissionGuard;
+import com.nalsil.bear.service.RecaptchaService;
+import com.nalsil.bear.util.ClientIpResolver;
+import com.nalsil.bear.util.ConditionalGetSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 /**
@@ -26,6 +31,10 @@ public class QnaController {
     private final CompanyService companyService;
     private final QnaService qnaService;
     private final QnaMapper qnaMapper;
+    private final ConditionalGetSupport conditionalGetSupport;
+    private final RecaptchaService recaptchaService;
+    private final QnaSubmissionGuard qnaSubmissionGuard;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * QnA 목록 페이지
@@ -43,26 +52,20 @@ public class QnaController {
             @RequestParam(defaultValue = "10") int size,
             Model model) {
 
-        log.info("QnA 목록 조회: companyCode={}, page={}, size={}", companyCode, page, size);
+        log.debug("QnA 목록 조회: companyCode={}, page={}, size={}", companyCode, page, size);
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .flatMap(company -> {
                     model.addAttribute("company", company);
 
-                    // QnA 목록 조회
-                    return qnaService.getQnasByCompanyId(company.getId(), page, size)
-                            .collectList()
-                            .flatMap(qnas -> {
-                                model.addAttribute("qnas", qnas);
+                    // QnA 목록과 전체 개수를 한 번에 조회
+                    return qnaService.getQnaPageByCompanyId(company.getId(), page, size)
+                            .doOnNext(qnaPage -> {
+                                model.addAttribute("qnas", qnaPage.getContent());
                                 model.addAttribute("currentPage", page);
                                 model.addAttribute("pageSize", size);
-
-                                // 전체 개수 조회
-                                return qnaService.countQnasByCompanyId(company.getId())
-                                        .doOnNext(count -> {
-                                            model.addAttribute("totalCount", count);
-                                            model.addAttribute("totalPages", (count + size - 1) / size);
-                                        });
+                                model.addAttribute("totalCount", qnaPage.getTotalElements());
+                                model.addAttribute("totalPages", (long) qnaPage.getTotalPages());
                             });
                 })
                 .thenReturn("public/qna/list");
@@ -74,19 +77,25 @@ public class QnaController {
      * @param companyCode 기업 코드
      * @param id QnA ID
      * @param model 모델
+     * @param exchange ServerWebExchange (조건부 GET 처리용)
      * @return QnA 상세 템플릿
      */
     @GetMapping("/{id}")
     public Mono<String> detail(
             @PathVariable String companyCode,
             @PathVariable Long id,
-            Model model) {
+            Model model,
+            ServerWebExchange exchange) {
 
-        log.info("QnA 상세 조회: companyCode={}, id={}", companyCode, id);
+        log.debug("QnA 상세 조회: companyCode={}, id={}", companyCode, id);
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .doOnNext(company -> model.addAttribute("company", company))
-                .then(qnaService.getQnaById(id))
+                .flatMap(company -> qnaService.getQnaByIdAndCompanyId(id, company.getId())
+                        // QnA에는 수정 시각이 없으므로 버전 기반 ETag만 사용 (답변 등록, 숨김 변경 시 증가)
+                        .flatMap(qna -> conditionalGetSupport.checkNotModified(exchange, null,
+                                        company.getId(), company.getUpdatedAt(), qna.getId(), qna.getVersion())
+                                .thenReturn(qna)))
                 .doOnNext(qna -> model.addAttribute("qna", qna))
                 .thenReturn("public/qna/detail");
     }
@@ -103,10 +112,14 @@ public class QnaController {
             @PathVariable String companyCode,
             Model model) {
 
-        log.info("QnA 질문 등록 폼 요청: companyCode={}", companyCode);
+        log.debug("QnA 질문 등록 폼 요청: companyCode={}", companyCode);
 
         return companyService.getActiveCompanyByCode(companyCode)
-                .doOnNext(company -> model.addAttribute("company", company))
+                .doOnNext(company -> {
+                    model.addAttribute("company", company);
+                    model.addAttribute("recaptchaSiteKey", recaptchaService.getSiteKey());
+                    model.addAttribute("recaptchaAction", recaptchaService.getAction());
+                })
                 .thenReturn("public/qna/form");
     }
 
@@ -115,12 +128,14 @@ public class QnaController {
      *
      * @param companyCode 기업 코드
      * @param request 질문 등록 요청
+     * @param exchange ServerWebExchange (요청자 IP 확인용)
      * @return 리다이렉트 URL
      */
     @PostMapping
     public Mono<String> create(
             @PathVariable String companyCode,
-            @ModelAttribute CreateQnaRequest request) {
+            @ModelAttribute CreateQnaRequest request,
+            ServerWebExchange exchange) {
 
         log.info("QnA 질문 등록 처리: companyCode={}, email={}",
                 companyCode, request.getAskerEmail());
@@ -131,17 +146,38 @@ public class QnaController {
             return Mono.just("redirect:/" + companyCode + "/qna/new?error=invalid-email");
         }
 
-        // TODO: reCAPTCHA 검증 추가
+        // 프록시 뒤에서는 신뢰하는 프록시가 전달한 X-Forwarded-For 기준 (알 수 없으면 null → IP 제한 생략)
+        String remoteIp = clientIpResolver.resolve(exchange.getRequest());
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .flatMap(company -> {
-                    // QnA 엔티티 생성 (MapStruct 사용)
-                    Qna qna = qnaMapper.toEntity(request);
-                    qna.setCompanyId(company.getId());
-
-                    // QnA 저장
-                    return qnaService.createQna(qna);
-                })
-                .then(Mono.just("redirect:/" + companyCode + "/qna?success=true"));
+                    // 반복/대량 등록은 reCAPTCHA 호출 전에 메모리에서 바로 거부
+                    QnaSubmissionGuard.Decision decision = qnaSubmissionGuard.admit(
+                            company.getId(), remoteIp, request.getAskerEmail(), request.getQuestionBody());
+                    if (!decision.isAccepted()) {
+                        String error = decision == QnaSubmissionGuard.Decision.DUPLICATE ? "duplicate" : "too-many";
+                        return Mono.just("redirect:/" + companyCode + "/qna/new?error=" + error);
+                    }
+
+                    // reCAPTCHA 검증 후 저장 (봇 요청이 DB에 쓰지 못하도록)
+                    return recaptchaService.verify(request.getRecaptchaToken(), remoteIp)
+                            .flatMap(verified -> {
+                                if (!verified) {
+                                    log.warn("reCAPTCHA 검증 실패: companyCode={}, remoteIp={}", companyCode, remoteIp);
+                                    qnaSubmissionGuard.forget(company.getId(), request.getAskerEmail(), request.getQuestionBody());
+                                    return Mono.just("redirect:/" + companyCode + "/qna/new?error=recaptcha");
+                                }
+
+                                // QnA 엔티티 생성 (MapStruct 사용)
+                                Qna qna = qnaMapper.toEntity(request);
+                                qna.setCompanyId(company.getId());
+
+                                // QnA 저장 (실패하면 같은 내용으로 다시 제출할 수 있도록 기록 취소)
+                                return qnaService.createQna(qna)
+                                        .doOnError(error -> qnaSubmissionGuard.forget(
+                                                company.getId(), request.getAskerEmail(), request.getQuestionBody()))
+                                        .thenReturn("redirect:/" + companyCode + "/qna?success=true");
+                            });
+                });
     }
 }
@@ -0,0 +1,184 @@
+package com.nalsil.bear.controller.public_;
+
+import com.nalsil.bear.service.BoardService;
+import com.nalsil.bear.service.CompanyService;
+import com.nalsil.bear.service.SitemapService;
+import com.nalsil.bear.util.ConditionalGetSupport;
+import com.nalsil.bear.util.TenantContextHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SitemapController
+ * 기업별 sitemap.xml과 게시판 RSS/Atom 피드 처리
+ *
+ * 본문은 DB 행을 읽는 대로 청크 단위로 응답에 씁니다.
+ * 공개 콘텐츠 요약(개수, 최종 수정 시각, ID 합계)으로 ETag/Last-Modified를 계산하므로
+ * 콘텐츠가 바뀌면 검증자가 바뀌고, 바뀌지 않았으면 본문 없이 304로 응답합니다.
+ */
+@Slf4j
+@Controller
+@RequestMapping("/{companyCode}")
+@RequiredArgsConstructor
+public class SitemapController {
+
+    private static final MediaType SITEMAP_XML = new MediaType("application", "xml", StandardCharsets.UTF_8);
+    private static final MediaType RSS_XML = new MediaType("application", "rss+xml", StandardCharsets.UTF_8);
+    private static final MediaType ATOM_XML = new MediaType("application", "atom+xml", StandardCharsets.UTF_8);
+
+    /**
+     * 한 번에 쓰는 XML 조각 수 (행마다 네트워크 쓰기가 일어나지 않도록 묶음)
+     */
+    private static final int FRAGMENTS_PER_CHUNK = 256;
+
+    private final CompanyService companyService;
+    private final BoardService boardService;
+    private final SitemapService sitemapService;
+    private final ConditionalGetSupport conditionalGetSupport;
+
+    /**
+     * 사이트맵 (URL이 파일당 상한을 넘으면 사이트맵 인덱스)
+     * URL: /{companyCode}/sitemap.xml
+     *
+     * @param companyCode 기업 코드
+     * @param exchange ServerWebExchange
+     * @return 응답 완료 신호
+     */
+    @GetMapping("/sitemap.xml")
+    public Mono<Void> sitemap(@PathVariable String companyCode, ServerWebExchange exchange) {
+        log.debug("Accessing sitemap for company: {}", companyCode);
+
+        String base = sitemapService.resolveBaseUrl(exchange.getRequest());
+        return companyService.getActiveCompanyByCode(companyCode)
+                .flatMap(company -> sitemapService.getPlan(company)
+                        .flatMap(plan -> conditionalGetSupport.checkNotModified(exchange, plan.lastModified(),
+                                        base, company.getCode(), plan)
+                                .then(Mono.defer(() -> writeXml(exchange, SITEMAP_XML, plan.isIndexed()
+                                        ? sitemapService.sitemapIndex(base, company, plan)
+                                        : sitemapService.urlset(base, company, plan, 0))))))
+                .contextWrite(ctx -> TenantContextHolder.setCurrentTenant(ctx, companyCode));
+    }
+
+    /**
+     * 분할 사이트맵 파일
+     * URL: /{companyCode}/sitemap-{page}.xml
+     *
+     * @param companyCode 기업 코드
+     * @param page 파일 번호 (1부터)
+     * @param exchange ServerWebExchange
+     * @return 응답 완료 신호 (분할되지 않았거나 범위를 벗어나면 404)
+     */
+    @GetMapping("/sitemap-{page}.xml")
+    public Mono<Void> sitemapPage(
+            @PathVariable String companyCode,
+            @PathVariable int page,
+            ServerWebExchange exchange) {
+
+        log.debug("Accessing sitemap page {} for company: {}", page, companyCode);
+
+        String base = sitemapService.resolveBaseUrl(exchange.getRequest());
+        return companyService.getActiveCompanyByCode(companyCode)
+                .flatMap(company -> sitemapService.getPlan(company)
+                        .filter(plan -> plan.isIndexed() && page >= 1 && page <= plan.pageCount())
+                        .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+                        .flatMap(plan -> conditionalGetSupport.checkNotModified(exchange, plan.lastModified(),
+                                        base, company.getCode(), plan, page)
+                                .then(Mono.defer(() -> writeXml(exchange, SITEMAP_XML,
+                                        sitemapService.urlset(base, company, plan, page))))))
+                .contextWrite(ctx -> TenantContextHolder.setCurrentTenant(ctx, companyCode));
+    }
+
+    /**
+     * 게시판 RSS 2.0 피드
+     * URL: /{companyCode}/board/{boardType}/rss.xml
+     *
+     * @param companyCode 기업 코드
+     * @param boardType 게시판 타입
+     * @param exchange ServerWebExchange
+     * @return 응답 완료 신호
+     */
+    @GetMapping("/board/{boardType}/rss.xml")
+    public Mono<Void> rss(
+            @PathVariable String companyCode,
+            @PathVariable String boardType,
+            ServerWebExchange exchange) {
+
+        return boardFeed(companyCode, boardType, exchange, false);
+    }
+
+    /**
+     * 게시판 Atom 피드
+     * URL: /{companyCode}/board/{boardType}/atom.xml
+     *
+     * @param companyCode 기업 코드
+     * @param boardType 게시판 타입
+     * @param exchange ServerWebExchange
+     * @return 응답 완료 신호
+     */
+    @GetMapping("/board/{boardType}/atom.xml")
+    public Mono<Void> atom(
+            @PathVariable String companyCode,
+            @PathVariable String boardType,
+            ServerWebExchange exchange) {
+
+        return boardFeed(companyCode, boardType, exchange, true);
+    }
+
+    /**
+     * 게시판 피드 공통 처리 (게시판이 없으면 404)
+     *
+     * @param companyCode 기업 코드
+     * @param boardType 게시판 타입
+     * @param exchange ServerWebExchange
+     * @param atom true면 Atom, false면 RSS 2.0
+     * @return 응답 완료 신호
+     */
+    private Mono<Void> boardFeed(String companyCode, String boardType, ServerWebExchange exchange, boolean atom) {
+        log.debug("Accessing {} feed for company: {}, type: {}", atom ? "atom" : "rss", companyCode, boardType);
+
+        String base = sitemapService.resolveBaseUrl(exchange.getRequest());
+        return companyService.getActiveCompanyByCode(companyCode)
+                .flatMap(company -> boardService.getBoardByCompanyIdAndType(company.getId(), boardType)
+                        .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+                        .flatMap(board -> sitemapService.getFeedStats(board)
+                                .flatMap(stats -> conditionalGetSupport.checkNotModified(exchange,
+                                                ConditionalGetSupport.latest(stats.lastModified(), company.getUpdatedAt()),
+                                                base, atom, company.getId(), company.getUpdatedAt(),
+                                                board.getId(), board.getName(), stats)
+                                        .then(Mono.defer(() -> atom
+                                                ? writeXml(exchange, ATOM_XML, sitemapService.atom(base, company, board, stats))
+                                                : writeXml(exchange, RSS_XML, sitemapService.rss(base, company, board, stats)))))))
+                .contextWrite(ctx -> TenantContextHolder.setCurrentTenant(ctx, companyCode));
+    }
+
+    /**
+     * XML 조각을 묶어 응답 본문으로 스트리밍
+     *
+     * @param exchange ServerWebExchange
+     * @param mediaType 응답 Content-Type
+     * @param fragments XML 조각
+     * @return 응답 완료 신호
+     */
+    private static Mono<Void> writeXml(ServerWebExchange exchange, MediaType mediaType, Flux<String> fragments) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setContentType(mediaType);
+        DataBufferFactory bufferFactory = response.bufferFactory();
+        return response.writeWith(fragments
+                .buffer(FRAGMENTS_PER_CHUNK)
+                .map(chunk -> bufferFactory.wrap(String.join("", chunk).getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -2,6 +2,8 @@ package com.nalsil.bear.controller.public_;
 
 import com.nalsil.bear.service.CompanyService;
 import com.nalsil.bear.service.YoutubeVideoService;
+import com.nalsil.bear.util.ConditionalGetSupport;
+import com.nalsil.bear.util.YoutubeUrlParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -9,6 +11,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 /**
@@ -24,6 +27,7 @@ public class YoutubeController {
 
     private final CompanyService companyService;
     private final YoutubeVideoService youtubeVideoService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     /**
      * 유튜브 영상 목록 페이지
@@ -37,7 +41,7 @@ public class YoutubeController {
             @PathVariable String companyCode,
             Model model) {
 
-        log.info("유튜브 영상 목록 조회: companyCode={}", companyCode);
+        log.debug("유튜브 영상 목록 조회: companyCode={}", companyCode);
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .flatMap(company -> {
@@ -57,24 +61,33 @@ public class YoutubeController {
      * @param companyCode 기업 코드
      * @param id 영상 ID
      * @param model 모델
+     * @param exchange ServerWebExchange (조건부 GET 처리용)
      * @return 유튜브 영상 재생 템플릿
      */
     @GetMapping("/{id}")
     public Mono<String> player(
             @PathVariable String companyCode,
             @PathVariable Long id,
-            Model model) {
+            Model model,
+            ServerWebExchange exchange) {
 
-        log.info("유튜브 영상 재생: companyCode={}, id={}", companyCode, id);
+        log.debug("유튜브 영상 재생: companyCode={}, id={}", companyCode, id);
 
         return companyService.getActiveCompanyByCode(companyCode)
                 .doOnNext(company -> model.addAttribute("company", company))
-                .then(youtubeVideoService.getVideoById(id))
+                .flatMap(company -> youtubeVideoService.getVisibleVideo(company.getId(), id)
+                        // 변경이 없으면 렌더링 없이 304 응답
+                        .flatMap(video -> conditionalGetSupport.checkNotModified(exchange,
+                                        ConditionalGetSupport.latest(video.getUpdatedAt(), company.getUpdatedAt()),
+                                        company.getId(), company.getUpdatedAt(), video.getId(), video.getUpdatedAt())
+                                .thenReturn(video)))
                 .doOnNext(video -> {
                     model.addAttribute("video", video);
-                    // 비디오 ID 추출
-                    String videoId = youtubeVideoService.extractVideoId(video.getVideoUrl());
-                    model.addAttribute("videoId", videoId);
+                    // 저장 시 계산된 embed URL 사용 (일괄 채우기 전 행만 URL 해석)
+                    String embedUrl = video.getEmbedUrl() != null
+                            ? video.getEmbedUrl()
+                            : YoutubeUrlParser.embedUrl(youtubeVideoService.extractVideoId(video.getVideoUrl()));
+                    model.addAttribute("embedUrl", embedUrl);
                 })
                 .thenReturn("public/youtube/player");
     }
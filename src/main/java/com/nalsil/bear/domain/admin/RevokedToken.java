@@ -0,0 +1,48 @@
+package com.nalsil.bear.domain.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * RevokedToken 엔티티
+ * 로그아웃 또는 유출로 폐기된 관리자 JWT (토큰 만료 시각 이후 삭제)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("revoked_token")
+public class RevokedToken {
+
+    /**
+     * 토큰 ID (JWT jti)
+     */
+    @Id
+    @Column("jti")
+    private String jti;
+
+    /**
+     * 토큰 소유 관리자 ID
+     */
+    @Column("admin_id")
+    private Long adminId;
+
+    /**
+     * 토큰 만료 시각 (이후에는 서명 검증에서 거부되므로 보관 불필요)
+     */
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 폐기 시각 (노드 간 동기화 기준)
+     */
+    @Column("revoked_at")
+    private LocalDateTime revokedAt;
+}
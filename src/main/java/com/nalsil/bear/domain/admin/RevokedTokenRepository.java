@@ -0,0 +1,56 @@
+package com.nalsil.bear.domain.admin;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * RevokedToken 리포지토리
+ * 폐기 토큰 저장 및 노드 간 동기화 조회
+ */
+@Repository
+public interface RevokedTokenRepository extends R2dbcRepository<RevokedToken, String> {
+
+    /**
+     * 폐기 토큰 저장 (이미 있으면 무시)
+     *
+     * @param jti 토큰 ID
+     * @param adminId 관리자 ID
+     * @param expiresAt 토큰 만료 시각
+     * @param revokedAt 폐기 시각
+     * @return 영향받은 행 수 (Mono<Integer>)
+     */
+    @Query("""
+            INSERT INTO revoked_token (jti, admin_id, expires_at, revoked_at)
+            VALUES (:jti, :adminId, :expiresAt, :revokedAt)
+            ON CONFLICT (jti) DO NOTHING
+            """)
+    Mono<Integer> insertIfAbsent(String jti, Long adminId, LocalDateTime expiresAt, LocalDateTime revokedAt);
+
+    /**
+     * 기준 시각 이후 폐기된 미만료 토큰 조회 (기동 시 전체 적재, 이후 증분 동기화)
+     *
+     * @param revokedSince 폐기 시각 하한
+     * @param now 현재 시각 (이미 만료된 토큰 제외)
+     * @return 폐기 토큰 목록 (Flux)
+     */
+    @Query("""
+            SELECT jti, admin_id, expires_at, revoked_at
+            FROM revoked_token
+            WHERE revoked_at >= :revokedSince AND expires_at > :now
+            """)
+    Flux<RevokedToken> findActiveRevokedSince(LocalDateTime revokedSince, LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     *
+     * @param now 현재 시각
+     * @return 삭제된 행 수 (Mono<Integer>)
+     */
+    @Query("DELETE FROM revoked_token WHERE expires_at <= :now")
+    Mono<Integer> deleteExpired(LocalDateTime now);
+}
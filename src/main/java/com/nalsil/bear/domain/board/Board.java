@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
  * 게시판 정보를 저장하는 엔티티
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("board")
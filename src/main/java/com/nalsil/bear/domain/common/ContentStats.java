@@ -0,0 +1,33 @@
+package com.nalsil.bear.domain.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * ContentStats
+ * 공개 콘텐츠 집합의 요약 (사이트맵/피드 조건부 GET 검증자용)
+ *
+ * 글 추가·삭제·숨김은 개수와 ID 합계를, 수정은 최종 수정 시각을 바꾸므로
+ * 이 값이 같으면 사이트맵/피드 내용도 같다고 보고 304로 응답합니다.
+ *
+ * @param count 항목 수
+ * @param lastModified 최종 수정 시각 (항목이 없으면 null)
+ * @param idSum 항목 ID 합계
+ */
+public record ContentStats(long count, LocalDateTime lastModified, long idSum) {
+
+    /**
+     * 집계 쿼리 결과로 생성 (COUNT/SUM 결과 타입은 DB마다 다르므로 Number로 받음)
+     *
+     * @param count COUNT(*) 결과
+     * @param lastModified MAX(수정 시각) 결과
+     * @param idSum SUM(id) 결과
+     * @return 요약
+     */
+    public static ContentStats of(Object count, LocalDateTime lastModified, Object idSum) {
+        return new ContentStats(toLong(count), lastModified, toLong(idSum));
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,99 @@
+package com.nalsil.bear.domain.common;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PagedQueryExecutor
+ * 페이지 데이터와 전체 개수를 한 번의 SQL로 조회하는 리포지토리 공용 도구
+ *
+ * COUNT(*) OVER()로 각 행에 전체 개수를 함께 담아 조회하므로
+ * 목록 + 개수 조회를 위해 커넥션을 두 번 얻지 않아도 됩니다.
+ * 요청한 페이지가 마지막 페이지를 넘어 행이 없을 때만 개수 쿼리를 따로 실행합니다.
+ */
+public class PagedQueryExecutor {
+
+    private static final String TOTAL_COUNT_COLUMN = "total_count";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public PagedQueryExecutor(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+        this.converter = r2dbcEntityTemplate.getConverter();
+    }
+
+    /**
+     * 페이지 조회
+     *
+     * @param type 엔티티 타입
+     * @param table 테이블명
+     * @param where WHERE 조건 (이름 있는 파라미터 :name 사용)
+     * @param orderBy ORDER BY 절
+     * @param params 조건 파라미터
+     * @param pageable 페이징 정보
+     * @param <T> 엔티티 타입
+     * @return 페이지 (내용 + 전체 개수)
+     */
+    public <T> Mono<Page<T>> findPage(Class<T> type, String table, String where, String orderBy,
+                                      Map<String, Object> params, Pageable pageable) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT t.*, COUNT(*) OVER() AS ").append(TOTAL_COUNT_COLUMN)
+                .append(" FROM ").append(table).append(" t")
+                .append(" WHERE ").append(where)
+                .append(" ORDER BY ").append(orderBy);
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ").append(pageable.getPageSize())
+                    .append(" OFFSET ").append(pageable.getOffset());
+        }
+
+        return bind(databaseClient.sql(sql.toString()), params)
+                .map((row, metadata) -> new PageRow<>(converter.read(type, row, metadata),
+                        row.get(TOTAL_COUNT_COLUMN, Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<T> content = new ArrayList<>(rows.size());
+                    rows.forEach(row -> content.add(row.entity()));
+                    if (!rows.isEmpty()) {
+                        return Mono.just(new PageImpl<>(content, pageable, rows.get(0).totalCount()));
+                    }
+                    if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+                        return Mono.just(new PageImpl<>(content, pageable, 0));
+                    }
+                    // 마지막 페이지를 넘은 요청은 행이 없어 개수를 알 수 없으므로 따로 조회
+                    return count(table, where, params)
+                            .map(total -> new PageImpl<>(content, pageable, total));
+                });
+    }
+
+    private Mono<Long> count(String table, String where, Map<String, Object> params) {
+        String sql = "SELECT COUNT(*) FROM " + table + " t WHERE " + where;
+        return bind(databaseClient.sql(sql), params)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> params) {
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    /**
+     * 엔티티와 해당 행의 전체 개수
+     */
+    private record PageRow<T>(T entity, Long totalCount) {
+    }
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
  * 멀티테넌트 기업 정보를 저장하는 핵심 엔티티
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("company")
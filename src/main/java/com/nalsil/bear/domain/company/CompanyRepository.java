@@ -1,7 +1,9 @@
 package com.nalsil.bear.domain.company;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -9,7 +11,7 @@ import reactor.core.publisher.Mono;
  * R2DBC 기반 리액티브 리포지토리
  */
 @Repository
-public interface CompanyRepository extends R2dbcRepository<Company, Long> {
+public interface CompanyRepository extends R2dbcRepository<Company, Long>, CompanyRepositoryCustom {
 
     /**
      * 기업 코드로 기업 조회
@@ -35,4 +37,12 @@ public interface CompanyRepository extends R2dbcRepository<Company, Long> {
      * @return 존재 여부 (Mono<Boolean>)
      */
     Mono<Boolean> existsByCode(String code);
+
+    /**
+     * 활성화된 기업 코드 목록 조회 (KnownTenantRegistry 적재용)
+     *
+     * @return 기업 코드 목록 (Flux)
+     */
+    @Query("SELECT code FROM company WHERE is_active = TRUE")
+    Flux<String> findActiveCodes();
 }
@@ -0,0 +1,31 @@
+package com.nalsil.bear.domain.company;
+
+import com.nalsil.bear.domain.common.ContentStats;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Company 리포지토리 확장
+ * 기업 전체 공개 콘텐츠(게시글, 상품, 유튜브 영상) 사이트맵 쿼리
+ */
+public interface CompanyRepositoryCustom {
+
+    /**
+     * 사이트맵 항목 요약 (개수, 최종 수정 시각, ID 합계)
+     *
+     * @param companyId 기업 ID
+     * @return 요약 (Mono<ContentStats>)
+     */
+    Mono<ContentStats> findSitemapStats(Long companyId);
+
+    /**
+     * 사이트맵 항목 조회 (종류, ID 순)
+     * 행을 모아두지 않고 읽는 대로 방출하므로 응답에 바로 흘려보낼 수 있습니다.
+     *
+     * @param companyId 기업 ID
+     * @param offset 건너뛸 항목 수
+     * @param limit 최대 항목 수 (0 이하이면 제한 없음)
+     * @return 사이트맵 항목 (Flux<SitemapEntry>)
+     */
+    Flux<SitemapEntry> findSitemapEntries(Long companyId, long offset, long limit);
+}
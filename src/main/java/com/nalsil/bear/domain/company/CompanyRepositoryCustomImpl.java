@@ -0,0 +1,67 @@
+package com.nalsil.bear.domain.company;
+
+import com.nalsil.bear.domain.common.ContentStats;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * CompanyRepositoryCustom 구현
+ */
+public class CompanyRepositoryCustomImpl implements CompanyRepositoryCustom {
+
+    /**
+     * 기업의 공개 상세 페이지 (숨김 제외)
+     */
+    private static final String SITEMAP_ENTRIES =
+            "SELECT 'post' AS kind, p.id AS id, b.type AS board_type, p.updated_at AS last_modified " +
+            "FROM post p JOIN board b ON b.id = p.board_id " +
+            "WHERE b.company_id = :companyId AND p.is_hidden = false " +
+            "UNION ALL " +
+            "SELECT 'product', id, NULL, updated_at FROM product " +
+            "WHERE company_id = :companyId AND is_hidden = false " +
+            "UNION ALL " +
+            "SELECT 'youtube', id, NULL, updated_at FROM youtube_video " +
+            "WHERE company_id = :companyId AND is_hidden = false";
+
+    private final DatabaseClient databaseClient;
+
+    public CompanyRepositoryCustomImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+    }
+
+    @Override
+    public Mono<ContentStats> findSitemapStats(Long companyId) {
+        String sql = "SELECT COUNT(*) AS entry_count, MAX(last_modified) AS last_modified, " +
+                "COALESCE(SUM(id), 0) AS id_sum FROM (" + SITEMAP_ENTRIES + ") entries";
+        return databaseClient.sql(sql)
+                .bind("companyId", companyId)
+                .map(row -> ContentStats.of(row.get("entry_count"),
+                        row.get("last_modified", LocalDateTime.class),
+                        row.get("id_sum")))
+                .one()
+                .defaultIfEmpty(new ContentStats(0, null, 0));
+    }
+
+    @Override
+    public Flux<SitemapEntry> findSitemapEntries(Long companyId, long offset, long limit) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT kind, id, board_type, last_modified FROM (").append(SITEMAP_ENTRIES).append(") entries")
+                .append(" ORDER BY kind, id");
+        if (limit > 0) {
+            sql.append(" LIMIT ").append(limit)
+                    .append(" OFFSET ").append(Math.max(offset, 0));
+        }
+
+        return databaseClient.sql(sql.toString())
+                .bind("companyId", companyId)
+                .map(row -> new SitemapEntry(row.get("kind", String.class),
+                        row.get("id", Long.class),
+                        row.get("board_type", String.class),
+                        row.get("last_modified", LocalDateTime.class)))
+                .all();
+    }
+}
@@ -0,0 +1,19 @@
+package com.nalsil.bear.domain.company;
+
+import java.time.LocalDateTime;
+
+/**
+ * SitemapEntry
+ * 사이트맵에 포함되는 공개 상세 페이지 한 건 (게시글, 상품, 유튜브 영상)
+ *
+ * @param kind 종류 (post, product, youtube)
+ * @param id 콘텐츠 ID
+ * @param boardType 게시판 타입 (게시글만, 그 외 null)
+ * @param lastModified 최종 수정 시각 (영상은 수정 시각이 없어 등록 시각)
+ */
+public record SitemapEntry(String kind, Long id, String boardType, LocalDateTime lastModified) {
+
+    public static final String POST = "post";
+    public static final String PRODUCT = "product";
+    public static final String YOUTUBE = "youtube";
+}
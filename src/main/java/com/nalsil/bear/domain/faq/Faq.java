@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
  * 자주 묻는 질문 정보를 저장하는 엔티티
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("faq")
@@ -0,0 +1,27 @@
+package com.nalsil.bear.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 체크포인트 복원용 조회 결과
+ * post_popularity와 게시글, 게시판 정보를 결합한 읽기 전용 프로젝션
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularPostSnapshot {
+
+    private Long postId;
+    private Double score;
+    private LocalDateTime scoredAt;
+    private String title;
+    private Long boardId;
+    private String boardType;
+    private Long companyId;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -66,6 +67,13 @@ public class Post {
     @Column("is_hidden")
     private Boolean isHidden;
 
+    /**
+     * 버전 (관리자 수정 낙관적 잠금)
+     */
+    @Version
+    @Column("version")
+    private Long version;
+
     /**
      * 생성일시
      */
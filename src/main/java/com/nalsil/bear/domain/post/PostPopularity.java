@@ -0,0 +1,42 @@
+package com.nalsil.bear.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * PostPopularity 엔티티
+ * 인기 게시글 감쇠 점수 체크포인트
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("post_popularity")
+public class PostPopularity {
+
+    /**
+     * 게시글 ID
+     */
+    @Id
+    @Column("post_id")
+    private Long postId;
+
+    /**
+     * scoredAt 시점의 감쇠 점수
+     */
+    @Column("score")
+    private Double score;
+
+    /**
+     * 점수 기록 시각
+     */
+    @Column("scored_at")
+    private LocalDateTime scoredAt;
+}
@@ -0,0 +1,85 @@
+package com.nalsil.bear.domain.post;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * PostPopularity 리포지토리
+ * 인기 게시글 감쇠 점수 체크포인트 저장 및 복원
+ */
+@Repository
+public interface PostPopularityRepository extends R2dbcRepository<PostPopularity, Long> {
+
+    /**
+     * 감쇠 점수 합산 저장 (없으면 생성, 있으면 기존 점수를 scoredAt 시점으로 감쇠시킨 뒤 더함)
+     * 여러 노드가 각자의 증가분을 더하므로 다른 노드가 저장한 점수를 덮어쓰지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @param score 지난 체크포인트 이후 증가한 감쇠 점수 (scoredAt 시점 기준)
+     * @param scoredAt 점수 기록 시각
+     * @param lambda 감쇠 계수 (ln2 / 반감기 초)
+     * @return 영향받은 행 수 (Mono<Integer>)
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO post_popularity (post_id, score, scored_at)
+            VALUES (:postId, :score, :scoredAt)
+            ON CONFLICT (post_id) DO UPDATE SET
+                score = EXCLUDED.score + post_popularity.score * EXP(:lambda * CAST(
+                    EXTRACT(EPOCH FROM post_popularity.scored_at) - EXTRACT(EPOCH FROM EXCLUDED.scored_at) AS DOUBLE PRECISION)),
+                scored_at = EXCLUDED.scored_at
+            """)
+    Mono<Integer> merge(Long postId, Double score, LocalDateTime scoredAt, Double lambda);
+
+    /**
+     * 기준 시각까지 감쇠시킨 점수가 최소 점수 미만인 행 삭제
+     * 행을 저장한 노드와 무관하게 점수만으로 판단합니다.
+     *
+     * @param now 기준 시각
+     * @param lambda 감쇠 계수 (ln2 / 반감기 초)
+     * @param minScore 최소 점수
+     * @return 삭제된 행 수 (Mono<Integer>)
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM post_popularity
+            WHERE score * EXP(:lambda * CAST(
+                EXTRACT(EPOCH FROM scored_at) - EXTRACT(EPOCH FROM CAST(:now AS TIMESTAMP)) AS DOUBLE PRECISION)) < :minScore
+            """)
+    Mono<Integer> deleteDecayedBelow(LocalDateTime now, Double lambda, Double minScore);
+
+    /**
+     * 공개 게시글의 체크포인트 점수 조회 (게시판, 기업 정보 포함)
+     *
+     * @return 체크포인트 목록 (Flux)
+     */
+    @Query("""
+            SELECT pp.post_id, pp.score, pp.scored_at, p.title, p.board_id, b.type AS board_type, b.company_id
+            FROM post_popularity pp
+            JOIN post p ON p.id = pp.post_id
+            JOIN board b ON b.id = p.board_id
+            WHERE p.is_hidden = FALSE
+            """)
+    Flux<PopularPostSnapshot> findVisibleSnapshots();
+
+    /**
+     * 공개 게시글 하나의 체크포인트 점수 조회 (숨김 해제 시 순위 복원용)
+     *
+     * @param postId 게시글 ID
+     * @return 체크포인트 (없거나 숨김 게시글이면 empty)
+     */
+    @Query("""
+            SELECT pp.post_id, pp.score, pp.scored_at, p.title, p.board_id, b.type AS board_type, b.company_id
+            FROM post_popularity pp
+            JOIN post p ON p.id = pp.post_id
+            JOIN board b ON b.id = p.board_id
+            WHERE pp.post_id = :postId AND p.is_hidden = FALSE
+            """)
+    Mono<PopularPostSnapshot> findVisibleSnapshot(Long postId);
+}
@@ -1,18 +1,21 @@
 package com.nalsil.bear.domain.post;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Post 리포지토리
  * R2DBC 기반 리액티브 리포지토리
  */
 @Repository
-public interface PostRepository extends R2dbcRepository<Post, Long> {
+public interface PostRepository extends R2dbcRepository<Post, Long>, PostRepositoryCustom {
 
     /**
      * 게시판 ID로 게시글 목록 조회 (숨김 제외, 최신순)
@@ -44,19 +47,101 @@ public interface PostRepository extends R2dbcRepository<Post, Long> {
 
     /**
      * 조회수 증가
+     * 게시판 ID(파티션 키)를 함께 지정하여 post를 게시판 해시로 파티셔닝한 경우에도 파티션 하나만 읽습니다.
      *
      * @param id 게시글 ID
+     * @param boardId 게시판 ID
      * @return 업데이트된 행 수 (Mono<Integer>)
      */
-    @Query("UPDATE post SET view_count = view_count + 1 WHERE id = :id")
-    Mono<Integer> incrementViewCount(Long id);
+    @Query("UPDATE post SET view_count = view_count + 1 WHERE id = :id AND board_id = :boardId")
+    Mono<Integer> incrementViewCount(Long id, Long boardId);
 
     /**
-     * 게시글 ID와 숨김 여부로 게시글 조회
+     * 게시판 ID, 게시글 ID와 숨김 여부로 게시글 조회
+     * 게시판 ID(파티션 키)를 함께 지정하여 파티셔닝한 경우에도 파티션 하나만 읽습니다.
      *
      * @param id 게시글 ID
+     * @param boardId 게시판 ID
      * @param isHidden 숨김 여부
      * @return 게시글 정보 (Mono)
      */
-    Mono<Post> findByIdAndIsHidden(Long id, Boolean isHidden);
+    Mono<Post> findByIdAndBoardIdAndIsHidden(Long id, Long boardId, Boolean isHidden);
+
+    /**
+     * 게시판 ID와 게시글 ID로 게시글 조회 (숨김 포함)
+     *
+     * @param id 게시글 ID
+     * @param boardId 게시판 ID
+     * @return 게시글 정보 (Mono)
+     */
+    Mono<Post> findByIdAndBoardId(Long id, Long boardId);
+
+    /**
+     * 게시글 내용 수정 (관리자 수정 폼의 컬럼만 갱신, 낙관적 잠금)
+     * 숨김 여부와 첨부 파일 경로는 null이면 기존 값을 유지합니다.
+     *
+     * @param id 게시글 ID
+     * @param boardId 게시판 ID
+     * @param version 폼을 열 때의 버전
+     * @param title 제목
+     * @param content 내용
+     * @param isHidden 숨김 여부 (null이면 유지)
+     * @param filePath 첨부 파일 경로 (null이면 유지)
+     * @param updatedAt 수정일시
+     * @return 업데이트된 행 수 (버전이 다르거나 게시판이 다르면 0)
+     */
+    @Modifying
+    @Query("UPDATE post SET title = :title, content = :content, " +
+            "is_hidden = COALESCE(:isHidden, is_hidden), file_path = COALESCE(:filePath, file_path), " +
+            "updated_at = :updatedAt, version = version + 1 " +
+            "WHERE id = :id AND board_id = :boardId AND version = :version")
+    Mono<Integer> updateContent(Long id, Long boardId, long version, String title, String content,
+                                Boolean isHidden, String filePath, LocalDateTime updatedAt);
+
+    /**
+     * 게시글 숨김 여부 변경 (낙관적 잠금)
+     *
+     * @param id 게시글 ID
+     * @param boardId 게시판 ID
+     * @param version 목록을 열 때의 버전
+     * @param isHidden 숨김 여부
+     * @param updatedAt 수정일시
+     * @return 업데이트된 행 수 (버전이 다르거나 게시판이 다르면 0)
+     */
+    @Modifying
+    @Query("UPDATE post SET is_hidden = :isHidden, updated_at = :updatedAt, version = version + 1 " +
+            "WHERE id = :id AND board_id = :boardId AND version = :version")
+    Mono<Integer> updateHidden(Long id, Long boardId, long version, boolean isHidden, LocalDateTime updatedAt);
+
+    /**
+     * 게시판 소속 게시글 존재 여부
+     *
+     * @param id 게시글 ID
+     * @param boardId 게시판 ID
+     * @return 존재 여부 (Mono<Boolean>)
+     */
+    Mono<Boolean> existsByIdAndBoardId(Long id, Long boardId);
+
+    /**
+     * 기업 게시판 소속 게시글 조회 (관리자 권한 확인용)
+     *
+     * @param postId 게시글 ID
+     * @param boardId 게시판 ID
+     * @param companyId 기업 ID
+     * @return 게시글 정보 (게시판 또는 기업이 다르면 empty)
+     */
+    @Query("SELECT p.* FROM post p JOIN board b ON b.id = p.board_id " +
+            "WHERE p.id = :postId AND p.board_id = :boardId AND b.company_id = :companyId")
+    Mono<Post> findOwnedPost(Long postId, Long boardId, Long companyId);
+
+    /**
+     * 게시판 소속 게시글 삭제
+     *
+     * @param id 게시글 ID
+     * @param boardId 게시판 ID
+     * @return 삭제된 행 수 (게시판이 다르면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM post WHERE id = :id AND board_id = :boardId")
+    Mono<Integer> deleteFromBoard(Long id, Long boardId);
 }
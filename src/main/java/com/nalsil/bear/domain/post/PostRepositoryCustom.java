@@ -0,0 +1,30 @@
+package com.nalsil.bear.domain.post;
+
+import com.nalsil.bear.domain.common.ContentStats;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Post 리포지토리 확장
+ * 목록과 전체 개수를 한 번에 조회하는 페이지 쿼리, 피드 검증자용 집계 쿼리
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 게시판 ID로 공개 게시글 페이지 조회 (숨김 제외, 최신순, 전체 개수 포함)
+     *
+     * @param boardId 게시판 ID
+     * @param pageable 페이징 정보
+     * @return 게시글 페이지 (Mono<Page<Post>>)
+     */
+    Mono<Page<Post>> findVisiblePageByBoardId(Long boardId, Pageable pageable);
+
+    /**
+     * 게시판 공개 게시글 요약 (개수, 최종 수정 시각, ID 합계)
+     *
+     * @param boardId 게시판 ID
+     * @return 요약 (Mono<ContentStats>)
+     */
+    Mono<ContentStats> findVisibleStatsByBoardId(Long boardId);
+}
@@ -0,0 +1,47 @@
+package com.nalsil.bear.domain.post;
+
+import com.nalsil.bear.domain.common.ContentStats;
+import com.nalsil.bear.domain.common.PagedQueryExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * PostRepositoryCustom 구현
+ */
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final DatabaseClient databaseClient;
+
+    public PostRepositoryCustomImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.pagedQueryExecutor = new PagedQueryExecutor(r2dbcEntityTemplate);
+        this.databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+    }
+
+    @Override
+    public Mono<Page<Post>> findVisiblePageByBoardId(Long boardId, Pageable pageable) {
+        return pagedQueryExecutor.findPage(Post.class, "post",
+                "t.board_id = :boardId AND t.is_hidden = false",
+                "t.created_at DESC, t.id DESC",
+                Map.of("boardId", boardId),
+                pageable);
+    }
+
+    @Override
+    public Mono<ContentStats> findVisibleStatsByBoardId(Long boardId) {
+        return databaseClient.sql("SELECT COUNT(*) AS post_count, MAX(updated_at) AS last_modified, " +
+                        "COALESCE(SUM(id), 0) AS id_sum FROM post WHERE board_id = :boardId AND is_hidden = false")
+                .bind("boardId", boardId)
+                .map(row -> ContentStats.of(row.get("post_count"),
+                        row.get("last_modified", LocalDateTime.class),
+                        row.get("id_sum")))
+                .one()
+                .defaultIfEmpty(new ContentStats(0, null, 0));
+    }
+}
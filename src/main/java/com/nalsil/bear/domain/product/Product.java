@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
  * 상품 정보를 저장하는 엔티티
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("product")
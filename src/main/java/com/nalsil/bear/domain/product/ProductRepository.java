@@ -64,12 +64,12 @@ public interface ProductRepository extends R2dbcRepository<Product, Long> {
     Mono<Long> countByCompanyIdAndCategoryAndIsHidden(Long companyId, String category, Boolean isHidden);
 
     /**
-     * 기업 ID로 카테고리 목록 조회 (중복 제거)
+     * 기업 ID로 카테고리 목록 조회 (중복 제거, 공개 상품이 있는 카테고리만)
      *
      * @param companyId 기업 ID
      * @return 카테고리 목록 (Flux<String>)
      */
-    @Query("SELECT DISTINCT category FROM product WHERE company_id = :companyId AND category IS NOT NULL ORDER BY category")
+    @Query("SELECT DISTINCT category FROM product WHERE company_id = :companyId AND is_hidden = false AND category IS NOT NULL ORDER BY category")
     Flux<String> findDistinctCategoriesByCompanyId(Long companyId);
 
     /**
@@ -0,0 +1,127 @@
+package com.nalsil.bear.domain.qna;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * QnaNotification 엔티티
+ * QnA 알림 메일 발송 대기열(outbox) 항목
+ *
+ * QnA 저장과 같은 트랜잭션에서 기록되며, QnaNotificationDispatcher가 주기적으로 읽어 발송합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("qna_notification_outbox")
+public class QnaNotification {
+
+    /**
+     * 이벤트 유형: 새 질문 등록 (기업 관리자에게 발송)
+     */
+    public static final String EVENT_QUESTION_CREATED = "QUESTION_CREATED";
+
+    /**
+     * 이벤트 유형: 답변 등록 (질문자에게 발송)
+     */
+    public static final String EVENT_ANSWERED = "ANSWERED";
+
+    /**
+     * 상태: 발송 대기 (재시도 포함)
+     */
+    public static final String STATUS_PENDING = "PENDING";
+
+    /**
+     * 상태: 발송 완료
+     */
+    public static final String STATUS_SENT = "SENT";
+
+    /**
+     * 상태: 재시도 한도 초과 또는 발송 불가 (dead letter)
+     */
+    public static final String STATUS_DEAD = "DEAD";
+
+    @Id
+    private Long id;
+
+    /**
+     * 기업 ID
+     */
+    @Column("company_id")
+    private Long companyId;
+
+    /**
+     * QnA ID
+     */
+    @Column("qna_id")
+    private Long qnaId;
+
+    /**
+     * 이벤트 유형 (QUESTION_CREATED, ANSWERED)
+     */
+    @Column("event_type")
+    private String eventType;
+
+    /**
+     * 상태 (PENDING, SENT, DEAD)
+     */
+    @Column("status")
+    private String status;
+
+    /**
+     * 발송 시도 횟수
+     */
+    @Column("attempts")
+    private Integer attempts;
+
+    /**
+     * 다음 발송 시도 시각
+     */
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column("last_error")
+    private String lastError;
+
+    /**
+     * 생성일시
+     */
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 발송 완료 시각
+     */
+    @Column("sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 발송 대기 항목 생성
+     *
+     * @param qna 저장된 QnA
+     * @param eventType 이벤트 유형
+     * @return 발송 대기 항목
+     */
+    public static QnaNotification pending(Qna qna, String eventType) {
+        LocalDateTime now = LocalDateTime.now();
+        return QnaNotification.builder()
+                .companyId(qna.getCompanyId())
+                .qnaId(qna.getId())
+                .eventType(eventType)
+                .status(STATUS_PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.nalsil.bear.domain.qna;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * QnaNotification 리포지토리
+ * R2DBC 기반 리액티브 리포지토리
+ */
+@Repository
+public interface QnaNotificationRepository extends R2dbcRepository<QnaNotification, Long> {
+
+    /**
+     * 발송 시각이 된 대기 항목 조회 (오래된 순)
+     *
+     * @param now 현재 시각
+     * @param limit 최대 개수
+     * @return 대기 항목 목록 (Flux)
+     */
+    @Query("SELECT * FROM qna_notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now ORDER BY id LIMIT :limit")
+    Flux<QnaNotification> findDue(LocalDateTime now, int limit);
+
+    /**
+     * 대기 항목 선점
+     * 읽은 시점의 next_attempt_at이 그대로일 때만 임대 만료 시각으로 미루므로,
+     * 여러 인스턴스가 같은 항목을 동시에 읽어도 한 곳만 발송합니다.
+     *
+     * @param id 항목 ID
+     * @param expected 읽은 시점의 다음 시도 시각
+     * @param leaseUntil 임대 만료 시각 (발송 중 종료되면 이 시각 이후 재시도)
+     * @return 업데이트된 행 수 (선점 성공 시 1)
+     */
+    @Modifying
+    @Query("UPDATE qna_notification_outbox SET next_attempt_at = :leaseUntil " +
+            "WHERE id = :id AND status = 'PENDING' AND next_attempt_at = :expected")
+    Mono<Integer> claim(Long id, LocalDateTime expected, LocalDateTime leaseUntil);
+}
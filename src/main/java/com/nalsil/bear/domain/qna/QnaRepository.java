@@ -1,17 +1,21 @@
 package com.nalsil.bear.domain.qna;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * QnA 리포지토리
  * R2DBC 기반 리액티브 리포지토리
  */
 @Repository
-public interface QnaRepository extends R2dbcRepository<Qna, Long> {
+public interface QnaRepository extends R2dbcRepository<Qna, Long>, QnaRepositoryCustom {
 
     /**
      * 기업 ID로 QnA 목록 조회 (숨김 제외, 최신순)
@@ -68,4 +72,67 @@ public interface QnaRepository extends R2dbcRepository<Qna, Long> {
      * @return QnA 목록 (Flux)
      */
     Flux<Qna> findByCompanyIdOrderByCreatedAtDesc(Long companyId, Pageable pageable);
+
+    /**
+     * 답변 등록/수정 (답변 컬럼만 갱신, 낙관적 잠금)
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @param version 답변 폼을 열 때의 버전
+     * @param answerBody 답변 내용
+     * @param answererId 답변자 ID
+     * @param answeredAt 답변일시
+     * @return 업데이트된 행 수 (버전이 다르거나 기업이 다르면 0)
+     */
+    @Modifying
+    @Query("UPDATE qna SET answer_body = :answerBody, answerer_id = :answererId, is_answered = TRUE, " +
+            "answered_at = :answeredAt, version = version + 1 " +
+            "WHERE id = :id AND company_id = :companyId AND version = :version")
+    Mono<Integer> updateAnswer(Long id, Long companyId, long version, String answerBody,
+                               Long answererId, LocalDateTime answeredAt);
+
+    /**
+     * QnA 숨김 여부 변경 (낙관적 잠금)
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @param version 목록을 열 때의 버전
+     * @param isHidden 숨김 여부
+     * @return 업데이트된 행 수 (버전이 다르거나 기업이 다르면 0)
+     */
+    @Modifying
+    @Query("UPDATE qna SET is_hidden = :isHidden, version = version + 1 " +
+            "WHERE id = :id AND company_id = :companyId AND version = :version")
+    Mono<Integer> updateHidden(Long id, Long companyId, long version, boolean isHidden);
+
+    /**
+     * 기업 소속 QnA 조회
+     * 기업 ID(파티션 키)를 함께 지정하여 qna를 기업 해시로 파티셔닝한 경우에도 파티션 하나만 읽습니다.
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @return QnA (다른 기업의 QnA이면 empty)
+     */
+    Mono<Qna> findByIdAndCompanyId(Long id, Long companyId);
+
+    /**
+     * 기업 소속 QnA 존재 여부
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @return 존재 여부 (Mono<Boolean>)
+     */
+    Mono<Boolean> existsByIdAndCompanyId(Long id, Long companyId);
+
+    /**
+     * 기업 소속 QnA 삭제
+     * 기업 ID(파티션 키)를 함께 지정하여 파티션 하나만 읽습니다.
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @return 삭제된 행 수 (기업이 다르면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM qna WHERE id = :id AND company_id = :companyId")
+    Mono<Integer> deleteByIdAndCompanyId(Long id, Long companyId);
 }
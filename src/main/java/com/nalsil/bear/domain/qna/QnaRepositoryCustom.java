@@ -0,0 +1,21 @@
+package com.nalsil.bear.domain.qna;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+/**
+ * QnA 리포지토리 확장
+ * 목록과 전체 개수를 한 번에 조회하는 페이지 쿼리
+ */
+public interface QnaRepositoryCustom {
+
+    /**
+     * 기업 ID로 공개 QnA 페이지 조회 (숨김 제외, 최신순, 전체 개수 포함)
+     *
+     * @param companyId 기업 ID
+     * @param pageable 페이징 정보
+     * @return QnA 페이지 (Mono<Page<Qna>>)
+     */
+    Mono<Page<Qna>> findVisiblePageByCompanyId(Long companyId, Pageable pageable);
+}
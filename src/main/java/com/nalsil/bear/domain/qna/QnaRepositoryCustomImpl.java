@@ -0,0 +1,30 @@
+package com.nalsil.bear.domain.qna;
+
+import com.nalsil.bear.domain.common.PagedQueryExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * QnaRepositoryCustom 구현
+ */
+public class QnaRepositoryCustomImpl implements QnaRepositoryCustom {
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    public QnaRepositoryCustomImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.pagedQueryExecutor = new PagedQueryExecutor(r2dbcEntityTemplate);
+    }
+
+    @Override
+    public Mono<Page<Qna>> findVisiblePageByCompanyId(Long companyId, Pageable pageable) {
+        return pagedQueryExecutor.findPage(Qna.class, "qna",
+                "t.company_id = :companyId AND t.is_hidden = false",
+                "t.created_at DESC, t.id DESC",
+                Map.of("companyId", companyId),
+                pageable);
+    }
+}
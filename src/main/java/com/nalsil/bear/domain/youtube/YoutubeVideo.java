@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
  * 유튜브 영상 정보를 저장하는 엔티티
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("youtube_video")
@@ -48,6 +48,18 @@ public class YoutubeVideo {
     @Column("description")
     private String description;
 
+    /**
+     * 영상 ID (저장 시 video_url에서 추출)
+     */
+    @Column("video_id")
+    private String videoId;
+
+    /**
+     * 플레이어 embed URL (저장 시 생성)
+     */
+    @Column("embed_url")
+    private String embedUrl;
+
     /**
      * 썸네일 URL
      */
@@ -71,4 +83,10 @@ public class YoutubeVideo {
      */
     @Column("created_at")
     private LocalDateTime createdAt;
+
+    /**
+     * 수정일시
+     */
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
 }
@@ -1,5 +1,6 @@
 package com.nalsil.bear.domain.youtube;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -37,4 +38,37 @@ public interface YoutubeVideoRepository extends R2dbcRepository<YoutubeVideo, Lo
      * @return 영상 개수 (Mono<Long>)
      */
     Mono<Long> countByCompanyIdAndIsHidden(Long companyId, Boolean isHidden);
+
+    /**
+     * 영상 ID가 계산되지 않은 행 조회 (메타데이터 일괄 채우기, ID 순 키셋 페이지)
+     *
+     * @param afterId 이전 묶음의 마지막 ID (처음에는 0)
+     * @param limit 묶음 크기
+     * @return 영상 목록 (Flux)
+     */
+    @Query("""
+            SELECT * FROM youtube_video
+            WHERE video_id IS NULL AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            """)
+    Flux<YoutubeVideo> findWithoutVideoIdAfter(Long afterId, int limit);
+
+    /**
+     * 영상 메타데이터 저장 (영상 ID, embed URL, 썸네일 URL)
+     * 아직 채워지지 않았고 URL이 읽은 시점과 같을 때만 저장하여, 그 사이 관리자가 수정한 값을 덮어쓰지 않습니다.
+     *
+     * @param id 영상 ID (행)
+     * @param videoUrl 영상 ID를 추출한 영상 URL
+     * @param videoId 유튜브 영상 ID
+     * @param embedUrl embed URL
+     * @param thumbnailUrl 썸네일 URL
+     * @return 영향받은 행 수 (Mono<Integer>)
+     */
+    @Query("""
+            UPDATE youtube_video
+            SET video_id = :videoId, embed_url = :embedUrl, thumbnail_url = :thumbnailUrl
+            WHERE id = :id AND video_id IS NULL AND video_url = :videoUrl
+            """)
+    Mono<Integer> updateMetadata(Long id, String videoUrl, String videoId, String embedUrl, String thumbnailUrl);
 }
@@ -0,0 +1,26 @@
+package com.nalsil.bear.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * QnA 답변 작성/수정 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerQnaRequest {
+
+    /**
+     * 답변 내용
+     */
+    private String answer;
+
+    /**
+     * 답변 폼을 열 때의 QnA 버전 (낙관적 잠금)
+     */
+    private Long version;
+}
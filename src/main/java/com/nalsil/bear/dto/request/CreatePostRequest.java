@@ -38,4 +38,9 @@ public class CreatePostRequest {
      * 첨부 파일 경로 (선택 사항)
      */
     private String filePath;
+
+    /**
+     * 수정 폼을 열 때의 게시글 버전 (수정 시 낙관적 잠금)
+     */
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.nalsil.bear.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숨김/공개 전환 요청 DTO (관리자 목록)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToggleHiddenRequest {
+
+    /**
+     * 변경할 숨김 여부
+     */
+    private Boolean isHidden;
+
+    /**
+     * 목록을 열 때의 버전 (낙관적 잠금)
+     */
+    private Long version;
+}
@@ -0,0 +1,22 @@
+package com.nalsil.bear.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 게시글 응답 DTO
+ * 메모리의 인기 게시글 순위에서 화면 표시용으로 생성됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularPostResponse {
+
+    private Long postId;
+    private Long boardId;
+    private String boardType;
+    private String title;
+}
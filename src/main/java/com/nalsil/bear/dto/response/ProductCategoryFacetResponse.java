@@ -0,0 +1,20 @@
+package com.nalsil.bear.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 카테고리 패싯 응답 DTO
+ * 카테고리명과 해당 카테고리의 공개 상품 개수 (카테고리 탭 표시용)
+ *
+ * 기업별 메모리 읽기 모델이 여러 요청에 같은 인스턴스를 공유하므로 변경할 수 없게 둡니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductCategoryFacetResponse {
+
+    private final String category;
+    private final long count;
+}
@@ -0,0 +1,18 @@
+package com.nalsil.bear.exception;
+
+/**
+ * CircuitOpenException
+ * 외부 서비스 호출이 연속 실패하여 회로 차단기가 열려 있을 때 호출 없이 즉시 발생하는 예외
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    /**
+     * 생성자
+     * 흐름 제어용 예외이므로 스택 트레이스를 생성하지 않습니다.
+     *
+     * @param name 회로 차단기 이름
+     */
+    public CircuitOpenException(String name) {
+        super("Circuit open: " + name, null, false, false);
+    }
+}
@@ -0,0 +1,19 @@
+package com.nalsil.bear.exception;
+
+/**
+ * NotModifiedException
+ * 조건부 GET 요청의 검증자가 일치하여 본문 렌더링을 생략해야 할 때 발생하는 예외
+ *
+ * 뷰를 반환하는 핸들러는 빈 Mono로 응답 완료를 표현할 수 없으므로
+ * 이 예외로 렌더링을 중단하고 ConditionalGetAdvice에서 304 응답으로 변환합니다.
+ */
+public class NotModifiedException extends RuntimeException {
+
+    /**
+     * 기본 생성자
+     * 흐름 제어용 예외이므로 스택 트레이스를 생성하지 않습니다.
+     */
+    public NotModifiedException() {
+        super("Not Modified", null, false, false);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nalsil.bear.filter;
+
+import com.nalsil.bear.service.KnownTenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * KnownTenantFilter
+ * 없는 기업 코드 요청을 컨트롤러 전에 404로 응답하는 필터
+ *
+ * 첫 경로 조각을 기업 코드로 보고 KnownTenantRegistry(메모리)로 확인합니다.
+ * 형식이 잘못된 코드(/wp-login.php, /.env 등)와 DB로 없음이 이미 확인된 코드(부정 캐시)는
+ * DB 조회와 템플릿 렌더링 없이 본문 없는 404로 응답합니다. (활성 코드 집합에 없는 코드는 컨트롤러에서 DB로 확인)
+ * 기업 코드가 아닌 경로(관리자, 정적 리소스 등)는 app.tenant-guard.reserved-paths에 지정합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(prefix = "app.tenant-guard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class KnownTenantFilter implements WebFilter {
+
+    private final KnownTenantRegistry knownTenantRegistry;
+    private final Set<String> reservedPaths;
+
+    public KnownTenantFilter(KnownTenantRegistry knownTenantRegistry,
+                             @Value("${app.tenant-guard.reserved-paths:admin,superadmin,css,js,assets,images,favicon.ico,actuator,error}")
+                             List<String> reservedPaths) {
+        this.knownTenantRegistry = knownTenantRegistry;
+        this.reservedPaths = Set.copyOf(reservedPaths);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        String companyCode = firstSegment(path);
+        if (companyCode == null || reservedPaths.contains(companyCode)) {
+            return chain.filter(exchange);
+        }
+
+        if (knownTenantRegistry.check(companyCode) == KnownTenantRegistry.Verdict.UNKNOWN) {
+            log.debug("없는 기업 코드 요청 거부: path={}", path);
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * 첫 경로 조각 추출
+     *
+     * @param path 요청 경로
+     * @return 첫 경로 조각 (루트 경로이면 null)
+     */
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+        return segment.isEmpty() ? null : segment;
+    }
+}
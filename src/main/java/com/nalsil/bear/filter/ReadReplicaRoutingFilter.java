@@ -0,0 +1,91 @@
+package com.nalsil.bear.filter;
+
+import com.nalsil.bear.config.ReadReplicaProperties;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder.Route;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReadReplicaRoutingFilter
+ * 요청 단위로 읽기 복제본/주 데이터베이스 라우팅을 결정하는 필터
+ *
+ * - GET/HEAD 요청(공개 페이지, 관리자 목록 화면)은 복제본으로 라우팅
+ * - 쓰기 요청(POST, PUT, PATCH, DELETE)은 주 데이터베이스로 라우팅하고,
+ *   read-your-writes 기간 동안 같은 클라이언트의 읽기도 주 데이터베이스로 고정(쿠키)
+ * - app.datasource.replica.primary-paths에 지정된 경로는 항상 주 데이터베이스 사용
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingFilter implements WebFilter {
+
+    /**
+     * read-your-writes 고정 쿠키 이름
+     */
+    private static final String PRIMARY_PIN_COOKIE = "DB-PRIMARY-PIN";
+
+    private final ReadReplicaProperties properties;
+    private final List<PathPattern> primaryPaths;
+
+    public ReadReplicaRoutingFilter(ReadReplicaProperties properties) {
+        this.properties = properties;
+        this.primaryPaths = properties.getPrimaryPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+        boolean readOnlyMethod = method == HttpMethod.GET || method == HttpMethod.HEAD;
+
+        if (!readOnlyMethod && method != HttpMethod.OPTIONS) {
+            // 쓰기 직후 리다이렉트된 화면 등에서 방금 쓴 데이터를 볼 수 있도록 주 데이터베이스에 고정
+            exchange.getResponse().addCookie(ResponseCookie.from(PRIMARY_PIN_COOKIE, "1")
+                    .path("/")
+                    .maxAge(properties.getReadYourWritesWindow())
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build());
+        }
+
+        Route route = readOnlyMethod
+                && !request.getCookies().containsKey(PRIMARY_PIN_COOKIE)
+                && !isPrimaryPath(request)
+                ? Route.REPLICA
+                : Route.PRIMARY;
+
+        return chain.filter(exchange)
+                .contextWrite(ctx -> DataSourceRoutingContextHolder.setRoute(ctx, route));
+    }
+
+    /**
+     * 주 데이터베이스 고정 경로 여부
+     *
+     * @param request 요청
+     * @return 고정 경로이면 true
+     */
+    private boolean isPrimaryPath(ServerHttpRequest request) {
+        for (PathPattern pattern : primaryPaths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+package com.nalsil.bear.filter;
+
+import io.micrometer.context.ContextRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * RequestLoggingFilter
+ * 요청 ID/테넌트 로그 컨텍스트 설정과 샘플링된 접근 로그
+ *
+ * - 요청 ID(X-Request-Id 헤더 또는 새로 생성)와 기업 코드(공개 경로 첫 세그먼트)를 Reactor Context에 넣습니다.
+ *   spring.reactor.context-propagation=auto이므로 어느 스레드에서 로그를 남기든 MDC(requestId, tenant)에 반영됩니다.
+ *   관리자 요청의 기업 ID(companyId)는 JwtAuthenticationFilter가 인증 후 추가합니다.
+ * - 접근 로그는 오류(4xx/5xx)와 느린 요청은 항상, 나머지는 sample-rate 비율로만 남깁니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter implements WebFilter {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String TENANT = "tenant";
+    public static final String COMPANY_ID = "companyId";
+
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Pattern TENANT_PATH = Pattern.compile("^/([a-z0-9-]+)(/.*)?$");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    static {
+        // Reactor Context 값 → MDC 복원 (자동 컨텍스트 전파)
+        for (String key : new String[]{REQUEST_ID, TENANT, COMPANY_ID}) {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(key,
+                    () -> MDC.get(key),
+                    value -> MDC.put(key, value.toString()),
+                    () -> MDC.remove(key));
+        }
+    }
+
+    public RequestLoggingFilter(@Value("${app.logging.access.sample-rate:0.01}") double sampleRate,
+                                @Value("${app.logging.access.slow-threshold:1s}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (isStaticResource(path)) {
+            return chain.filter(exchange);
+        }
+
+        String requestId = requestId(request);
+        String tenant = tenant(path);
+        exchange.getResponse().getHeaders().set(REQUEST_ID_HEADER, requestId);
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> logAccess(exchange, requestId, tenant, System.nanoTime() - start))
+                .contextWrite(context -> withLogContext(context, requestId, tenant));
+    }
+
+    private static Context withLogContext(Context context, String requestId, String tenant) {
+        Context withRequestId = context.put(REQUEST_ID, requestId);
+        return tenant == null ? withRequestId : withRequestId.put(TENANT, tenant);
+    }
+
+    private void logAccess(ServerWebExchange exchange, String requestId, String tenant, long elapsedNanos) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        boolean failed = status != null && status.isError();
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (!failed && !slow && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        // 완료 시점 스레드에는 컨텍스트가 복원되지 않을 수 있으므로 직접 설정
+        MDC.put(REQUEST_ID, requestId);
+        if (tenant != null) {
+            MDC.put(TENANT, tenant);
+        }
+        try {
+            log.info("{} {} {} {}ms{}", exchange.getRequest().getMethod(), exchange.getRequest().getPath(),
+                    status == null ? 200 : status.value(), elapsedNanos / 1_000_000,
+                    slow ? " (slow)" : "");
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(TENANT);
+        }
+    }
+
+    private static String requestId(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(REQUEST_ID_HEADER);
+        return header != null && VALID_REQUEST_ID.matcher(header).matches()
+                ? header
+                : UUID.randomUUID().toString();
+    }
+
+    /**
+     * 공개 경로의 기업 코드 (/{companyCode}/...)
+     */
+    private static String tenant(String path) {
+        if (path.startsWith("/admin") || path.startsWith("/superadmin") || path.startsWith("/actuator")) {
+            return null;
+        }
+        var matcher = TENANT_PATH.matcher(path);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static boolean isStaticResource(String path) {
+        return path.startsWith("/assets/") || path.startsWith("/css/") || path.startsWith("/js/")
+                || path.startsWith("/images/") || path.equals("/favicon.ico");
+    }
+}
@@ -0,0 +1,79 @@
+package com.nalsil.bear.filter;
+
+import com.nalsil.bear.util.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServerTimingFilter
+ * 요청별 단계(tenant, db, render) 소요 시간 수집
+ *
+ * - 모든 요청의 단계별 합계를 http.server.phase 타이머(phase 태그, 히스토그램)로 기록합니다.
+ * - app.server-timing.header-enabled=true이면 Server-Timing 응답 헤더로 내역을 보냅니다.
+ *   (브라우저 개발자 도구 Network → Timing 탭에서 확인)
+ *
+ * 측정 지점: 기업 조회(CompanyService), 리포지토리 호출(RepositoryTimingPostProcessor),
+ * 뷰 렌더링(TimedViewResolver)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ServerTimingFilter implements WebFilter {
+
+    private static final String HEADER = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+
+    public ServerTimingFilter(MeterRegistry meterRegistry,
+                              @Value("${app.server-timing.header-enabled:false}") boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (path.startsWith("/assets/") || path.startsWith("/css/") || path.startsWith("/js/")
+                || path.startsWith("/images/") || path.startsWith("/actuator")) {
+            return chain.filter(exchange);
+        }
+
+        RequestTimings timings = new RequestTimings();
+        if (headerEnabled) {
+            exchange.getResponse().beforeCommit(() -> {
+                exchange.getResponse().getHeaders().set(HEADER, timings.toServerTimingHeader());
+                return Mono.empty();
+            });
+        }
+
+        return chain.filter(exchange)
+                .doFinally(signal -> recordPhases(timings))
+                .contextWrite(context -> context.put(RequestTimings.CONTEXT_KEY, timings));
+    }
+
+    private void recordPhases(RequestTimings timings) {
+        for (Map.Entry<String, Long> phase : timings.totals().entrySet()) {
+            phaseTimer(phase.getKey()).record(phase.getValue(), TimeUnit.NANOSECONDS);
+        }
+        phaseTimer("total").record(timings.elapsed(), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder("http.server.phase")
+                .description("요청 단계별 소요 시간 (tenant: 기업 조회, db: 리포지토리 호출 합계, render: 뷰 렌더링)")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
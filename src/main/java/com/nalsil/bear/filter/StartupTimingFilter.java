@@ -0,0 +1,83 @@
+package com.nalsil.bear.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StartupTimingFilter
+ * 기동 시간 측정 (JVM 시작 기준)
+ *
+ * - time-to-ready: ApplicationReadyEvent까지 걸린 시간
+ * - time-to-first-page: 첫 HTML 페이지(GET, 2xx) 응답 완료까지 걸린 시간
+ *   (지연 초기화, 템플릿 파싱, 첫 DB 연결 비용이 모두 포함됨)
+ *
+ * 두 값은 로그와 app.startup.time-to-ready / app.startup.time-to-first-page 게이지로 남기며,
+ * AOT/CDS/지연 초기화 적용 전후 비교에 사용합니다. (build.gradle startupBenchmark 참고)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimingFilter implements WebFilter {
+
+    private final AtomicLong timeToReady = new AtomicLong(-1);
+    private final AtomicLong timeToFirstPage = new AtomicLong(-1);
+    private final AtomicBoolean firstPageRecorded = new AtomicBoolean();
+
+    public StartupTimingFilter(MeterRegistry meterRegistry) {
+        TimeGauge.builder("app.startup.time-to-ready", timeToReady, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("JVM 시작부터 ApplicationReadyEvent까지 걸린 시간")
+                .register(meterRegistry);
+        TimeGauge.builder("app.startup.time-to-first-page", timeToFirstPage, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("JVM 시작부터 첫 HTML 페이지 응답까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        timeToReady.set(uptime);
+        log.info("기동 완료(time-to-ready): {}ms", uptime);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (firstPageRecorded.get() || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .doOnSuccess(done -> {
+                    if (isHtmlPage(exchange.getResponse()) && firstPageRecorded.compareAndSet(false, true)) {
+                        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                        timeToFirstPage.set(uptime);
+                        log.info("첫 페이지 응답(time-to-first-page): {}ms, path={}", uptime, exchange.getRequest().getPath());
+                    }
+                });
+    }
+
+    private static boolean isHtmlPage(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        MediaType contentType = response.getHeaders().getContentType();
+        return (status == null || status.is2xxSuccessful())
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(contentType);
+    }
+}
@@ -0,0 +1,35 @@
+package com.nalsil.bear.filter;
+
+import com.nalsil.bear.util.StaticAssetManifest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * StaticAssetUrlFilter
+ * 템플릿의 정적 자원 링크를 해시 파일 경로로 변환하는 필터
+ *
+ * Thymeleaf의 @{/css/...} 링크는 ServerWebExchange.transformUrl()을 거치므로
+ * URL 변환기를 등록하여 /assets/** 해시 경로로 바꿉니다.
+ * (WebFlux ResourceUrlProvider는 비동기 API라 템플릿 렌더링 중 동기 변환에 사용할 수 없음)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StaticAssetUrlFilter implements WebFilter {
+
+    private final StaticAssetManifest staticAssetManifest;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!staticAssetManifest.isEmpty()) {
+            exchange.addUrlTransformer(staticAssetManifest::rewrite);
+        }
+        return chain.filter(exchange);
+    }
+}
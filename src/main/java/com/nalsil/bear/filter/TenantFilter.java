@@ -33,7 +33,7 @@ public class TenantFilter implements WebFilter {
 
         // 정적 리소스 및 관리자 페이지는 필터링 제외
         if (path.startsWith("/css") || path.startsWith("/js") ||
-            path.startsWith("/images") || path.startsWith("/admin") ||
+            path.startsWith("/assets") || path.startsWith("/images") || path.startsWith("/admin") ||
             path.startsWith("/superadmin") || path.equals("/favicon.ico")) {
             return chain.filter(exchange);
         }
@@ -34,6 +34,7 @@ public interface PostMapper {
      * @return Post 엔티티
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "author", ignore = true)
     @Mapping(target = "viewCount", constant = "0")
     @Mapping(target = "createdAt", expression = "java(LocalDateTime.now())")
@@ -48,6 +49,7 @@ public interface PostMapper {
      * @param post 업데이트할 Post 엔티티
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "author", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -17,16 +17,19 @@ import java.time.LocalDateTime;
 public interface YoutubeVideoMapper {
 
     /**
-     * YoutubeVideo 엔티티 생성 준비 (companyId, thumbnailUrl 설정 전)
+     * YoutubeVideo 엔티티 생성 준비 (companyId 설정 전, 영상 ID/embed/썸네일 URL은 저장 시 계산)
      *
      * @param video 원본 YoutubeVideo
      * @return 생성 준비된 YoutubeVideo
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "companyId", ignore = true)
+    @Mapping(target = "videoId", ignore = true)
+    @Mapping(target = "embedUrl", ignore = true)
     @Mapping(target = "thumbnailUrl", ignore = true)
     @Mapping(target = "isHidden", expression = "java(video.getIsHidden() != null ? video.getIsHidden() : false)")
     @Mapping(target = "createdAt", expression = "java(LocalDateTime.now())")
+    @Mapping(target = "updatedAt", expression = "java(LocalDateTime.now())")
     YoutubeVideo prepareForCreate(YoutubeVideo video);
 
     /**
@@ -39,7 +42,10 @@ public interface YoutubeVideoMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "companyId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "videoId", ignore = true)
+    @Mapping(target = "embedUrl", ignore = true)
     @Mapping(target = "thumbnailUrl", ignore = true)
     @Mapping(target = "isHidden", expression = "java(source.getIsHidden() != null ? source.getIsHidden() : false)")
+    @Mapping(target = "updatedAt", expression = "java(LocalDateTime.now())")
     void updateVideo(YoutubeVideo source, @MappingTarget YoutubeVideo target);
 }
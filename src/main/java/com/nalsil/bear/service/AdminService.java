@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
  * 관리자 서비스
  *
  * 관리자 인증, 세션 관리, 권한 검증 비즈니스 로직을 처리합니다.
+ * BCrypt 해시/검증은 CPU를 오래 점유하므로 blockingScheduler에서 실행합니다.
  */
 @Slf4j
 @Service
@@ -22,6 +24,7 @@ public class AdminService {
 
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final Scheduler blockingScheduler;
 
     /**
      * 관리자 인증 (로그인)
@@ -34,7 +37,7 @@ public class AdminService {
         log.info("관리자 인증 시도: username={}", username);
 
         return adminRepository.findByUsername(username)
-                .filter(admin -> passwordEncoder.matches(password, admin.getPasswordHash()))
+                .filterWhen(admin -> matches(password, admin.getPasswordHash()))
                 .doOnNext(admin -> {
                     log.info("관리자 인증 성공: username={}, role={}", username, admin.getRole());
                     // 마지막 로그인 시각 업데이트
@@ -121,11 +124,12 @@ public class AdminService {
         log.info("관리자 생성: username={}, role={}", admin.getUsername(), admin.getRole());
 
         // 비밀번호 해시 처리
-        String hashedPassword = passwordEncoder.encode(admin.getPasswordHash());
-        admin.setPasswordHash(hashedPassword);
-        admin.setCreatedAt(LocalDateTime.now());
-
-        return adminRepository.save(admin);
+        return encode(admin.getPasswordHash())
+                .flatMap(hashedPassword -> {
+                    admin.setPasswordHash(hashedPassword);
+                    admin.setCreatedAt(LocalDateTime.now());
+                    return adminRepository.save(admin);
+                });
     }
 
     /**
@@ -140,11 +144,12 @@ public class AdminService {
         log.info("관리자 비밀번호 변경: adminId={}", adminId);
 
         return adminRepository.findById(adminId)
-                .filter(admin -> passwordEncoder.matches(currentPassword, admin.getPasswordHash()))
-                .flatMap(admin -> {
-                    admin.setPasswordHash(passwordEncoder.encode(newPassword));
-                    return adminRepository.save(admin);
-                })
+                .filterWhen(admin -> matches(currentPassword, admin.getPasswordHash()))
+                .flatMap(admin -> encode(newPassword)
+                        .flatMap(hashedPassword -> {
+                            admin.setPasswordHash(hashedPassword);
+                            return adminRepository.save(admin);
+                        }))
                 .map(admin -> true)
                 .defaultIfEmpty(false);
     }
@@ -159,4 +164,14 @@ public class AdminService {
         log.debug("사용자명 존재 여부 확인: username={}", username);
         return adminRepository.existsByUsername(username);
     }
+
+    private Mono<Boolean> matches(String rawPassword, String passwordHash) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, passwordHash))
+                .subscribeOn(blockingScheduler);
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(blockingScheduler);
+    }
 }
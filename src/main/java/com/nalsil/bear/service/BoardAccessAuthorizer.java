@@ -0,0 +1,105 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostRepository;
+import com.nalsil.bear.exception.UnauthorizedAccessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BoardAccessAuthorizer
+ * 관리자 게시판/게시글 접근 권한 확인
+ *
+ * 게시판 → 소속 기업은 거의 바뀌지 않으므로 게시판을 ttl 동안 메모리에 두고 확인합니다.
+ * 게시글은 게시글·게시판·기업 ID를 한 번에 조건으로 거는 조인 쿼리로 조회하므로,
+ * 다른 게시판(다른 기업)의 게시글 ID를 넣어도 조회되지 않습니다.
+ * 권한이 없거나 대상이 없으면 UnauthorizedAccessException으로 끝납니다.
+ */
+@Slf4j
+@Service
+public class BoardAccessAuthorizer {
+
+    /**
+     * 캐시 항목 수 상한 (초과 시 만료 항목 정리)
+     */
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BoardRepository boardRepository;
+    private final PostRepository postRepository;
+    private final long ttlNanos;
+
+    /**
+     * 게시판 ID → 게시판
+     */
+    private final Map<Long, CachedBoard> boards = new ConcurrentHashMap<>();
+
+    public BoardAccessAuthorizer(BoardRepository boardRepository,
+                                 PostRepository postRepository,
+                                 @Value("${app.admin-authorization.board-ttl:10m}") Duration ttl) {
+        this.boardRepository = boardRepository;
+        this.postRepository = postRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 관리자 기업 소속 게시판 확인
+     *
+     * @param companyId 관리자 기업 ID
+     * @param boardId 게시판 ID
+     * @return 게시판 (권한이 없으면 UnauthorizedAccessException)
+     */
+    public Mono<Board> requireBoard(Long companyId, Long boardId) {
+        return loadBoard(boardId)
+                .filter(board -> board.getCompanyId().equals(companyId))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("게시판 접근 거부: boardId={}, companyId={}", boardId, companyId);
+                    return UnauthorizedAccessException.forResource("게시판", boardId);
+                }));
+    }
+
+    /**
+     * 관리자 기업 게시판의 게시글 조회 (소속 확인 포함, 조인 쿼리 1회)
+     *
+     * @param companyId 관리자 기업 ID
+     * @param boardId 게시판 ID
+     * @param postId 게시글 ID
+     * @return 게시글 (권한이 없거나 게시판에 없으면 UnauthorizedAccessException)
+     */
+    public Mono<Post> requirePost(Long companyId, Long boardId, Long postId) {
+        return postRepository.findOwnedPost(postId, boardId, companyId)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("게시글 접근 거부: postId={}, boardId={}, companyId={}", postId, boardId, companyId);
+                    return UnauthorizedAccessException.forResource("게시글", postId);
+                }));
+    }
+
+    private Mono<Board> loadBoard(Long boardId) {
+        long now = System.nanoTime();
+        CachedBoard cached = boards.get(boardId);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return Mono.just(cached.board());
+        }
+
+        return boardRepository.findById(boardId)
+                .doOnNext(board -> {
+                    if (boards.size() >= MAX_ENTRIES) {
+                        boards.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+                        if (boards.size() >= MAX_ENTRIES) {
+                            boards.clear();
+                        }
+                    }
+                    boards.put(boardId, new CachedBoard(board, now));
+                });
+    }
+
+    private record CachedBoard(Board board, long loadedAt) {
+    }
+}
@@ -1,23 +1,39 @@
 package com.nalsil.bear.service;
 
+import com.nalsil.bear.cache.TieredCache;
+import com.nalsil.bear.cache.TieredCacheManager;
 import com.nalsil.bear.domain.board.Board;
 import com.nalsil.bear.domain.board.BoardRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * BoardService
  * 게시판 조회 비즈니스 로직
+ *
+ * 공개 페이지의 게시판 타입 조회는 TenantReadModel(기업별 메모리 스냅샷)에서 응답하고,
+ * 기업별 목록과 ID 조회는 2단계 캐시(boards-by-company, board-by-id 영역)를 거칩니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final TenantReadModel tenantReadModel;
+    private final TieredCache<List<Board>> boardsByCompany;
+    private final TieredCache<Board> boardsById;
+
+    public BoardService(BoardRepository boardRepository, TenantReadModel tenantReadModel,
+                        TieredCacheManager cacheManager) {
+        this.boardRepository = boardRepository;
+        this.tenantReadModel = tenantReadModel;
+        this.boardsByCompany = cacheManager.getListCache("boards-by-company", Board.class);
+        this.boardsById = cacheManager.getCache("board-by-id", Board.class);
+    }
 
     /**
      * 기업 ID로 게시판 목록 조회
@@ -28,7 +44,8 @@ public class BoardService {
     public Flux<Board> getBoardsByCompanyId(Long companyId) {
         log.debug("Fetching boards for company ID: {}", companyId);
 
-        return boardRepository.findByCompanyId(companyId)
+        return boardsByCompany.get(String.valueOf(companyId), () -> boardRepository.findByCompanyId(companyId).collectList())
+                .flatMapIterable(boards -> boards)
                 .doOnComplete(() -> log.debug("Fetched boards for company ID: {}", companyId))
                 .doOnError(error -> log.error("Failed to fetch boards for company ID: {}", companyId, error));
     }
@@ -43,10 +60,10 @@ public class BoardService {
     public Mono<Board> getBoardByCompanyIdAndType(Long companyId, String type) {
         log.debug("Fetching board for company ID: {}, type: {}", companyId, type);
 
-        return boardRepository.findByCompanyIdAndType(companyId, type)
+        return tenantReadModel.getBoard(companyId, type)
                 .doOnSuccess(board -> {
                     if (board != null) {
-                        log.info("Found board: {} for company ID: {}", board.getName(), companyId);
+                        log.debug("Found board: {} for company ID: {}", board.getName(), companyId);
                     } else {
                         log.warn("Board not found for company ID: {}, type: {}", companyId, type);
                     }
@@ -64,10 +81,10 @@ public class BoardService {
     public Mono<Board> getBoardById(Long id) {
         log.debug("Fetching board by ID: {}", id);
 
-        return boardRepository.findById(id)
+        return boardsById.get(String.valueOf(id), () -> boardRepository.findById(id))
                 .doOnSuccess(board -> {
                     if (board != null) {
-                        log.info("Found board: {} (ID: {})", board.getName(), id);
+                        log.debug("Found board: {} (ID: {})", board.getName(), id);
                     } else {
                         log.warn("Board not found for ID: {}", id);
                     }
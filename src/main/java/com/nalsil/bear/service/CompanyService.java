@@ -1,9 +1,11 @@
 package com.nalsil.bear.service;
 
+import com.nalsil.bear.cache.TieredCache;
+import com.nalsil.bear.cache.TieredCacheManager;
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.domain.company.CompanyRepository;
 import com.nalsil.bear.exception.CompanyNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.nalsil.bear.util.RequestTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -12,13 +14,26 @@ import reactor.core.publisher.Mono;
 /**
  * CompanyService
  * 기업 정보 조회 비즈니스 로직
+ *
+ * 코드/ID 단건 조회는 2단계 캐시(company-by-code, company-by-id 영역)를 거칩니다.
+ * 코드 조회는 KnownTenantRegistry 부정 캐시에 있는 코드면 캐시/DB 조회 없이 실패합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final KnownTenantRegistry knownTenantRegistry;
+    private final TieredCache<Company> companiesByCode;
+    private final TieredCache<Company> companiesById;
+
+    public CompanyService(CompanyRepository companyRepository, KnownTenantRegistry knownTenantRegistry,
+                          TieredCacheManager cacheManager) {
+        this.companyRepository = companyRepository;
+        this.knownTenantRegistry = knownTenantRegistry;
+        this.companiesByCode = cacheManager.getCache("company-by-code", Company.class);
+        this.companiesById = cacheManager.getCache("company-by-id", Company.class);
+    }
 
     /**
      * 모든 활성화된 기업 조회
@@ -49,6 +64,9 @@ public class CompanyService {
 
     /**
      * 기업 코드로 활성화된 기업 조회
+     * 공개 페이지의 테넌트 확인 단계이므로 소요 시간을 Server-Timing tenant 단계로 기록합니다.
+     * 부정 캐시에 있는 코드는 DB를 조회하지 않습니다. (활성 기업 코드 집합에 없는 코드는 DB로 확인)
+     * 캐시의 인스턴스는 요청 간에 공유되므로 복사본을 반환합니다.
      *
      * @param code 기업 코드
      * @return 기업 정보 (Mono<Company>)
@@ -56,10 +74,19 @@ public class CompanyService {
     public Mono<Company> getActiveCompanyByCode(String code) {
         log.debug("Fetching active company by code: {}", code);
 
-        return companyRepository.findByCodeAndIsActive(code, true)
-                .switchIfEmpty(Mono.error(CompanyNotFoundException.forCode(code)))
-                .doOnSuccess(company -> log.info("Found active company: {} ({})", company.getName(), code))
-                .doOnError(error -> log.error("Failed to fetch company by code: {}", code, error));
+        if (knownTenantRegistry.check(code) == KnownTenantRegistry.Verdict.UNKNOWN) {
+            return Mono.error(CompanyNotFoundException.forCode(code));
+        }
+
+        return RequestTimings.time(RequestTimings.TENANT, code, companiesByCode.get(code,
+                        () -> companyRepository.findByCodeAndIsActive(code, true))
+                .map(company -> company.toBuilder().build())
+                .switchIfEmpty(Mono.defer(() -> {
+                    knownTenantRegistry.recordMissing(code);
+                    return Mono.error(CompanyNotFoundException.forCode(code));
+                }))
+                .doOnSuccess(company -> log.debug("Found active company: {} ({})", company.getName(), code))
+                .doOnError(error -> log.error("Failed to fetch company by code: {}", code, error)));
     }
 
     /**
@@ -76,7 +103,7 @@ public class CompanyService {
     }
 
     /**
-     * 기업 ID로 조회
+     * 기업 ID로 조회 (캐시 인스턴스의 복사본 반환)
      *
      * @param id 기업 ID
      * @return 기업 정보 (Mono<Company>)
@@ -84,10 +111,11 @@ public class CompanyService {
     public Mono<Company> getCompanyById(Long id) {
         log.debug("Fetching company by ID: {}", id);
 
-        return companyRepository.findById(id)
+        return companiesById.get(String.valueOf(id), () -> companyRepository.findById(id))
+                .map(company -> company.toBuilder().build())
                 .switchIfEmpty(Mono.error(new CompanyNotFoundException(
                         String.format("기업 ID %d에 해당하는 정보를 찾을 수 없습니다.", id))))
-                .doOnSuccess(company -> log.info("Found company: {} (ID: {})", company.getName(), id))
+                .doOnSuccess(company -> log.debug("Found company: {} (ID: {})", company.getName(), id))
                 .doOnError(error -> log.error("Failed to fetch company by ID: {}", id, error));
     }
 }
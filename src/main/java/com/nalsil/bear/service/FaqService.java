@@ -12,6 +12,7 @@ import reactor.core.publisher.Mono;
  * FAQ 서비스
  *
  * FAQ 조회 및 검색 비즈니스 로직을 처리합니다.
+ * 공개 FAQ 조회는 TenantReadModel(기업별 메모리 스냅샷)에서 응답합니다.
  */
 @Slf4j
 @Service
@@ -19,6 +20,7 @@ import reactor.core.publisher.Mono;
 public class FaqService {
 
     private final FaqRepository faqRepository;
+    private final TenantReadModel tenantReadModel;
 
     /**
      * 기업별 공개 FAQ 목록 조회 (정렬 순서대로)
@@ -28,7 +30,7 @@ public class FaqService {
      */
     public Flux<Faq> getFaqsByCompanyId(Long companyId) {
         log.debug("기업 ID로 FAQ 목록 조회: companyId={}", companyId);
-        return faqRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false);
+        return tenantReadModel.getFaqs(companyId);
     }
 
     /**
@@ -40,8 +42,8 @@ public class FaqService {
      */
     public Flux<Faq> getFaqsByCompanyIdAndCategory(Long companyId, String category) {
         log.debug("기업 ID와 카테고리로 FAQ 목록 조회: companyId={}, category={}", companyId, category);
-        return faqRepository.findByCompanyIdAndCategoryAndIsHiddenOrderByDisplayOrderAsc(
-                companyId, category, false);
+        return tenantReadModel.getFaqs(companyId)
+                .filter(faq -> category.equals(faq.getCategory()));
     }
 
     /**
@@ -53,7 +55,7 @@ public class FaqService {
      */
     public Flux<Faq> searchFaqs(Long companyId, String keyword) {
         log.debug("FAQ 검색: companyId={}, keyword={}", companyId, keyword);
-        return faqRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false)
+        return tenantReadModel.getFaqs(companyId)
                 .filter(faq -> faq.getQuestion().contains(keyword) ||
                                faq.getAnswer().contains(keyword));
     }
@@ -77,10 +79,7 @@ public class FaqService {
      */
     public Flux<String> getCategoriesByCompanyId(Long companyId) {
         log.debug("기업의 카테고리 목록 조회: companyId={}", companyId);
-        return faqRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false)
-                .map(Faq::getCategory)
-                .filter(category -> category != null && !category.isEmpty())
-                .distinct();
+        return tenantReadModel.getFaqCategories(companyId);
     }
 
     /**
@@ -102,7 +101,8 @@ public class FaqService {
      */
     public Mono<Faq> createFaq(Faq faq) {
         log.info("Creating FAQ: question={}", faq.getQuestion());
-        return faqRepository.save(faq);
+        return faqRepository.save(faq)
+                .flatMap(saved -> tenantReadModel.refresh(saved.getCompanyId()).thenReturn(saved));
     }
 
     /**
@@ -113,7 +113,8 @@ public class FaqService {
      */
     public Mono<Faq> updateFaq(Faq faq) {
         log.info("Updating FAQ: id={}, question={}", faq.getId(), faq.getQuestion());
-        return faqRepository.save(faq);
+        return faqRepository.save(faq)
+                .flatMap(saved -> tenantReadModel.refresh(saved.getCompanyId()).thenReturn(saved));
     }
 
     /**
@@ -124,6 +125,8 @@ public class FaqService {
      */
     public Mono<Void> deleteFaq(Long faqId) {
         log.info("Deleting FAQ: id={}", faqId);
-        return faqRepository.deleteById(faqId);
+        return faqRepository.findById(faqId)
+                .flatMap(faq -> faqRepository.deleteById(faqId)
+                        .then(tenantReadModel.refresh(faq.getCompanyId())));
     }
 }
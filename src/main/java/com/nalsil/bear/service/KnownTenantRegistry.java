@@ -0,0 +1,190 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.company.CompanyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * KnownTenantRegistry
+ * 활성 기업 코드 집합 + 없는 기업 코드 부정 캐시
+ *
+ * 공개 페이지는 /{companyCode}로 매핑되어 있어 /wp-login.php, /.env 같은 봇 스캔도 기업 조회를 일으킵니다.
+ * 활성 기업 코드 전체를 메모리에 두고 (KnownTenantFilter, CompanyService에서 확인)
+ * 집합에 있는 코드는 바로 통과시키고, 없는 코드는 DB 조회 한 번으로 확인한 뒤 부정 캐시로 다시 조회하지 않습니다.
+ *
+ * - 기동 시와 refresh-interval마다 활성 기업 코드를 다시 읽습니다.
+ * - 마지막 적재 이후 추가된 기업은 집합에 없어도 DB 조회로 확인되므로 다음 적재를 기다리지 않습니다.
+ *   (기업은 애플리케이션 밖에서 추가되므로 집합은 빠른 경로일 뿐 판단 기준이 아님)
+ * - DB로 없음이 확인된 코드는 크기가 제한된 부정 캐시에 negative-ttl 동안 보관하며,
+ *   다시 적재할 때 활성 코드로 확인되면 부정 캐시에서 제거합니다.
+ * - 거부 수는 tenant.rejected{reason=invalid|negative} 카운터로 기록합니다.
+ */
+@Slf4j
+@Service
+public class KnownTenantRegistry {
+
+    /**
+     * 기업 코드 형식 (TenantFilter와 동일)
+     */
+    private static final Pattern CODE_PATTERN = Pattern.compile("^[a-z0-9-]+$");
+
+    /**
+     * 확인 결과
+     */
+    public enum Verdict {
+        /**
+         * 활성 기업 코드
+         */
+        KNOWN,
+        /**
+         * 없는 기업 코드 (형식 오류, 부정 캐시 적중)
+         */
+        UNKNOWN,
+        /**
+         * 아직 판단할 수 없음 (활성 코드 집합에 없거나 미적재) - DB 조회 필요
+         */
+        UNVERIFIED
+    }
+
+    private final CompanyRepository companyRepository;
+    private final long negativeTtlMillis;
+    private final int negativeMaxEntries;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 활성 기업 코드 (null이면 아직 적재 전)
+     */
+    private volatile Set<String> activeCodes;
+
+    /**
+     * 없는 기업 코드 → 만료 시각 (epoch millis)
+     */
+    private final Map<String, Long> negativeCache = new ConcurrentHashMap<>();
+
+    private final Counter rejectedInvalid;
+    private final Counter rejectedNegative;
+
+    public KnownTenantRegistry(CompanyRepository companyRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.tenant-guard.negative-ttl:5m}") Duration negativeTtl,
+                               @Value("${app.tenant-guard.negative-max-entries:10000}") int negativeMaxEntries) {
+        this.companyRepository = companyRepository;
+        this.meterRegistry = meterRegistry;
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.negativeMaxEntries = negativeMaxEntries;
+
+        this.rejectedInvalid = rejected("invalid");
+        this.rejectedNegative = rejected("negative");
+        Gauge.builder("tenant.known.size", this, registry -> registry.activeCodes == null ? 0 : registry.activeCodes.size())
+                .description("메모리에 적재된 활성 기업 코드 수")
+                .register(meterRegistry);
+        Gauge.builder("tenant.negative.size", negativeCache, Map::size)
+                .description("부정 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    private Counter rejected(String reason) {
+        return Counter.builder("tenant.rejected")
+                .description("없는 기업 코드로 거부한 요청 수 (DB 조회 없음)")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기업 코드 확인 (입출력 없음)
+     * UNKNOWN이면 거부 사유별 카운터를 증가시킵니다.
+     *
+     * @param code 기업 코드
+     * @return 확인 결과
+     */
+    public Verdict check(String code) {
+        if (code == null || !CODE_PATTERN.matcher(code).matches()) {
+            rejectedInvalid.increment();
+            return Verdict.UNKNOWN;
+        }
+        Set<String> codes = activeCodes;
+        if (codes != null && codes.contains(code)) {
+            return Verdict.KNOWN;
+        }
+        Long expiresAt = negativeCache.get(code);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                rejectedNegative.increment();
+                return Verdict.UNKNOWN;
+            }
+            negativeCache.remove(code, expiresAt);
+        }
+        return Verdict.UNVERIFIED;
+    }
+
+    /**
+     * DB 조회로 없음이 확인된 기업 코드를 부정 캐시에 기록
+     *
+     * @param code 기업 코드
+     */
+    public void recordMissing(String code) {
+        long now = System.currentTimeMillis();
+        if (negativeCache.size() >= negativeMaxEntries && !negativeCache.containsKey(code)) {
+            negativeCache.values().removeIf(expiresAt -> expiresAt <= now);
+            if (negativeCache.size() >= negativeMaxEntries) {
+                // 무작위 경로 스캔으로 가득 찬 경우 (항목은 DB 조회 한 번으로 다시 채워짐)
+                negativeCache.clear();
+            }
+        }
+        negativeCache.put(code, now + negativeTtlMillis);
+    }
+
+    /**
+     * 활성 기업 코드 적재 여부
+     */
+    public boolean isLoaded() {
+        return activeCodes != null;
+    }
+
+    /**
+     * 기동 시 활성 기업 코드 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh().subscribe();
+    }
+
+    /**
+     * 활성 기업 코드 다시 읽기
+     * 실패하면 이전 집합을 유지합니다. (집합에 없는 코드는 DB 조회 + 부정 캐시로 동작)
+     *
+     * @return 완료 신호
+     */
+    @Scheduled(initialDelayString = "${app.tenant-guard.refresh-interval:1m}",
+            fixedDelayString = "${app.tenant-guard.refresh-interval:1m}")
+    public Mono<Void> refresh() {
+        return companyRepository.findActiveCodes()
+                .collectList()
+                .doOnNext(codes -> {
+                    Set<String> loaded = Set.copyOf(codes);
+                    Set<String> previous = activeCodes;
+                    activeCodes = loaded;
+                    negativeCache.keySet().removeAll(loaded);
+                    if (!loaded.equals(previous)) {
+                        log.info("활성 기업 코드 적재: {}개", loaded.size());
+                    }
+                })
+                .doOnError(error -> log.error("활성 기업 코드 적재 실패 - 이전 상태 유지", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,450 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.post.PopularPostSnapshot;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostPopularityRepository;
+import com.nalsil.bear.dto.response.PopularPostResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * PopularPostService
+ * 시간 감쇠(time-decayed) 조회수 기반 인기 게시글 순위 관리
+ *
+ * 게시글 상세 조회 시 메모리 카운터를 증가시키고, 게시판별/기업별 상위 K개를 유지합니다.
+ * 누적 조회수(view_count) 대신 반감기(half-life)에 따라 감쇠된 점수로 순위를 매기며,
+ * 상위 게시글 점수는 주기적으로 post_popularity 테이블에 체크포인트하여 재기동 시 복원합니다.
+ *
+ * 점수는 forward decay 방식(조회마다 가중치 e^(λt)를 누적)이며, 합계를 로그 값 ln(Σ e^(λt))으로 보관하여
+ * 기준 시각 재설정 없이도 오버플로가 없고, 모든 게시글이 같은 비율로 감쇠하므로 로그 값 비교로 순위를 매깁니다.
+ * (t 시점의 실제 감쇠 점수는 e^(로그 값 - λt))
+ *
+ * 여러 노드가 같은 테이블에 체크포인트하므로, 각 노드는 지난 체크포인트 이후 늘어난 점수만 기존 점수(감쇠 후)에 더하고
+ * 합산된 점수를 다시 읽어 메모리 순위에 반영합니다. (노드마다 자기 조회분만으로 덮어쓰지 않음)
+ *
+ * 조회 기록은 이벤트 루프에서 실행되므로 잠금을 사용하지 않습니다.
+ * 게시글별 점수는 불변 레코드를 ConcurrentHashMap.compute로 교체하고, 순위는 불변 상위 K 목록을 CAS로 교체합니다.
+ * 체크포인트, 동기화, 게시글 제거도 새 순위를 만들어 교체하므로 조회 기록이 재구성을 기다리지 않습니다.
+ */
+@Slf4j
+@Service
+public class PopularPostService {
+
+    /**
+     * 상위 목록에 들지 못한 게시글 중 이 점수 미만은 메모리와 체크포인트에서 제거
+     */
+    private static final double PRUNE_SCORE = 0.05;
+
+    /**
+     * 점수 0의 로그 값
+     */
+    private static final double NONE = Double.NEGATIVE_INFINITY;
+
+    private final PostPopularityRepository postPopularityRepository;
+    private final int topK;
+    private final double lambda;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicReference<Ranking>> boardRankings = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicReference<Ranking>> companyRankings = new ConcurrentHashMap<>();
+
+    public PopularPostService(PostPopularityRepository postPopularityRepository,
+                              @Value("${app.popular-posts.top-k:5}") int topK,
+                              @Value("${app.popular-posts.half-life:24h}") Duration halfLife) {
+        this.postPopularityRepository = postPopularityRepository;
+        this.topK = topK;
+        this.lambda = Math.log(2) / halfLife.toSeconds();
+    }
+
+    /**
+     * 게시글 조회 기록
+     *
+     * @param board 게시판
+     * @param post 게시글
+     */
+    public void recordView(Board board, Post post) {
+        double weight = lambda * nowSeconds();
+        Counter counter = counters.compute(post.getId(), (id, existing) -> existing != null
+                ? existing.add(post.getTitle(), weight)
+                : new Counter(id, board.getId(), board.getType(), board.getCompanyId(), post.getTitle(), weight, NONE));
+        offer(boardRankings, counter.boardId(), counter);
+        offer(companyRankings, counter.companyId(), counter);
+    }
+
+    /**
+     * 게시판별 인기 게시글 조회 (메모리)
+     *
+     * @param boardId 게시판 ID
+     * @return 인기 게시글 목록 (점수 내림차순)
+     */
+    public List<PopularPostResponse> getPopularPostsByBoardId(Long boardId) {
+        AtomicReference<Ranking> ranking = boardRankings.get(boardId);
+        return ranking != null ? ranking.get().snapshot() : List.of();
+    }
+
+    /**
+     * 기업별 인기 게시글 조회 (메모리)
+     *
+     * @param companyId 기업 ID
+     * @return 인기 게시글 목록 (점수 내림차순)
+     */
+    public List<PopularPostResponse> getPopularPostsByCompanyId(Long companyId) {
+        AtomicReference<Ranking> ranking = companyRankings.get(companyId);
+        return ranking != null ? ranking.get().snapshot() : List.of();
+    }
+
+    /**
+     * 게시글 변경 반영 (제목 변경, 숨김 처리, 숨김 해제)
+     * 숨김 해제 등으로 메모리에 없는 공개 게시글은 체크포인트 점수로 순위에 복원합니다.
+     *
+     * @param post 저장된 게시글 (수정 폼이 아닌 DB의 행)
+     * @return 완료 신호
+     */
+    public Mono<Void> refresh(Post post) {
+        if (Boolean.TRUE.equals(post.getIsHidden())) {
+            remove(post.getId());
+            return Mono.empty();
+        }
+        Counter counter = counters.computeIfPresent(post.getId(), (id, existing) -> existing.withTitle(post.getTitle()));
+        if (counter != null) {
+            rebuild(counter);
+            return Mono.empty();
+        }
+        return postPopularityRepository.findVisibleSnapshot(post.getId())
+                .doOnNext(snapshot -> {
+                    Counter restored = apply(snapshot, lambda * nowSeconds());
+                    if (restored != null) {
+                        rebuild(restored);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * 게시글 제거 (삭제, 숨김 처리)
+     * 빈 자리는 남은 카운터 중 점수가 높은 게시글로 채웁니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(Long postId) {
+        Counter counter = counters.remove(postId);
+        if (counter != null) {
+            rebuild(counter);
+        }
+    }
+
+    /**
+     * 상위 게시글 점수 체크포인트
+     * 상위 목록에 든 게시글의 지난 체크포인트 이후 증가분을 기존 점수에 합산하고,
+     * 감쇠되어 기준 점수 미만이 된 행을 정리한 뒤 합산 점수(다른 노드 조회분 포함)를 메모리에 반영합니다.
+     * 저장하지 못한 증가분은 다음 체크포인트에서 다시 저장합니다.
+     *
+     * @return 완료 신호
+     */
+    @Scheduled(initialDelayString = "${app.popular-posts.checkpoint-interval:5m}",
+            fixedDelayString = "${app.popular-posts.checkpoint-interval:5m}")
+    public Mono<Void> checkpoint() {
+        LocalDateTime scoredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        double at = lambda * epochSeconds(scoredAt);
+        Map<Long, Double> pending = new ConcurrentHashMap<>();
+
+        Set<Long> members = new HashSet<>();
+        Stream.concat(boardRankings.values().stream(), companyRankings.values().stream())
+                .forEach(ranking -> ranking.get().members().forEach(member -> members.add(member.postId())));
+        for (Long postId : members) {
+            counters.computeIfPresent(postId, (id, counter) -> {
+                double increment = counter.scoreAt(at) - counter.flushedAt(at);
+                if (increment <= 0) {
+                    return counter;
+                }
+                pending.put(id, increment);
+                return counter.flush();
+            });
+        }
+
+        // 상위 목록 밖의 낮은 점수 카운터 정리 (메모리 상한 유지)
+        for (Long postId : List.copyOf(counters.keySet())) {
+            if (!members.contains(postId)) {
+                counters.computeIfPresent(postId, (id, counter) -> counter.scoreAt(at) < PRUNE_SCORE ? null : counter);
+            }
+        }
+
+        int saved = pending.size();
+        return Flux.fromIterable(List.copyOf(pending.entrySet()))
+                .concatMap(entry -> postPopularityRepository.merge(entry.getKey(), entry.getValue(), scoredAt, lambda)
+                        .doOnSuccess(updated -> pending.remove(entry.getKey())))
+                .then(postPopularityRepository.deleteDecayedBelow(scoredAt, lambda, PRUNE_SCORE))
+                .doOnSuccess(deleted -> log.debug("인기 게시글 체크포인트 완료: saved={}, deleted={}", saved, deleted))
+                .then(postPopularityRepository.findVisibleSnapshots().collectList())
+                .doOnNext(this::synchronize)
+                .doOnError(error -> {
+                    log.error("인기 게시글 체크포인트 실패 - 저장하지 못한 {}건은 다음 체크포인트에서 재시도", pending.size(), error);
+                    pending.forEach((postId, score) ->
+                            counters.computeIfPresent(postId, (id, counter) -> counter.unflush(score, at)));
+                })
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * 기동 시 체크포인트 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        postPopularityRepository.findVisibleSnapshots()
+                .collectList()
+                .subscribe(snapshots -> {
+                    synchronize(snapshots);
+                    log.info("인기 게시글 체크포인트 복원: {}개", snapshots.size());
+                }, error -> log.warn("인기 게시글 체크포인트 복원 실패 - 빈 상태로 시작", error));
+    }
+
+    /**
+     * 합산 체크포인트 점수를 메모리에 반영하고 순위 재구성
+     * 체크포인트 이후 이 노드에서 늘어난 점수(value - flushed)는 유지합니다.
+     *
+     * @param snapshots 체크포인트 목록
+     */
+    private void synchronize(List<PopularPostSnapshot> snapshots) {
+        double now = lambda * nowSeconds();
+        snapshots.forEach(snapshot -> apply(snapshot, now));
+
+        Set<Long> boardIds = new HashSet<>();
+        Set<Long> companyIds = new HashSet<>();
+        counters.values().forEach(counter -> {
+            boardIds.add(counter.boardId());
+            companyIds.add(counter.companyId());
+        });
+        boardIds.forEach(boardId -> rebuild(boardRankings, boardId, c -> c.boardId().equals(boardId)));
+        companyIds.forEach(companyId -> rebuild(companyRankings, companyId, c -> c.companyId().equals(companyId)));
+    }
+
+    /**
+     * 체크포인트 점수 하나를 카운터에 합산
+     *
+     * @param snapshot 체크포인트
+     * @param now λ·현재 시각
+     * @return 합산된 카운터 (점수가 없으면 null)
+     */
+    private Counter apply(PopularPostSnapshot snapshot, double now) {
+        if (snapshot.getScore() == null || snapshot.getScore() <= 0) {
+            return null;
+        }
+        double stored = Math.log(snapshot.getScore()) + lambda * epochSeconds(snapshot.getScoredAt());
+        return counters.compute(snapshot.getPostId(), (id, existing) -> existing != null
+                ? existing.merge(snapshot.getTitle(), stored, now)
+                : new Counter(id, snapshot.getBoardId(), snapshot.getBoardType(), snapshot.getCompanyId(),
+                        snapshot.getTitle(), stored, stored));
+    }
+
+    /**
+     * 카운터가 속한 게시판과 기업의 순위 재구성
+     *
+     * @param counter 변경된 카운터
+     */
+    private void rebuild(Counter counter) {
+        rebuild(boardRankings, counter.boardId(), c -> c.boardId().equals(counter.boardId()));
+        rebuild(companyRankings, counter.companyId(), c -> c.companyId().equals(counter.companyId()));
+    }
+
+    /**
+     * 상위 K 순위에 카운터 반영 (CAS 재시도)
+     * 같은 게시글의 점수가 동시에 반영되어도 순위에는 가장 높은(최신) 점수만 남습니다.
+     *
+     * @param rankings 순위 맵
+     * @param key 게시판 ID 또는 기업 ID
+     * @param counter 점수가 증가한 카운터
+     */
+    private void offer(Map<Long, AtomicReference<Ranking>> rankings, Long key, Counter counter) {
+        AtomicReference<Ranking> ranking = rankings.computeIfAbsent(key, k -> new AtomicReference<>(Ranking.EMPTY));
+        while (true) {
+            Ranking current = ranking.get();
+            Ranking next = current.offer(counter, topK);
+            if (next == current || ranking.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 카운터로 상위 K 순위 재구성 (CAS 재시도)
+     * 재구성 중 반영된 조회가 있으면 다시 계산합니다.
+     *
+     * @param rankings 순위 맵
+     * @param key 게시판 ID 또는 기업 ID
+     * @param filter 대상 카운터 조건
+     */
+    private void rebuild(Map<Long, AtomicReference<Ranking>> rankings, Long key, Predicate<Counter> filter) {
+        AtomicReference<Ranking> ranking = rankings.computeIfAbsent(key, k -> new AtomicReference<>(Ranking.EMPTY));
+        while (true) {
+            Ranking current = ranking.get();
+            Ranking next = Ranking.of(counters.values().stream().filter(filter), topK);
+            if (ranking.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static double nowSeconds() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+
+    private static double epochSeconds(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+    }
+
+    /**
+     * ln(e^a + e^b) (큰 값 기준으로 계산하여 오버플로 방지)
+     */
+    private static double logAdd(double a, double b) {
+        if (a == NONE) {
+            return b;
+        }
+        if (b == NONE) {
+            return a;
+        }
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    /**
+     * 게시글별 감쇠 점수 (불변, 로그 값)
+     *
+     * @param postId 게시글 ID
+     * @param boardId 게시판 ID
+     * @param boardType 게시판 타입
+     * @param companyId 기업 ID
+     * @param title 제목
+     * @param value 누적 점수 ln(Σ e^(λt))
+     * @param flushed 마지막 체크포인트까지 저장된 점수 (로그 값)
+     */
+    private record Counter(Long postId, Long boardId, String boardType, Long companyId, String title,
+                           double value, double flushed) {
+
+        /**
+         * 조회 가중치 추가
+         */
+        Counter add(String title, double weight) {
+            return new Counter(postId, boardId, boardType, companyId, title, logAdd(value, weight), flushed);
+        }
+
+        Counter withTitle(String title) {
+            return new Counter(postId, boardId, boardType, companyId, title, value, flushed);
+        }
+
+        /**
+         * 현재 점수를 저장된 점수로 표시
+         */
+        Counter flush() {
+            return new Counter(postId, boardId, boardType, companyId, title, value, value);
+        }
+
+        /**
+         * 저장하지 못한 증가분을 미저장 상태로 되돌림
+         *
+         * @param score at 시점 기준 증가분
+         * @param at λ·체크포인트 시각
+         */
+        Counter unflush(double score, double at) {
+            double remaining = flushedAt(at) - score;
+            return new Counter(postId, boardId, boardType, companyId, title, value,
+                    remaining > 0 ? Math.log(remaining) + at : NONE);
+        }
+
+        /**
+         * 합산 체크포인트 점수로 교체하고 이 노드의 미저장 증가분은 유지
+         *
+         * @param title 제목
+         * @param stored 합산 점수 (로그 값)
+         * @param now λ·현재 시각
+         */
+        Counter merge(String title, double stored, double now) {
+            double unsaved = Math.max(scoreAt(now) - flushedAt(now), 0);
+            return new Counter(postId, boardId, boardType, companyId, title,
+                    Math.log(Math.exp(stored - now) + unsaved) + now, stored);
+        }
+
+        /**
+         * at 시점의 감쇠 점수
+         */
+        double scoreAt(double at) {
+            return Math.exp(value - at);
+        }
+
+        double flushedAt(double at) {
+            return Math.exp(flushed - at);
+        }
+
+        PopularPostResponse toResponse() {
+            return PopularPostResponse.builder()
+                    .postId(postId)
+                    .boardId(boardId)
+                    .boardType(boardType)
+                    .title(title)
+                    .build();
+        }
+    }
+
+    /**
+     * 상위 K개 (불변, 점수 내림차순)와 조회용 스냅샷
+     *
+     * @param members 상위 게시글 점수
+     * @param snapshot 화면 표시용 목록
+     */
+    private record Ranking(List<Counter> members, List<PopularPostResponse> snapshot) {
+
+        private static final Ranking EMPTY = new Ranking(List.of(), List.of());
+
+        private static final Comparator<Counter> BY_SCORE = Comparator.comparingDouble(Counter::value).reversed();
+
+        static Ranking of(Stream<Counter> candidates, int topK) {
+            List<Counter> members = candidates.sorted(BY_SCORE).limit(topK).toList();
+            return new Ranking(members, members.stream().map(Counter::toResponse).toList());
+        }
+
+        /**
+         * 카운터를 반영한 새 순위 (순위가 바뀌지 않으면 자신)
+         */
+        Ranking offer(Counter counter, int topK) {
+            Counter existing = members.stream()
+                    .filter(member -> member.postId().equals(counter.postId()))
+                    .findFirst()
+                    .orElse(null);
+            if (existing != null) {
+                if (existing.value() >= counter.value() && Objects.equals(existing.title(), counter.title())) {
+                    return this;
+                }
+            } else if (members.size() >= topK && members.get(members.size() - 1).value() >= counter.value()) {
+                return this;
+            }
+            Counter latest = existing != null && existing.value() > counter.value()
+                    ? existing.withTitle(counter.title())
+                    : counter;
+            return of(Stream.concat(
+                    members.stream().filter(member -> !member.postId().equals(counter.postId())),
+                    Stream.of(latest)), topK);
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.nalsil.bear.service;
 
 import com.nalsil.bear.domain.post.Post;
 import com.nalsil.bear.domain.post.PostRepository;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * PostService
  * 게시글 조회 및 관리 비즈니스 로직
@@ -19,6 +24,7 @@ import reactor.core.publisher.Mono;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PopularPostService popularPostService;
 
     /**
      * 게시판 ID로 공개 게시글 목록 조회 (숨김 제외, 최신순)
@@ -36,21 +42,38 @@ public class PostService {
     }
 
     /**
-     * 게시글 ID와 숨김 여부로 조회
+     * 게시판 ID로 공개 게시글 페이지 조회 (목록과 전체 개수를 한 번의 쿼리로 조회)
      *
+     * @param boardId 게시판 ID
+     * @param pageable 페이징 정보
+     * @return 게시글 페이지 (Mono<Page<Post>>)
+     */
+    public Mono<Page<Post>> getVisiblePostPageByBoardId(Long boardId, Pageable pageable) {
+        log.debug("Fetching visible post page for board ID: {}, page: {}", boardId, pageable.getPageNumber());
+
+        return postRepository.findVisiblePageByBoardId(boardId, pageable)
+                .doOnSuccess(result -> log.debug("Fetched visible post page for board ID: {}, total: {}",
+                        boardId, result != null ? result.getTotalElements() : 0))
+                .doOnError(error -> log.error("Failed to fetch visible post page for board ID: {}", boardId, error));
+    }
+
+    /**
+     * 게시판의 게시글을 ID와 숨김 여부로 조회
+     *
+     * @param boardId 게시판 ID
      * @param id 게시글 ID
      * @param isHidden 숨김 여부
-     * @return 게시글 정보 (Mono<Post>)
+     * @return 게시글 정보 (다른 게시판의 게시글이면 empty)
      */
-    public Mono<Post> getPostByIdAndIsHidden(Long id, Boolean isHidden) {
-        log.debug("Fetching post by ID: {}, isHidden: {}", id, isHidden);
+    public Mono<Post> getPostByIdAndIsHidden(Long boardId, Long id, Boolean isHidden) {
+        log.debug("Fetching post by ID: {}, boardId: {}, isHidden: {}", id, boardId, isHidden);
 
-        return postRepository.findByIdAndIsHidden(id, isHidden)
+        return postRepository.findByIdAndBoardIdAndIsHidden(id, boardId, isHidden)
                 .doOnSuccess(post -> {
                     if (post != null) {
-                        log.info("Found post: {} (ID: {})", post.getTitle(), id);
+                        log.debug("Found post: {} (ID: {})", post.getTitle(), id);
                     } else {
-                        log.warn("Post not found for ID: {}, isHidden: {}", id, isHidden);
+                        log.warn("Post not found for ID: {}, boardId: {}, isHidden: {}", id, boardId, isHidden);
                     }
                 })
                 .doOnError(error -> log.error("Failed to fetch post by ID: {}", id, error));
@@ -58,14 +81,16 @@ public class PostService {
 
     /**
      * 조회수 증가
+     * GET 요청 중 실행되는 쓰기이므로 복제본 라우팅과 관계없이 주 데이터베이스에서 실행
      *
+     * @param boardId 게시판 ID
      * @param id 게시글 ID
      * @return Mono<Void>
      */
-    public Mono<Void> incrementViewCount(Long id) {
+    public Mono<Void> incrementViewCount(Long boardId, Long id) {
         log.debug("Incrementing view count for post ID: {}", id);
 
-        return postRepository.incrementViewCount(id)
+        return DataSourceRoutingContextHolder.withPrimary(postRepository.incrementViewCount(id, boardId))
                 .doOnSuccess(count -> log.debug("Incremented view count for post ID: {}", id))
                 .doOnError(error -> log.error("Failed to increment view count for post ID: {}", id, error))
                 .then();
@@ -85,26 +110,6 @@ public class PostService {
                 .doOnError(error -> log.error("Failed to count visible posts for board ID: {}", boardId, error));
     }
 
-    /**
-     * 게시글 ID로 조회
-     *
-     * @param id 게시글 ID
-     * @return 게시글 정보 (Mono<Post>)
-     */
-    public Mono<Post> getPostById(Long id) {
-        log.debug("Fetching post by ID: {}", id);
-
-        return postRepository.findById(id)
-                .doOnSuccess(post -> {
-                    if (post != null) {
-                        log.info("Found post: {} (ID: {})", post.getTitle(), id);
-                    } else {
-                        log.warn("Post not found for ID: {}", id);
-                    }
-                })
-                .doOnError(error -> log.error("Failed to fetch post by ID: {}", id, error));
-    }
-
     /**
      * 게시판 ID로 숨김 포함 전체 게시글 목록 조회 (관리자용)
      *
@@ -144,23 +149,81 @@ public class PostService {
 
     /**
      * 게시글 수정
+     * 수정 폼의 컬럼만 UPDATE하며, 폼을 연 뒤 다른 관리자가 먼저 수정했다면 충돌로 처리합니다.
      *
-     * @param post 게시글 엔티티
-     * @return 수정된 게시글
+     * @param post 수정 내용 (id, boardId, version, title, content, isHidden, filePath, updatedAt)
+     * @return 수정 내용 (게시판에 해당 게시글이 없으면 empty)
      */
     public Mono<Post> updatePost(Post post) {
         log.info("Updating post: id={}, title={}", post.getId(), post.getTitle());
-        return postRepository.save(post);
+        Mono<Integer> update = postRepository.updateContent(post.getId(), post.getBoardId(), post.getVersion(),
+                post.getTitle(), post.getContent(), post.getIsHidden(), post.getFilePath(), post.getUpdatedAt());
+
+        return requireUpdated(update, post.getId(), post.getBoardId())
+                .flatMap(count -> refreshPopularity(post.getId(), post.getBoardId()).thenReturn(post));
+    }
+
+    /**
+     * 게시글 숨김 여부 변경
+     *
+     * @param boardId 게시판 ID
+     * @param postId 게시글 ID
+     * @param version 목록을 열 때의 버전
+     * @param isHidden 숨김 여부
+     * @return 변경 여부 (게시판에 해당 게시글이 없으면 empty)
+     */
+    public Mono<Boolean> updatePostHidden(Long boardId, Long postId, long version, boolean isHidden) {
+        log.info("Updating post hidden: id={}, isHidden={}", postId, isHidden);
+        Mono<Integer> update = postRepository.updateHidden(postId, boardId, version, isHidden, LocalDateTime.now());
+
+        return requireUpdated(update, postId, boardId)
+                .flatMap(count -> refreshPopularity(postId, boardId).thenReturn(true));
+    }
+
+    /**
+     * 인기 게시글 목록에 제목/숨김 상태 반영 (숨김이면 제외, 숨김 해제면 복원)
+     * 수정 폼의 숨김 여부는 비어 있으면 기존 값을 유지하므로 저장된 행을 다시 읽어 판단합니다.
+     * 반영에 실패해도 수정은 완료되었으므로 기록만 합니다.
+     *
+     * @param postId 게시글 ID
+     * @param boardId 게시판 ID
+     * @return 완료 신호
+     */
+    private Mono<Void> refreshPopularity(Long postId, Long boardId) {
+        return postRepository.findByIdAndBoardId(postId, boardId)
+                .flatMap(popularPostService::refresh)
+                .doOnError(error -> log.warn("인기 게시글 반영 실패: id={}", postId, error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    /**
+     * 수정된 행이 없을 때 원인 구분
+     * 게시글이 그대로 있으면 버전 충돌(OptimisticLockingFailureException), 없으면 empty
+     */
+    private Mono<Integer> requireUpdated(Mono<Integer> update, Long postId, Long boardId) {
+        return update.flatMap(count -> count > 0
+                ? Mono.just(count)
+                : postRepository.existsByIdAndBoardId(postId, boardId)
+                        .flatMap(exists -> exists
+                                ? Mono.error(new OptimisticLockingFailureException("게시글이 다른 관리자에 의해 수정되었습니다: id=" + postId))
+                                : Mono.empty()));
     }
 
     /**
      * 게시글 삭제
      *
+     * @param boardId 게시판 ID
      * @param postId 게시글 ID
-     * @return 삭제 결과
+     * @return 삭제 여부 (게시판에 해당 게시글이 없으면 false)
      */
-    public Mono<Void> deletePost(Long postId) {
-        log.info("Deleting post: id={}", postId);
-        return postRepository.deleteById(postId);
+    public Mono<Boolean> deletePost(Long boardId, Long postId) {
+        log.info("Deleting post: id={}, boardId={}", postId, boardId);
+        return postRepository.deleteFromBoard(postId, boardId)
+                .map(deleted -> deleted > 0)
+                .doOnNext(deleted -> {
+                    if (deleted) {
+                        popularPostService.remove(postId);
+                    }
+                });
     }
 }
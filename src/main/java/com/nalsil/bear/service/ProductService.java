@@ -2,8 +2,10 @@ package com.nalsil.bear.service;
 
 import com.nalsil.bear.domain.product.Product;
 import com.nalsil.bear.domain.product.ProductRepository;
+import com.nalsil.bear.dto.response.ProductCategoryFacetResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -12,6 +14,9 @@ import reactor.core.publisher.Mono;
 /**
  * ProductService
  * 상품 조회 비즈니스 로직
+ *
+ * 공개 상품 조회는 TenantReadModel(기업별 메모리 스냅샷)에서 응답하고,
+ * 상품 변경 시 해당 기업의 스냅샷에 변경분(목록, 카테고리 개수)만 반영합니다.
  */
 @Slf4j
 @Service
@@ -19,6 +24,7 @@ import reactor.core.publisher.Mono;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final TenantReadModel tenantReadModel;
 
     /**
      * 기업 ID로 공개 상품 목록 조회 (숨김 제외, 표시 순서대로)
@@ -30,7 +36,7 @@ public class ProductService {
     public Flux<Product> getVisibleProductsByCompanyId(Long companyId, Pageable pageable) {
         log.debug("Fetching visible products for company ID: {}, page: {}", companyId, pageable.getPageNumber());
 
-        return productRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false, pageable)
+        return tenantReadModel.getVisibleProducts(companyId, null, pageable)
                 .doOnComplete(() -> log.debug("Fetched visible products for company ID: {}", companyId))
                 .doOnError(error -> log.error("Failed to fetch visible products for company ID: {}", companyId, error));
     }
@@ -47,14 +53,30 @@ public class ProductService {
         log.debug("Fetching visible products for company ID: {}, category: {}, page: {}",
                 companyId, category, pageable.getPageNumber());
 
-        return productRepository.findByCompanyIdAndCategoryAndIsHiddenOrderByDisplayOrderAsc(
-                        companyId, category, false, pageable)
+        return tenantReadModel.getVisibleProducts(companyId, category, pageable)
                 .doOnComplete(() -> log.debug("Fetched visible products for company ID: {}, category: {}",
                         companyId, category))
                 .doOnError(error -> log.error("Failed to fetch visible products for company ID: {}, category: {}",
                         companyId, category, error));
     }
 
+    /**
+     * 공개 상품 페이지 조회 (목록과 전체 개수를 한 번에 조회)
+     *
+     * @param companyId 기업 ID
+     * @param category 카테고리 (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 상품 페이지 (Mono<Page<Product>>)
+     */
+    public Mono<Page<Product>> getVisibleProductPage(Long companyId, String category, Pageable pageable) {
+        log.debug("Fetching visible product page for company ID: {}, category: {}, page: {}",
+                companyId, category, pageable.getPageNumber());
+
+        return tenantReadModel.getVisibleProductPage(companyId, category, pageable)
+                .doOnError(error -> log.error("Failed to fetch visible product page for company ID: {}, category: {}",
+                        companyId, category, error));
+    }
+
     /**
      * 기업 ID로 공개 상품 개수 조회 (숨김 제외)
      *
@@ -64,7 +86,7 @@ public class ProductService {
     public Mono<Long> countVisibleProductsByCompanyId(Long companyId) {
         log.debug("Counting visible products for company ID: {}", companyId);
 
-        return productRepository.countByCompanyIdAndIsHidden(companyId, false)
+        return tenantReadModel.countVisibleProducts(companyId, null)
                 .doOnSuccess(count -> log.debug("Found {} visible products for company ID: {}", count, companyId))
                 .doOnError(error -> log.error("Failed to count visible products for company ID: {}", companyId, error));
     }
@@ -79,7 +101,7 @@ public class ProductService {
     public Mono<Long> countVisibleProductsByCompanyIdAndCategory(Long companyId, String category) {
         log.debug("Counting visible products for company ID: {}, category: {}", companyId, category);
 
-        return productRepository.countByCompanyIdAndCategoryAndIsHidden(companyId, category, false)
+        return tenantReadModel.countVisibleProducts(companyId, category)
                 .doOnSuccess(count -> log.debug("Found {} visible products for company ID: {}, category: {}",
                         count, companyId, category))
                 .doOnError(error -> log.error("Failed to count visible products for company ID: {}, category: {}",
@@ -87,7 +109,7 @@ public class ProductService {
     }
 
     /**
-     * 기업 ID로 카테고리 목록 조회
+     * 기업 ID로 카테고리 목록 조회 (공개 상품이 있는 카테고리만)
      *
      * @param companyId 기업 ID
      * @return 카테고리 목록 (Flux<String>)
@@ -95,11 +117,24 @@ public class ProductService {
     public Flux<String> getCategoriesByCompanyId(Long companyId) {
         log.debug("Fetching categories for company ID: {}", companyId);
 
-        return productRepository.findDistinctCategoriesByCompanyId(companyId)
+        return tenantReadModel.getProductCategories(companyId)
                 .doOnComplete(() -> log.debug("Fetched categories for company ID: {}", companyId))
                 .doOnError(error -> log.error("Failed to fetch categories for company ID: {}", companyId, error));
     }
 
+    /**
+     * 기업 ID로 카테고리 패싯 조회 (카테고리별 공개 상품 개수, 메모리 읽기 모델에서 유지)
+     *
+     * @param companyId 기업 ID
+     * @return 카테고리 패싯 목록 (Flux<ProductCategoryFacetResponse>)
+     */
+    public Flux<ProductCategoryFacetResponse> getCategoryFacetsByCompanyId(Long companyId) {
+        log.debug("Fetching category facets for company ID: {}", companyId);
+
+        return tenantReadModel.getProductFacets(companyId)
+                .doOnError(error -> log.error("Failed to fetch category facets for company ID: {}", companyId, error));
+    }
+
     /**
      * 상품 ID와 숨김 여부로 조회
      *
@@ -113,7 +148,7 @@ public class ProductService {
         return productRepository.findByIdAndIsHidden(id, isHidden)
                 .doOnSuccess(product -> {
                     if (product != null) {
-                        log.info("Found product: {} (ID: {})", product.getName(), id);
+                        log.debug("Found product: {} (ID: {})", product.getName(), id);
                     } else {
                         log.warn("Product not found for ID: {}, isHidden: {}", id, isHidden);
                     }
@@ -121,6 +156,20 @@ public class ProductService {
                 .doOnError(error -> log.error("Failed to fetch product by ID: {}, isHidden: {}", id, isHidden, error));
     }
 
+    /**
+     * 기업의 공개 상품 조회 (다른 기업 상품, 숨김 상품 제외)
+     *
+     * @param companyId 기업 ID
+     * @param id 상품 ID
+     * @return 상품 정보 (Mono<Product>)
+     */
+    public Mono<Product> getVisibleProduct(Long companyId, Long id) {
+        log.debug("Fetching visible product for company ID: {}, ID: {}", companyId, id);
+
+        return tenantReadModel.getVisibleProduct(companyId, id)
+                .doOnError(error -> log.error("Failed to fetch visible product for company ID: {}, ID: {}", companyId, id, error));
+    }
+
     /**
      * 상품 ID로 조회
      *
@@ -133,7 +182,7 @@ public class ProductService {
         return productRepository.findById(id)
                 .doOnSuccess(product -> {
                     if (product != null) {
-                        log.info("Found product: {} (ID: {})", product.getName(), id);
+                        log.debug("Found product: {} (ID: {})", product.getName(), id);
                     } else {
                         log.warn("Product not found for ID: {}", id);
                     }
@@ -160,7 +209,8 @@ public class ProductService {
      */
     public Mono<Product> createProduct(Product product) {
         log.info("Creating product: name={}", product.getName());
-        return productRepository.save(product);
+        return productRepository.save(product)
+                .doOnNext(tenantReadModel::applyProduct);
     }
 
     /**
@@ -171,7 +221,9 @@ public class ProductService {
      */
     public Mono<Product> updateProduct(Product product) {
         log.info("Updating product: id={}, name={}", product.getId(), product.getName());
-        return productRepository.save(product);
+        // 숨김 토글도 이 경로를 거치므로 공개 목록과 카테고리 개수에 함께 반영됨
+        return productRepository.save(product)
+                .doOnNext(tenantReadModel::applyProduct);
     }
 
     /**
@@ -182,6 +234,8 @@ public class ProductService {
      */
     public Mono<Void> deleteProduct(Long productId) {
         log.info("Deleting product: id={}", productId);
-        return productRepository.deleteById(productId);
+        return productRepository.findById(productId)
+                .flatMap(product -> productRepository.deleteById(productId)
+                        .doOnSuccess(done -> tenantReadModel.removeProduct(product.getCompanyId(), productId)));
     }
 }
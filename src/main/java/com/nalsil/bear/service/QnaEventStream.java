@@ -0,0 +1,213 @@
+package com.nalsil.bear.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * QnaEventStream
+ * 관리자 QnA 실시간 알림 (PostgreSQL LISTEN/NOTIFY → Server-Sent Events)
+ *
+ * qna 테이블 트리거(schema.sql 6-2)가 질문 등록과 답변/숨김 상태 변경을 NOTIFY하면,
+ * 전용 연결 하나로 LISTEN하여 접속 중인 해당 기업 관리자에게 전달합니다. (DB 폴링 없음)
+ *
+ * - 연결마다 buffer-size개까지만 쌓고, 넘치면 오래된 이벤트부터 버립니다. (느린 클라이언트가 다른 연결에 영향 없음)
+ * - heartbeat 주기로 주석 이벤트를 보내 끊긴 연결을 감지하고, max-lifetime이 지나면 스트림을 닫습니다.
+ *   (브라우저 EventSource가 자동 재연결)
+ * - PostgreSQL이 아닌 데이터베이스(테스트용 H2 등)에서는 LISTEN을 생략합니다.
+ */
+@Slf4j
+@Service
+public class QnaEventStream {
+
+    private static final long RETRY_MILLIS = 3000;
+
+    /**
+     * NOTIFY 채널 (schema.sql notify_qna_event 트리거에 고정, 바꾸려면 트리거와 함께 변경)
+     */
+    static final String CHANNEL = "qna_events";
+
+    private final R2dbcProperties r2dbcProperties;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Duration heartbeat;
+    private final Duration maxLifetime;
+    private final Duration reconnectDelay;
+
+    private final Sinks.Many<QnaEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter dropped;
+
+    private volatile Disposable listener;
+
+    public QnaEventStream(R2dbcProperties r2dbcProperties,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.qna-events.buffer-size:64}") int bufferSize,
+                          @Value("${app.qna-events.heartbeat:20s}") Duration heartbeat,
+                          @Value("${app.qna-events.max-lifetime:30m}") Duration maxLifetime,
+                          @Value("${app.qna-events.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.r2dbcProperties = r2dbcProperties;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.maxLifetime = maxLifetime;
+        this.reconnectDelay = reconnectDelay;
+        this.dropped = Counter.builder("qna.events.dropped")
+                .description("버퍼 초과로 전달하지 못한 QnA 실시간 이벤트 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("qna.events.connections", connections);
+    }
+
+    /**
+     * 관리자 이벤트 스트림
+     *
+     * @param companyId 관리자 기업 ID
+     * @return SSE 스트림 (QnA 이벤트 + heartbeat 주석)
+     */
+    public Flux<ServerSentEvent<QnaEvent>> stream(Long companyId) {
+        Flux<ServerSentEvent<QnaEvent>> events = sink.asFlux()
+                .filter(event -> companyId.equals(event.companyId()))
+                .onBackpressureBuffer(bufferSize, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(String.valueOf(event.id()))
+                        .event(event.type())
+                        .build());
+
+        // 클라이언트가 받지 못하는 동안의 heartbeat는 버림
+        Flux<ServerSentEvent<QnaEvent>> heartbeats = Flux.interval(heartbeat)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<QnaEvent>builder().comment("keepalive").build());
+
+        ServerSentEvent<QnaEvent> ready = ServerSentEvent.<QnaEvent>builder()
+                .comment("connected")
+                .retry(Duration.ofMillis(RETRY_MILLIS))
+                .build();
+
+        // merge 선반입을 1로 두어 미전송 이벤트가 연결별 버퍼 밖에 쌓이지 않도록 함
+        return Flux.merge(1, events, heartbeats)
+                .take(maxLifetime)
+                .startWith(ready)
+                .doOnSubscribe(subscription -> {
+                    int active = connections.incrementAndGet();
+                    log.debug("QnA 이벤트 스트림 연결: companyId={}, active={}", companyId, active);
+                })
+                .doFinally(signal -> {
+                    int active = connections.decrementAndGet();
+                    log.debug("QnA 이벤트 스트림 종료: companyId={}, signal={}, active={}", companyId, signal, active);
+                });
+    }
+
+    /**
+     * 기동 시 LISTEN 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl());
+        if (r2dbcProperties.getUsername() != null) {
+            builder.username(r2dbcProperties.getUsername());
+        }
+        if (r2dbcProperties.getPassword() != null) {
+            builder.password(r2dbcProperties.getPassword());
+        }
+        ConnectionFactory connectionFactory = builder.build();
+
+        // 풀과 별개의 전용 연결 사용 (LISTEN 중인 연결은 반납할 수 없음)
+        listener = Flux.usingWhen(Mono.<Connection>from(connectionFactory.create()), this::listen, Connection::close)
+                .concatWith(Mono.error(() -> new IllegalStateException("LISTEN 연결 종료")))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, reconnectDelay)
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .filter(error -> !(error instanceof UnsupportedOperationException))
+                        .doBeforeRetry(retry -> log.warn("QnA 이벤트 LISTEN 재연결: attempt={}, cause={}",
+                                retry.totalRetries() + 1, retry.failure().toString())))
+                .subscribe(this::handle, error -> log.info("QnA 실시간 알림 비활성화: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = listener;
+        if (current != null) {
+            current.dispose();
+        }
+        sink.tryEmitComplete();
+    }
+
+    private Flux<String> listen(Connection connection) {
+        if (!(connection instanceof PostgresqlConnection postgres)) {
+            return Flux.error(new UnsupportedOperationException("LISTEN/NOTIFY 미지원 데이터베이스"));
+        }
+        return postgres.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .doOnComplete(() -> log.info("QnA 이벤트 LISTEN 시작: channel={}", CHANNEL))
+                .thenMany(postgres.getNotifications())
+                .filter(notification -> CHANNEL.equals(notification.getName()))
+                .mapNotNull(notification -> notification.getParameter());
+    }
+
+    /**
+     * NOTIFY 페이로드 처리
+     *
+     * @param payload 트리거가 보낸 JSON
+     */
+    void handle(String payload) {
+        try {
+            publish(objectMapper.readValue(payload, QnaEvent.class));
+        } catch (Exception e) {
+            log.warn("QnA 이벤트 페이로드 해석 실패: {}", payload, e);
+        }
+    }
+
+    /**
+     * 접속 중인 관리자에게 이벤트 전달
+     *
+     * @param event QnA 이벤트
+     */
+    void publish(QnaEvent event) {
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    /**
+     * QnA 변경 이벤트 (schema.sql notify_qna_event 페이로드)
+     *
+     * @param type question-created 또는 question-updated
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @param title 질문 제목 (최대 100자)
+     * @param answered 답변 여부
+     * @param hidden 숨김 여부
+     * @param unansweredDelta 미답변 개수 변화량 (-1, 0, 1)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record QnaEvent(String type,
+                           Long id,
+                           Long companyId,
+                           String title,
+                           boolean answered,
+                           boolean hidden,
+                           int unansweredDelta) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.admin.Admin;
+import com.nalsil.bear.domain.admin.AdminRepository;
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.qna.Qna;
+import com.nalsil.bear.domain.qna.QnaNotification;
+import com.nalsil.bear.domain.qna.QnaNotificationRepository;
+import com.nalsil.bear.domain.qna.QnaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * QnaNotificationDispatcher
+ * QnA 알림 outbox를 주기적으로 읽어 메일을 일괄 발송
+ *
+ * - 새 질문: 해당 기업 관리자 이메일 (없으면 기업 대표 이메일)
+ * - 답변 등록: 질문자 이메일(asker_email)
+ *
+ * 한 번에 batch-size개까지 선점하여 하나의 SMTP 연결로 발송하고,
+ * 실패한 항목은 지수 백오프로 다시 시도하며 max-attempts를 넘으면 DEAD로 남겨 둡니다.
+ * 메일 발송(JavaMail)은 블로킹 API이므로 공용 blockingScheduler(BlockingSchedulerConfig)에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class QnaNotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final QnaNotificationRepository qnaNotificationRepository;
+    private final QnaRepository qnaRepository;
+    private final CompanyRepository companyRepository;
+    private final AdminRepository adminRepository;
+    private final JavaMailSender mailSender;
+    private final Scheduler blockingScheduler;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public QnaNotificationDispatcher(QnaNotificationRepository qnaNotificationRepository,
+                                     QnaRepository qnaRepository,
+                                     CompanyRepository companyRepository,
+                                     AdminRepository adminRepository,
+                                     JavaMailSender mailSender,
+                                     Scheduler blockingScheduler,
+                                     @Value("${app.qna-notification.from:no-reply@bear.local}") String from,
+                                     @Value("${app.qna-notification.batch-size:50}") int batchSize,
+                                     @Value("${app.qna-notification.max-attempts:8}") int maxAttempts,
+                                     @Value("${app.qna-notification.initial-backoff:30s}") Duration initialBackoff,
+                                     @Value("${app.qna-notification.max-backoff:1h}") Duration maxBackoff,
+                                     @Value("${app.qna-notification.lease:5m}") Duration lease) {
+        this.qnaNotificationRepository = qnaNotificationRepository;
+        this.qnaRepository = qnaRepository;
+        this.companyRepository = companyRepository;
+        this.adminRepository = adminRepository;
+        this.mailSender = mailSender;
+        this.blockingScheduler = blockingScheduler;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    /**
+     * 발송 시각이 된 알림을 한 묶음 발송
+     *
+     * @return 완료 신호
+     */
+    @Scheduled(initialDelayString = "${app.qna-notification.poll-interval:10s}",
+            fixedDelayString = "${app.qna-notification.poll-interval:10s}")
+    public Mono<Void> dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        return qnaNotificationRepository.findDue(now, batchSize)
+                .concatMap(notification -> claim(notification, now))
+                .concatMap(this::compose)
+                .collectList()
+                .flatMap(this::deliver)
+                .doOnError(error -> log.error("QnA 알림 발송 처리 실패", error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    /**
+     * 대기 항목 선점 (다른 인스턴스가 먼저 가져간 항목은 건너뜀)
+     */
+    private Mono<QnaNotification> claim(QnaNotification notification, LocalDateTime now) {
+        return qnaNotificationRepository.claim(notification.getId(), notification.getNextAttemptAt(), now.plus(lease))
+                .filter(updated -> updated == 1)
+                .map(updated -> notification);
+    }
+
+    /**
+     * 알림 메일 작성
+     * QnA가 삭제되었거나 수신자가 없으면 재시도해도 소용없으므로 바로 DEAD 처리합니다.
+     */
+    private Mono<Outgoing> compose(QnaNotification notification) {
+        Mono<Tuple2<Qna, Company>> source = qnaRepository.findByIdAndCompanyId(notification.getQnaId(), notification.getCompanyId())
+                .zipWith(companyRepository.findById(notification.getCompanyId()));
+
+        return source
+                .switchIfEmpty(Mono.defer(() -> markDead(notification, "QnA 또는 기업 없음")
+                        .then(Mono.<Tuple2<Qna, Company>>empty())))
+                .flatMap(tuple -> recipients(notification, tuple.getT1(), tuple.getT2())
+                        .flatMap(to -> to.isEmpty()
+                                ? markDead(notification, "수신자 없음").then(Mono.<Outgoing>empty())
+                                : Mono.just(new Outgoing(notification, message(notification, tuple.getT1(), tuple.getT2(), to)))));
+    }
+
+    private Mono<List<String>> recipients(QnaNotification notification, Qna qna, Company company) {
+        if (QnaNotification.EVENT_ANSWERED.equals(notification.getEventType())) {
+            return Mono.just(qna.getAskerEmail() != null ? List.of(qna.getAskerEmail()) : List.of());
+        }
+        return adminRepository.findByCompanyId(company.getId())
+                .map(Admin::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .distinct()
+                .collectList()
+                .map(emails -> emails.isEmpty() && company.getEmail() != null ? List.of(company.getEmail()) : emails);
+    }
+
+    private SimpleMailMessage message(QnaNotification notification, Qna qna, Company company, List<String> to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(to.toArray(String[]::new));
+
+        if (QnaNotification.EVENT_ANSWERED.equals(notification.getEventType())) {
+            message.setSubject("[" + company.getName() + "] 문의하신 질문에 답변이 등록되었습니다");
+            message.setText("질문: " + qna.getQuestionTitle() + "\n\n"
+                    + "답변:\n" + Objects.toString(qna.getAnswerBody(), ""));
+        } else {
+            message.setSubject("[" + company.getName() + "] 새 질문이 등록되었습니다: " + qna.getQuestionTitle());
+            message.setText("질문자: " + qna.getAskerEmail() + "\n"
+                    + "제목: " + qna.getQuestionTitle() + "\n\n"
+                    + qna.getQuestionBody() + "\n\n"
+                    + "관리자 화면에서 답변을 작성해 주세요.");
+        }
+        return message;
+    }
+
+    /**
+     * 작성된 메일을 한 번에 발송하고 결과를 항목별로 기록
+     */
+    private Mono<Void> deliver(List<Outgoing> batch) {
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> send(batch))
+                .subscribeOn(blockingScheduler)
+                .flatMapMany(failures -> Flux.fromIterable(batch)
+                        .concatMap(outgoing -> failures.containsKey(outgoing.message())
+                                ? markFailed(outgoing.notification(), failures.get(outgoing.message()))
+                                : markSent(outgoing.notification())))
+                .then()
+                .doOnSuccess(done -> log.debug("QnA 알림 발송 처리: {}건", batch.size()));
+    }
+
+    /**
+     * 메일 일괄 발송 (하나의 SMTP 연결 사용)
+     *
+     * @return 실패한 메시지 → 원인 (모두 성공하면 빈 맵)
+     */
+    private Map<Object, Exception> send(List<Outgoing> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(Outgoing::message).toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            return Collections.emptyMap();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                Map<Object, Exception> failures = new IdentityHashMap<>();
+                failures.putAll(e.getFailedMessages());
+                return failures;
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            // 연결/인증 실패 등은 묶음 전체 실패
+            return allFailed(messages, e);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private Mono<QnaNotification> markSent(QnaNotification notification) {
+        notification.setStatus(QnaNotification.STATUS_SENT);
+        notification.setAttempts(notification.getAttempts() + 1);
+        notification.setSentAt(LocalDateTime.now());
+        notification.setLastError(null);
+        return qnaNotificationRepository.save(notification);
+    }
+
+    /**
+     * 발송 실패 기록 (지수 백오프, 한도 초과 시 DEAD)
+     */
+    private Mono<QnaNotification> markFailed(QnaNotification notification, Exception error) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setLastError(truncate(error.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            log.warn("QnA 알림 발송 포기: id={}, qnaId={}, attempts={}", notification.getId(), notification.getQnaId(), attempts);
+            notification.setStatus(QnaNotification.STATUS_DEAD);
+        } else {
+            log.info("QnA 알림 발송 실패, 재시도 예정: id={}, attempts={}", notification.getId(), attempts);
+            notification.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+        }
+        return qnaNotificationRepository.save(notification);
+    }
+
+    private Mono<QnaNotification> markDead(QnaNotification notification, String reason) {
+        log.warn("QnA 알림 발송 불가: id={}, qnaId={}, reason={}", notification.getId(), notification.getQnaId(), reason);
+        notification.setStatus(QnaNotification.STATUS_DEAD);
+        notification.setLastError(reason);
+        return qnaNotificationRepository.save(notification);
+    }
+
+    /**
+     * 재시도 대기 시간 (initial-backoff × 2^(시도 횟수 - 1), 최대 max-backoff)
+     *
+     * @param attempts 지금까지의 시도 횟수
+     * @return 대기 시간
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * 발송할 알림과 작성된 메일
+     */
+    private record Outgoing(QnaNotification notification, SimpleMailMessage message) {
+    }
+}
@@ -1,12 +1,17 @@
 package com.nalsil.bear.service;
 
 import com.nalsil.bear.domain.qna.Qna;
+import com.nalsil.bear.domain.qna.QnaNotification;
+import com.nalsil.bear.domain.qna.QnaNotificationRepository;
 import com.nalsil.bear.domain.qna.QnaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,6 +21,8 @@ import java.time.LocalDateTime;
  * QnA 서비스
  *
  * QnA 조회, 질문 등록, 이메일 검증 비즈니스 로직을 처리합니다.
+ * 질문 등록과 답변 시 알림 메일은 요청 경로에서 보내지 않고 outbox에 기록하여
+ * QnaNotificationDispatcher가 백그라운드에서 발송합니다.
  */
 @Slf4j
 @Service
@@ -23,6 +30,7 @@ import java.time.LocalDateTime;
 public class QnaService {
 
     private final QnaRepository qnaRepository;
+    private final QnaNotificationRepository qnaNotificationRepository;
 
     /**
      * 기업별 공개 QnA 목록 조회 (최신순, 페이징)
@@ -38,6 +46,19 @@ public class QnaService {
         return qnaRepository.findByCompanyIdAndIsHiddenOrderByCreatedAtDesc(companyId, false, pageable);
     }
 
+    /**
+     * 기업별 공개 QnA 페이지 조회 (목록과 전체 개수를 한 번의 쿼리로 조회)
+     *
+     * @param companyId 기업 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return QnA 페이지
+     */
+    public Mono<Page<Qna>> getQnaPageByCompanyId(Long companyId, int page, int size) {
+        log.debug("기업 ID로 QnA 페이지 조회: companyId={}, page={}, size={}", companyId, page, size);
+        return qnaRepository.findVisiblePageByCompanyId(companyId, PageRequest.of(page, size));
+    }
+
     /**
      * 기업별 QnA 전체 개수 조회
      *
@@ -50,22 +71,25 @@ public class QnaService {
     }
 
     /**
-     * QnA ID로 조회
+     * 기업 소속 QnA 조회
      *
      * @param id QnA ID
-     * @return QnA
+     * @param companyId 기업 ID
+     * @return QnA (다른 기업의 QnA이면 empty)
      */
-    public Mono<Qna> getQnaById(Long id) {
-        log.debug("QnA ID로 조회: id={}", id);
-        return qnaRepository.findById(id);
+    public Mono<Qna> getQnaByIdAndCompanyId(Long id, Long companyId) {
+        log.debug("기업 소속 QnA 조회: id={}, companyId={}", id, companyId);
+        return qnaRepository.findByIdAndCompanyId(id, companyId);
     }
 
     /**
      * QnA 질문 등록
+     * 관리자 알림(새 질문)을 같은 트랜잭션에서 outbox에 기록
      *
      * @param qna QnA 엔티티
      * @return 저장된 QnA
      */
+    @Transactional
     public Mono<Qna> createQna(Qna qna) {
         log.info("QnA 질문 등록: companyId={}, email={}", qna.getCompanyId(), qna.getAskerEmail());
 
@@ -74,7 +98,57 @@ public class QnaService {
         qna.setIsAnswered(false);
         qna.setIsHidden(false);
 
-        return qnaRepository.save(qna);
+        return qnaRepository.save(qna)
+                .flatMap(saved -> qnaNotificationRepository
+                        .save(QnaNotification.pending(saved, QnaNotification.EVENT_QUESTION_CREATED))
+                        .thenReturn(saved));
+    }
+
+    /**
+     * QnA 답변 저장
+     * 답변 컬럼만 UPDATE하고(낙관적 잠금), 질문자 알림(답변 등록)을 같은 트랜잭션에서 outbox에 기록
+     *
+     * @param qna 답변 내용 (id, companyId, version, answerBody, answererId, answeredAt)
+     * @return 답변 내용 (기업에 해당 QnA가 없으면 empty)
+     */
+    @Transactional
+    public Mono<Qna> answerQna(Qna qna) {
+        log.info("QnA 답변 저장: id={}, answererId={}", qna.getId(), qna.getAnswererId());
+        Mono<Integer> update = qnaRepository.updateAnswer(qna.getId(), qna.getCompanyId(), qna.getVersion(),
+                qna.getAnswerBody(), qna.getAnswererId(), qna.getAnsweredAt());
+
+        return requireUpdated(update, qna.getId(), qna.getCompanyId())
+                .flatMap(updated -> qnaNotificationRepository
+                        .save(QnaNotification.pending(qna, QnaNotification.EVENT_ANSWERED))
+                        .thenReturn(qna));
+    }
+
+    /**
+     * QnA 숨김 여부 변경
+     *
+     * @param id QnA ID
+     * @param companyId 기업 ID
+     * @param version 목록을 열 때의 버전
+     * @param isHidden 숨김 여부
+     * @return 변경 여부 (기업에 해당 QnA가 없으면 empty)
+     */
+    public Mono<Boolean> updateQnaHidden(Long id, Long companyId, long version, boolean isHidden) {
+        log.info("QnA 숨김 변경: id={}, isHidden={}", id, isHidden);
+        return requireUpdated(qnaRepository.updateHidden(id, companyId, version, isHidden), id, companyId)
+                .thenReturn(true);
+    }
+
+    /**
+     * 수정된 행이 없을 때 원인 구분
+     * QnA가 그대로 있으면 버전 충돌(OptimisticLockingFailureException), 없으면 empty
+     */
+    private Mono<Integer> requireUpdated(Mono<Integer> update, Long id, Long companyId) {
+        return update.flatMap(count -> count > 0
+                ? Mono.just(count)
+                : qnaRepository.existsByIdAndCompanyId(id, companyId)
+                        .flatMap(exists -> exists
+                                ? Mono.error(new OptimisticLockingFailureException("QnA가 다른 관리자에 의해 수정되었습니다: id=" + id))
+                                : Mono.empty()));
     }
 
     /**
@@ -107,6 +181,17 @@ public class QnaService {
                 companyId, isAnswered, pageable);
     }
 
+    /**
+     * 답변 여부별 QnA 개수 조회 (관리자용, 숨김 포함)
+     *
+     * @param companyId 기업 ID
+     * @param isAnswered 답변 여부
+     * @return QnA 개수
+     */
+    public Mono<Long> countQnasByAnswerStatus(Long companyId, boolean isAnswered) {
+        return qnaRepository.countByCompanyIdAndIsAnswered(companyId, isAnswered);
+    }
+
     /**
      * 기업별 모든 QnA 목록 조회 (관리자용, 숨김 포함)
      *
@@ -122,24 +207,16 @@ public class QnaService {
     }
 
     /**
-     * QnA 수정
-     *
-     * @param qna QnA 엔티티
-     * @return 수정된 QnA
-     */
-    public Mono<Qna> updateQna(Qna qna) {
-        log.info("Updating QnA: id={}", qna.getId());
-        return qnaRepository.save(qna);
-    }
-
-    /**
-     * QnA 삭제
+     * 기업 소속 QnA 삭제
      *
      * @param qnaId QnA ID
-     * @return 삭제 결과
+     * @param companyId 기업 ID
+     * @return 삭제 여부 (기업에 해당 QnA가 없으면 empty)
      */
-    public Mono<Void> deleteQna(Long qnaId) {
-        log.info("Deleting QnA: id={}", qnaId);
-        return qnaRepository.deleteById(qnaId);
+    public Mono<Boolean> deleteQna(Long qnaId, Long companyId) {
+        log.info("Deleting QnA: id={}, companyId={}", qnaId, companyId);
+        return qnaRepository.deleteByIdAndCompanyId(qnaId, companyId)
+                .filter(count -> count > 0)
+                .map(count -> true);
     }
 }
@@ -0,0 +1,218 @@
+package com.nalsil.bear.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * QnaSubmissionGuard
+ * 공개 QnA 질문 등록 앞단의 메모리 기반 허용 판단
+ *
+ * - 기업별로 요청자 IP, 질문자 이메일마다 window 동안 등록 횟수를 제한합니다.
+ * - 같은 기업에 같은 질문자 이메일로 같은 질문 본문(공백/대소문자 정규화 후 SHA-256)이
+ *   duplicate-window 안에 다시 들어오면 거부합니다. (다른 질문자의 같은 질문은 허용)
+ * - 거부 건수는 qna.submission.rejected 카운터(reason 태그)로 기록합니다.
+ *
+ * 인스턴스별 메모리에만 기록하므로 여러 인스턴스에서는 인스턴스 수만큼 한도가 늘어납니다.
+ * DB에 닿기 전에 반복 등록을 걸러내는 것이 목적이며, 정확한 전역 한도가 필요하면 공유 저장소가 필요합니다.
+ */
+@Slf4j
+@Service
+public class QnaSubmissionGuard {
+
+    private static final String METRIC_NAME = "qna.submission.rejected";
+
+    /**
+     * 판단 결과
+     */
+    public enum Decision {
+        ACCEPTED,
+        IP_RATE_LIMITED,
+        EMAIL_RATE_LIMITED,
+        DUPLICATE;
+
+        public boolean isAccepted() {
+            return this == ACCEPTED;
+        }
+    }
+
+    private final LongSupplier ticker;
+    private final long windowNanos;
+    private final int maxPerIp;
+    private final int maxPerEmail;
+    private final long duplicateWindowNanos;
+    private final int maxEntries;
+
+    private final Counter ipRejected;
+    private final Counter emailRejected;
+    private final Counter duplicateRejected;
+
+    /**
+     * 기업ID + IP/이메일 → 현재 구간 등록 횟수
+     */
+    private final Map<String, Window> ipWindows = new ConcurrentHashMap<>();
+    private final Map<String, Window> emailWindows = new ConcurrentHashMap<>();
+
+    /**
+     * 기업ID + 이메일 + 본문 해시 → 만료 시각(nanoTime)
+     */
+    private final Map<String, Long> recentContents = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QnaSubmissionGuard(MeterRegistry meterRegistry,
+                              @Value("${app.qna-submission.window:10m}") Duration window,
+                              @Value("${app.qna-submission.max-per-ip:5}") int maxPerIp,
+                              @Value("${app.qna-submission.max-per-email:3}") int maxPerEmail,
+                              @Value("${app.qna-submission.duplicate-window:1h}") Duration duplicateWindow,
+                              @Value("${app.qna-submission.max-entries:100000}") int maxEntries) {
+        this(meterRegistry, window, maxPerIp, maxPerEmail, duplicateWindow, maxEntries, System::nanoTime);
+    }
+
+    QnaSubmissionGuard(MeterRegistry meterRegistry, Duration window, int maxPerIp, int maxPerEmail,
+                       Duration duplicateWindow, int maxEntries, LongSupplier ticker) {
+        this.ticker = ticker;
+        this.windowNanos = window.toNanos();
+        this.maxPerIp = maxPerIp;
+        this.maxPerEmail = maxPerEmail;
+        this.duplicateWindowNanos = duplicateWindow.toNanos();
+        this.maxEntries = maxEntries;
+        this.ipRejected = rejectedCounter(meterRegistry, "ip_rate_limited");
+        this.emailRejected = rejectedCounter(meterRegistry, "email_rate_limited");
+        this.duplicateRejected = rejectedCounter(meterRegistry, "duplicate");
+    }
+
+    /**
+     * 질문 등록 허용 여부 판단
+     * 허용되면 등록 횟수와 본문 해시를 기록합니다.
+     *
+     * @param companyId 기업 ID
+     * @param remoteIp 요청자 IP (없으면 IP 제한 생략)
+     * @param askerEmail 질문자 이메일
+     * @param questionBody 질문 본문
+     * @return 판단 결과
+     */
+    public Decision admit(Long companyId, String remoteIp, String askerEmail, String questionBody) {
+        long now = ticker.getAsLong();
+        purgeIfFull(now);
+
+        // 같은 질문자의 같은 내용 반복은 한도 소진 없이 바로 거부
+        String email = normalizeEmail(askerEmail);
+        String contentKey = contentKey(companyId, email, questionBody);
+        Long expiresAt = recentContents.get(contentKey);
+        if (expiresAt != null && expiresAt - now > 0) {
+            duplicateRejected.increment();
+            log.info("QnA 중복 등록 차단: companyId={}, remoteIp={}", companyId, remoteIp);
+            return Decision.DUPLICATE;
+        }
+
+        if (remoteIp != null && !acquire(ipWindows, companyId + ":" + remoteIp, maxPerIp, now)) {
+            ipRejected.increment();
+            log.info("QnA 등록 한도 초과(IP): companyId={}, remoteIp={}", companyId, remoteIp);
+            return Decision.IP_RATE_LIMITED;
+        }
+
+        if (!acquire(emailWindows, companyId + ":" + email, maxPerEmail, now)) {
+            emailRejected.increment();
+            log.info("QnA 등록 한도 초과(이메일): companyId={}, email={}", companyId, askerEmail);
+            return Decision.EMAIL_RATE_LIMITED;
+        }
+
+        // 동시에 들어온 같은 내용은 먼저 기록한 요청만 통과
+        long expires = now + duplicateWindowNanos;
+        Long previous = recentContents.merge(contentKey, expires,
+                (current, candidate) -> current - now > 0 ? current : candidate);
+        if (previous != expires) {
+            duplicateRejected.increment();
+            return Decision.DUPLICATE;
+        }
+        return Decision.ACCEPTED;
+    }
+
+    /**
+     * 본문 해시 기록 취소
+     * 허용 이후 단계(reCAPTCHA, 저장 등)에서 실패한 질문을 다시 제출할 수 있도록 합니다.
+     *
+     * @param companyId 기업 ID
+     * @param askerEmail 질문자 이메일
+     * @param questionBody 질문 본문
+     */
+    public void forget(Long companyId, String askerEmail, String questionBody) {
+        recentContents.remove(contentKey(companyId, normalizeEmail(askerEmail), questionBody));
+    }
+
+    private static String contentKey(Long companyId, String email, String questionBody) {
+        return companyId + ":" + email + ":" + contentHash(questionBody);
+    }
+
+    private static String normalizeEmail(String askerEmail) {
+        return askerEmail == null ? "" : askerEmail.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private boolean acquire(Map<String, Window> windows, String key, int limit, long now) {
+        boolean[] acquired = {false};
+        windows.compute(key, (k, window) -> {
+            if (window == null || now - window.startedAt() >= windowNanos) {
+                acquired[0] = true;
+                return new Window(now, 1);
+            }
+            if (window.count() < limit) {
+                acquired[0] = true;
+                return new Window(window.startedAt(), window.count() + 1);
+            }
+            return window;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 기록이 max-entries를 넘으면 만료된 항목 정리
+     */
+    private void purgeIfFull(long now) {
+        if (ipWindows.size() + emailWindows.size() + recentContents.size() <= maxEntries) {
+            return;
+        }
+        ipWindows.values().removeIf(window -> now - window.startedAt() >= windowNanos);
+        emailWindows.values().removeIf(window -> now - window.startedAt() >= windowNanos);
+        recentContents.values().removeIf(expiresAt -> expiresAt - now <= 0);
+    }
+
+    /**
+     * 질문 본문 해시 (앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 후 SHA-256)
+     */
+    static String contentHash(String questionBody) {
+        String normalized = questionBody == null ? ""
+                : questionBody.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(METRIC_NAME)
+                .description("공개 QnA 질문 등록 거부 건수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 고정 구간 등록 횟수
+     */
+    private record Window(long startedAt, int count) {
+    }
+}
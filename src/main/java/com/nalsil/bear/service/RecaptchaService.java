@@ -0,0 +1,247 @@
+package com.nalsil.bear.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nalsil.bear.exception.CircuitOpenException;
+import com.nalsil.bear.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RecaptchaService
+ * reCAPTCHA 토큰 검증 (WebClient 기반 비차단 호출)
+ *
+ * - 검증 API 호출은 timeout 안에 끝나야 하며, 연속 실패 시 회로 차단기가 호출을 막습니다.
+ * - 검증 서버 장애(시간 초과, 오류, 회로 열림) 시 fail-open 설정에 따라 통과 또는 거부합니다.
+ * - v3 응답의 action이 폼에서 실행한 action과 다르면 다른 화면에서 발급된 토큰으로 보고 거부합니다.
+ * - 한 번 사용한 토큰은 replay-ttl 동안 다시 받지 않습니다.
+ * - 검증 소요 시간은 recaptcha.verification 타이머(outcome 태그)로 기록합니다.
+ */
+@Slf4j
+@Service
+public class RecaptchaService {
+
+    private static final String METRIC_NAME = "recaptcha.verification";
+
+    /**
+     * 사용한 토큰 캐시 정리 기준 크기
+     */
+    private static final int USED_TOKEN_PURGE_SIZE = 10_000;
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final boolean enabled;
+    private final String siteKey;
+    private final String secretKey;
+    private final String verifyUrl;
+    private final Duration timeout;
+    private final boolean failOpen;
+    private final double minScore;
+    private final String expectedAction;
+    private final long replayTtlNanos;
+
+    /**
+     * 사용한 토큰 → 만료 시각(nanoTime)
+     */
+    private final Map<String, Long> usedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 정리 가능 시각(nanoTime), 정리는 replay-ttl마다 한 번만 수행
+     */
+    private final AtomicLong nextPurgeAt = new AtomicLong(System.nanoTime());
+
+    public RecaptchaService(WebClient.Builder webClientBuilder,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.recaptcha.enabled:false}") boolean enabled,
+                            @Value("${app.recaptcha.site-key:}") String siteKey,
+                            @Value("${app.recaptcha.secret-key:}") String secretKey,
+                            @Value("${app.recaptcha.verify-url:https://www.google.com/recaptcha/api/siteverify}") String verifyUrl,
+                            @Value("${app.recaptcha.timeout:2s}") Duration timeout,
+                            @Value("${app.recaptcha.fail-open:false}") boolean failOpen,
+                            @Value("${app.recaptcha.min-score:0.5}") double minScore,
+                            @Value("${app.recaptcha.action:submit}") String expectedAction,
+                            @Value("${app.recaptcha.replay-ttl:2m}") Duration replayTtl,
+                            @Value("${app.recaptcha.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${app.recaptcha.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this.webClient = webClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new CircuitBreaker("recaptcha", failureThreshold, openDuration);
+        this.enabled = enabled;
+        this.siteKey = siteKey;
+        this.secretKey = secretKey;
+        this.verifyUrl = verifyUrl;
+        this.timeout = timeout;
+        this.failOpen = failOpen;
+        this.minScore = minScore;
+        this.expectedAction = expectedAction;
+        this.replayTtlNanos = replayTtl.toNanos();
+    }
+
+    /**
+     * 폼에 사용할 사이트 키
+     *
+     * @return 사이트 키 (검증 비활성화 시 null)
+     */
+    public String getSiteKey() {
+        return enabled && !siteKey.isBlank() ? siteKey : null;
+    }
+
+    /**
+     * 폼에서 grecaptcha.execute에 사용할 v3 action (검증 시 응답 action과 비교)
+     *
+     * @return action 이름
+     */
+    public String getAction() {
+        return expectedAction;
+    }
+
+    /**
+     * 회로 차단기 상태
+     *
+     * @return 상태
+     */
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * reCAPTCHA 토큰 검증
+     *
+     * @param token 클라이언트가 받은 토큰
+     * @param remoteIp 요청자 IP (없으면 null)
+     * @return 통과 여부
+     */
+    public Mono<Boolean> verify(String token, String remoteIp) {
+        if (!enabled) {
+            return Mono.just(true);
+        }
+        if (token == null || token.isBlank()) {
+            record("missing", 0);
+            return Mono.just(false);
+        }
+        if (!markUsed(token)) {
+            log.warn("reCAPTCHA 토큰 재사용 차단: remoteIp={}", remoteIp);
+            record("replay", 0);
+            return Mono.just(false);
+        }
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return circuitBreaker.execute(siteverify(token, remoteIp).timeout(timeout))
+                    .map(response -> {
+                        // v2 응답에는 score/action이 없음
+                        boolean accepted = response.success()
+                                && (response.score() == null || response.score() >= minScore)
+                                && (response.action() == null || response.action().equals(expectedAction));
+                        if (!accepted) {
+                            log.info("reCAPTCHA 검증 거부: score={}, action={}, errors={}",
+                                    response.score(), response.action(), response.errorCodes());
+                        }
+                        record(accepted ? "success" : "rejected", System.nanoTime() - start);
+                        return accepted;
+                    })
+                    .onErrorResume(error -> {
+                        String outcome = error instanceof CircuitOpenException ? "circuit_open"
+                                : error instanceof TimeoutException ? "timeout" : "error";
+                        log.warn("reCAPTCHA 검증 불가 ({}), fail-open={}: {}", outcome, failOpen, error.toString());
+                        record(outcome, System.nanoTime() - start);
+                        return Mono.just(failOpen);
+                    });
+        });
+    }
+
+    /**
+     * 검증 API 호출
+     * HTTP 오류 응답은 WebClientResponseException으로 전달되어 회로 차단기에 실패로 기록됩니다.
+     */
+    private Mono<SiteverifyResponse> siteverify(String token, String remoteIp) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("secret", secretKey);
+        form.add("response", token);
+        if (remoteIp != null) {
+            form.add("remoteip", remoteIp);
+        }
+
+        return webClient.post()
+                .uri(verifyUrl)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(form))
+                .retrieve()
+                .bodyToMono(SiteverifyResponse.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("reCAPTCHA 검증 응답 없음")));
+    }
+
+    /**
+     * 토큰 사용 기록
+     *
+     * @param token 토큰
+     * @return 처음 사용하는 토큰(또는 기록이 만료된 토큰)이면 true
+     */
+    private boolean markUsed(String token) {
+        long now = System.nanoTime();
+        purgeIfFull(now);
+
+        boolean[] fresh = {false};
+        usedTokens.compute(token, (key, expiresAt) -> {
+            if (expiresAt == null || expiresAt - now < 0) {
+                fresh[0] = true;
+                return now + replayTtlNanos;
+            }
+            return expiresAt;
+        });
+        return fresh[0];
+    }
+
+    /**
+     * 기록이 정리 기준 크기를 넘으면 만료된 토큰 정리
+     * 전체 순회는 replay-ttl마다 한 번만 하며, 그 사이 요청은 정리 없이 진행합니다.
+     */
+    private void purgeIfFull(long now) {
+        long scheduled = nextPurgeAt.get();
+        if (usedTokens.size() <= USED_TOKEN_PURGE_SIZE || now - scheduled < 0
+                || !nextPurgeAt.compareAndSet(scheduled, now + replayTtlNanos)) {
+            return;
+        }
+        usedTokens.values().removeIf(expiresAt -> expiresAt - now < 0);
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        Timer.builder(METRIC_NAME)
+                .description("reCAPTCHA 토큰 검증 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+
+    /**
+     * siteverify 응답
+     *
+     * @param success 검증 성공 여부
+     * @param score v3 점수 (v2는 없음)
+     * @param action v3 액션명
+     * @param errorCodes 오류 코드
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SiteverifyResponse(boolean success,
+                              Double score,
+                              String action,
+                              @JsonProperty("error-codes") List<String> errorCodes) {
+    }
+}
@@ -0,0 +1,336 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.common.ContentStats;
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.company.SitemapEntry;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostRepository;
+import com.nalsil.bear.util.XmlFeedSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SitemapService
+ * 기업별 sitemap.xml과 게시판 RSS/Atom 피드 작성
+ *
+ * 문서 전체를 메모리에 만들지 않고, R2DBC에서 읽은 행을 XML 조각으로 바꿔 그대로 내보냅니다.
+ * 공개 URL이 파일당 상한(프로토콜 최대 50,000개)을 넘으면 사이트맵 인덱스와 분할 파일
+ * (/{companyCode}/sitemap-{page}.xml)로 나눕니다.
+ */
+@Slf4j
+@Service
+public class SitemapService {
+
+    /**
+     * 사이트맵 프로토콜의 파일당 최대 URL 수
+     */
+    public static final int MAX_URLS_PER_FILE = 50_000;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final int EXCERPT_LENGTH = 300;
+
+    /**
+     * 게시판 외 공개 목록 페이지 (기업 홈 기준 상대 경로)
+     */
+    private static final List<String> FIXED_PATHS = List.of("", "/about", "/products", "/youtube", "/faq", "/qna");
+
+    private final CompanyRepository companyRepository;
+    private final PostRepository postRepository;
+    private final TenantReadModel tenantReadModel;
+    private final String baseUrl;
+    private final int maxUrlsPerFile;
+    private final int feedSize;
+
+    public SitemapService(CompanyRepository companyRepository,
+                          PostRepository postRepository,
+                          TenantReadModel tenantReadModel,
+                          @Value("${app.sitemap.base-url:}") String baseUrl,
+                          @Value("${app.sitemap.max-urls-per-file:50000}") int maxUrlsPerFile,
+                          @Value("${app.sitemap.feed-size:30}") int feedSize) {
+        this.companyRepository = companyRepository;
+        this.postRepository = postRepository;
+        this.tenantReadModel = tenantReadModel;
+        this.baseUrl = StringUtils.trimTrailingCharacter(baseUrl, '/');
+        this.maxUrlsPerFile = Math.max(1, Math.min(maxUrlsPerFile, MAX_URLS_PER_FILE));
+        this.feedSize = feedSize;
+    }
+
+    /**
+     * 절대 URL의 기준 주소
+     * app.sitemap.base-url이 없으면 요청의 scheme/host/port를 사용합니다.
+     *
+     * @param request 현재 요청
+     * @return 기준 주소 (끝의 / 없음)
+     */
+    public String resolveBaseUrl(ServerHttpRequest request) {
+        if (StringUtils.hasText(baseUrl)) {
+            return baseUrl;
+        }
+        URI uri = request.getURI();
+        return UriComponentsBuilder.newInstance()
+                .scheme(uri.getScheme())
+                .host(uri.getHost())
+                .port(uri.getPort())
+                .build()
+                .toUriString();
+    }
+
+    /**
+     * 사이트맵 구성 조회 (공개 항목 요약과 게시판 목록)
+     *
+     * @param company 기업
+     * @return 사이트맵 구성
+     */
+    public Mono<SitemapPlan> getPlan(Company company) {
+        return Mono.zip(
+                        companyRepository.findSitemapStats(company.getId()),
+                        tenantReadModel.getBoardTypes(company.getId()))
+                .map(tuple -> new SitemapPlan(tuple.getT2(), tuple.getT1(), maxUrlsPerFile));
+    }
+
+    /**
+     * 게시판 피드 검증자용 요약
+     *
+     * @param board 게시판
+     * @return 공개 게시글 요약
+     */
+    public Mono<ContentStats> getFeedStats(Board board) {
+        return postRepository.findVisibleStatsByBoardId(board.getId());
+    }
+
+    /**
+     * 사이트맵 (urlset)
+     *
+     * @param base 기준 주소
+     * @param company 기업
+     * @param plan 사이트맵 구성
+     * @param page 분할 파일 번호 (1부터, 0이면 전체)
+     * @return XML 조각
+     */
+    public Flux<String> urlset(String base, Company company, SitemapPlan plan, int page) {
+        String home = base + "/" + encode(company.getCode());
+        List<String> fixedPaths = plan.fixedPaths();
+
+        List<String> fixed;
+        Flux<SitemapEntry> entries;
+        if (page <= 0) {
+            fixed = fixedPaths;
+            entries = companyRepository.findSitemapEntries(company.getId(), 0, 0);
+        } else {
+            // 고정 페이지 다음에 상세 페이지가 이어지는 하나의 목록을 파일 크기로 자름
+            long start = (long) (page - 1) * plan.maxUrlsPerFile();
+            long end = Math.min(start + plan.maxUrlsPerFile(), plan.totalUrls());
+            int fixedCount = fixedPaths.size();
+            fixed = fixedPaths.subList((int) Math.min(start, fixedCount), (int) Math.min(end, fixedCount));
+            long entryLimit = end - Math.max(start, fixedCount);
+            entries = entryLimit > 0
+                    ? companyRepository.findSitemapEntries(company.getId(), Math.max(start - fixedCount, 0), entryLimit)
+                    : Flux.empty();
+        }
+
+        return Flux.concat(
+                Flux.just(XML_DECLARATION + "<urlset xmlns=\"" + SITEMAP_NS + "\">\n"),
+                Flux.fromIterable(fixed).map(path -> url(home + path, null)),
+                entries.map(entry -> url(home + entryPath(entry), entry.lastModified())),
+                Flux.just("</urlset>\n"));
+    }
+
+    /**
+     * 사이트맵 인덱스 (sitemapindex)
+     *
+     * @param base 기준 주소
+     * @param company 기업
+     * @param plan 사이트맵 구성
+     * @return XML 조각
+     */
+    public Flux<String> sitemapIndex(String base, Company company, SitemapPlan plan) {
+        String home = base + "/" + encode(company.getCode());
+        String lastmod = plan.lastModified() != null
+                ? "<lastmod>" + XmlFeedSupport.w3cDateTime(plan.lastModified()) + "</lastmod>"
+                : "";
+
+        return Flux.concat(
+                Flux.just(XML_DECLARATION + "<sitemapindex xmlns=\"" + SITEMAP_NS + "\">\n"),
+                Flux.range(1, plan.pageCount())
+                        .map(page -> "<sitemap><loc>" + XmlFeedSupport.escape(home + "/sitemap-" + page + ".xml")
+                                + "</loc>" + lastmod + "</sitemap>\n"),
+                Flux.just("</sitemapindex>\n"));
+    }
+
+    /**
+     * 게시판 RSS 2.0 피드 (최신 공개 게시글)
+     *
+     * @param base 기준 주소
+     * @param company 기업
+     * @param board 게시판
+     * @param stats 공개 게시글 요약
+     * @return XML 조각
+     */
+    public Flux<String> rss(String base, Company company, Board board, ContentStats stats) {
+        String boardUrl = boardUrl(base, company, board);
+        StringBuilder channel = new StringBuilder(XML_DECLARATION)
+                .append("<rss version=\"2.0\" xmlns:atom=\"").append(ATOM_NS).append("\">\n<channel>\n")
+                .append("<title>").append(XmlFeedSupport.escape(feedTitle(company, board))).append("</title>\n")
+                .append("<link>").append(XmlFeedSupport.escape(boardUrl)).append("</link>\n")
+                .append("<description>").append(XmlFeedSupport.escape(feedTitle(company, board))).append("</description>\n")
+                .append("<language>ko</language>\n")
+                .append("<atom:link href=\"").append(XmlFeedSupport.escape(boardUrl + "/rss.xml"))
+                .append("\" rel=\"self\" type=\"application/rss+xml\"/>\n");
+        if (stats.lastModified() != null) {
+            channel.append("<lastBuildDate>").append(XmlFeedSupport.rfc1123(stats.lastModified())).append("</lastBuildDate>\n");
+        }
+
+        return Flux.concat(
+                Flux.just(channel.toString()),
+                latestPosts(board).map(post -> rssItem(boardUrl, post)),
+                Flux.just("</channel>\n</rss>\n"));
+    }
+
+    /**
+     * 게시판 Atom 피드 (최신 공개 게시글)
+     *
+     * @param base 기준 주소
+     * @param company 기업
+     * @param board 게시판
+     * @param stats 공개 게시글 요약
+     * @return XML 조각
+     */
+    public Flux<String> atom(String base, Company company, Board board, ContentStats stats) {
+        String boardUrl = boardUrl(base, company, board);
+        // Atom은 updated가 필수이므로 게시글이 없으면 게시판 생성 시각 사용
+        LocalDateTime updated = stats.lastModified() != null ? stats.lastModified()
+                : board.getCreatedAt() != null ? board.getCreatedAt() : LocalDateTime.now();
+        String feed = XML_DECLARATION + "<feed xmlns=\"" + ATOM_NS + "\">\n"
+                + "<id>" + XmlFeedSupport.escape(boardUrl) + "</id>\n"
+                + "<title>" + XmlFeedSupport.escape(feedTitle(company, board)) + "</title>\n"
+                + "<updated>" + XmlFeedSupport.w3cDateTime(updated) + "</updated>\n"
+                + "<link rel=\"self\" type=\"application/atom+xml\" href=\"" + XmlFeedSupport.escape(boardUrl + "/atom.xml") + "\"/>\n"
+                + "<link rel=\"alternate\" type=\"text/html\" href=\"" + XmlFeedSupport.escape(boardUrl) + "\"/>\n";
+
+        return Flux.concat(
+                Flux.just(feed),
+                latestPosts(board).map(post -> atomEntry(boardUrl, post, updated)),
+                Flux.just("</feed>\n"));
+    }
+
+    private Flux<Post> latestPosts(Board board) {
+        return postRepository.findByBoardIdAndIsHiddenOrderByCreatedAtDesc(board.getId(), false, PageRequest.of(0, feedSize));
+    }
+
+    private static String url(String loc, LocalDateTime lastModified) {
+        StringBuilder url = new StringBuilder("<url><loc>").append(XmlFeedSupport.escape(loc)).append("</loc>");
+        if (lastModified != null) {
+            url.append("<lastmod>").append(XmlFeedSupport.w3cDateTime(lastModified)).append("</lastmod>");
+        }
+        return url.append("</url>\n").toString();
+    }
+
+    private static String entryPath(SitemapEntry entry) {
+        return switch (entry.kind()) {
+            case SitemapEntry.POST -> "/board/" + encode(entry.boardType()) + "/" + entry.id();
+            case SitemapEntry.PRODUCT -> "/products/" + entry.id();
+            default -> "/youtube/" + entry.id();
+        };
+    }
+
+    private static String rssItem(String boardUrl, Post post) {
+        String link = boardUrl + "/" + post.getId();
+        StringBuilder item = new StringBuilder("<item>")
+                .append("<title>").append(XmlFeedSupport.escape(post.getTitle())).append("</title>")
+                .append("<link>").append(XmlFeedSupport.escape(link)).append("</link>")
+                .append("<guid isPermaLink=\"true\">").append(XmlFeedSupport.escape(link)).append("</guid>");
+        if (post.getCreatedAt() != null) {
+            item.append("<pubDate>").append(XmlFeedSupport.rfc1123(post.getCreatedAt())).append("</pubDate>");
+        }
+        return item.append("<description>")
+                .append(XmlFeedSupport.escape(XmlFeedSupport.excerpt(post.getContent(), EXCERPT_LENGTH)))
+                .append("</description></item>\n")
+                .toString();
+    }
+
+    private static String atomEntry(String boardUrl, Post post, LocalDateTime fallbackUpdated) {
+        String link = boardUrl + "/" + post.getId();
+        LocalDateTime updated = post.getUpdatedAt() != null ? post.getUpdatedAt()
+                : post.getCreatedAt() != null ? post.getCreatedAt() : fallbackUpdated;
+        StringBuilder entry = new StringBuilder("<entry>")
+                .append("<id>").append(XmlFeedSupport.escape(link)).append("</id>")
+                .append("<title>").append(XmlFeedSupport.escape(post.getTitle())).append("</title>")
+                .append("<link rel=\"alternate\" type=\"text/html\" href=\"").append(XmlFeedSupport.escape(link)).append("\"/>")
+                .append("<updated>").append(XmlFeedSupport.w3cDateTime(updated)).append("</updated>");
+        if (post.getCreatedAt() != null) {
+            entry.append("<published>").append(XmlFeedSupport.w3cDateTime(post.getCreatedAt())).append("</published>");
+        }
+        return entry.append("<author><name>").append(XmlFeedSupport.escape(post.getAuthor())).append("</name></author>")
+                .append("<summary>").append(XmlFeedSupport.escape(XmlFeedSupport.excerpt(post.getContent(), EXCERPT_LENGTH)))
+                .append("</summary></entry>\n")
+                .toString();
+    }
+
+    private static String boardUrl(String base, Company company, Board board) {
+        return base + "/" + encode(company.getCode()) + "/board/" + encode(board.getType());
+    }
+
+    private static String feedTitle(Company company, Board board) {
+        return company.getName() + " - " + board.getName();
+    }
+
+    private static String encode(String segment) {
+        return UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 사이트맵 구성
+     *
+     * @param boardTypes 게시판 타입 (가나다순)
+     * @param stats 상세 페이지 요약
+     * @param maxUrlsPerFile 파일당 최대 URL 수
+     */
+    public record SitemapPlan(List<String> boardTypes, ContentStats stats, int maxUrlsPerFile) {
+
+        /**
+         * 고정 목록 페이지 경로 (홈, 회사 소개, 상품, 영상, FAQ, QnA, 게시판 목록)
+         */
+        public List<String> fixedPaths() {
+            List<String> paths = new ArrayList<>(FIXED_PATHS);
+            boardTypes.forEach(type -> paths.add("/board/" + encode(type)));
+            return paths;
+        }
+
+        public long totalUrls() {
+            return FIXED_PATHS.size() + boardTypes.size() + stats.count();
+        }
+
+        /**
+         * 인덱스와 분할 파일로 나누어야 하는지 여부
+         */
+        public boolean isIndexed() {
+            return totalUrls() > maxUrlsPerFile;
+        }
+
+        public int pageCount() {
+            return (int) ((totalUrls() + maxUrlsPerFile - 1) / maxUrlsPerFile);
+        }
+
+        public LocalDateTime lastModified() {
+            return stats.lastModified();
+        }
+    }
+}
@@ -0,0 +1,651 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.cache.TieredCache;
+import com.nalsil.bear.cache.TieredCacheManager;
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.domain.faq.Faq;
+import com.nalsil.bear.domain.faq.FaqRepository;
+import com.nalsil.bear.domain.product.Product;
+import com.nalsil.bear.domain.product.ProductRepository;
+import com.nalsil.bear.domain.youtube.YoutubeVideo;
+import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import com.nalsil.bear.dto.response.ProductCategoryFacetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * TenantReadModel
+ * 기업별 소규모 공개 콘텐츠(FAQ, 유튜브 영상, 게시판, 공개 상품, 상품 카테고리)의 메모리 읽기 모델
+ *
+ * 기업당 수십~수백 건 규모의 테이블을 최초 요청 시 한 번에 읽어 불변 스냅샷으로 보관하고,
+ * 공개 페이지는 DB 조회 없이 스냅샷에서 응답합니다.
+ * 관리자 화면에서 콘텐츠가 변경되면 스냅샷을 새로 읽어 원자적으로 교체하며 (상품은 변경분만 반영),
+ * 전체 추정 메모리가 상한을 넘으면 가장 오래 사용되지 않은 기업부터 제거합니다.
+ *
+ * 엔티티는 변경 가능한 객체이므로 스냅샷 밖으로는 복사본만 내보내고, 반영할 상품도 복사해 보관합니다.
+ * (호출 측에서 값을 바꿔도 다른 요청이 보는 스냅샷은 바뀌지 않음)
+ *
+ * 스냅샷 원본 목록은 2단계 캐시의 tenant-content 영역을 거쳐 읽으므로,
+ * 새로 기동한 노드는 다른 노드가 L2에 올려둔 목록으로 스냅샷을 만들고 DB를 다시 읽지 않습니다.
+ */
+@Slf4j
+@Service
+public class TenantReadModel {
+
+    private final FaqRepository faqRepository;
+    private final YoutubeVideoRepository youtubeVideoRepository;
+    private final BoardRepository boardRepository;
+    private final ProductRepository productRepository;
+    private final TieredCache<TenantContent> contentCache;
+    private final long maxMemoryBytes;
+    private final long ttlNanos;
+
+    /**
+     * 기업 ID → 스냅샷
+     */
+    private final Map<Long, Entry> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 기업 ID → 진행 중인 로드 (동시 요청 시 한 번만 조회)
+     */
+    private final Map<Long, Mono<TenantSnapshot>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 기업 ID → 변경 버전 (변경 이전에 시작된 로드 결과가 새 스냅샷을 덮어쓰지 않도록 사용)
+     */
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public TenantReadModel(FaqRepository faqRepository,
+                           YoutubeVideoRepository youtubeVideoRepository,
+                           BoardRepository boardRepository,
+                           ProductRepository productRepository,
+                           TieredCacheManager cacheManager,
+                           @Value("${app.tenant-read-model.max-memory:64MB}") DataSize maxMemory,
+                           @Value("${app.tenant-read-model.ttl:10m}") Duration ttl) {
+        this.faqRepository = faqRepository;
+        this.youtubeVideoRepository = youtubeVideoRepository;
+        this.boardRepository = boardRepository;
+        this.productRepository = productRepository;
+        this.contentCache = cacheManager.getCache("tenant-content", TenantContent.class);
+        this.maxMemoryBytes = maxMemory.toBytes();
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 기업 스냅샷 조회 (없거나 만료되었으면 로드)
+     *
+     * @param companyId 기업 ID
+     * @return 스냅샷
+     */
+    Mono<TenantSnapshot> getSnapshot(Long companyId) {
+        Entry entry = snapshots.get(companyId);
+        if (entry != null && !entry.isExpired(ttlNanos)) {
+            entry.lastAccessNanos = System.nanoTime();
+            return Mono.just(entry.snapshot);
+        }
+        return loading.computeIfAbsent(companyId, id -> load(id, false));
+    }
+
+    /**
+     * 공개 FAQ 목록 (정렬 순서)
+     *
+     * @param companyId 기업 ID
+     * @return FAQ 목록
+     */
+    public Flux<Faq> getFaqs(Long companyId) {
+        return getSnapshot(companyId).flatMapIterable(TenantSnapshot::faqs)
+                .map(faq -> faq.toBuilder().build());
+    }
+
+    /**
+     * 공개 FAQ 카테고리 목록 (등장 순서, 중복 제거)
+     *
+     * @param companyId 기업 ID
+     * @return 카테고리 목록
+     */
+    public Flux<String> getFaqCategories(Long companyId) {
+        return getSnapshot(companyId).flatMapIterable(TenantSnapshot::faqCategories);
+    }
+
+    /**
+     * 공개 유튜브 영상 목록 (정렬 순서)
+     *
+     * @param companyId 기업 ID
+     * @return 영상 목록
+     */
+    public Flux<YoutubeVideo> getVideos(Long companyId) {
+        return getSnapshot(companyId).flatMapIterable(TenantSnapshot::videos)
+                .map(video -> video.toBuilder().build());
+    }
+
+    /**
+     * 공개 유튜브 영상 단건
+     *
+     * @param companyId 기업 ID
+     * @param videoId 영상 ID
+     * @return 영상 (해당 기업의 공개 영상이 아니면 Mono.empty())
+     */
+    public Mono<YoutubeVideo> getVideo(Long companyId, Long videoId) {
+        return getSnapshot(companyId).mapNotNull(snapshot -> snapshot.videosById().get(videoId))
+                .map(video -> video.toBuilder().build());
+    }
+
+    /**
+     * 게시판 타입으로 게시판 조회
+     *
+     * @param companyId 기업 ID
+     * @param type 게시판 타입
+     * @return 게시판
+     */
+    public Mono<Board> getBoard(Long companyId, String type) {
+        return getSnapshot(companyId).mapNotNull(snapshot -> snapshot.boardsByType().get(type))
+                .map(board -> board.toBuilder().build());
+    }
+
+    /**
+     * 게시판 타입 목록 (가나다순)
+     *
+     * @param companyId 기업 ID
+     * @return 게시판 타입 목록
+     */
+    public Mono<List<String>> getBoardTypes(Long companyId) {
+        return getSnapshot(companyId).map(snapshot -> snapshot.boardsByType().keySet().stream().sorted().toList());
+    }
+
+    /**
+     * 공개 상품 목록 (페이지)
+     *
+     * @param companyId 기업 ID
+     * @param category 카테고리 (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 상품 목록
+     */
+    public Flux<Product> getVisibleProducts(Long companyId, String category, Pageable pageable) {
+        return getVisibleProductPage(companyId, category, pageable).flatMapIterable(Page::getContent);
+    }
+
+    /**
+     * 공개 상품 페이지 (목록과 전체 개수를 한 번의 스냅샷 조회로 반환)
+     *
+     * @param companyId 기업 ID
+     * @param category 카테고리 (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 상품 페이지
+     */
+    public Mono<Page<Product>> getVisibleProductPage(Long companyId, String category, Pageable pageable) {
+        return getSnapshot(companyId).map(snapshot -> {
+            List<Product> products = snapshot.productsIn(category);
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(copyOf(products), pageable, products.size());
+            }
+            int from = (int) Math.min(pageable.getOffset(), products.size());
+            int to = Math.min(from + pageable.getPageSize(), products.size());
+            return new PageImpl<>(copyOf(products.subList(from, to)), pageable, products.size());
+        });
+    }
+
+    /**
+     * 공개 상품 개수
+     *
+     * @param companyId 기업 ID
+     * @param category 카테고리 (null이면 전체)
+     * @return 상품 개수
+     */
+    public Mono<Long> countVisibleProducts(Long companyId, String category) {
+        return getSnapshot(companyId).map(snapshot -> (long) snapshot.productsIn(category).size());
+    }
+
+    /**
+     * 공개 상품 단건
+     *
+     * @param companyId 기업 ID
+     * @param productId 상품 ID
+     * @return 상품 (해당 기업의 공개 상품이 아니면 Mono.empty())
+     */
+    public Mono<Product> getVisibleProduct(Long companyId, Long productId) {
+        return getSnapshot(companyId).mapNotNull(snapshot -> snapshot.productsById().get(productId))
+                .map(product -> product.toBuilder().build());
+    }
+
+    /**
+     * 공개 상품 카테고리 목록 (가나다순, 공개 상품이 있는 카테고리만)
+     *
+     * @param companyId 기업 ID
+     * @return 카테고리 목록
+     */
+    public Flux<String> getProductCategories(Long companyId) {
+        return getSnapshot(companyId).flatMapIterable(TenantSnapshot::productCategories);
+    }
+
+    /**
+     * 공개 상품 카테고리 패싯 (가나다순, 카테고리별 공개 상품 개수)
+     *
+     * @param companyId 기업 ID
+     * @return 카테고리 패싯 목록
+     */
+    public Flux<ProductCategoryFacetResponse> getProductFacets(Long companyId) {
+        return getSnapshot(companyId).flatMapIterable(TenantSnapshot::productFacets);
+    }
+
+    /**
+     * 상품 생성/수정/숨김 변경분 반영
+     * 스냅샷이 없으면 다음 요청에서 DB로부터 새로 읽으므로 아무것도 하지 않습니다.
+     *
+     * @param product 저장된 상품
+     */
+    public void applyProduct(Product product) {
+        if (product == null || product.getCompanyId() == null) {
+            return;
+        }
+        Product copy = product.toBuilder().build();
+        update(product.getCompanyId(), snapshot -> snapshot.withProduct(copy));
+    }
+
+    /**
+     * 상품 삭제 반영
+     *
+     * @param companyId 기업 ID
+     * @param productId 삭제된 상품 ID
+     */
+    public void removeProduct(Long companyId, Long productId) {
+        if (companyId == null) {
+            return;
+        }
+        update(companyId, snapshot -> snapshot.withoutProduct(productId));
+    }
+
+    /**
+     * 콘텐츠 변경 반영
+     * DB에서 새로 읽어 공유 캐시와 스냅샷을 교체하며, 교체 전까지는 기존 스냅샷으로 응답합니다.
+     *
+     * @param companyId 기업 ID
+     * @return 완료 신호
+     */
+    public Mono<Void> refresh(Long companyId) {
+        if (companyId == null) {
+            return Mono.empty();
+        }
+        versions.computeIfAbsent(companyId, id -> new AtomicLong()).incrementAndGet();
+        loading.remove(companyId);
+        return loading.computeIfAbsent(companyId, id -> load(id, true))
+                .onErrorResume(error -> {
+                    // 다음 요청에서 다시 로드하도록 기존 스냅샷 제거
+                    remove(companyId);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 현재 스냅샷에 변경분을 적용해 교체
+     * 버전을 올려 변경 이전에 시작된 로드 결과가 반영되지 않도록 하고,
+     * 공유 캐시의 원본 목록은 삭제하여 다음 로드에서 DB를 읽도록 합니다.
+     *
+     * @param companyId 기업 ID
+     * @param change 스냅샷 변경 함수
+     */
+    private void update(Long companyId, UnaryOperator<TenantSnapshot> change) {
+        versions.computeIfAbsent(companyId, id -> new AtomicLong()).incrementAndGet();
+        loading.remove(companyId);
+        contentCache.evict(String.valueOf(companyId)).subscribe();
+
+        AtomicLong delta = new AtomicLong();
+        snapshots.computeIfPresent(companyId, (id, entry) -> {
+            TenantSnapshot next = change.apply(entry.snapshot);
+            delta.set(next.estimatedBytes() - entry.snapshot.estimatedBytes());
+            return entry.replace(next);
+        });
+        totalBytes.addAndGet(delta.get());
+    }
+
+    /**
+     * 스냅샷 로드
+     *
+     * @param companyId 기업 ID
+     * @param reload true면 공유 캐시를 거치지 않고 DB에서 읽어 공유 캐시도 교체
+     * @return 로드 결과 (동시 구독자 공유)
+     */
+    private Mono<TenantSnapshot> load(Long companyId, boolean reload) {
+        long version = versions.computeIfAbsent(companyId, id -> new AtomicLong()).get();
+        AtomicReference<Mono<TenantSnapshot>> self = new AtomicReference<>();
+
+        String key = String.valueOf(companyId);
+        Mono<TenantContent> content = reload
+                ? contentCache.reload(key, () -> loadContent(companyId))
+                : contentCache.get(key, () -> loadContent(companyId));
+
+        Mono<TenantSnapshot> mono = content
+                .map(loaded -> TenantSnapshot.of(loaded.faqs(), loaded.videos(), loaded.boards(), loaded.products()))
+                .doOnNext(snapshot -> {
+                    if (versions.get(companyId).get() == version) {
+                        store(companyId, snapshot);
+                    }
+                })
+                // 이후 refresh()가 등록한 새 로드는 남겨두고 자신만 제거
+                .doFinally(signal -> loading.remove(companyId, self.get()))
+                .cache();
+        self.set(mono);
+        return mono;
+    }
+
+    /**
+     * 스냅샷 원본 목록 DB 조회
+     *
+     * @param companyId 기업 ID
+     * @return 원본 목록
+     */
+    private Mono<TenantContent> loadContent(Long companyId) {
+        return Mono.zip(
+                        faqRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false).collectList(),
+                        youtubeVideoRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false).collectList(),
+                        boardRepository.findByCompanyId(companyId).collectList(),
+                        productRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false, Pageable.unpaged()).collectList())
+                .map(tuple -> new TenantContent(tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()));
+    }
+
+    /**
+     * 스냅샷 교체 및 메모리 상한 유지
+     *
+     * @param companyId 기업 ID
+     * @param snapshot 새 스냅샷
+     */
+    private void store(Long companyId, TenantSnapshot snapshot) {
+        Entry previous = snapshots.put(companyId, new Entry(snapshot));
+        totalBytes.addAndGet(snapshot.estimatedBytes() - (previous != null ? previous.snapshot.estimatedBytes() : 0));
+        log.debug("기업 콘텐츠 스냅샷 교체: companyId={}, bytes={}", companyId, snapshot.estimatedBytes());
+
+        while (totalBytes.get() > maxMemoryBytes && snapshots.size() > 1) {
+            snapshots.entrySet().stream()
+                    .filter(e -> !e.getKey().equals(companyId))
+                    .min(Comparator.comparingLong(e -> e.getValue().lastAccessNanos))
+                    .ifPresent(coldest -> {
+                        log.info("메모리 상한 초과 - 기업 콘텐츠 스냅샷 제거: companyId={}", coldest.getKey());
+                        remove(coldest.getKey());
+                    });
+        }
+    }
+
+    /**
+     * 상품 목록 복사본 (스냅샷의 상품 인스턴스를 공유하지 않음)
+     */
+    private static List<Product> copyOf(List<Product> products) {
+        return products.stream().map(product -> product.toBuilder().build()).toList();
+    }
+
+    private void remove(Long companyId) {
+        Entry removed = snapshots.remove(companyId);
+        if (removed != null) {
+            totalBytes.addAndGet(-removed.snapshot.estimatedBytes());
+        }
+    }
+
+    /**
+     * 스냅샷 보관 항목
+     */
+    private static final class Entry {
+
+        private final TenantSnapshot snapshot;
+        private final long loadedAtNanos;
+        private volatile long lastAccessNanos;
+
+        private Entry(TenantSnapshot snapshot) {
+            this(snapshot, System.nanoTime());
+        }
+
+        private Entry(TenantSnapshot snapshot, long loadedAtNanos) {
+            this.snapshot = snapshot;
+            this.loadedAtNanos = loadedAtNanos;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        /**
+         * 변경분이 반영된 스냅샷으로 교체 (만료 시각은 유지)
+         */
+        private Entry replace(TenantSnapshot next) {
+            return new Entry(next, loadedAtNanos);
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAtNanos > ttlNanos;
+        }
+    }
+
+    /**
+     * 스냅샷 원본 목록 (공유 캐시 저장 단위)
+     *
+     * @param faqs 공개 FAQ (정렬 순서)
+     * @param videos 공개 영상 (정렬 순서)
+     * @param boards 게시판
+     * @param products 공개 상품 (정렬 순서)
+     */
+    public record TenantContent(List<Faq> faqs, List<YoutubeVideo> videos, List<Board> boards, List<Product> products) {
+    }
+
+    /**
+     * 기업별 공개 콘텐츠 불변 스냅샷
+     *
+     * @param faqs 공개 FAQ (정렬 순서)
+     * @param faqCategories FAQ 카테고리 (등장 순서)
+     * @param videos 공개 영상 (정렬 순서)
+     * @param videosById 영상 ID → 영상
+     * @param boardsByType 게시판 타입 → 게시판
+     * @param products 공개 상품 (정렬 순서)
+     * @param productsByCategory 카테고리 → 공개 상품 (정렬 순서)
+     * @param productsById 상품 ID → 상품
+     * @param productFacets 공개 상품 카테고리와 개수 (가나다순)
+     * @param estimatedBytes 추정 메모리 사용량
+     */
+    public record TenantSnapshot(List<Faq> faqs,
+                                 List<String> faqCategories,
+                                 List<YoutubeVideo> videos,
+                                 Map<Long, YoutubeVideo> videosById,
+                                 Map<String, Board> boardsByType,
+                                 List<Product> products,
+                                 Map<String, List<Product>> productsByCategory,
+                                 Map<Long, Product> productsById,
+                                 List<ProductCategoryFacetResponse> productFacets,
+                                 long estimatedBytes) {
+
+        /**
+         * 표시 순서 정렬 (DB 조회와 같은 순서, 동순위는 기존 순서 유지)
+         */
+        private static final Comparator<Product> DISPLAY_ORDER =
+                Comparator.comparing(Product::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        /**
+         * 카테고리별 공개 상품
+         *
+         * @param category 카테고리 (null 또는 공백이면 전체)
+         * @return 상품 목록
+         */
+        public List<Product> productsIn(String category) {
+            if (category == null || category.isBlank()) {
+                return products;
+            }
+            return productsByCategory.getOrDefault(category, List.of());
+        }
+
+        /**
+         * 공개 상품 카테고리 (가나다순, 공개 상품이 있는 카테고리만)
+         *
+         * @return 카테고리 목록
+         */
+        public List<String> productCategories() {
+            return productFacets.stream().map(ProductCategoryFacetResponse::getCategory).toList();
+        }
+
+        /**
+         * 상품 생성/수정 반영 (숨김 상품은 공개 목록에서 제외)
+         *
+         * @param product 저장된 상품
+         * @return 새 스냅샷
+         */
+        TenantSnapshot withProduct(Product product) {
+            boolean visible = !Boolean.TRUE.equals(product.getIsHidden());
+            return replaceProduct(product.getId(), visible ? product : null);
+        }
+
+        /**
+         * 상품 삭제 반영
+         *
+         * @param productId 상품 ID
+         * @return 새 스냅샷
+         */
+        TenantSnapshot withoutProduct(Long productId) {
+            return replaceProduct(productId, null);
+        }
+
+        /**
+         * 상품 하나를 교체하고 영향받는 카테고리 목록과 개수만 갱신
+         *
+         * @param productId 상품 ID
+         * @param next 새 공개 상품 (제외할 경우 null)
+         * @return 새 스냅샷 (변경이 없으면 자신)
+         */
+        private TenantSnapshot replaceProduct(Long productId, Product next) {
+            Product previous = productsById.get(productId);
+            if (previous == null && next == null) {
+                return this;
+            }
+
+            List<Product> nextProducts = new ArrayList<>(products);
+            nextProducts.removeIf(product -> product.getId().equals(productId));
+            Map<Long, Product> nextById = new HashMap<>(productsById);
+            nextById.remove(productId);
+            if (next != null) {
+                nextProducts.add(next);
+                nextProducts.sort(DISPLAY_ORDER);
+                nextById.put(productId, next);
+            }
+
+            Map<String, Long> counts = new TreeMap<>();
+            productFacets.forEach(facet -> counts.put(facet.getCategory(), facet.getCount()));
+            Map<String, List<Product>> nextByCategory = new HashMap<>(productsByCategory);
+            String previousCategory = previous != null ? categoryOf(previous) : null;
+            String nextCategory = next != null ? categoryOf(next) : null;
+            if (previousCategory != null) {
+                counts.computeIfPresent(previousCategory, (category, count) -> count > 1 ? count - 1 : null);
+                rebuildCategory(nextByCategory, nextProducts, previousCategory);
+            }
+            if (nextCategory != null) {
+                counts.merge(nextCategory, 1L, Long::sum);
+                rebuildCategory(nextByCategory, nextProducts, nextCategory);
+            }
+
+            long bytes = estimatedBytes
+                    - (previous != null ? productBytes(previous) : 0)
+                    + (next != null ? productBytes(next) : 0);
+
+            return new TenantSnapshot(faqs, faqCategories, videos, videosById, boardsByType,
+                    List.copyOf(nextProducts),
+                    Map.copyOf(nextByCategory),
+                    Map.copyOf(nextById),
+                    toFacets(counts),
+                    bytes);
+        }
+
+        static TenantSnapshot of(List<Faq> faqs, List<YoutubeVideo> videos, List<Board> boards, List<Product> products) {
+            List<String> faqCategories = faqs.stream()
+                    .map(Faq::getCategory)
+                    .filter(category -> category != null && !category.isEmpty())
+                    .distinct()
+                    .toList();
+            Map<String, List<Product>> productsByCategory = products.stream()
+                    .filter(product -> categoryOf(product) != null)
+                    .collect(Collectors.groupingBy(TenantSnapshot::categoryOf, Collectors.toUnmodifiableList()));
+            Map<String, Long> counts = new TreeMap<>();
+            productsByCategory.forEach((category, list) -> counts.put(category, (long) list.size()));
+
+            long bytes = 0;
+            for (Faq faq : faqs) {
+                bytes += ROW_OVERHEAD + size(faq.getCategory()) + size(faq.getQuestion()) + size(faq.getAnswer());
+            }
+            for (YoutubeVideo video : videos) {
+                bytes += ROW_OVERHEAD + size(video.getVideoUrl()) + size(video.getTitle())
+                        + size(video.getDescription()) + size(video.getVideoId()) + size(video.getEmbedUrl())
+                        + size(video.getThumbnailUrl());
+            }
+            for (Board board : boards) {
+                bytes += ROW_OVERHEAD + size(board.getName()) + size(board.getType());
+            }
+            for (Product product : products) {
+                bytes += productBytes(product);
+            }
+
+            return new TenantSnapshot(
+                    List.copyOf(faqs),
+                    faqCategories,
+                    List.copyOf(videos),
+                    videos.stream().collect(Collectors.toUnmodifiableMap(YoutubeVideo::getId, Function.identity())),
+                    boards.stream().collect(Collectors.toUnmodifiableMap(Board::getType, Function.identity(), (a, b) -> a)),
+                    List.copyOf(products),
+                    Map.copyOf(productsByCategory),
+                    products.stream().collect(Collectors.toUnmodifiableMap(Product::getId, Function.identity())),
+                    toFacets(counts),
+                    bytes);
+        }
+
+        /**
+         * 상품 카테고리 (공백 카테고리는 미분류로 취급)
+         */
+        private static String categoryOf(Product product) {
+            String category = product.getCategory();
+            return category == null || category.isBlank() ? null : category;
+        }
+
+        private static void rebuildCategory(Map<String, List<Product>> byCategory, List<Product> products, String category) {
+            List<Product> inCategory = products.stream()
+                    .filter(product -> category.equals(categoryOf(product)))
+                    .toList();
+            if (inCategory.isEmpty()) {
+                byCategory.remove(category);
+            } else {
+                byCategory.put(category, inCategory);
+            }
+        }
+
+        private static List<ProductCategoryFacetResponse> toFacets(Map<String, Long> sortedCounts) {
+            return sortedCounts.entrySet().stream()
+                    .map(e -> new ProductCategoryFacetResponse(e.getKey(), e.getValue()))
+                    .toList();
+        }
+
+        private static long productBytes(Product product) {
+            return ROW_OVERHEAD * 2 + size(product.getName()) + size(product.getCategory())
+                    + size(product.getDescription()) + size(product.getImageUrl());
+        }
+
+        /**
+         * 행당 고정 오버헤드 추정치 (객체 헤더, 래퍼 타입, 맵 항목)
+         */
+        private static final long ROW_OVERHEAD = 160;
+
+        private static long size(String value) {
+            return value == null ? 0 : 40 + 2L * value.length();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.admin.RevokedToken;
+import com.nalsil.bear.domain.admin.RevokedTokenRepository;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder;
+import com.nalsil.bear.util.RevocationFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * TokenRevocationService
+ * 관리자 JWT 서버 측 폐기 (로그아웃, 유출 토큰)
+ *
+ * 폐기한 토큰 ID(jti)는 revoked_token 테이블에 저장하고, 각 노드는 메모리의 RevocationFilter로
+ * JwtAuthenticationFilter의 폐기 여부 확인에 입출력 없이 응답합니다.
+ * - 기동 시 미만료 폐기 토큰 전체를 적재하고, 이후 sync-interval마다 새로 폐기된 토큰만 가져옵니다.
+ *   (다른 노드의 폐기는 최대 sync-interval 뒤에 반영, 폐기한 노드에는 즉시 반영)
+ * - 노드 간 시계 차이를 고려해 증분 조회 구간을 sync-overlap만큼 겹쳐 읽습니다.
+ * - 토큰 만료 시각이 지나면 서명 검증에서 거부되므로 메모리와 테이블에서 모두 정리합니다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevocationFilter revocationFilter;
+    private final Duration syncOverlap;
+
+    /**
+     * 마지막 동기화 조회 시작 시각 (null이면 아직 적재 전)
+     */
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${app.jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${app.jwt.revocation.sync-overlap:30s}") Duration syncOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revocationFilter = new RevocationFilter(expectedInsertions, falsePositiveRate);
+        this.syncOverlap = syncOverlap;
+    }
+
+    /**
+     * 토큰 폐기
+     * 로그아웃은 GET 요청이라 복제본으로 라우팅될 수 있으므로 저장은 항상 주 DB에서 실행합니다.
+     * 저장에 성공하면 현재 노드에는 즉시 반영하고, 다른 노드는 다음 동기화에서 반영합니다.
+     * 저장에 실패하면 다른 노드와 재기동 후에는 폐기가 유지되지 않으므로 현재 노드에도 반영하지 않고 오류를 전달합니다.
+     *
+     * @param tokenId 토큰 ID (jti, 없으면 폐기할 수 없는 이전 형식 토큰)
+     * @param adminId 관리자 ID
+     * @param expiresAt 토큰 만료 시각
+     * @return 완료 신호 (저장 실패 시 오류)
+     */
+    public Mono<Void> revoke(String tokenId, Long adminId, Instant expiresAt) {
+        if (tokenId == null) {
+            log.warn("토큰 ID(jti)가 없는 토큰은 폐기할 수 없음: adminId={}", adminId);
+            return Mono.empty();
+        }
+        return DataSourceRoutingContextHolder.withPrimary(Mono.defer(() -> revokedTokenRepository.insertIfAbsent(tokenId, adminId,
+                        LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), LocalDateTime.now())))
+                .doOnSuccess(inserted -> {
+                    revocationFilter.add(tokenId, expiresAt.toEpochMilli());
+                    log.info("토큰 폐기: adminId={}, expiresAt={}", adminId, expiresAt);
+                })
+                .doOnError(error -> log.error("토큰 폐기 저장 실패: adminId={}", adminId, error))
+                .then();
+    }
+
+    /**
+     * 토큰 폐기 여부 (요청 경로에서 호출, 입출력 없음)
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revocationFilter.isRevoked(tokenId, System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 시 미만료 폐기 토큰 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        sync().subscribe();
+    }
+
+    /**
+     * 다른 노드에서 폐기한 토큰 동기화 및 만료 항목 정리
+     *
+     * @return 완료 신호
+     */
+    @Scheduled(initialDelayString = "${app.jwt.revocation.sync-interval:10s}",
+            fixedDelayString = "${app.jwt.revocation.sync-interval:10s}")
+    public Mono<Void> sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == null ? EPOCH : lastSyncedAt.minus(syncOverlap);
+
+        return revokedTokenRepository.findActiveRevokedSince(since, now)
+                .doOnNext(this::apply)
+                .count()
+                .doOnNext(count -> {
+                    int purged = revocationFilter.purgeExpired(System.currentTimeMillis());
+                    if (lastSyncedAt == null || count > 0 || purged > 0) {
+                        log.info("폐기 토큰 동기화: 새 항목 {}개, 만료 정리 {}개, 현재 {}개",
+                                count, purged, revocationFilter.size());
+                    }
+                    lastSyncedAt = now;
+                })
+                .doOnError(error -> log.error("폐기 토큰 동기화 실패", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     *
+     * @return 완료 신호
+     */
+    @Scheduled(initialDelayString = "${app.jwt.revocation.cleanup-interval:1h}",
+            fixedDelayString = "${app.jwt.revocation.cleanup-interval:1h}")
+    public Mono<Void> cleanup() {
+        return revokedTokenRepository.deleteExpired(LocalDateTime.now())
+                .doOnNext(deleted -> log.debug("만료된 폐기 토큰 삭제: {}개", deleted))
+                .doOnError(error -> log.error("만료된 폐기 토큰 삭제 실패", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void apply(RevokedToken token) {
+        revocationFilter.add(token.getJti(),
+                token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,96 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.youtube.YoutubeVideo;
+import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import com.nalsil.bear.util.YoutubeUrlParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * YoutubeMetadataBackfill
+ * 영상 ID/embed URL 저장 이전에 등록된 영상의 메타데이터 일괄 채우기
+ *
+ * 기동 시 video_id가 비어 있는 행을 ID 순으로 batch-size개씩 읽어 영상 ID, embed URL, 썸네일 URL을 저장합니다.
+ * 영상 ID를 추출할 수 없는 URL은 건너뛰며(다음 기동 때 다시 시도), 키셋 페이지로 진행하므로 같은 행을 반복해 읽지 않습니다.
+ * 채운 영상이 있는 기업은 읽기 모델 스냅샷을 다시 읽습니다.
+ */
+@Slf4j
+@Service
+public class YoutubeMetadataBackfill {
+
+    private final YoutubeVideoRepository youtubeVideoRepository;
+    private final TenantReadModel tenantReadModel;
+    private final int batchSize;
+    private final boolean enabled;
+
+    public YoutubeMetadataBackfill(YoutubeVideoRepository youtubeVideoRepository,
+                                   TenantReadModel tenantReadModel,
+                                   @Value("${app.youtube.backfill.batch-size:200}") int batchSize,
+                                   @Value("${app.youtube.backfill.enabled:true}") boolean enabled) {
+        this.youtubeVideoRepository = youtubeVideoRepository;
+        this.tenantReadModel = tenantReadModel;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 기동 시 일괄 채우기 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        backfill().subscribe(
+                updated -> {
+                    if (updated > 0) {
+                        log.info("유튜브 영상 메타데이터 일괄 채우기 완료: {}건", updated);
+                    }
+                },
+                error -> log.error("유튜브 영상 메타데이터 일괄 채우기 실패", error));
+    }
+
+    /**
+     * 메타데이터가 없는 영상 전체 채우기
+     *
+     * @return 채운 영상 수
+     */
+    public Mono<Long> backfill() {
+        Set<Long> companyIds = new TreeSet<>();
+
+        return nextBatch(0L)
+                .expand(batch -> batch.size() < batchSize
+                        ? Mono.empty()
+                        : nextBatch(batch.get(batch.size() - 1).getId()))
+                .concatMap(Flux::fromIterable)
+                .concatMap(video -> {
+                    String videoId = YoutubeUrlParser.extractVideoId(video.getVideoUrl());
+                    if (videoId == null) {
+                        log.warn("영상 ID를 추출할 수 없는 URL (건너뜀): id={}, url={}", video.getId(), video.getVideoUrl());
+                        return Mono.empty();
+                    }
+                    // 0건이면 그 사이 관리자가 수정한 행 (건너뜀)
+                    return youtubeVideoRepository.updateMetadata(video.getId(), video.getVideoUrl(), videoId,
+                                    YoutubeUrlParser.embedUrl(videoId), YoutubeUrlParser.thumbnailUrl(videoId))
+                            .filter(updated -> updated > 0)
+                            .doOnNext(updated -> companyIds.add(video.getCompanyId()));
+                })
+                .count()
+                .flatMap(updated -> Flux.fromIterable(companyIds)
+                        .concatMap(tenantReadModel::refresh)
+                        .then(Mono.just(updated)));
+    }
+
+    private Mono<List<YoutubeVideo>> nextBatch(Long afterId) {
+        return youtubeVideoRepository.findWithoutVideoIdAfter(afterId, batchSize).collectList();
+    }
+}
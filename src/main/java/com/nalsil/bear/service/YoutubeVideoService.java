@@ -2,6 +2,7 @@ package com.nalsil.bear.service;
 
 import com.nalsil.bear.domain.youtube.YoutubeVideo;
 import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import com.nalsil.bear.util.YoutubeUrlParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,8 @@ import reactor.core.publisher.Mono;
  * 유튜브 영상 서비스
  *
  * 유튜브 영상 조회 비즈니스 로직을 처리합니다.
+ * 공개 영상 조회는 TenantReadModel(기업별 메모리 스냅샷)에서 응답합니다.
+ * 영상 ID, embed URL, 썸네일 URL은 저장할 때 계산하여 함께 저장하므로 조회 시에는 URL을 해석하지 않습니다.
  */
 @Slf4j
 @Service
@@ -19,6 +22,7 @@ import reactor.core.publisher.Mono;
 public class YoutubeVideoService {
 
     private final YoutubeVideoRepository youtubeVideoRepository;
+    private final TenantReadModel tenantReadModel;
 
     /**
      * 기업별 공개 유튜브 영상 목록 조회 (정렬 순서대로)
@@ -28,7 +32,19 @@ public class YoutubeVideoService {
      */
     public Flux<YoutubeVideo> getVideosByCompanyId(Long companyId) {
         log.debug("기업 ID로 유튜브 영상 목록 조회: companyId={}", companyId);
-        return youtubeVideoRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(companyId, false);
+        return tenantReadModel.getVideos(companyId);
+    }
+
+    /**
+     * 기업의 공개 유튜브 영상 조회 (다른 기업 영상, 숨김 영상 제외)
+     *
+     * @param companyId 기업 ID
+     * @param id 영상 ID
+     * @return 유튜브 영상
+     */
+    public Mono<YoutubeVideo> getVisibleVideo(Long companyId, Long id) {
+        log.debug("기업의 공개 유튜브 영상 조회: companyId={}, id={}", companyId, id);
+        return tenantReadModel.getVideo(companyId, id);
     }
 
     /**
@@ -44,41 +60,13 @@ public class YoutubeVideoService {
 
     /**
      * 유튜브 URL에서 비디오 ID 추출
+     * (watch?v=, youtu.be/, /shorts/, /embed/, /live/, m.youtube.com 등 지원)
      *
      * @param url 유튜브 URL
      * @return 비디오 ID (추출 실패 시 null)
      */
     public String extractVideoId(String url) {
-        if (url == null || url.isEmpty()) {
-            return null;
-        }
-
-        // https://www.youtube.com/watch?v=VIDEO_ID
-        if (url.contains("youtube.com/watch?v=")) {
-            int index = url.indexOf("v=");
-            if (index != -1) {
-                String videoId = url.substring(index + 2);
-                int ampersandIndex = videoId.indexOf('&');
-                if (ampersandIndex != -1) {
-                    videoId = videoId.substring(0, ampersandIndex);
-                }
-                return videoId;
-            }
-        }
-        // https://youtu.be/VIDEO_ID
-        else if (url.contains("youtu.be/")) {
-            int index = url.indexOf("youtu.be/");
-            if (index != -1) {
-                String videoId = url.substring(index + 9);
-                int questionIndex = videoId.indexOf('?');
-                if (questionIndex != -1) {
-                    videoId = videoId.substring(0, questionIndex);
-                }
-                return videoId;
-            }
-        }
-
-        return null;
+        return YoutubeUrlParser.extractVideoId(url);
     }
 
     /**
@@ -88,24 +76,31 @@ public class YoutubeVideoService {
      * @return 썸네일 URL
      */
     public String getThumbnailUrl(String videoId) {
-        if (videoId == null || videoId.isEmpty()) {
-            return null;
-        }
-        return "https://img.youtube.com/vi/" + videoId + "/hqdefault.jpg";
+        return YoutubeUrlParser.thumbnailUrl(videoId);
     }
 
     /**
-     * 유튜브 URL 유효성 검증
+     * 유튜브 URL 유효성 검증 (영상 ID를 추출할 수 있는 URL)
      *
      * @param url 유튜브 URL
      * @return 유효한 URL이면 true
      */
     public boolean isValidYoutubeUrl(String url) {
-        if (url == null || url.isEmpty()) {
-            return false;
-        }
+        return YoutubeUrlParser.extractVideoId(url) != null;
+    }
 
-        return url.contains("youtube.com/watch?v=") || url.contains("youtu.be/");
+    /**
+     * 영상 URL로 영상 ID, embed URL, 썸네일 URL 계산
+     *
+     * @param video 유튜브 영상 엔티티 (videoUrl 설정됨)
+     * @return 같은 엔티티
+     */
+    public YoutubeVideo applyMetadata(YoutubeVideo video) {
+        String videoId = YoutubeUrlParser.extractVideoId(video.getVideoUrl());
+        video.setVideoId(videoId);
+        video.setEmbedUrl(YoutubeUrlParser.embedUrl(videoId));
+        video.setThumbnailUrl(YoutubeUrlParser.thumbnailUrl(videoId));
+        return video;
     }
 
     /**
@@ -120,25 +115,27 @@ public class YoutubeVideoService {
     }
 
     /**
-     * 유튜브 영상 생성
+     * 유튜브 영상 생성 (영상 ID, embed/썸네일 URL 함께 저장)
      *
      * @param video 유튜브 영상 엔티티
      * @return 생성된 유튜브 영상
      */
     public Mono<YoutubeVideo> createVideo(YoutubeVideo video) {
         log.info("Creating YouTube video: title={}", video.getTitle());
-        return youtubeVideoRepository.save(video);
+        return youtubeVideoRepository.save(applyMetadata(video))
+                .flatMap(saved -> tenantReadModel.refresh(saved.getCompanyId()).thenReturn(saved));
     }
 
     /**
-     * 유튜브 영상 수정
+     * 유튜브 영상 수정 (영상 ID, embed/썸네일 URL 다시 계산)
      *
      * @param video 유튜브 영상 엔티티
      * @return 수정된 유튜브 영상
      */
     public Mono<YoutubeVideo> updateVideo(YoutubeVideo video) {
         log.info("Updating YouTube video: id={}, title={}", video.getId(), video.getTitle());
-        return youtubeVideoRepository.save(video);
+        return youtubeVideoRepository.save(applyMetadata(video))
+                .flatMap(saved -> tenantReadModel.refresh(saved.getCompanyId()).thenReturn(saved));
     }
 
     /**
@@ -149,6 +146,8 @@ public class YoutubeVideoService {
      */
     public Mono<Void> deleteVideo(Long videoId) {
         log.info("Deleting YouTube video: id={}", videoId);
-        return youtubeVideoRepository.deleteById(videoId);
+        return youtubeVideoRepository.findById(videoId)
+                .flatMap(video -> youtubeVideoRepository.deleteById(videoId)
+                        .then(tenantReadModel.refresh(video.getCompanyId())));
     }
 }
@@ -0,0 +1,114 @@
+package com.nalsil.bear.util;
+
+import com.nalsil.bear.exception.CircuitOpenException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * CircuitBreaker
+ * 외부 서비스 호출용 경량 회로 차단기
+ *
+ * 연속 실패가 failureThreshold에 도달하면 openDuration 동안 호출을 막고(CircuitOpenException),
+ * 이후 한 번의 시험 호출(HALF_OPEN) 결과에 따라 닫거나 다시 엽니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * 회로 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 회로 차단기를 거쳐 호출
+     * 오류 신호만 실패로 기록하므로, 실패로 볼 응답은 호출 측에서 오류로 변환해야 합니다.
+     *
+     * @param call 외부 호출
+     * @param <T> 결과 타입
+     * @return 호출 결과 (회로가 열려 있으면 CircuitOpenException)
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            return call
+                    .doOnSuccess(result -> onSuccess())
+                    .doOnError(error -> onFailure())
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    /**
+     * 현재 상태
+     *
+     * @return 회로 상태
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("회로 차단기 닫힘: {}", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("회로 차단기 열림: {} (연속 실패 {}회)", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+
+    private synchronized void onCancel() {
+        // 시험 호출이 취소되면 다음 요청이 다시 시험할 수 있도록 해제
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,163 @@
+package com.nalsil.bear.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ClientIpResolver
+ * 요청자(클라이언트) IP 확인
+ *
+ * - 직접 연결된 주소가 trusted-proxies에 속하면 X-Forwarded-For를 오른쪽부터 읽어
+ *   신뢰하는 프록시가 아닌 첫 주소를 클라이언트 IP로 사용합니다.
+ * - 신뢰하지 않는 주소에서 온 요청은 X-Forwarded-For를 무시하고 직접 연결된 주소를 사용합니다.
+ * - trusted-proxies 설정 없이 사설/루프백 주소에서 X-Forwarded-For가 붙은 요청이 오면
+ *   설정되지 않은 프록시 뒤에 있는 것으로 보고 IP를 알 수 없음(null)으로 처리합니다.
+ *   (모든 사용자가 프록시 IP 하나로 묶이지 않도록 IP 기준 제한을 생략하게 합니다)
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<AddressRange> trustedProxies;
+
+    public ClientIpResolver(@Value("${app.client-ip.trusted-proxies:}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(AddressRange::parse)
+                .toList();
+    }
+
+    /**
+     * 클라이언트 IP 확인
+     *
+     * @param request 요청
+     * @return 클라이언트 IP (신뢰할 수 있는 IP를 알 수 없으면 null)
+     */
+    public String resolve(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        InetAddress peer = remoteAddress != null ? remoteAddress.getAddress() : null;
+        if (peer == null) {
+            return null;
+        }
+
+        List<String> forwardedFor = forwardedFor(request);
+        if (trustedProxies.isEmpty()) {
+            if (!forwardedFor.isEmpty() && isInternal(peer)) {
+                log.debug("trusted-proxies 미설정 프록시 경유 요청: peer={}", peer.getHostAddress());
+                return null;
+            }
+            return peer.getHostAddress();
+        }
+        if (!isTrusted(peer)) {
+            return peer.getHostAddress();
+        }
+
+        // 오른쪽(가장 가까운 프록시가 추가한 값)부터 신뢰하지 않는 첫 주소를 찾음
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            InetAddress hop = parseLiteral(forwardedFor.get(i));
+            if (hop == null) {
+                return null;
+            }
+            if (!isTrusted(hop)) {
+                return hop.getHostAddress();
+            }
+        }
+        return null;
+    }
+
+    private boolean isTrusted(InetAddress address) {
+        return trustedProxies.stream().anyMatch(range -> range.contains(address));
+    }
+
+    private static boolean isInternal(InetAddress address) {
+        return address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress();
+    }
+
+    private static List<String> forwardedFor(ServerHttpRequest request) {
+        List<String> values = request.getHeaders().get(X_FORWARDED_FOR);
+        if (values == null) {
+            return List.of();
+        }
+        List<String> hops = new ArrayList<>();
+        for (String value : values) {
+            for (String hop : value.split(",")) {
+                String trimmed = hop.trim();
+                if (!trimmed.isEmpty()) {
+                    hops.add(trimmed);
+                }
+            }
+        }
+        return hops;
+    }
+
+    /**
+     * IP 리터럴만 변환 (호스트 이름은 DNS 조회가 일어나므로 거부)
+     */
+    static InetAddress parseLiteral(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.digit(c, 16) < 0 && c != '.' && c != ':') {
+                return null;
+            }
+        }
+        try {
+            return InetAddress.getByName(value);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 단일 주소 또는 CIDR 범위
+     */
+    private record AddressRange(byte[] network, int prefixLength) {
+
+        static AddressRange parse(String value) {
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            InetAddress parsed = parseLiteral(address);
+            if (parsed == null) {
+                throw new IllegalArgumentException("잘못된 trusted-proxies 값: " + value);
+            }
+            byte[] bytes = parsed.getAddress();
+            int prefix = slash < 0 ? bytes.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefix < 0 || prefix > bytes.length * 8) {
+                throw new IllegalArgumentException("잘못된 trusted-proxies 값: " + value);
+            }
+            return new AddressRange(bytes, prefix);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] candidate = address.getAddress();
+            if (candidate.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.nalsil.bear.util;
+
+import com.nalsil.bear.exception.NotModifiedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+/**
+ * ConditionalGetSupport
+ * 상세 페이지 조건부 GET(ETag, Last-Modified) 처리
+ *
+ * 엔티티와 기업 정보(브랜딩)의 ID, 버전 또는 수정 시각으로 검증자를 계산하고,
+ * 요청의 If-None-Match / If-Modified-Since와 일치하면 렌더링 없이 304로 응답합니다.
+ * 응답은 저장하되 매번 재검증하도록 Cache-Control: no-cache를 설정합니다.
+ */
+@Component
+public class ConditionalGetSupport {
+
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    /**
+     * ETag에 사용할 SHA-256 앞부분 길이 (128비트)
+     */
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * 템플릿 버전 (배포로 화면 구조가 바뀌면 변경하여 기존 ETag를 무효화)
+     */
+    private final String templateVersion;
+
+    public ConditionalGetSupport(@Value("${app.http-cache.template-version:1}") String templateVersion) {
+        this.templateVersion = templateVersion;
+    }
+
+    /**
+     * 조건부 GET 검사
+     *
+     * @param exchange ServerWebExchange
+     * @param lastModified 최종 수정 시각 (신뢰할 수 있는 수정 시각이 없으면 null)
+     * @param validatorParts ETag 계산에 사용할 값 (엔티티 전체가 아닌 ID, 버전, 수정 시각 등 문자열 표현이 안정적인 값)
+     * @return 변경된 경우 Mono.empty(), 변경되지 않은 경우 NotModifiedException
+     */
+    public Mono<Void> checkNotModified(ServerWebExchange exchange, LocalDateTime lastModified, Object... validatorParts) {
+        exchange.getResponse().getHeaders().setCacheControl(DETAIL_CACHE_CONTROL);
+
+        String etag = buildEtag(validatorParts);
+        Instant lastModifiedInstant = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant()
+                : null;
+
+        boolean notModified = lastModifiedInstant != null
+                ? exchange.checkNotModified(etag, lastModifiedInstant)
+                : exchange.checkNotModified(etag);
+
+        return notModified ? Mono.error(new NotModifiedException()) : Mono.empty();
+    }
+
+    /**
+     * 두 시각 중 늦은 시각 반환 (null 허용)
+     *
+     * @param first 첫 번째 시각
+     * @param second 두 번째 시각
+     * @return 늦은 시각 (둘 다 null이면 null)
+     */
+    public static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    /**
+     * 약한(weak) ETag 생성
+     * 렌더링 결과가 바이트 단위로 동일함을 보장하지 않으므로 W/ 접두어를 사용합니다.
+     * 템플릿 버전과 검증자 구성 값을 구분자로 이어 SHA-256을 구하고 앞 128비트를 사용합니다.
+     *
+     * @param validatorParts 검증자 구성 값
+     * @return ETag 값
+     */
+    String buildEtag(Object... validatorParts) {
+        StringBuilder source = new StringBuilder(templateVersion);
+        for (Object part : validatorParts) {
+            source.append('\u0000').append(part);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
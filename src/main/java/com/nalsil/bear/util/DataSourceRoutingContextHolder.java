@@ -0,0 +1,77 @@
+package com.nalsil.bear.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * DataSourceRoutingContextHolder
+ * Reactor Context를 사용한 읽기/쓰기 데이터베이스 라우팅 정보 관리
+ *
+ * 요청 단위 라우팅은 ReadReplicaRoutingFilter가 설정하고,
+ * GET 요청 중 쓰기가 필요한 작업(조회수 증가 등)은 withPrimary()로 개별 지정합니다.
+ * 안쪽(소스에 가까운) contextWrite가 우선하므로 필터 설정보다 개별 지정이 우선합니다.
+ */
+public class DataSourceRoutingContextHolder {
+
+    /**
+     * Reactor Context 키 (라우팅 대상 저장용)
+     */
+    private static final String ROUTE_CONTEXT_KEY = "dataSourceRoute";
+
+    /**
+     * 라우팅 대상
+     */
+    public enum Route {
+        /**
+         * 주 데이터베이스 (읽기/쓰기)
+         */
+        PRIMARY,
+        /**
+         * 읽기 전용 복제본
+         */
+        REPLICA
+    }
+
+    /**
+     * 현재 컨텍스트의 라우팅 대상 조회
+     *
+     * @return 라우팅 대상 (설정되지 않은 경우 PRIMARY)
+     */
+    public static Mono<Route> getCurrentRoute() {
+        return Mono.deferContextual(ctx -> Mono.just(ctx.getOrDefault(ROUTE_CONTEXT_KEY, Route.PRIMARY)));
+    }
+
+    /**
+     * 컨텍스트에 라우팅 대상 설정
+     *
+     * @param context 현재 컨텍스트
+     * @param route 라우팅 대상
+     * @return 라우팅 대상이 설정된 새 컨텍스트
+     */
+    public static Context setRoute(Context context, Route route) {
+        return context.put(ROUTE_CONTEXT_KEY, route);
+    }
+
+    /**
+     * Mono를 주 데이터베이스에서 실행
+     *
+     * @param mono Mono 인스턴스
+     * @param <T> Mono 타입
+     * @return 주 데이터베이스로 라우팅되는 Mono
+     */
+    public static <T> Mono<T> withPrimary(Mono<T> mono) {
+        return mono.contextWrite(context -> setRoute(context, Route.PRIMARY));
+    }
+
+    /**
+     * Flux를 주 데이터베이스에서 실행
+     *
+     * @param flux Flux 인스턴스
+     * @param <T> Flux 타입
+     * @return 주 데이터베이스로 라우팅되는 Flux
+     */
+    public static <T> Flux<T> withPrimary(Flux<T> flux) {
+        return flux.contextWrite(context -> setRoute(context, Route.PRIMARY));
+    }
+}
@@ -0,0 +1,40 @@
+package com.nalsil.bear.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DebugSamplingTurboFilter
+ * 지정한 패키지의 DEBUG/TRACE 로그를 sampleRate 비율로만 통과시키는 Logback 터보 필터
+ *
+ * 로그 이벤트를 만들기 전에 판단하므로, 요청마다 호출되는 조회 경로의 DEBUG 로그를 켜 두어도
+ * 인코딩/출력 비용은 sampleRate만큼만 발생합니다. (logback-spring.xml에서 등록)
+ * isDebugEnabled() 같은 레벨 확인 호출은 샘플링하지 않습니다.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.nalsil.bear";
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.toInt() > Level.DEBUG_INT || sampleRate >= 1.0
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -1,10 +1,12 @@
 package com.nalsil.bear.util;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.File;
 import java.io.IOException;
@@ -20,11 +22,16 @@ import java.util.UUID;
 /**
  * FileUploadUtil
  * 파일 업로드 검증 및 저장 유틸리티
+ *
+ * 디렉토리 생성/파일 삭제 등 동기 파일 시스템 호출은 blockingScheduler에서 실행합니다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileUploadUtil {
 
+    private final Scheduler blockingScheduler;
+
     /**
      * 파일 업로드 기본 디렉토리
      */
@@ -67,24 +74,24 @@ public class FileUploadUtil {
      */
     public Mono<String> saveFile(FilePart filePart, String subDirectory) {
         return Mono.fromCallable(() -> {
-            // 파일 검증
-            validateFile(filePart);
-
-            // 저장 디렉토리 생성
-            Path uploadPath = createUploadDirectory(subDirectory);
-
-            // 고유한 파일명 생성
-            String uniqueFileName = generateUniqueFileName(filePart.filename());
-
-            // 파일 저장
-            Path filePath = uploadPath.resolve(uniqueFileName);
-            filePart.transferTo(filePath.toFile()).block();
-
-            log.info("File saved: {}", filePath);
-
-            // 상대 경로 반환 (데이터베이스 저장용)
-            return String.format("/uploads/%s/%s", subDirectory, uniqueFileName);
-        });
+                    // 파일 검증
+                    validateFile(filePart);
+
+                    // 저장 디렉토리 생성
+                    Path uploadPath = createUploadDirectory(subDirectory);
+
+                    // 고유한 파일명 생성
+                    return uploadPath.resolve(generateUniqueFileName(filePart.filename()));
+                })
+                .subscribeOn(blockingScheduler)
+                // 파일 저장 (업로드 스트림을 그대로 기록, 스레드를 점유하지 않음)
+                .flatMap(filePath -> filePart.transferTo(filePath)
+                        .then(Mono.fromSupplier(() -> {
+                            log.info("File saved: {}", filePath);
+
+                            // 상대 경로 반환 (데이터베이스 저장용)
+                            return String.format("/uploads/%s/%s", subDirectory, filePath.getFileName());
+                        })));
     }
 
     /**
@@ -192,6 +199,6 @@ public class FileUploadUtil {
                 log.error("Failed to delete file: {}", filePath, e);
                 return false;
             }
-        });
+        }).subscribeOn(blockingScheduler);
     }
 }
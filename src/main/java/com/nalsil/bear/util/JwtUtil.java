@@ -9,9 +9,11 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT 유틸리티 클래스
@@ -32,6 +34,7 @@ public class JwtUtil {
 
     /**
      * JWT 토큰 생성
+     * 토큰마다 고유 ID(jti)를 부여하여 로그아웃/유출 시 개별 폐기할 수 있게 합니다.
      *
      * @param username 사용자명
      * @param adminId 관리자 ID
@@ -47,6 +50,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
@@ -107,6 +111,26 @@ public class JwtUtil {
         return (String) getClaimsFromToken(token).get("role");
     }
 
+    /**
+     * JWT 토큰에서 토큰 ID(jti) 추출
+     *
+     * @param token JWT 토큰
+     * @return 토큰 ID (jti 도입 이전에 발급된 토큰은 null)
+     */
+    public String getTokenIdFromToken(String token) {
+        return getClaimsFromToken(token).getId();
+    }
+
+    /**
+     * JWT 토큰에서 만료 시각 추출
+     *
+     * @param token JWT 토큰
+     * @return 만료 시각
+     */
+    public Instant getExpirationFromToken(String token) {
+        return getClaimsFromToken(token).getExpiration().toInstant();
+    }
+
     /**
      * JWT 토큰 유효성 검증
      *
@@ -0,0 +1,122 @@
+package com.nalsil.bear.util;
+
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.service.CompanyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.thymeleaf.spring6.SpringWebFluxTemplateEngine;
+import org.thymeleaf.spring6.context.webflux.SpringWebFluxContext;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LayoutFragmentCache
+ * 테넌트별 공통 레이아웃 조각(header, footer) 렌더링 결과 캐시
+ *
+ * layout/layout :: header, footer 조각은 기업 정보에만 의존하므로
+ * 기업 코드별로 한 번 렌더링한 HTML을 재사용하여 페이지마다 반복되는 조각 처리 비용을 제거합니다.
+ * 연도 표시(footer) 등 시간 의존 값을 고려하여 TTL 경과 시 다시 렌더링합니다.
+ *
+ * 기업 정보는 애플리케이션에서 수정하지 않고 DB에 직접 반영하므로 명시적 무효화는 없으며,
+ * TTL(app.thymeleaf.fragment-cache.ttl) 경과가 유일한 만료 수단입니다. (기업 정보 변경은 최대 TTL 뒤 반영)
+ */
+@Slf4j
+@Component
+public class LayoutFragmentCache {
+
+    private static final String LAYOUT_TEMPLATE = "layout/layout";
+
+    private final SpringWebFluxTemplateEngine templateEngine;
+    private final CompanyService companyService;
+    private final boolean enabled;
+    private final long ttlNanos;
+
+    /**
+     * 기업 코드 → 렌더링된 레이아웃 조각
+     */
+    private final Map<String, LayoutFragments> cache = new ConcurrentHashMap<>();
+
+    public LayoutFragmentCache(SpringWebFluxTemplateEngine templateEngine,
+                               CompanyService companyService,
+                               @Value("${spring.thymeleaf.cache:true}") boolean enabled,
+                               @Value("${app.thymeleaf.fragment-cache.ttl:10m}") Duration ttl) {
+        this.templateEngine = templateEngine;
+        this.companyService = companyService;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 조각 캐시 사용 여부 (템플릿 캐시 설정을 따름)
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기업 코드로 레이아웃 조각 조회 (캐시 미스 시 렌더링 후 저장)
+     *
+     * @param companyCode 기업 코드
+     * @param exchange 링크(@{...}) 생성을 위한 ServerWebExchange
+     * @return 렌더링된 조각 (기업이 없거나 렌더링 실패 시 Mono.empty())
+     */
+    public Mono<LayoutFragments> getFragments(String companyCode, ServerWebExchange exchange) {
+        LayoutFragments cached = cache.get(companyCode);
+        if (cached != null && !cached.isExpired()) {
+            return Mono.just(cached);
+        }
+
+        return companyService.getActiveCompanyByCode(companyCode)
+                .map(company -> render(company, exchange))
+                .doOnNext(fragments -> {
+                    cache.put(companyCode, fragments);
+                    log.debug("레이아웃 조각 캐시 저장: companyCode={}", companyCode);
+                })
+                .onErrorResume(error -> {
+                    // 페이지 템플릿의 th:replace 경로로 대체되므로 조용히 무시
+                    log.debug("레이아웃 조각 렌더링 생략: companyCode={}, reason={}", companyCode, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * header, footer 조각 렌더링
+     *
+     * @param company 기업 정보
+     * @param exchange ServerWebExchange
+     * @return 렌더링된 조각
+     */
+    private LayoutFragments render(Company company, ServerWebExchange exchange) {
+        Locale locale = exchange.getLocaleContext().getLocale();
+        SpringWebFluxContext context = new SpringWebFluxContext(
+                exchange, locale != null ? locale : Locale.getDefault(), Map.of("company", company));
+
+        String header = templateEngine.process(LAYOUT_TEMPLATE, Set.of("header"), context);
+        String footer = templateEngine.process(LAYOUT_TEMPLATE, Set.of("footer"), context);
+
+        return new LayoutFragments(header, footer, System.nanoTime() + ttlNanos);
+    }
+
+    /**
+     * 렌더링된 레이아웃 조각
+     *
+     * @param header header 조각 HTML
+     * @param footer footer 조각 HTML
+     * @param expiresAtNanos 만료 시각 (System.nanoTime 기준)
+     */
+    public record LayoutFragments(String header, String footer, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.nalsil.bear.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestTimings
+ * 요청 하나의 단계별 소요 시간 (Server-Timing 헤더, 단계별 히스토그램용)
+ *
+ * ServerTimingFilter가 요청마다 만들어 Reactor Context(CONTEXT_KEY)에 넣고,
+ * 기업 조회(tenant), 리포지토리 호출(db), 뷰 렌더링(render)이 time(...)으로 구독~종료 시간을 기록합니다.
+ * 같은 단계가 병렬로 실행되면 각 호출 시간을 모두 더합니다.
+ */
+public class RequestTimings {
+
+    /**
+     * Reactor Context 키
+     */
+    public static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+    public static final String TENANT = "tenant";
+    public static final String DB = "db";
+    public static final String RENDER = "render";
+
+    /**
+     * 헤더에 개별 항목으로 남길 최대 호출 수 (초과분은 단계 합계에만 반영)
+     */
+    private static final int MAX_ENTRIES = 30;
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    private volatile long renderStartedAt;
+
+    /**
+     * Mono 구독~종료 시간을 현재 요청의 단계에 기록 (요청 컨텍스트가 없으면 그대로 반환)
+     *
+     * @param phase 단계 (tenant, db, render)
+     * @param detail 세부 항목 (예: PostRepository.findById)
+     * @param mono 측정 대상
+     * @return 측정이 추가된 Mono
+     */
+    public static <T> Mono<T> time(String phase, String detail, Mono<T> mono) {
+        return Mono.deferContextual(context -> {
+            RequestTimings timings = context.getOrDefault(CONTEXT_KEY, null);
+            if (timings == null) {
+                return mono;
+            }
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> timings.record(phase, detail, System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Flux 구독~종료 시간을 현재 요청의 단계에 기록 (요청 컨텍스트가 없으면 그대로 반환)
+     */
+    public static <T> Flux<T> time(String phase, String detail, Flux<T> flux) {
+        return Flux.deferContextual(context -> {
+            RequestTimings timings = context.getOrDefault(CONTEXT_KEY, null);
+            if (timings == null) {
+                return flux;
+            }
+            long start = System.nanoTime();
+            return flux.doFinally(signal -> timings.record(phase, detail, System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * 소요 시간 기록
+     */
+    public void record(String phase, String detail, long nanos) {
+        totals.computeIfAbsent(phase, key -> new LongAdder()).add(nanos);
+        counts.computeIfAbsent(phase, key -> new LongAdder()).increment();
+        synchronized (entries) {
+            if (entries.size() < MAX_ENTRIES) {
+                entries.add(new Entry(phase, detail, nanos));
+            }
+        }
+    }
+
+    /**
+     * 렌더링 시작 표시 (응답 커밋 시점에 렌더링 중이면 그때까지의 시간을 헤더에 반영)
+     */
+    public void markRenderStarted() {
+        renderStartedAt = System.nanoTime();
+    }
+
+    /**
+     * 단계별 합계 (나노초)
+     */
+    public Map<String, Long> totals() {
+        Map<String, Long> result = new ConcurrentHashMap<>();
+        totals.forEach((phase, total) -> result.put(phase, total.sum()));
+        return result;
+    }
+
+    /**
+     * 요청 시작 이후 경과 시간 (나노초)
+     */
+    public long elapsed() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     * 예: tenant;dur=1.2, db;dur=8.4;desc="3 calls", db-1;dur=2.1;desc="PostRepository.findById", render;dur=5.0, total;dur=16.3
+     *
+     * @return 헤더 값
+     */
+    public String toServerTimingHeader() {
+        List<String> metrics = new ArrayList<>();
+        for (String phase : List.of(TENANT, DB)) {
+            LongAdder total = totals.get(phase);
+            if (total != null) {
+                metrics.add(metric(phase, total.sum(), counts.get(phase).sum() + " calls"));
+            }
+        }
+        synchronized (entries) {
+            int index = 0;
+            for (Entry entry : entries) {
+                if (DB.equals(entry.phase())) {
+                    metrics.add(metric(DB + "-" + (++index), entry.nanos(), entry.detail()));
+                }
+            }
+        }
+        LongAdder render = totals.get(RENDER);
+        if (render != null) {
+            metrics.add(metric(RENDER, render.sum(), null));
+        } else if (renderStartedAt != 0) {
+            // 청크 단위 렌더링은 첫 청크를 보낼 때 헤더가 나가므로 그때까지의 시간
+            metrics.add(metric(RENDER, System.nanoTime() - renderStartedAt, "until first chunk"));
+        }
+        metrics.add(metric("total", elapsed(), null));
+        return String.join(", ", metrics);
+    }
+
+    private static String metric(String name, long nanos, String description) {
+        String value = name + ";dur=" + String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+        if (description != null) {
+            value += ";desc=\"" + description.replace("\"", "'") + "\"";
+        }
+        return value;
+    }
+
+    private record Entry(String phase, String detail, long nanos) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.nalsil.bear.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RevocationFilter
+ * 폐기된 토큰 ID(jti) 메모리 조회 구조 (Bloom 필터 + 만료 시각 맵)
+ *
+ * 조회는 잠금 없이 Bloom 필터를 먼저 확인하고, 필터가 "있을 수 있음"이라고 답한 경우에만 맵에서 확인합니다.
+ * 폐기되지 않은 토큰(대부분의 요청)은 문자열 해시 한 번과 비트 몇 개 확인으로 끝나며,
+ * Bloom 필터의 오탐은 맵 확인으로 걸러지므로 결과는 항상 정확합니다.
+ *
+ * Bloom 필터는 항목을 지울 수 없으므로 만료 항목을 정리할 때 남은 항목으로 다시 만듭니다.
+ * 항목 수가 예상치를 넘으면 두 배 크기로 다시 만들어 오탐률을 유지합니다.
+ */
+public class RevocationFilter {
+
+    private final double falsePositiveRate;
+
+    /**
+     * jti → 토큰 만료 시각 (epoch millis)
+     */
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+
+    private volatile Bloom bloom;
+
+    /**
+     * @param expectedInsertions 예상 항목 수 (동시에 유효한 폐기 토큰 수)
+     * @param falsePositiveRate Bloom 필터 오탐률 (맵 확인이 필요한 비율)
+     */
+    public RevocationFilter(int expectedInsertions, double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloom = new Bloom(Math.max(expectedInsertions, 1), falsePositiveRate);
+    }
+
+    /**
+     * 폐기 토큰 추가
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis, 이후 자동 정리)
+     */
+    public synchronized void add(String tokenId, long expiresAtMillis) {
+        entries.merge(tokenId, expiresAtMillis, Math::max);
+        if (entries.size() > bloom.capacity) {
+            rebuild(bloom.capacity * 2);
+        } else {
+            bloom.put(tokenId);
+        }
+    }
+
+    /**
+     * 폐기 여부 확인 (입출력 없음)
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 폐기되었고 아직 만료되지 않았으면 true
+     */
+    public boolean isRevoked(String tokenId, long nowMillis) {
+        if (!bloom.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = entries.get(tokenId);
+        return expiresAt != null && expiresAt > nowMillis;
+    }
+
+    /**
+     * 만료 항목 정리 후 Bloom 필터 재구성
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 정리된 항목 수
+     */
+    public synchronized int purgeExpired(long nowMillis) {
+        int before = entries.size();
+        entries.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        int removed = before - entries.size();
+        if (removed > 0) {
+            rebuild(bloom.capacity);
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 남은 항목으로 새 Bloom 필터를 만들어 교체 (호출자가 잠금 보유)
+     * 교체 전까지 조회는 이전 필터를 사용하며, 이전 필터도 남은 항목을 모두 포함하므로 누락이 없습니다.
+     */
+    private void rebuild(int capacity) {
+        Bloom rebuilt = new Bloom(Math.max(capacity, entries.size()), falsePositiveRate);
+        entries.keySet().forEach(rebuilt::put);
+        bloom = rebuilt;
+    }
+
+    /**
+     * Bloom 필터 (비트 배열 + 이중 해싱)
+     */
+    private static final class Bloom {
+
+        private final int capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+
+        private Bloom(int capacity, double falsePositiveRate) {
+            // m = -n ln p / (ln 2)^2, k = m/n ln 2
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.capacity = capacity;
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitCount / 64));
+        }
+
+        private void put(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * FNV-1a 64비트 해시
+         */
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        /**
+         * 64비트 비트 섞기 (SplitMix64 마무리 단계)
+         */
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+            value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+            return value ^ (value >>> 31);
+        }
+    }
+}
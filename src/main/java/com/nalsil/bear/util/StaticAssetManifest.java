@@ -0,0 +1,89 @@
+package com.nalsil.bear.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * StaticAssetManifest
+ * 빌드 시 생성된 정적 자원 매니페스트(원본 경로 → 해시 파일 경로) 조회
+ *
+ * fingerprintAssets 빌드 작업이 생성한 static/assets/asset-manifest.properties를 기동 시 한 번 읽습니다.
+ * 매니페스트가 없으면(IDE 실행 등) 원본 경로를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class StaticAssetManifest {
+
+    private static final String MANIFEST_LOCATION = "static/assets/asset-manifest.properties";
+
+    /**
+     * 원본 경로(/css/common.css) → 해시 경로(/assets/css/common.3f2a9c1b0d.css)
+     */
+    private final Map<String, String> entries;
+
+    public StaticAssetManifest() {
+        this.entries = load(new ClassPathResource(MANIFEST_LOCATION));
+    }
+
+    /**
+     * 매니페스트 존재 여부
+     *
+     * @return 매핑이 하나 이상 있으면 true
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 정적 자원 URL을 해시 파일 URL로 변환
+     *
+     * 쿼리 문자열(?v=1 등)은 해시 파일명이 버전 역할을 하므로 제거합니다.
+     *
+     * @param url 원본 URL
+     * @return 매핑된 URL (매핑이 없으면 원본 URL)
+     */
+    public String rewrite(String url) {
+        if (url == null || entries.isEmpty()) {
+            return url;
+        }
+        int queryIndex = url.indexOf('?');
+        String path = queryIndex >= 0 ? url.substring(0, queryIndex) : url;
+        String hashed = entries.get(path);
+        return hashed != null ? hashed : url;
+    }
+
+    /**
+     * 매니페스트 파일 로드
+     *
+     * @param resource 매니페스트 리소스
+     * @return 읽기 전용 매핑 (파일이 없거나 읽기 실패 시 빈 맵)
+     */
+    private static Map<String, String> load(Resource resource) {
+        if (!resource.exists()) {
+            log.info("정적 자원 매니페스트 없음 - 원본 경로 사용");
+            return Collections.emptyMap();
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("정적 자원 매니페스트 읽기 실패 - 원본 경로 사용", e);
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> map = new HashMap<>();
+        properties.forEach((key, value) -> map.put(key.toString(), value.toString()));
+        log.info("정적 자원 매니페스트 로드: {}개", map.size());
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,61 @@
+package com.nalsil.bear.util;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.result.view.View;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * TimedViewResolver
+ * 뷰 렌더링 시간을 현재 요청의 render 단계(RequestTimings)에 기록하는 뷰 리졸버 래퍼
+ *
+ * 리다이렉트 뷰는 측정하지 않습니다.
+ */
+public class TimedViewResolver implements ViewResolver {
+
+    private final ViewResolver delegate;
+
+    public TimedViewResolver(ViewResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<View> resolveViewName(String viewName, Locale locale) {
+        return delegate.resolveViewName(viewName, locale)
+                .map(view -> view.isRedirectView() ? view : new TimedView(viewName, view));
+    }
+
+    private record TimedView(String viewName, View delegate) implements View {
+
+        @Override
+        public List<MediaType> getSupportedMediaTypes() {
+            return delegate.getSupportedMediaTypes();
+        }
+
+        @Override
+        public boolean isRedirectView() {
+            return false;
+        }
+
+        @Override
+        public Mono<Void> render(@Nullable Map<String, ?> model, @Nullable MediaType contentType,
+                                 ServerWebExchange exchange) {
+            return Mono.deferContextual(context -> {
+                RequestTimings timings = context.getOrDefault(RequestTimings.CONTEXT_KEY, null);
+                if (timings == null) {
+                    return delegate.render(model, contentType, exchange);
+                }
+                timings.markRenderStarted();
+                long start = System.nanoTime();
+                return delegate.render(model, contentType, exchange)
+                        .doFinally(signal -> timings.record(RequestTimings.RENDER, viewName, System.nanoTime() - start));
+            });
+        }
+    }
+}
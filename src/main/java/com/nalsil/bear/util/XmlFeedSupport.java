@@ -0,0 +1,89 @@
+package com.nalsil.bear.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * XmlFeedSupport
+ * 사이트맵/RSS/Atom XML 조각 작성 도구
+ *
+ * 문서를 한 번에 만들지 않고 행 단위 문자열 조각으로 작성하므로
+ * 텍스트와 속성 값의 이스케이프, 날짜 형식만 이곳에서 처리합니다.
+ */
+public final class XmlFeedSupport {
+
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME;
+    private static final DateTimeFormatter W3C_DATETIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private XmlFeedSupport() {
+    }
+
+    /**
+     * XML 텍스트/속성 값 이스케이프
+     * XML 1.0에서 허용되지 않는 제어 문자는 제거합니다.
+     *
+     * @param value 원본 값 (null이면 빈 문자열)
+     * @return 이스케이프된 값
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 본문 요약 (공백 정리 후 최대 길이로 자름)
+     *
+     * @param content 본문
+     * @param maxLength 최대 길이
+     * @return 요약
+     */
+    public static String excerpt(String content, int maxLength) {
+        if (content == null) {
+            return "";
+        }
+        String normalized = content.replaceAll("\\s+", " ").strip();
+        return normalized.length() <= maxLength ? normalized : normalized.substring(0, maxLength) + "…";
+    }
+
+    /**
+     * W3C Datetime 형식 (사이트맵 lastmod, Atom updated)
+     * 예: 2025-01-31T09:30:00+09:00
+     *
+     * @param dateTime 시각 (서버 시간대 기준)
+     * @return 형식화된 시각
+     */
+    public static String w3cDateTime(LocalDateTime dateTime) {
+        return W3C_DATETIME.format(dateTime.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * RFC 1123 형식 (RSS pubDate, lastBuildDate)
+     * 예: Fri, 31 Jan 2025 09:30:00 +0900
+     *
+     * @param dateTime 시각 (서버 시간대 기준)
+     * @return 형식화된 시각
+     */
+    public static String rfc1123(LocalDateTime dateTime) {
+        return RFC_1123.format(dateTime.atZone(ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,186 @@
+package com.nalsil.bear.util;
+
+/**
+ * YoutubeUrlParser
+ * 유튜브 URL에서 영상 ID 추출 및 embed/썸네일 URL 작성
+ *
+ * 지원 형식 (http/https/스킴 생략, www./m./music. 등 하위 도메인 포함):
+ * - youtube.com/watch?v=ID (v가 다른 파라미터 뒤에 있어도 인식)
+ * - youtube.com/shorts/ID, /embed/ID, /live/ID, /v/ID
+ * - youtube-nocookie.com/embed/ID
+ * - youtu.be/ID
+ *
+ * 원본 문자열을 인덱스로만 훑으며 중간 문자열을 만들지 않으므로, 결과 ID 외에는 할당이 없습니다.
+ * 영상 ID는 11자리 [A-Za-z0-9_-]만 인정합니다.
+ */
+public final class YoutubeUrlParser {
+
+    /**
+     * 영상 ID 길이
+     */
+    public static final int VIDEO_ID_LENGTH = 11;
+
+    private static final String EMBED_URL_PREFIX = "https://www.youtube.com/embed/";
+    private static final String THUMBNAIL_URL_PREFIX = "https://img.youtube.com/vi/";
+    private static final String THUMBNAIL_URL_SUFFIX = "/hqdefault.jpg";
+
+    /**
+     * 경로 첫 조각 뒤에 영상 ID가 오는 형식
+     */
+    private static final String[] ID_PATH_PREFIXES = {"/shorts/", "/embed/", "/live/", "/v/"};
+
+    private YoutubeUrlParser() {
+    }
+
+    /**
+     * 유튜브 URL에서 영상 ID 추출
+     *
+     * @param url 유튜브 URL
+     * @return 영상 ID (유튜브 URL이 아니거나 ID 형식이 아니면 null)
+     */
+    public static String extractVideoId(String url) {
+        if (url == null) {
+            return null;
+        }
+        int end = url.length();
+        while (end > 0 && url.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int pos = 0;
+        while (pos < end && url.charAt(pos) <= ' ') {
+            pos++;
+        }
+
+        if (url.regionMatches(true, pos, "https://", 0, 8)) {
+            pos += 8;
+        } else if (url.regionMatches(true, pos, "http://", 0, 7)) {
+            pos += 7;
+        } else if (url.startsWith("//", pos)) {
+            pos += 2;
+        }
+
+        int hostStart = pos;
+        int hostEnd = pos;
+        while (hostEnd < end) {
+            char c = url.charAt(hostEnd);
+            if (c == '/' || c == '?' || c == '#' || c == ':') {
+                break;
+            }
+            hostEnd++;
+        }
+        int pathStart = hostEnd;
+        if (pathStart < end && url.charAt(pathStart) == ':') {
+            // 포트 건너뛰기
+            while (pathStart < end && url.charAt(pathStart) != '/' && url.charAt(pathStart) != '?') {
+                pathStart++;
+            }
+        }
+
+        if (hostIs(url, hostStart, hostEnd, "youtu.be")) {
+            return pathStart < end && url.charAt(pathStart) == '/' ? readId(url, pathStart + 1, end) : null;
+        }
+        if (!hostIs(url, hostStart, hostEnd, "youtube.com") && !hostIs(url, hostStart, hostEnd, "youtube-nocookie.com")) {
+            return null;
+        }
+
+        if (segmentIs(url, pathStart, end, "/watch")) {
+            return readQueryParameterV(url, pathStart + 6, end);
+        }
+        for (String prefix : ID_PATH_PREFIXES) {
+            if (url.regionMatches(true, pathStart, prefix, 0, prefix.length())) {
+                return readId(url, pathStart + prefix.length(), end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 영상 embed URL
+     *
+     * @param videoId 영상 ID
+     * @return embed URL (ID가 없으면 null)
+     */
+    public static String embedUrl(String videoId) {
+        return videoId == null || videoId.isEmpty() ? null : EMBED_URL_PREFIX + videoId;
+    }
+
+    /**
+     * 영상 썸네일 URL (고화질)
+     *
+     * @param videoId 영상 ID
+     * @return 썸네일 URL (ID가 없으면 null)
+     */
+    public static String thumbnailUrl(String videoId) {
+        return videoId == null || videoId.isEmpty() ? null : THUMBNAIL_URL_PREFIX + videoId + THUMBNAIL_URL_SUFFIX;
+    }
+
+    /**
+     * 호스트가 도메인 자신이거나 그 하위 도메인인지 (대소문자 무시)
+     */
+    private static boolean hostIs(String url, int hostStart, int hostEnd, String domain) {
+        int length = hostEnd - hostStart;
+        int offset = hostEnd - domain.length();
+        if (length < domain.length() || !url.regionMatches(true, offset, domain, 0, domain.length())) {
+            return false;
+        }
+        return length == domain.length() || url.charAt(offset - 1) == '.';
+    }
+
+    /**
+     * 경로가 지정한 조각으로 끝나거나 그 뒤에 쿼리/조각 식별자가 오는지
+     */
+    private static boolean segmentIs(String url, int pathStart, int end, String segment) {
+        if (!url.regionMatches(true, pathStart, segment, 0, segment.length())) {
+            return false;
+        }
+        int next = pathStart + segment.length();
+        if (next == end) {
+            return true;
+        }
+        char c = url.charAt(next);
+        return c == '?' || c == '#' || c == '/';
+    }
+
+    /**
+     * 쿼리 문자열의 v 파라미터 값 읽기
+     */
+    private static String readQueryParameterV(String url, int from, int end) {
+        int query = url.indexOf('?', from);
+        if (query < 0 || query >= end) {
+            return null;
+        }
+        int pos = query + 1;
+        while (pos < end) {
+            char c = url.charAt(pos);
+            if (c == '#') {
+                return null;
+            }
+            if (c == 'v' && pos + 1 < end && url.charAt(pos + 1) == '=') {
+                return readId(url, pos + 2, end);
+            }
+            // 다음 파라미터로 이동
+            while (pos < end && url.charAt(pos) != '&' && url.charAt(pos) != '#') {
+                pos++;
+            }
+            if (pos < end && url.charAt(pos) == '&') {
+                pos++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 위치에서 영상 ID 읽기 (ID 문자가 정확히 11개일 때만)
+     */
+    private static String readId(String url, int from, int end) {
+        int pos = from;
+        while (pos < end && isIdChar(url.charAt(pos))) {
+            pos++;
+        }
+        return pos - from == VIDEO_ID_LENGTH ? url.substring(from, pos) : null;
+    }
+
+    private static boolean isIdChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
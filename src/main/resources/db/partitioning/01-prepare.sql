@@ -0,0 +1,165 @@
+-- post/qna 해시 파티셔닝 온라인 전환 1단계: 파티션 테이블 생성 + 변경 미러링 트리거 + 백필 프로시저
+-- (선택 사항, 게시글/QnA가 수십만 건 이상인 기업이 있어 인덱스 비대화/VACUUM 지연이 문제가 될 때 적용)
+--
+-- 적용 순서 (서비스 중단 없이 진행, PostgreSQL 13+)
+--   1) psql -f 01-prepare.sql
+--      post_part(게시판 ID 해시 16개), qna_part(기업 ID 해시 16개)를 만들고, 기존 테이블의 변경을 트리거로 복사합니다.
+--   2) CALL partition_backfill_post(5000); CALL partition_backfill_qna(5000);
+--      기존 행을 ID 구간 단위로 복사하고 구간마다 커밋합니다. 중단되면 진행 로그의 마지막 ID를 두 번째 인자로 넘겨 이어서 실행합니다.
+--   3) psql -f 02-cutover.sql
+--      짧은 배타 잠금 안에서 행 수를 확인하고 테이블 이름을 바꿉니다. 기존 테이블은 post_legacy/qna_legacy로 남습니다.
+--
+-- 파티션 테이블의 기본 키는 (id, 파티션 키)입니다. ID는 기존 시퀀스를 그대로 사용하므로 전체에서 유일합니다.
+-- 리포지토리의 단건 조회/변경은 게시판 ID 또는 기업 ID를 함께 지정하여 파티션 하나만 읽습니다.
+-- 함수 본문은 schema.sql과 같이 작은따옴표 문자열로 작성
+
+-- 1. 파티션 테이블
+CREATE TABLE IF NOT EXISTS post_part (
+    id BIGINT NOT NULL DEFAULT nextval('post_id_seq'),
+    board_id BIGINT NOT NULL REFERENCES board(id) ON DELETE CASCADE,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    author VARCHAR(100) NOT NULL,
+    view_count INTEGER DEFAULT 0,
+    file_path VARCHAR(500),
+    is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW(),
+    PRIMARY KEY (id, board_id)
+) PARTITION BY HASH (board_id);
+
+CREATE TABLE IF NOT EXISTS qna_part (
+    id BIGINT NOT NULL DEFAULT nextval('qna_id_seq'),
+    company_id BIGINT NOT NULL REFERENCES company(id) ON DELETE CASCADE,
+    question_title VARCHAR(200) NOT NULL,
+    question_body TEXT NOT NULL,
+    asker_email VARCHAR(100) NOT NULL,
+    answer_body TEXT,
+    answerer_id BIGINT REFERENCES admin(id) ON DELETE SET NULL,
+    is_answered BOOLEAN DEFAULT FALSE,
+    is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT NOW(),
+    answered_at TIMESTAMP,
+    PRIMARY KEY (id, company_id)
+) PARTITION BY HASH (company_id);
+
+-- 파티션 이름은 부모 테이블 이름과 무관하게 유지 (전환 후에도 post_h0 ~ post_h15, qna_h0 ~ qna_h15)
+DO '
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format(''CREATE TABLE IF NOT EXISTS post_h%s PARTITION OF post_part FOR VALUES WITH (MODULUS 16, REMAINDER %s)'', i, i);
+        EXECUTE format(''CREATE TABLE IF NOT EXISTS qna_h%s PARTITION OF qna_part FOR VALUES WITH (MODULUS 16, REMAINDER %s)'', i, i);
+    END LOOP;
+END;
+';
+
+-- 2. 인덱스 (schema.sql 4, 6절과 같은 구성, 전환 시 _part 접미사를 떼어 원래 이름으로 변경)
+CREATE INDEX IF NOT EXISTS idx_post_created_at_part ON post_part(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_post_is_hidden_part ON post_part(is_hidden);
+CREATE INDEX IF NOT EXISTS idx_post_board_visible_part ON post_part(board_id, is_hidden, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_post_board_created_part ON post_part(board_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_qna_is_answered_part ON qna_part(is_answered);
+CREATE INDEX IF NOT EXISTS idx_qna_created_at_part ON qna_part(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_qna_asker_email_part ON qna_part(asker_email);
+CREATE INDEX IF NOT EXISTS idx_qna_company_visible_part ON qna_part(company_id, is_hidden, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_qna_company_answered_part ON qna_part(company_id, is_answered, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_qna_company_created_part ON qna_part(company_id, created_at DESC);
+
+-- 3. 변경 미러링 트리거 (백필 중 기존 테이블의 등록/수정/삭제를 파티션 테이블에 반영)
+-- 백필과 같은 행을 동시에 쓰면 나중 값이 남도록 등록/수정은 upsert로 처리
+CREATE OR REPLACE FUNCTION mirror_post_to_part() RETURNS trigger AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        DELETE FROM post_part WHERE id = OLD.id AND board_id = OLD.board_id;
+        RETURN OLD;
+    END IF;
+    IF TG_OP = ''UPDATE'' AND NEW.board_id IS DISTINCT FROM OLD.board_id THEN
+        DELETE FROM post_part WHERE id = OLD.id AND board_id = OLD.board_id;
+    END IF;
+    INSERT INTO post_part (id, board_id, title, content, author, view_count, file_path, is_hidden, version, created_at, updated_at)
+    VALUES (NEW.id, NEW.board_id, NEW.title, NEW.content, NEW.author, NEW.view_count, NEW.file_path, NEW.is_hidden,
+            NEW.version, NEW.created_at, NEW.updated_at)
+    ON CONFLICT (id, board_id) DO UPDATE SET
+        title = EXCLUDED.title, content = EXCLUDED.content, author = EXCLUDED.author,
+        view_count = EXCLUDED.view_count, file_path = EXCLUDED.file_path, is_hidden = EXCLUDED.is_hidden,
+        version = EXCLUDED.version, created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at;
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION mirror_qna_to_part() RETURNS trigger AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        DELETE FROM qna_part WHERE id = OLD.id AND company_id = OLD.company_id;
+        RETURN OLD;
+    END IF;
+    IF TG_OP = ''UPDATE'' AND NEW.company_id IS DISTINCT FROM OLD.company_id THEN
+        DELETE FROM qna_part WHERE id = OLD.id AND company_id = OLD.company_id;
+    END IF;
+    INSERT INTO qna_part (id, company_id, question_title, question_body, asker_email, answer_body, answerer_id,
+                          is_answered, is_hidden, version, created_at, answered_at)
+    VALUES (NEW.id, NEW.company_id, NEW.question_title, NEW.question_body, NEW.asker_email, NEW.answer_body,
+            NEW.answerer_id, NEW.is_answered, NEW.is_hidden, NEW.version, NEW.created_at, NEW.answered_at)
+    ON CONFLICT (id, company_id) DO UPDATE SET
+        question_title = EXCLUDED.question_title, question_body = EXCLUDED.question_body,
+        asker_email = EXCLUDED.asker_email, answer_body = EXCLUDED.answer_body, answerer_id = EXCLUDED.answerer_id,
+        is_answered = EXCLUDED.is_answered, is_hidden = EXCLUDED.is_hidden, version = EXCLUDED.version,
+        created_at = EXCLUDED.created_at, answered_at = EXCLUDED.answered_at;
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_post_mirror ON post;
+CREATE TRIGGER trg_post_mirror AFTER INSERT OR UPDATE OR DELETE ON post
+    FOR EACH ROW EXECUTE FUNCTION mirror_post_to_part();
+
+DROP TRIGGER IF EXISTS trg_qna_mirror ON qna;
+CREATE TRIGGER trg_qna_mirror AFTER INSERT OR UPDATE OR DELETE ON qna
+    FOR EACH ROW EXECUTE FUNCTION mirror_qna_to_part();
+
+-- 4. 백필 프로시저 (ID 구간마다 커밋, 트리거 설치 이후의 변경은 트리거가 반영)
+-- FOR KEY SHARE: 복사 중인 행의 동시 삭제를 커밋까지 대기시켜 삭제된 행이 되살아나지 않게 함 (조회수 증가 등 일반 수정은 대기 없음)
+CREATE OR REPLACE PROCEDURE partition_backfill_post(batch_size INTEGER DEFAULT 5000, start_after BIGINT DEFAULT 0) AS '
+DECLARE
+    last_id BIGINT := start_after;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM post;
+    WHILE last_id < max_id LOOP
+        INSERT INTO post_part (id, board_id, title, content, author, view_count, file_path, is_hidden, version, created_at, updated_at)
+        SELECT id, board_id, title, content, author, view_count, file_path, is_hidden, version, created_at, updated_at
+        FROM post
+        WHERE id > last_id AND id <= last_id + batch_size
+        FOR KEY SHARE
+        ON CONFLICT (id, board_id) DO NOTHING;
+        last_id := last_id + batch_size;
+        COMMIT;
+        RAISE NOTICE ''post 백필: id <= % / %'', last_id, max_id;
+    END LOOP;
+END;
+' LANGUAGE plpgsql;
+
+CREATE OR REPLACE PROCEDURE partition_backfill_qna(batch_size INTEGER DEFAULT 5000, start_after BIGINT DEFAULT 0) AS '
+DECLARE
+    last_id BIGINT := start_after;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM qna;
+    WHILE last_id < max_id LOOP
+        INSERT INTO qna_part (id, company_id, question_title, question_body, asker_email, answer_body, answerer_id,
+                              is_answered, is_hidden, version, created_at, answered_at)
+        SELECT id, company_id, question_title, question_body, asker_email, answer_body, answerer_id,
+               is_answered, is_hidden, version, created_at, answered_at
+        FROM qna
+        WHERE id > last_id AND id <= last_id + batch_size
+        FOR KEY SHARE
+        ON CONFLICT (id, company_id) DO NOTHING;
+        last_id := last_id + batch_size;
+        COMMIT;
+        RAISE NOTICE ''qna 백필: id <= % / %'', last_id, max_id;
+    END LOOP;
+END;
+' LANGUAGE plpgsql;
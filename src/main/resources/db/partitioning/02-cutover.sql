@@ -0,0 +1,73 @@
+-- post/qna 해시 파티셔닝 온라인 전환 2단계: 전환 (01-prepare.sql 적용과 백필 완료 후 실행)
+--
+-- 배타 잠금은 행 수 확인과 이름 변경 동안만 유지됩니다. (그동안 게시글/QnA 요청은 대기)
+-- 행 수가 다르면 예외로 전체 롤백되므로 백필을 다시 실행한 뒤 재시도합니다.
+--
+-- 전환 후 변경 사항
+-- - post_popularity.post_id 외래 키 제거: 파티션 테이블은 (id, board_id)로만 참조할 수 있음
+--   삭제된 게시글의 점수 행은 인기 게시글 조회(JOIN post)에서 제외되고 감쇠되어 최소 점수 미만이 되면 체크포인트에서 정리됨
+-- - qna_notification_outbox는 (qna_id, company_id)로 qna를 참조 (ON DELETE CASCADE 유지)
+-- - 기존 테이블은 post_legacy/qna_legacy로 남음 (전환 후 쓰기는 반영되지 않으므로 확인 후 DROP TABLE)
+
+BEGIN;
+
+LOCK TABLE post, qna IN ACCESS EXCLUSIVE MODE;
+
+DO '
+BEGIN
+    IF (SELECT COUNT(*) FROM post) <> (SELECT COUNT(*) FROM post_part) THEN
+        RAISE EXCEPTION ''post 행 수 불일치 - 백필 후 다시 실행'';
+    END IF;
+    IF (SELECT COUNT(*) FROM qna) <> (SELECT COUNT(*) FROM qna_part) THEN
+        RAISE EXCEPTION ''qna 행 수 불일치 - 백필 후 다시 실행'';
+    END IF;
+END;
+';
+
+DROP TRIGGER IF EXISTS trg_post_mirror ON post;
+DROP TRIGGER IF EXISTS trg_qna_mirror ON qna;
+DROP TRIGGER IF EXISTS trg_qna_notify ON qna;
+
+ALTER TABLE post_popularity DROP CONSTRAINT IF EXISTS post_popularity_post_id_fkey;
+ALTER TABLE qna_notification_outbox DROP CONSTRAINT IF EXISTS qna_notification_outbox_qna_id_fkey;
+
+ALTER TABLE post RENAME TO post_legacy;
+ALTER TABLE post_part RENAME TO post;
+ALTER TABLE qna RENAME TO qna_legacy;
+ALTER TABLE qna_part RENAME TO qna;
+
+-- 기존 테이블을 삭제해도 ID 시퀀스가 함께 삭제되지 않도록 소유 테이블 변경
+ALTER SEQUENCE post_id_seq OWNED BY post.id;
+ALTER SEQUENCE qna_id_seq OWNED BY qna.id;
+
+-- 인덱스 이름 교체 (schema.sql을 다시 적용해도 같은 인덱스를 중복 생성하지 않도록)
+DO '
+DECLARE
+    r RECORD;
+BEGIN
+    FOR r IN SELECT indexname FROM pg_indexes
+             WHERE tablename IN (''post_legacy'', ''qna_legacy'') AND indexname LIKE ''idx\_%'' LOOP
+        EXECUTE format(''ALTER INDEX %I RENAME TO %I'', r.indexname, r.indexname || ''_legacy'');
+    END LOOP;
+    FOR r IN SELECT indexname FROM pg_indexes
+             WHERE tablename IN (''post'', ''qna'') AND indexname LIKE ''idx\_%\_part'' LOOP
+        EXECUTE format(''ALTER INDEX %I RENAME TO %I'', r.indexname, left(r.indexname, -5));
+    END LOOP;
+END;
+';
+
+CREATE TRIGGER trg_qna_notify AFTER INSERT OR UPDATE ON qna
+    FOR EACH ROW EXECUTE FUNCTION notify_qna_event();
+
+-- 기존 행 검증은 잠금 해제 후 수행 (NOT VALID)
+ALTER TABLE qna_notification_outbox ADD CONSTRAINT qna_notification_outbox_qna_fkey
+    FOREIGN KEY (qna_id, company_id) REFERENCES qna(id, company_id) ON DELETE CASCADE NOT VALID;
+
+COMMIT;
+
+ALTER TABLE qna_notification_outbox VALIDATE CONSTRAINT qna_notification_outbox_qna_fkey;
+
+DROP PROCEDURE IF EXISTS partition_backfill_post(INTEGER, BIGINT);
+DROP PROCEDURE IF EXISTS partition_backfill_qna(INTEGER, BIGINT);
+DROP FUNCTION IF EXISTS mirror_post_to_part();
+DROP FUNCTION IF EXISTS mirror_qna_to_part();
@@ -41,6 +41,17 @@ CREATE INDEX IF NOT EXISTS idx_admin_username ON admin(username);
 CREATE INDEX IF NOT EXISTS idx_admin_company_id ON admin(company_id);
 CREATE INDEX IF NOT EXISTS idx_admin_role ON admin(role);
 
+-- 2-1. Revoked token table (로그아웃/유출로 폐기된 관리자 JWT, 토큰 만료 후 삭제)
+CREATE TABLE IF NOT EXISTS revoked_token (
+    jti VARCHAR(64) PRIMARY KEY,
+    admin_id BIGINT,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON revoked_token(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token(expires_at);
+
 -- 3. Board table
 CREATE TABLE IF NOT EXISTS board (
     id BIGSERIAL PRIMARY KEY,
@@ -64,15 +75,35 @@ CREATE TABLE IF NOT EXISTS post (
     view_count INTEGER DEFAULT 0,
     file_path VARCHAR(500),
     is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT NOW(),
     updated_at TIMESTAMP DEFAULT NOW()
 );
 
-CREATE INDEX IF NOT EXISTS idx_post_board_id ON post(board_id);
+-- 관리자 수정 낙관적 잠금 (기존 DB에 컬럼 추가)
+ALTER TABLE post ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- board_id 단독 인덱스는 아래 복합 인덱스들의 앞부분과 같아 제거 (쓰기마다 갱신 비용만 발생)
+DROP INDEX IF EXISTS idx_post_board_id;
 CREATE INDEX IF NOT EXISTS idx_post_created_at ON post(created_at DESC);
-CREATE INDEX IF NOT EXISTS idx_post_view_count ON post(view_count DESC);
+-- view_count 정렬 인덱스는 사용처가 없고 조회수 증가 UPDATE마다 갱신 비용(HOT 업데이트 불가)이 발생하여 제거
+-- 인기 게시글은 post_popularity(감쇠 점수)로 제공
+DROP INDEX IF EXISTS idx_post_view_count;
 CREATE INDEX IF NOT EXISTS idx_post_is_hidden ON post(is_hidden);
+-- 공개 목록/개수 (숨김 제외): is_hidden까지 인덱스로 걸러 개수 조회가 index-only scan으로 끝남
 CREATE INDEX IF NOT EXISTS idx_post_board_visible ON post(board_id, is_hidden, created_at DESC);
+-- 관리자 게시글 목록 (숨김 포함, 최신순): 위 인덱스는 is_hidden 조건 없이는 created_at 순서를 줄 수 없어 별도 유지
+CREATE INDEX IF NOT EXISTS idx_post_board_created ON post(board_id, created_at DESC);
+
+-- 4-1. Post popularity table (인기 게시글 감쇠 점수 체크포인트)
+CREATE TABLE IF NOT EXISTS post_popularity (
+    post_id BIGINT PRIMARY KEY REFERENCES post(id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    scored_at TIMESTAMP NOT NULL
+);
+
+-- 노드별 체크포인트를 감쇠 합산하고 감쇠 점수로 정리하므로 scored_at 단독 조회 없음
+DROP INDEX IF EXISTS idx_post_popularity_scored_at;
 
 -- 5. FAQ table
 CREATE TABLE IF NOT EXISTS faq (
@@ -86,10 +117,14 @@ CREATE TABLE IF NOT EXISTS faq (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
-CREATE INDEX IF NOT EXISTS idx_faq_company_id ON faq(company_id);
+-- company_id 단독 인덱스는 복합 인덱스(company_id, ...)의 앞부분과 같아 제거 (기업 삭제 시 FK 확인도 복합 인덱스 사용)
+DROP INDEX IF EXISTS idx_faq_company_id;
 CREATE INDEX IF NOT EXISTS idx_faq_display_order ON faq(display_order ASC);
 CREATE INDEX IF NOT EXISTS idx_faq_is_hidden ON faq(is_hidden);
 CREATE INDEX IF NOT EXISTS idx_faq_company_visible_order ON faq(company_id, is_hidden, display_order ASC);
+CREATE INDEX IF NOT EXISTS idx_faq_company_category_visible_order ON faq(company_id, category, is_hidden, display_order ASC);
+-- 관리자 FAQ 목록 (숨김 포함, 표시 순서): is_hidden 조건 없이 display_order 순서를 주는 인덱스
+CREATE INDEX IF NOT EXISTS idx_faq_company_order ON faq(company_id, display_order ASC);
 
 -- 6. QnA table
 CREATE TABLE IF NOT EXISTS qna (
@@ -102,15 +137,69 @@ CREATE TABLE IF NOT EXISTS qna (
     answerer_id BIGINT REFERENCES admin(id) ON DELETE SET NULL,
     is_answered BOOLEAN DEFAULT FALSE,
     is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT NOW(),
     answered_at TIMESTAMP
 );
 
-CREATE INDEX IF NOT EXISTS idx_qna_company_id ON qna(company_id);
+-- 관리자 수정 낙관적 잠금 (기존 DB에 컬럼 추가)
+ALTER TABLE qna ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- company_id 단독 인덱스는 복합 인덱스(company_id, ...)의 앞부분과 같아 제거
+DROP INDEX IF EXISTS idx_qna_company_id;
 CREATE INDEX IF NOT EXISTS idx_qna_is_answered ON qna(is_answered);
 CREATE INDEX IF NOT EXISTS idx_qna_created_at ON qna(created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_qna_asker_email ON qna(asker_email);
 CREATE INDEX IF NOT EXISTS idx_qna_company_visible ON qna(company_id, is_hidden, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_qna_company_answered ON qna(company_id, is_answered, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_qna_company_created ON qna(company_id, created_at DESC);
+
+-- 6-1. QnA notification outbox table (질문 등록/답변 알림 메일 발송 대기열, QnA 저장과 같은 트랜잭션에서 기록)
+CREATE TABLE IF NOT EXISTS qna_notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    company_id BIGINT NOT NULL REFERENCES company(id) ON DELETE CASCADE,
+    qna_id BIGINT NOT NULL REFERENCES qna(id) ON DELETE CASCADE,
+    event_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT NOW(),
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_qna_notification_outbox_due ON qna_notification_outbox(status, next_attempt_at);
+
+-- 6-2. QnA change notification trigger (관리자 실시간 QnA 알림, LISTEN qna_events)
+-- 채널명 qna_events는 QnaEventStream.CHANNEL과 같아야 함 (설정으로 바꿀 수 없음)
+-- 함수 본문은 스크립트 분리(;) 처리를 위해 작은따옴표 문자열로 작성
+CREATE OR REPLACE FUNCTION notify_qna_event() RETURNS trigger AS '
+BEGIN
+    IF TG_OP = ''UPDATE''
+            AND NEW.is_answered IS NOT DISTINCT FROM OLD.is_answered
+            AND NEW.is_hidden IS NOT DISTINCT FROM OLD.is_hidden
+            AND NEW.answer_body IS NOT DISTINCT FROM OLD.answer_body THEN
+        RETURN NEW;
+    END IF;
+    PERFORM pg_notify(''qna_events'', json_build_object(
+        ''type'', CASE WHEN TG_OP = ''INSERT'' THEN ''question-created'' ELSE ''question-updated'' END,
+        ''id'', NEW.id,
+        ''companyId'', NEW.company_id,
+        ''title'', left(NEW.question_title, 100),
+        ''answered'', COALESCE(NEW.is_answered, FALSE),
+        ''hidden'', COALESCE(NEW.is_hidden, FALSE),
+        ''unansweredDelta'', CASE
+            WHEN TG_OP = ''INSERT'' THEN CASE WHEN COALESCE(NEW.is_answered, FALSE) THEN 0 ELSE 1 END
+            WHEN COALESCE(OLD.is_answered, FALSE) = COALESCE(NEW.is_answered, FALSE) THEN 0
+            WHEN COALESCE(NEW.is_answered, FALSE) THEN -1
+            ELSE 1 END)::text);
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_qna_notify ON qna;
+CREATE TRIGGER trg_qna_notify AFTER INSERT OR UPDATE ON qna
+    FOR EACH ROW EXECUTE FUNCTION notify_qna_event();
 
 -- 7. YouTube Video table
 CREATE TABLE IF NOT EXISTS youtube_video (
@@ -125,10 +214,20 @@ CREATE TABLE IF NOT EXISTS youtube_video (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
-CREATE INDEX IF NOT EXISTS idx_youtube_company_id ON youtube_video(company_id);
+-- 영상 ID/embed URL 저장 시점 계산 (기존 DB에 컬럼 추가, 기존 행은 YoutubeMetadataBackfill이 채움)
+ALTER TABLE youtube_video ADD COLUMN IF NOT EXISTS video_id VARCHAR(20);
+ALTER TABLE youtube_video ADD COLUMN IF NOT EXISTS embed_url VARCHAR(100);
+-- 상세 페이지 ETag/Last-Modified 및 사이트맵 lastmod 기준
+ALTER TABLE youtube_video ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT NOW();
+
+-- company_id 단독 인덱스는 복합 인덱스(company_id, ...)의 앞부분과 같아 제거
+DROP INDEX IF EXISTS idx_youtube_company_id;
 CREATE INDEX IF NOT EXISTS idx_youtube_display_order ON youtube_video(display_order ASC);
 CREATE INDEX IF NOT EXISTS idx_youtube_is_hidden ON youtube_video(is_hidden);
 CREATE INDEX IF NOT EXISTS idx_youtube_company_visible_order ON youtube_video(company_id, is_hidden, display_order ASC);
+CREATE INDEX IF NOT EXISTS idx_youtube_company_order ON youtube_video(company_id, display_order ASC);
+-- 메타데이터 일괄 채우기 대상 (채우기가 끝나면 빈 인덱스)
+CREATE INDEX IF NOT EXISTS idx_youtube_missing_video_id ON youtube_video(id) WHERE video_id IS NULL;
 
 -- 8. Product table
 CREATE TABLE IF NOT EXISTS product (
@@ -145,8 +244,11 @@ CREATE TABLE IF NOT EXISTS product (
     updated_at TIMESTAMP DEFAULT NOW()
 );
 
-CREATE INDEX IF NOT EXISTS idx_product_company_id ON product(company_id);
+-- company_id 단독 인덱스는 복합 인덱스(company_id, ...)의 앞부분과 같아 제거
+DROP INDEX IF EXISTS idx_product_company_id;
 CREATE INDEX IF NOT EXISTS idx_product_category ON product(category);
 CREATE INDEX IF NOT EXISTS idx_product_display_order ON product(display_order ASC);
 CREATE INDEX IF NOT EXISTS idx_product_is_hidden ON product(is_hidden);
 CREATE INDEX IF NOT EXISTS idx_product_company_visible_order ON product(company_id, is_hidden, display_order ASC);
+CREATE INDEX IF NOT EXISTS idx_product_company_category_visible_order ON product(company_id, category, is_hidden, display_order ASC);
+CREATE INDEX IF NOT EXISTS idx_product_company_order ON product(company_id, display_order ASC);
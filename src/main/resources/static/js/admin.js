@@ -9,6 +9,9 @@ document.addEventListener('DOMContentLoaded', function() {
 
     // 폼 제출 시 버튼 비활성화 (중복 제출 방지)
     preventDoubleSubmit();
+
+    // QnA 실시간 알림 (대시보드, QnA 목록)
+    subscribeQnaEvents();
 });
 
 /**
@@ -44,6 +47,56 @@ function preventDoubleSubmit() {
     });
 }
 
+/**
+ * QnA 실시간 알림 구독 (Server-Sent Events)
+ * 미답변 개수와 목록의 답변 상태를 갱신하고, 새 질문이 오면 안내 배너를 표시
+ * (연결이 끊기면 EventSource가 자동 재연결)
+ */
+function subscribeQnaEvents() {
+    if (!document.querySelector('[data-qna-events]') || !window.EventSource) {
+        return;
+    }
+
+    const source = new EventSource('/admin/qnas/events');
+    const unansweredCount = document.getElementById('unanswered-qna-count');
+    const banner = document.getElementById('qna-live-banner');
+    let newQuestions = 0;
+
+    function applyDelta(data) {
+        if (unansweredCount && data.unansweredDelta) {
+            const current = parseInt(unansweredCount.textContent, 10) || 0;
+            unansweredCount.textContent = Math.max(0, current + data.unansweredDelta);
+        }
+    }
+
+    source.addEventListener('question-created', function(e) {
+        const data = JSON.parse(e.data);
+        applyDelta(data);
+
+        if (banner) {
+            newQuestions++;
+            banner.querySelector('.qna-live-count').textContent = newQuestions;
+            banner.hidden = false;
+        }
+    });
+
+    source.addEventListener('question-updated', function(e) {
+        const data = JSON.parse(e.data);
+        applyDelta(data);
+
+        const badge = document.querySelector('tr[data-qna-id="' + data.id + '"] .qna-answer-badge');
+        if (badge) {
+            badge.textContent = data.answered ? '답변완료' : '답변대기';
+            badge.classList.toggle('badge-success', data.answered);
+            badge.classList.toggle('badge-warning', !data.answered);
+        }
+    });
+
+    window.addEventListener('beforeunload', function() {
+        source.close();
+    });
+}
+
 /**
  * 삭제 확인 대화상자
  */
@@ -0,0 +1,187 @@
+package com.nalsil.bear.cache;
+
+import com.nalsil.bear.config.CacheProperties;
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.support.TestCacheManagers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TieredCache 단위 테스트
+ * L1/L2 조회 순서, 요청 병합, 유예 기간 응답, 메트릭 검증
+ */
+class TieredCacheTest {
+
+    private final Company company = Company.builder().id(1L).code("company-a").name("테크솔루션").isActive(true).build();
+
+    private Mono<Company> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return Mono.just(company);
+    }
+
+    private double gets(SimpleMeterRegistry registry, String tier, String result) {
+        return registry.get("cache.gets").tag("cache", "company").tag("tier", tier).tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("L1 적중 - 두 번째 조회는 원본을 읽지 않음")
+    void testGet_L1Hit() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TieredCache<Company> cache = TestCacheManagers.create(new NoSharedCacheStore(), registry)
+                .getCache("company", Company.class);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        StepVerifier.create(cache.get("company-a", () -> load(loads))).expectNext(company).verifyComplete();
+        StepVerifier.create(cache.get("company-a", () -> load(loads))).expectNext(company).verifyComplete();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(gets(registry, "source", "miss")).isEqualTo(1);
+        assertThat(gets(registry, "l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 병합 - 같은 키의 동시 미스는 원본을 한 번만 읽음")
+    void testGet_CoalescesConcurrentMisses() {
+        // Given: 원본 조회가 끝나지 않은 상태에서 두 번째 조회
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TieredCache<Company> cache = TestCacheManagers.create(new NoSharedCacheStore(), registry)
+                .getCache("company", Company.class);
+        Sinks.One<Company> source = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<Company> first = cache.get("company-a", () -> {
+            loads.incrementAndGet();
+            return source.asMono();
+        });
+        Mono<Company> second = cache.get("company-a", () -> load(loads));
+
+        // When & Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> source.tryEmitValue(company))
+                .assertNext(pair -> {
+                    assertThat(pair.getT1()).isSameAs(company);
+                    assertThat(pair.getT2()).isSameAs(company);
+                })
+                .verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(registry.get("cache.coalesced").tag("cache", "company").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L2 적중 - L1이 비어 있는 다른 노드는 공유 저장소 값을 사용")
+    void testGet_L2HitOnColdNode() {
+        // Given: 두 노드가 같은 공유 저장소 사용
+        EmbeddedSharedCacheStore sharedStore = new EmbeddedSharedCacheStore(100);
+        TieredCache<Company> node1 = TestCacheManagers.create(sharedStore, new SimpleMeterRegistry())
+                .getCache("company", Company.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TieredCache<Company> node2 = TestCacheManagers.create(sharedStore, registry)
+                .getCache("company", Company.class);
+        AtomicInteger loads = new AtomicInteger();
+        StepVerifier.create(node1.get("company-a", () -> load(loads))).expectNextCount(1).verifyComplete();
+
+        // When & Then: 역직렬화된 값 (같은 내용, 다른 인스턴스)
+        StepVerifier.create(node2.get("company-a", () -> load(loads)))
+                .expectNext(company)
+                .verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(gets(registry, "l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 기간 - 기존 값으로 응답하고 백그라운드에서 갱신")
+    void testGet_StaleWhileRevalidate() throws InterruptedException {
+        // Given: 신선 기간 0, 유예 기간 5분
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region region = new CacheProperties.Region();
+        region.setTtl(Duration.ZERO);
+        properties.getRegions().put("company", region);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TieredCache<Company> cache = TestCacheManagers.create(properties, new NoSharedCacheStore(), registry)
+                .getCache("company", Company.class);
+        Company renamed = Company.builder().id(1L).code("company-a").name("새 이름").isActive(true).build();
+        StepVerifier.create(cache.get("company-a", () -> Mono.just(company))).expectNext(company).verifyComplete();
+        Thread.sleep(5);
+
+        // When & Then: 첫 조회는 기존 값, 갱신 후에는 새 값
+        StepVerifier.create(cache.get("company-a", () -> Mono.just(renamed))).expectNext(company).verifyComplete();
+        Thread.sleep(5);
+        StepVerifier.create(cache.get("company-a", () -> Mono.just(renamed))).expectNext(renamed).verifyComplete();
+        assertThat(gets(registry, "l1", "stale")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유예 기간 - 갱신 결과가 비어 있으면 L1/L2에서 삭제")
+    void testGet_StaleRevalidateEmptyEvicts() throws InterruptedException {
+        // Given: 신선 기간 0, 공유 저장소 사용
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region region = new CacheProperties.Region();
+        region.setTtl(Duration.ZERO);
+        properties.getRegions().put("company", region);
+        TieredCache<Company> cache = TestCacheManagers.create(properties, new EmbeddedSharedCacheStore(100),
+                new SimpleMeterRegistry()).getCache("company", Company.class);
+        StepVerifier.create(cache.get("company-a", () -> Mono.just(company))).expectNext(company).verifyComplete();
+        Thread.sleep(5);
+
+        // When: 원본에서 삭제된 뒤 유예 값으로 응답하고 백그라운드 갱신
+        StepVerifier.create(cache.get("company-a", Mono::<Company>empty)).expectNext(company).verifyComplete();
+        Thread.sleep(5);
+
+        // Then: 기존 값을 다시 내보내지 않고 원본 조회
+        AtomicInteger loads = new AtomicInteger();
+        StepVerifier.create(cache.get("company-a", () -> {
+            loads.incrementAndGet();
+            return Mono.<Company>empty();
+        })).verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 결과는 캐시하지 않음")
+    void testGet_EmptyNotCached() {
+        // Given
+        TieredCache<Company> cache = TestCacheManagers.l1Only().getCache("company", Company.class);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        StepVerifier.create(cache.get("unknown", () -> {
+            loads.incrementAndGet();
+            return Mono.<Company>empty();
+        })).verifyComplete();
+        StepVerifier.create(cache.get("unknown", () -> load(loads))).expectNext(company).verifyComplete();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 - L1과 L2에서 모두 제거")
+    void testEvict() {
+        // Given
+        EmbeddedSharedCacheStore sharedStore = new EmbeddedSharedCacheStore(100);
+        TieredCache<Company> cache = TestCacheManagers.create(sharedStore, new SimpleMeterRegistry())
+                .getCache("company", Company.class);
+        AtomicInteger loads = new AtomicInteger();
+        StepVerifier.create(cache.get("company-a", () -> load(loads))).expectNextCount(1).verifyComplete();
+
+        // When
+        StepVerifier.create(cache.evict("company-a")).verifyComplete();
+
+        // Then
+        StepVerifier.create(cache.get("company-a", () -> load(loads))).expectNextCount(1).verifyComplete();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,118 @@
+package com.nalsil.bear.controller.admin;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.dto.request.CreatePostRequest;
+import com.nalsil.bear.exception.UnauthorizedAccessException;
+import com.nalsil.bear.mapper.PostMapper;
+import com.nalsil.bear.service.AdminService;
+import com.nalsil.bear.service.BoardAccessAuthorizer;
+import com.nalsil.bear.service.BoardService;
+import com.nalsil.bear.service.CompanyService;
+import com.nalsil.bear.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdminBoardController 단위 테스트
+ * 게시글 작성 시 게시판 소속 확인 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminBoardControllerTest {
+
+    @Mock
+    private BoardService boardService;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private AdminService adminService;
+
+    @Mock
+    private BoardAccessAuthorizer boardAccessAuthorizer;
+
+    @Mock
+    private CompanyService companyService;
+
+    private AdminBoardController adminBoardController;
+
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        adminBoardController = new AdminBoardController(boardService, postService, adminService,
+                boardAccessAuthorizer, companyService, Mappers.getMapper(PostMapper.class));
+
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/admin/boards/1/posts"));
+        exchange.getAttributes().put("companyId", 1L);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 폼의 boardId가 경로와 달라도 경로의 게시판에 저장")
+    void testCreatePost_IgnoresBodyBoardId() {
+        // Given: 자기 게시판(1) 경로에 다른 기업 게시판(99)을 담은 요청
+        Board ownBoard = Board.builder().id(1L).companyId(1L).name("공지사항").type("notice").build();
+        CreatePostRequest request = CreatePostRequest.builder()
+                .boardId(99L)
+                .title("제목")
+                .content("내용")
+                .isHidden(false)
+                .build();
+
+        when(boardAccessAuthorizer.requireBoard(1L, 1L)).thenReturn(Mono.just(ownBoard));
+        when(postService.createPost(any(Post.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Mono<String> result = adminBoardController.createPost(1L, request, exchange);
+
+        // Then: 경로의 게시판으로 저장
+        StepVerifier.create(result)
+                .expectNext("redirect:/admin/boards/1/posts?success=created")
+                .verifyComplete();
+
+        ArgumentCaptor<Post> captor = ArgumentCaptor.forClass(Post.class);
+        verify(postService).createPost(captor.capture());
+        assertThat(captor.getValue().getBoardId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 다른 기업 게시판 경로면 저장하지 않음")
+    void testCreatePost_OtherCompanyBoard() {
+        // Given
+        CreatePostRequest request = CreatePostRequest.builder()
+                .boardId(99L)
+                .title("제목")
+                .content("내용")
+                .build();
+
+        when(boardAccessAuthorizer.requireBoard(1L, 99L))
+                .thenReturn(Mono.error(UnauthorizedAccessException.forResource("게시판", 99L)));
+
+        // When
+        Mono<String> result = adminBoardController.createPost(99L, request, exchange);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext("redirect:/admin/dashboard?error=access_denied")
+                .verifyComplete();
+
+        verify(postService, never()).createPost(any(Post.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.nalsil.bear.controller.admin;
+
+import com.nalsil.bear.domain.admin.Admin;
+import com.nalsil.bear.domain.admin.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 로그인 서버 테스트
+ *
+ * 실제 Netty 서버(RANDOM_PORT)에 HTTP로 요청하므로 요청 처리와 R2DBC 조회가 이벤트 루프 스레드에서 실행됩니다.
+ * ./gradlew blockHoundTest로 실행하면 로그인(BCrypt 검증, JWT 발급)과 로그아웃(토큰 폐기) 경로에서
+ * 이벤트 루프를 막는 호출이 있을 때 오류 응답이 되어 실패합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AdminLoginServerTest {
+
+    private static final String USERNAME = "server-test-admin";
+    private static final String PASSWORD = "server-test-password";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        adminRepository.findByUsername(USERNAME)
+                .switchIfEmpty(adminRepository.save(Admin.builder()
+                        .username(USERNAME)
+                        .passwordHash(passwordEncoder.encode(PASSWORD))
+                        .name("서버 테스트 관리자")
+                        .email("server-test@example.com")
+                        .role("ADMIN")
+                        .companyId(1L)
+                        .build()))
+                .block();
+    }
+
+    @Test
+    @DisplayName("로그인 후 로그아웃 - 이벤트 루프에서 인증, 토큰 발급, 토큰 폐기까지 처리")
+    void testLoginAndLogout() {
+        // When: 로그인
+        ResponseCookie token = webTestClient.post().uri("/admin/login")
+                .body(BodyInserters.fromFormData("username", USERNAME).with("password", PASSWORD))
+                .exchange()
+                // Then: 대시보드로 리다이렉트하고 JWT 쿠키 발급
+                .expectStatus().is3xxRedirection()
+                .expectHeader().valueEquals("Location", "/admin/dashboard")
+                .returnResult(Void.class)
+                .getResponseCookies()
+                .getFirst("JWT-TOKEN");
+        assertThat(token).isNotNull();
+        assertThat(token.getValue()).isNotBlank();
+
+        // When & Then: 로그아웃 (토큰 폐기 후 로그인 페이지로 리다이렉트)
+        webTestClient.get().uri("/admin/logout")
+                .cookie("JWT-TOKEN", token.getValue())
+                .exchange()
+                .expectStatus().is3xxRedirection()
+                .expectHeader().valueEquals("Location", "/admin/login?logout");
+    }
+}
@@ -2,11 +2,13 @@ package com.nalsil.bear.repository;
 
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.company.SitemapEntry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -149,4 +151,42 @@ class CompanyRepositoryTest {
                 )
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("사이트맵 요약 조회 - 공개 게시글 포함")
+    void testFindSitemapStats_Success() {
+        // Given: company-a(ID 1) 공지사항 게시판에 공개 게시글 3개 (data.sql)
+
+        // When: 사이트맵 요약 조회
+        StepVerifier.create(companyRepository.findSitemapStats(1L))
+                // Then: 개수, 최종 수정 시각, ID 합계가 집계됨
+                .expectNextMatches(stats ->
+                        stats.count() >= 3 &&
+                        stats.lastModified() != null &&
+                        stats.idSum() > 0
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("사이트맵 항목 조회 - 분할 범위만큼 ID 순으로 조회")
+    void testFindSitemapEntries_Paged() {
+        // Given: company-a 공개 게시글 (data.sql)
+        Flux<SitemapEntry> firstTwo = companyRepository.findSitemapEntries(1L, 0, 2);
+
+        // When: 두 번째 항목부터 1개 조회
+        Mono<SitemapEntry> second = companyRepository.findSitemapEntries(1L, 1, 1).single();
+
+        // Then: 게시글 항목이 게시판 타입, 수정 시각과 함께 조회되고 분할 범위가 이어짐
+        StepVerifier.create(firstTwo.collectList().zipWith(second))
+                .expectNextMatches(tuple ->
+                        tuple.getT1().size() == 2 &&
+                        tuple.getT1().stream().allMatch(entry ->
+                                SitemapEntry.POST.equals(entry.kind()) &&
+                                entry.boardType() != null &&
+                                entry.lastModified() != null) &&
+                        tuple.getT1().get(1).id().equals(tuple.getT2().id())
+                )
+                .verifyComplete();
+    }
 }
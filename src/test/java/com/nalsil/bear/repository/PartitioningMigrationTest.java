@@ -0,0 +1,312 @@
+package com.nalsil.bear.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nalsil.bear.support.LargeTenantDataset;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.nalsil.bear.support.LargeTenantDataset.BOARD_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.COMPANY_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.POST_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.QNA_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * post/qna 해시 파티셔닝 전환 테스트 + 전후 지연 시간 비교
+ *
+ * 대량 데이터(LargeTenantDataset)에 db/partitioning 스크립트를 운영 절차대로 적용합니다.
+ * (01-prepare.sql → CALL 백필 + 다른 연결에서 동시 쓰기 → 02-cutover.sql)
+ * - 백필이 진행 중인 구간의 행을 다른 트랜잭션이 삭제/수정하고 있으면 백필이 그 커밋을 기다려,
+ *   삭제된 행이 되살아나거나 수정 전 값으로 덮이지 않는지 (FOR KEY SHARE, ON CONFLICT DO NOTHING)
+ * - 백필이 이미 복사한 구간과 아직 복사하지 않은 구간의 등록/수정/삭제가 미러링 트리거로 반영되고 행 수가 기존 테이블과 같은지
+ * - 리포지토리의 목록/단건 쿼리가 파티션 하나만 읽는지 (파티션 제거)
+ * - 전환 후 schema.sql을 다시 적용해도 오류나 중복 인덱스가 없는지
+ * 목록/상세 쿼리의 전후 지연 시간(p50/p95)은 build/reports/query-plans/partitioning-benchmark.txt에 남깁니다.
+ *
+ * Docker가 필요하며 ./gradlew queryPlanTest로 실행합니다. (Docker가 없으면 건너뜀)
+ */
+@Tag("query-plan")
+@Testcontainers(disabledWithoutDocker = true)
+class PartitioningMigrationTest {
+
+    private static final int WARMUP_RUNS = 50;
+    private static final int MEASURED_RUNS = 300;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 백필 구간 크기 (게시글 20만 건을 200번에 나눠 커밋)
+     */
+    private static final int BACKFILL_BATCH = 1000;
+
+    /**
+     * 백필이 대기하게 될 구간의 게시글 (다른 트랜잭션이 삭제, 수정 중)
+     */
+    private static final long CONTENDED_DELETE_ID = 100_000;
+    private static final long CONTENDED_UPDATE_ID = 100_001;
+
+    /**
+     * 백필이 이미 복사한 구간 / 아직 복사하지 않은 구간의 게시글
+     */
+    private static final long COPIED_UPDATE_ID = 10;
+    private static final long COPIED_DELETE_ID = 20;
+    private static final long PENDING_UPDATE_ID = 190_000;
+    private static final long PENDING_DELETE_ID = 190_001;
+
+    /**
+     * 지연 시간 비교 쿼리 (리포지토리 메서드와 같은 형태)
+     */
+    private static final Map<String, String> BENCHMARK_QUERIES = new LinkedHashMap<>();
+
+    static {
+        BENCHMARK_QUERIES.put("게시글 목록 (PostRepository#findByBoardIdAndIsHiddenOrderByCreatedAtDesc)",
+                "SELECT post.* FROM post WHERE post.board_id = " + BOARD_ID
+                        + " AND (post.is_hidden = FALSE) ORDER BY post.created_at DESC LIMIT 10 OFFSET 0");
+        BENCHMARK_QUERIES.put("게시글 상세 (PostRepository#findByIdAndBoardIdAndIsHidden)",
+                "SELECT post.* FROM post WHERE post.id = " + POST_ID + " AND (post.board_id = " + BOARD_ID
+                        + ") AND (post.is_hidden = FALSE)");
+        BENCHMARK_QUERIES.put("QnA 목록 (QnaRepository#findByCompanyIdAndIsHiddenOrderByCreatedAtDesc)",
+                "SELECT qna.* FROM qna WHERE qna.company_id = " + COMPANY_ID
+                        + " AND (qna.is_hidden = FALSE) ORDER BY qna.created_at DESC LIMIT 10 OFFSET 0");
+        BENCHMARK_QUERIES.put("QnA 상세 (QnaRepository#findByIdAndCompanyId)",
+                "SELECT qna.* FROM qna WHERE qna.id = " + QNA_ID + " AND (qna.company_id = " + COMPANY_ID + ")");
+    }
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = connect();
+        LargeTenantDataset.load(connection);
+    }
+
+    private static Connection connect() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        // 스크립트를 psql과 같이 한 번에 보내기 위해 단순 질의 프로토콜 사용 (BEGIN/COMMIT, DO 블록 포함)
+        properties.setProperty("preferQueryMode", "simple");
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("운영 절차대로 전환하면 백필과 동시에 일어난 변경까지 반영되고 리포지토리 쿼리가 파티션 하나만 읽음")
+    void testOnlineMigrationPrunesPartitions() throws Exception {
+        // Given: 전환 전 지연 시간 측정
+        Map<String, long[]> before = benchmark();
+        execute(script("01-prepare.sql"));
+
+        long[] updatedIds = {CONTENDED_UPDATE_ID, COPIED_UPDATE_ID, PENDING_UPDATE_ID};
+        Map<Long, Long> viewCounts = new LinkedHashMap<>();
+        for (long id : updatedIds) {
+            viewCounts.put(id, queryLong("SELECT view_count FROM post WHERE id = " + id));
+        }
+
+        // When: 다른 트랜잭션이 백필 전에 가운데 구간의 게시글을 삭제/수정 중 (커밋 전)
+        long insertedPostId;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection holder = connect(); Connection writer = connect()) {
+            holder.setAutoCommit(false);
+            execute(holder, "DELETE FROM post WHERE id = " + CONTENDED_DELETE_ID);
+            execute(holder, "UPDATE post SET view_count = view_count + 1 WHERE id = " + CONTENDED_UPDATE_ID);
+
+            Future<?> backfill = executor.submit(() -> {
+                execute("CALL partition_backfill_post(" + BACKFILL_BATCH + ")");
+                return null;
+            });
+            awaitBackfillBlocked(writer);
+
+            // 백필이 가운데 구간에서 대기하는 동안 복사된 구간/남은 구간/새 게시글 변경
+            execute(writer, "UPDATE post SET view_count = view_count + 1 WHERE id = " + COPIED_UPDATE_ID);
+            execute(writer, "DELETE FROM post WHERE id = " + COPIED_DELETE_ID);
+            execute(writer, "UPDATE post SET view_count = view_count + 1 WHERE id = " + PENDING_UPDATE_ID);
+            execute(writer, "DELETE FROM post WHERE id = " + PENDING_DELETE_ID);
+            insertedPostId = queryLong(writer, "INSERT INTO post (board_id, title, content, author) "
+                    + "VALUES (" + BOARD_ID + ", '백필 중 등록', '내용', '작성자') RETURNING id");
+            assertThat(backfill.isDone()).as("쓰기가 백필 도중에 실행됨").isFalse();
+
+            holder.commit();
+            backfill.get(5, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        execute("UPDATE qna SET is_hidden = TRUE WHERE id = " + QNA_ID + " AND company_id = " + COMPANY_ID);
+        execute("CALL partition_backfill_qna(" + BACKFILL_BATCH + ")");
+        execute(script("02-cutover.sql"));
+        execute("ANALYZE post; ANALYZE qna");
+
+        Map<String, long[]> after = benchmark();
+        writeReport(before, after);
+
+        // Then: 파티션 테이블로 전환, 행 수와 백필 중 변경 일치
+        assertThat(queryLong("SELECT COUNT(*) FROM pg_class WHERE relname IN ('post', 'qna') AND relkind = 'p'"))
+                .isEqualTo(2);
+        assertThat(queryLong("SELECT COUNT(*) FROM post")).isEqualTo(queryLong("SELECT COUNT(*) FROM post_legacy"));
+        assertThat(queryLong("SELECT COUNT(*) FROM qna")).isEqualTo(queryLong("SELECT COUNT(*) FROM qna_legacy"));
+        for (long id : updatedIds) {
+            assertThat(queryLong("SELECT view_count FROM post WHERE id = " + id)).as("post %d", id)
+                    .isEqualTo(viewCounts.get(id) + 1);
+        }
+        for (long id : new long[]{CONTENDED_DELETE_ID, COPIED_DELETE_ID, PENDING_DELETE_ID}) {
+            assertThat(queryLong("SELECT COUNT(*) FROM post WHERE id = " + id)).as("post %d", id).isZero();
+        }
+        assertThat(queryLong("SELECT COUNT(*) FROM post WHERE id = " + insertedPostId)).isEqualTo(1);
+        assertThat(queryLong("SELECT COUNT(*) FROM qna WHERE id = " + QNA_ID + " AND is_hidden")).isEqualTo(1);
+
+        // Then: ID 시퀀스 유지, QnA 알림 트리거 이전
+        assertThat(queryLong("INSERT INTO post (board_id, title, content, author) "
+                + "VALUES (" + BOARD_ID + ", '전환 후 등록', '내용', '작성자') RETURNING id")).isGreaterThan(insertedPostId);
+        assertThat(queryLong("SELECT COUNT(*) FROM pg_trigger WHERE tgname = 'trg_qna_notify' AND tgrelid = 'qna'::regclass"))
+                .isEqualTo(1);
+
+        // Then: 리포지토리 쿼리는 파티션 하나만 읽음
+        for (String sql : BENCHMARK_QUERIES.values()) {
+            assertThat(scannedPartitions(sql)).as(sql).hasSize(1);
+        }
+        assertThat(scannedPartitions("SELECT post.* FROM post WHERE post.id = " + POST_ID)).hasSize(16);
+
+        // Then: schema.sql 재적용 시 오류와 중복 인덱스 없음
+        long indexCount = queryLong("SELECT COUNT(*) FROM pg_indexes WHERE tablename IN ('post', 'qna')");
+        execute(Files.readString(Path.of("src/main/resources/schema.sql")));
+        assertThat(queryLong("SELECT COUNT(*) FROM pg_indexes WHERE tablename IN ('post', 'qna')")).isEqualTo(indexCount);
+    }
+
+    /**
+     * 백필 프로시저가 다른 트랜잭션의 행 잠금을 기다릴 때까지 대기
+     */
+    private static void awaitBackfillBlocked(Connection observer) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (queryLong(observer, "SELECT COUNT(*) FROM pg_stat_activity "
+                + "WHERE wait_event_type = 'Lock' AND query LIKE 'CALL partition_backfill_post%'") == 0) {
+            assertThat(System.nanoTime()).as("백필이 잠금 대기에 들어가지 않음").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * 쿼리별 지연 시간 측정 (마이크로초, [p50, p95])
+     */
+    private static Map<String, long[]> benchmark() throws Exception {
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> query : BENCHMARK_QUERIES.entrySet()) {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                run(query.getValue());
+            }
+            long[] samples = new long[MEASURED_RUNS];
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long startedAt = System.nanoTime();
+                run(query.getValue());
+                samples[i] = (System.nanoTime() - startedAt) / 1_000;
+            }
+            Arrays.sort(samples);
+            results.put(query.getKey(), new long[]{samples[MEASURED_RUNS / 2], samples[MEASURED_RUNS * 95 / 100]});
+        }
+        return results;
+    }
+
+    private static void run(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                resultSet.getObject(1);
+            }
+        }
+    }
+
+    /**
+     * 실행 계획에서 읽는 파티션 (post_h*, qna_h*)
+     */
+    private static Set<String> scannedPartitions(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            resultSet.next();
+            Set<String> partitions = new TreeSet<>();
+            collectPartitions(OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).path("Plan"), partitions);
+            return partitions;
+        }
+    }
+
+    private static void collectPartitions(JsonNode node, Set<String> partitions) {
+        String relation = node.path("Relation Name").asText();
+        if (relation.matches("(post|qna)_h\\d+")) {
+            partitions.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectPartitions(child, partitions);
+        }
+    }
+
+    private static void writeReport(Map<String, long[]> before, Map<String, long[]> after) throws Exception {
+        StringBuilder report = new StringBuilder()
+                .append("post/qna 해시 파티셔닝 전후 지연 시간 (마이크로초, ").append(MEASURED_RUNS).append("회)\n")
+                .append(String.format("%-10s %-10s %-10s %-10s %s%n", "전 p50", "전 p95", "후 p50", "후 p95", "쿼리"));
+        for (String name : BENCHMARK_QUERIES.keySet()) {
+            long[] b = before.get(name);
+            long[] a = after.get(name);
+            report.append(String.format("%-10d %-10d %-10d %-10d %s%n", b[0], b[1], a[0], a[1], name));
+        }
+        Path dir = Path.of(System.getProperty("queryPlan.reportDir", "build/reports/query-plans"));
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("partitioning-benchmark.txt"), report.toString());
+    }
+
+    private static String script(String name) throws Exception {
+        return Files.readString(Path.of("src/main/resources/db/partitioning", name));
+    }
+
+    private static void execute(String sql) throws Exception {
+        execute(connection, sql);
+    }
+
+    private static void execute(Connection target, String sql) throws Exception {
+        try (Statement statement = target.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long queryLong(String sql) throws Exception {
+        return queryLong(connection, sql);
+    }
+
+    private static long queryLong(Connection target, String sql) throws Exception {
+        try (Statement statement = target.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -13,6 +13,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDateTime;
+
 /**
  * PostRepository 계약 테스트
  * R2DBC 리포지토리 기본 동작 검증
@@ -61,8 +63,8 @@ class PostRepositoryTest {
     }
 
     @Test
-    @DisplayName("게시글 ID와 숨김 여부로 조회 - 성공")
-    void testFindByIdAndIsHidden_Success() {
+    @DisplayName("게시판 ID, 게시글 ID와 숨김 여부로 조회 - 성공")
+    void testFindByIdAndBoardIdAndIsHidden_Success() {
         // Given: 먼저 게시글 ID 확인
         Long boardId = 1L;
         Pageable pageable = PageRequest.of(0, 1);
@@ -74,7 +76,7 @@ class PostRepositoryTest {
 
         // When & Then: ID로 조회 후 검증
         StepVerifier.create(
-                postIdMono.flatMap(id -> postRepository.findByIdAndIsHidden(id, false))
+                postIdMono.flatMap(id -> postRepository.findByIdAndBoardIdAndIsHidden(id, boardId, false))
         )
                 .expectNextMatches(post ->
                         post.getBoardId().equals(boardId) &&
@@ -96,7 +98,7 @@ class PostRepositoryTest {
 
         // When: 조회수 증가 실행
         Mono<Integer> incrementMono = initialPostMono
-                .flatMap(post -> postRepository.incrementViewCount(post.getId())
+                .flatMap(post -> postRepository.incrementViewCount(post.getId(), post.getBoardId())
                         .then(postRepository.findById(post.getId()))
                         .map(updatedPost -> updatedPost.getViewCount() - post.getViewCount())
                 );
@@ -150,4 +152,141 @@ class PostRepositoryTest {
                 .expectNextCount(2) // 최소 3개 이상
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("게시판 ID로 공개 게시글 페이지 조회 - 목록과 전체 개수를 한 번에 조회")
+    void testFindVisiblePageByBoardId_Success() {
+        // Given: 데이터베이스에 게시글 존재 (data.sql에서 3개 삽입)
+        Long boardId = 1L;
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // When: 첫 페이지 조회 (페이지 크기 2)
+        // Then: 페이지 크기만큼 조회되고 전체 개수는 페이지 크기와 무관
+        StepVerifier.create(postRepository.findVisiblePageByBoardId(boardId, pageable))
+                .expectNextMatches(page ->
+                        page.getContent().size() == 2 &&
+                        page.getContent().stream().allMatch(post ->
+                                post.getBoardId().equals(boardId) && post.getIsHidden().equals(false)) &&
+                        page.getTotalElements() >= 3 &&
+                        page.getTotalPages() >= 2
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("게시판 ID로 공개 게시글 페이지 조회 - 마지막 페이지 이후")
+    void testFindVisiblePageByBoardId_BeyondLastPage() {
+        // Given: 게시글 수보다 큰 페이지 번호
+        Long boardId = 1L;
+        Pageable pageable = PageRequest.of(100, 10);
+
+        // When & Then: 목록은 비어 있지만 전체 개수는 유지됨
+        StepVerifier.create(postRepository.findVisiblePageByBoardId(boardId, pageable))
+                .expectNextMatches(page ->
+                        page.getContent().isEmpty() &&
+                        page.getTotalElements() >= 3
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("게시글 숨김 변경 - 버전이 같을 때만 변경되고 버전 증가")
+    void testUpdateHidden_OptimisticLock() {
+        // Given: 새 게시글 저장 (기존 데이터의 공개 게시글 수에 영향 없도록)
+        Post newPost = Post.builder()
+                .boardId(1L)
+                .title("숨김 변경 테스트")
+                .content("내용")
+                .author("테스터")
+                .viewCount(0)
+                .isHidden(false)
+                .build();
+
+        // When: 저장 시점 버전으로 변경 후, 같은 버전으로 한 번 더 변경 시도
+        Mono<Post> resultMono = postRepository.save(newPost)
+                .flatMap(saved -> postRepository.updateHidden(saved.getId(), 1L, saved.getVersion(), true, LocalDateTime.now())
+                        .filter(updated -> updated == 1)
+                        .flatMap(updated -> postRepository.updateHidden(saved.getId(), 1L, saved.getVersion(), false, LocalDateTime.now()))
+                        .filter(updated -> updated == 0)
+                        .flatMap(updated -> postRepository.findById(saved.getId()))
+                        .filter(updatedPost -> updatedPost.getVersion() == saved.getVersion() + 1));
+
+        // Then: 첫 변경만 반영됨
+        StepVerifier.create(resultMono)
+                .expectNextMatches(post -> post.getIsHidden().equals(true))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("게시글 내용 수정 - 다른 게시판 ID로는 수정되지 않음")
+    void testUpdateContent_WrongBoard() {
+        // Given: 새 게시글 저장
+        Post newPost = Post.builder()
+                .boardId(1L)
+                .title("원래 제목")
+                .content("원래 내용")
+                .author("테스터")
+                .viewCount(0)
+                .isHidden(false)
+                .build();
+
+        // When: 다른 게시판 ID로 수정 시도
+        Mono<Post> resultMono = postRepository.save(newPost)
+                .flatMap(saved -> postRepository.updateContent(saved.getId(), 999L, saved.getVersion(),
+                                "바뀐 제목", "바뀐 내용", null, null, LocalDateTime.now())
+                        .filter(updated -> updated == 0)
+                        .flatMap(updated -> postRepository.findById(saved.getId())));
+
+        // Then: 기존 내용 유지
+        StepVerifier.create(resultMono)
+                .expectNextMatches(post -> post.getTitle().equals("원래 제목") && post.getIsHidden().equals(false))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("기업 게시판 소속 게시글 조회 - 다른 기업이나 게시판으로는 조회되지 않음")
+    void testFindOwnedPost() {
+        // Given: Company A(1) 공지사항 게시판(1)의 게시글
+        Long boardId = 1L;
+        Mono<Long> postIdMono = postRepository
+                .findByBoardIdAndIsHiddenOrderByCreatedAtDesc(boardId, false, PageRequest.of(0, 1))
+                .next()
+                .map(Post::getId);
+
+        // When & Then: 소속 기업으로는 조회됨
+        StepVerifier.create(postIdMono.flatMap(id -> postRepository.findOwnedPost(id, boardId, 1L)))
+                .expectNextMatches(post -> post.getBoardId().equals(boardId))
+                .verifyComplete();
+
+        // When & Then: 다른 기업(2) 또는 다른 게시판(2)으로는 조회되지 않음
+        StepVerifier.create(postIdMono.flatMap(id -> postRepository.findOwnedPost(id, boardId, 2L)))
+                .verifyComplete();
+        StepVerifier.create(postIdMono.flatMap(id -> postRepository.findOwnedPost(id, 2L, 1L)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("게시판 소속 게시글 삭제 - 다른 게시판 ID로는 삭제되지 않음")
+    void testDeleteFromBoard() {
+        // Given: 새 게시글 저장
+        Post newPost = Post.builder()
+                .boardId(1L)
+                .title("삭제 대상")
+                .content("삭제 테스트")
+                .author("테스터")
+                .viewCount(0)
+                .isHidden(false)
+                .build();
+
+        // When: 다른 게시판 ID로 삭제 시도 후 올바른 게시판 ID로 삭제
+        Mono<Integer> resultMono = postRepository.save(newPost)
+                .flatMap(saved -> postRepository.deleteFromBoard(saved.getId(), 3L)
+                        .filter(deleted -> deleted == 0)
+                        .flatMap(deleted -> postRepository.deleteFromBoard(saved.getId(), 1L)));
+
+        // Then: 올바른 게시판 ID로만 1건 삭제
+        StepVerifier.create(resultMono)
+                .expectNext(1)
+                .verifyComplete();
+    }
 }
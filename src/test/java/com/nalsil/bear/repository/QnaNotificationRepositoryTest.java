@@ -0,0 +1,64 @@
+package com.nalsil.bear.repository;
+
+import com.nalsil.bear.domain.qna.Qna;
+import com.nalsil.bear.domain.qna.QnaNotification;
+import com.nalsil.bear.domain.qna.QnaNotificationRepository;
+import com.nalsil.bear.domain.qna.QnaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * QnaNotificationRepository 계약 테스트
+ * 선점(claim) UPDATE가 실제 DB에서 갱신 행 수를 돌려주는지 검증
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+class QnaNotificationRepositoryTest {
+
+    @Autowired
+    private QnaRepository qnaRepository;
+
+    @Autowired
+    private QnaNotificationRepository qnaNotificationRepository;
+
+    @Test
+    @DisplayName("대기 항목 선점 - 처음 선점은 1행, 같은 시각으로 다시 선점하면 0행")
+    void testClaim_OnlyOnce() {
+        // Given: QnA와 발송 대기 항목 저장 (Company A)
+        LocalDateTime dueAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(1);
+        LocalDateTime leaseUntil = dueAt.plusMinutes(10);
+
+        Mono<QnaNotification> saved = qnaRepository.save(Qna.builder()
+                        .companyId(1L)
+                        .questionTitle("선점 테스트")
+                        .questionBody("내용")
+                        .askerEmail("asker@example.com")
+                        .isAnswered(false)
+                        .isHidden(false)
+                        .build())
+                .flatMap(qna -> {
+                    QnaNotification notification = QnaNotification.pending(qna, QnaNotification.EVENT_QUESTION_CREATED);
+                    notification.setNextAttemptAt(dueAt);
+                    return qnaNotificationRepository.save(notification);
+                });
+
+        // When: 읽은 시점의 다음 시도 시각으로 두 번 선점
+        Mono<Integer[]> claims = saved.flatMap(notification ->
+                qnaNotificationRepository.claim(notification.getId(), dueAt, leaseUntil)
+                        .flatMap(first -> qnaNotificationRepository.claim(notification.getId(), dueAt, leaseUntil)
+                                .map(second -> new Integer[]{first, second})));
+
+        // Then: 첫 선점만 성공 (다음 시도 시각이 임대 만료 시각으로 바뀌어 두 번째는 조건 불일치)
+        StepVerifier.create(claims)
+                .expectNextMatches(counts -> counts[0] == 1 && counts[1] == 0)
+                .verifyComplete();
+    }
+}
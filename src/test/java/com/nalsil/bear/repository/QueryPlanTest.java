@@ -0,0 +1,500 @@
+package com.nalsil.bear.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nalsil.bear.domain.admin.AdminRepository;
+import com.nalsil.bear.domain.admin.RevokedTokenRepository;
+import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.company.CompanyRepositoryCustom;
+import com.nalsil.bear.domain.faq.FaqRepository;
+import com.nalsil.bear.domain.post.PostPopularityRepository;
+import com.nalsil.bear.domain.post.PostRepository;
+import com.nalsil.bear.domain.post.PostRepositoryCustom;
+import com.nalsil.bear.domain.product.ProductRepository;
+import com.nalsil.bear.domain.qna.QnaNotificationRepository;
+import com.nalsil.bear.domain.qna.QnaRepository;
+import com.nalsil.bear.domain.qna.QnaRepositoryCustom;
+import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import com.nalsil.bear.support.LargeTenantDataset;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.nalsil.bear.support.LargeTenantDataset.BOARD_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.COMPANY_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.POST_ID;
+import static com.nalsil.bear.support.LargeTenantDataset.QNA_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트
+ *
+ * PostgreSQL 컨테이너에 운영 스키마(src/main/resources/schema.sql)를 적용하고 기업 200개 규모의 데이터
+ * (게시글 20만, QnA 10만, 상품 4만 등 기업별로 섞여 저장)를 채운 뒤 리포지토리 쿼리 전체를 EXPLAIN (ANALYZE, BUFFERS)로 실행합니다.
+ * - 대용량 테이블 순차 스캔(Seq Scan)이 있으면 실패 (테이블 전체 처리가 목적인 배치 쿼리만 예외)
+ * - 예상 비용(Total Cost)이나 읽은 버퍼 수(shared hit + read)가 쿼리 유형별 예산을 넘으면 실패
+ * - 리포지토리에 선언한 메서드에 계획 케이스가 없으면 실패 (쿼리 메서드를 추가하면 케이스도 추가)
+ *
+ * 파생 쿼리와 사용자 정의 구현은 실행되는 SQL과 같은 형태로 적고, @Query 메서드는 애너테이션의 SQL에 값을 채워 실행합니다.
+ * 상속한 CRUD 메서드(findById, save 등)는 기본 키 조회이므로 제외합니다.
+ * 변경 쿼리도 실제로 실행되므로 케이스마다 롤백하며, 실행 계획은 build/reports/query-plans/에 JSON으로 남깁니다.
+ * 케이스별 측정 비용/버퍼와 예산은 같은 디렉터리의 budgets.tsv에 모아 예산 보정에 사용합니다.
+ *
+ * Docker가 필요하며 ./gradlew check(또는 queryPlanTest)로 실행합니다. (Docker가 없으면 건너뜀, CI에서는 항상 실행)
+ */
+@Tag("query-plan")
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    /**
+     * 순차 스캔을 허용하지 않는 대용량 테이블
+     */
+    private static final Set<String> LARGE_TABLES = Set.of("post", "post_popularity", "faq", "qna",
+            "qna_notification_outbox", "youtube_video", "product", "revoked_token");
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    /**
+     * 쿼리 유형별 예산
+     */
+    private enum Budget {
+        /**
+         * 기본 키/고유 키 조회
+         */
+        POINT(100, 32),
+        /**
+         * 한 행 변경 (인덱스 갱신 포함)
+         */
+        WRITE(100, 128),
+        /**
+         * 목록 한 페이지 (LIMIT), 소수 행 조회
+         */
+        PAGE(300, 64),
+        /**
+         * 기업/게시판 한 곳의 행 전체 (개수 조회, 페이지 없는 관리자 목록)
+         */
+        TENANT(5000, 1200),
+        /**
+         * 기업 한 곳의 게시글 + 상품 + 영상 전체 (사이트맵)
+         */
+        TENANT_CONTENT(30000, 6000),
+        /**
+         * 테이블 전체 처리가 목적인 배치 쿼리
+         */
+        BATCH(200000, 200000);
+
+        private final double maxCost;
+        private final long maxBuffers;
+
+        Budget(double maxCost, long maxBuffers) {
+            this.maxCost = maxCost;
+            this.maxBuffers = maxBuffers;
+        }
+    }
+
+    /**
+     * 계획 케이스
+     *
+     * @param name 리포지토리#메서드
+     * @param sql 실행할 SQL
+     * @param budget 예산
+     * @param fullScan 대용량 테이블 순차 스캔 허용 여부
+     */
+    private record PlanCase(String name, String sql, Budget budget, boolean fullScan) {
+    }
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Path dir = reportDir();
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("budgets.tsv"), "case\tbudget\tcost\tmaxCost\tbuffers\tmaxBuffers\n");
+        LargeTenantDataset.load(connection);
+        connection.setAutoCommit(false);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("리포지토리에 선언한 모든 쿼리 메서드에 계획 케이스가 있음")
+    void testEveryRepositoryMethodHasPlanCase() throws Exception {
+        // Given: 리포지토리 인터페이스에 선언한 메서드
+        Set<String> declared = declaredRepositoryMethods();
+
+        // When: 계획 케이스 이름 수집
+        Set<String> covered = cases().stream().map(PlanCase::name).collect(Collectors.toSet());
+
+        // Then: 빠진 메서드 없음
+        assertThat(declared).isNotEmpty();
+        assertThat(covered).containsAll(declared);
+    }
+
+    @TestFactory
+    @DisplayName("리포지토리 쿼리 실행 계획이 순차 스캔 없이 예산 안에 있음")
+    Stream<DynamicTest> testQueryPlansWithinBudget() {
+        return cases().stream().map(planCase -> DynamicTest.dynamicTest(planCase.name(), () -> assertPlan(planCase)));
+    }
+
+    private static List<PlanCase> cases() {
+        String page = " LIMIT 10 OFFSET 0";
+        return List.of(
+                // 관리자
+                sql(AdminRepository.class, "findByUsername", Budget.POINT,
+                        "SELECT admin.* FROM admin WHERE admin.username = 'admin-17-1'"),
+                sql(AdminRepository.class, "findByCompanyId", Budget.POINT,
+                        "SELECT admin.* FROM admin WHERE admin.company_id = " + COMPANY_ID),
+                sql(AdminRepository.class, "findByRole", Budget.PAGE,
+                        "SELECT admin.* FROM admin WHERE admin.role = 'SUPER_ADMIN'"),
+                sql(AdminRepository.class, "existsByUsername", Budget.POINT,
+                        "SELECT admin.id FROM admin WHERE admin.username = 'admin-17-1' LIMIT 1"),
+                query(AdminRepository.class, "updateLastLoginAt", Budget.WRITE,
+                        Map.of("id", "35", "lastLoginAt", "now()")),
+                query(RevokedTokenRepository.class, "insertIfAbsent", Budget.WRITE,
+                        Map.of("jti", "'plan-test'", "adminId", "35",
+                                "expiresAt", "now() + interval '1 day'", "revokedAt", "now()")),
+                query(RevokedTokenRepository.class, "findActiveRevokedSince", Budget.PAGE,
+                        Map.of("revokedSince", "now() - interval '40 seconds'", "now", "now()")),
+                query(RevokedTokenRepository.class, "deleteExpired", Budget.PAGE,
+                        Map.of("now", "now()")),
+
+                // 게시판, 기업
+                sql(BoardRepository.class, "findByCompanyId", Budget.POINT,
+                        "SELECT board.* FROM board WHERE board.company_id = " + COMPANY_ID),
+                sql(BoardRepository.class, "findByCompanyIdAndType", Budget.POINT,
+                        "SELECT board.* FROM board WHERE board.company_id = " + COMPANY_ID + " AND (board.type = 'notice')"),
+                sql(BoardRepository.class, "findByCompanyIdAndName", Budget.POINT,
+                        "SELECT board.* FROM board WHERE board.company_id = " + COMPANY_ID + " AND (board.name = '게시판 65')"),
+                sql(CompanyRepository.class, "findByCode", Budget.POINT,
+                        "SELECT company.* FROM company WHERE company.code = 'company-17'"),
+                sql(CompanyRepository.class, "findByCodeAndIsActive", Budget.POINT,
+                        "SELECT company.* FROM company WHERE company.code = 'company-17' AND (company.is_active = TRUE)"),
+                sql(CompanyRepository.class, "existsByCode", Budget.POINT,
+                        "SELECT company.id FROM company WHERE company.code = 'company-17' LIMIT 1"),
+                query(CompanyRepository.class, "findActiveCodes", Budget.TENANT, Map.of()),
+                sql(CompanyRepositoryCustom.class, "findSitemapStats", Budget.TENANT_CONTENT,
+                        "SELECT COUNT(*) AS entry_count, MAX(last_modified) AS last_modified, "
+                                + "COALESCE(SUM(id), 0) AS id_sum FROM (" + sitemapEntries() + ") entries"),
+                sql(CompanyRepositoryCustom.class, "findSitemapEntries", Budget.TENANT_CONTENT,
+                        "SELECT kind, id, board_type, last_modified FROM (" + sitemapEntries() + ") entries "
+                                + "ORDER BY kind, id LIMIT 50000 OFFSET 0"),
+
+                // FAQ
+                sql(FaqRepository.class, "findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc", Budget.TENANT,
+                        "SELECT faq.* FROM faq WHERE faq.company_id = " + COMPANY_ID
+                                + " AND (faq.is_hidden = FALSE) ORDER BY faq.display_order ASC"),
+                sql(FaqRepository.class, "findByCompanyIdAndCategoryAndIsHiddenOrderByDisplayOrderAsc", Budget.PAGE,
+                        "SELECT faq.* FROM faq WHERE faq.company_id = " + COMPANY_ID
+                                + " AND (faq.category = 'category-2') AND (faq.is_hidden = FALSE) ORDER BY faq.display_order ASC"),
+                sql(FaqRepository.class, "findByCompanyIdOrderByDisplayOrderAsc", Budget.TENANT,
+                        "SELECT faq.* FROM faq WHERE faq.company_id = " + COMPANY_ID + " ORDER BY faq.display_order ASC"),
+                sql(FaqRepository.class, "countByCompanyIdAndIsHidden", Budget.TENANT,
+                        "SELECT COUNT(faq.id) FROM faq WHERE faq.company_id = " + COMPANY_ID + " AND (faq.is_hidden = FALSE)"),
+
+                // 게시글
+                query(PostPopularityRepository.class, "merge", Budget.WRITE,
+                        Map.of("postId", String.valueOf(POST_ID), "score", "1.5", "scoredAt", "now()::timestamp",
+                                "lambda", "0.000008")),
+                // 체크포인트 행은 노드별 상위 K개 합집합으로 작으므로 감쇠 점수 조건은 전체 스캔
+                withFullScan(query(PostPopularityRepository.class, "deleteDecayedBelow", Budget.BATCH,
+                        Map.of("now", "now()::timestamp", "lambda", "0.000008", "minScore", "0.05"))),
+                withFullScan(query(PostPopularityRepository.class, "findVisibleSnapshots", Budget.BATCH, Map.of())),
+                query(PostPopularityRepository.class, "findVisibleSnapshot", Budget.POINT,
+                        Map.of("postId", String.valueOf(POST_ID))),
+                sql(PostRepository.class, "findByBoardIdAndIsHiddenOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT post.* FROM post WHERE post.board_id = " + BOARD_ID
+                                + " AND (post.is_hidden = FALSE) ORDER BY post.created_at DESC" + page),
+                sql(PostRepository.class, "findByBoardIdOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT post.* FROM post WHERE post.board_id = " + BOARD_ID + " ORDER BY post.created_at DESC" + page),
+                sql(PostRepository.class, "countByBoardIdAndIsHidden", Budget.TENANT,
+                        "SELECT COUNT(post.id) FROM post WHERE post.board_id = " + BOARD_ID + " AND (post.is_hidden = FALSE)"),
+                query(PostRepository.class, "incrementViewCount", Budget.WRITE,
+                        Map.of("id", String.valueOf(POST_ID), "boardId", String.valueOf(BOARD_ID))),
+                sql(PostRepository.class, "findByIdAndBoardIdAndIsHidden", Budget.POINT,
+                        "SELECT post.* FROM post WHERE post.id = " + POST_ID + " AND (post.board_id = " + BOARD_ID
+                                + ") AND (post.is_hidden = FALSE)"),
+                sql(PostRepository.class, "findByIdAndBoardId", Budget.POINT,
+                        "SELECT post.* FROM post WHERE post.id = " + POST_ID + " AND (post.board_id = " + BOARD_ID + ")"),
+                query(PostRepository.class, "updateContent", Budget.WRITE,
+                        Map.of("id", String.valueOf(POST_ID), "boardId", String.valueOf(BOARD_ID), "version", "0",
+                                "title", "'제목'", "content", "'내용'", "isHidden", "NULL", "filePath", "NULL",
+                                "updatedAt", "now()")),
+                query(PostRepository.class, "updateHidden", Budget.WRITE,
+                        Map.of("id", String.valueOf(POST_ID), "boardId", String.valueOf(BOARD_ID), "version", "0",
+                                "isHidden", "TRUE", "updatedAt", "now()")),
+                sql(PostRepository.class, "existsByIdAndBoardId", Budget.POINT,
+                        "SELECT post.id FROM post WHERE post.id = " + POST_ID + " AND (post.board_id = " + BOARD_ID + ") LIMIT 1"),
+                query(PostRepository.class, "findOwnedPost", Budget.POINT,
+                        Map.of("postId", String.valueOf(POST_ID), "boardId", String.valueOf(BOARD_ID),
+                                "companyId", String.valueOf(COMPANY_ID))),
+                query(PostRepository.class, "deleteFromBoard", Budget.WRITE,
+                        Map.of("id", String.valueOf(POST_ID), "boardId", String.valueOf(BOARD_ID))),
+                sql(PostRepositoryCustom.class, "findVisiblePageByBoardId", Budget.TENANT,
+                        "SELECT t.*, COUNT(*) OVER() AS total_count FROM post t WHERE t.board_id = " + BOARD_ID
+                                + " AND t.is_hidden = false ORDER BY t.created_at DESC, t.id DESC" + page),
+                sql(PostRepositoryCustom.class, "findVisibleStatsByBoardId", Budget.TENANT,
+                        "SELECT COUNT(*) AS post_count, MAX(updated_at) AS last_modified, COALESCE(SUM(id), 0) AS id_sum "
+                                + "FROM post WHERE board_id = " + BOARD_ID + " AND is_hidden = false"),
+
+                // 상품
+                sql(ProductRepository.class, "findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc", Budget.PAGE,
+                        "SELECT product.* FROM product WHERE product.company_id = " + COMPANY_ID
+                                + " AND (product.is_hidden = FALSE) ORDER BY product.display_order ASC" + page),
+                sql(ProductRepository.class, "findByCompanyIdAndCategoryAndIsHiddenOrderByDisplayOrderAsc", Budget.PAGE,
+                        "SELECT product.* FROM product WHERE product.company_id = " + COMPANY_ID
+                                + " AND (product.category = 'category-3') AND (product.is_hidden = FALSE)"
+                                + " ORDER BY product.display_order ASC" + page),
+                sql(ProductRepository.class, "findByCompanyIdOrderByDisplayOrderAsc", Budget.TENANT,
+                        "SELECT product.* FROM product WHERE product.company_id = " + COMPANY_ID
+                                + " ORDER BY product.display_order ASC"),
+                sql(ProductRepository.class, "countByCompanyIdAndIsHidden", Budget.TENANT,
+                        "SELECT COUNT(product.id) FROM product WHERE product.company_id = " + COMPANY_ID
+                                + " AND (product.is_hidden = FALSE)"),
+                sql(ProductRepository.class, "countByCompanyIdAndCategoryAndIsHidden", Budget.PAGE,
+                        "SELECT COUNT(product.id) FROM product WHERE product.company_id = " + COMPANY_ID
+                                + " AND (product.category = 'category-3') AND (product.is_hidden = FALSE)"),
+                query(ProductRepository.class, "findDistinctCategoriesByCompanyId", Budget.TENANT,
+                        Map.of("companyId", String.valueOf(COMPANY_ID))),
+                sql(ProductRepository.class, "findByIdAndIsHidden", Budget.POINT,
+                        "SELECT product.* FROM product WHERE product.id = 217 AND (product.is_hidden = FALSE)"),
+
+                // QnA
+                query(QnaNotificationRepository.class, "findDue", Budget.PAGE,
+                        Map.of("now", "now()", "limit", "50")),
+                query(QnaNotificationRepository.class, "claim", Budget.WRITE,
+                        Map.of("id", "1000", "expected", "now()", "leaseUntil", "now() + interval '5 minutes'")),
+                sql(QnaRepository.class, "findByCompanyIdAndIsHiddenOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT qna.* FROM qna WHERE qna.company_id = " + COMPANY_ID
+                                + " AND (qna.is_hidden = FALSE) ORDER BY qna.created_at DESC" + page),
+                sql(QnaRepository.class, "findByCompanyIdAndIsAnsweredOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT qna.* FROM qna WHERE qna.company_id = " + COMPANY_ID
+                                + " AND (qna.is_answered = FALSE) ORDER BY qna.created_at DESC" + page),
+                sql(QnaRepository.class, "findByAskerEmailOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT qna.* FROM qna WHERE qna.asker_email = 'user17@example.com' ORDER BY qna.created_at DESC" + page),
+                sql(QnaRepository.class, "countByCompanyIdAndIsHidden", Budget.TENANT,
+                        "SELECT COUNT(qna.id) FROM qna WHERE qna.company_id = " + COMPANY_ID + " AND (qna.is_hidden = FALSE)"),
+                sql(QnaRepository.class, "countByCompanyIdAndIsAnswered", Budget.TENANT,
+                        "SELECT COUNT(qna.id) FROM qna WHERE qna.company_id = " + COMPANY_ID + " AND (qna.is_answered = FALSE)"),
+                sql(QnaRepository.class, "findByCompanyIdOrderByCreatedAtDesc", Budget.PAGE,
+                        "SELECT qna.* FROM qna WHERE qna.company_id = " + COMPANY_ID + " ORDER BY qna.created_at DESC" + page),
+                query(QnaRepository.class, "updateAnswer", Budget.WRITE,
+                        Map.of("id", String.valueOf(QNA_ID), "companyId", String.valueOf(COMPANY_ID), "version", "0",
+                                "answerBody", "'답변'", "answererId", "35", "answeredAt", "now()")),
+                query(QnaRepository.class, "deleteByIdAndCompanyId", Budget.WRITE,
+                        Map.of("id", String.valueOf(QNA_ID), "companyId", String.valueOf(COMPANY_ID))),
+                query(QnaRepository.class, "updateHidden", Budget.WRITE,
+                        Map.of("id", String.valueOf(QNA_ID), "companyId", String.valueOf(COMPANY_ID), "version", "0",
+                                "isHidden", "TRUE")),
+                sql(QnaRepository.class, "findByIdAndCompanyId", Budget.POINT,
+                        "SELECT qna.* FROM qna WHERE qna.id = " + QNA_ID + " AND (qna.company_id = " + COMPANY_ID + ")"),
+                sql(QnaRepository.class, "existsByIdAndCompanyId", Budget.POINT,
+                        "SELECT qna.id FROM qna WHERE qna.id = " + QNA_ID + " AND (qna.company_id = " + COMPANY_ID + ") LIMIT 1"),
+                sql(QnaRepositoryCustom.class, "findVisiblePageByCompanyId", Budget.TENANT,
+                        "SELECT t.*, COUNT(*) OVER() AS total_count FROM qna t WHERE t.company_id = " + COMPANY_ID
+                                + " AND t.is_hidden = false ORDER BY t.created_at DESC, t.id DESC" + page),
+
+                // 유튜브 영상
+                sql(YoutubeVideoRepository.class, "findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc", Budget.TENANT,
+                        "SELECT youtube_video.* FROM youtube_video WHERE youtube_video.company_id = " + COMPANY_ID
+                                + " AND (youtube_video.is_hidden = FALSE) ORDER BY youtube_video.display_order ASC"),
+                sql(YoutubeVideoRepository.class, "findByCompanyIdOrderByDisplayOrderAsc", Budget.TENANT,
+                        "SELECT youtube_video.* FROM youtube_video WHERE youtube_video.company_id = " + COMPANY_ID
+                                + " ORDER BY youtube_video.display_order ASC"),
+                sql(YoutubeVideoRepository.class, "countByCompanyIdAndIsHidden", Budget.TENANT,
+                        "SELECT COUNT(youtube_video.id) FROM youtube_video WHERE youtube_video.company_id = " + COMPANY_ID
+                                + " AND (youtube_video.is_hidden = FALSE)"),
+                query(YoutubeVideoRepository.class, "findWithoutVideoIdAfter", Budget.PAGE,
+                        Map.of("afterId", "0", "limit", "200")),
+                query(YoutubeVideoRepository.class, "updateMetadata", Budget.WRITE,
+                        Map.of("id", "1000", "videoUrl", "'https://www.youtube.com/watch?v=00000001000'",
+                                "videoId", "'00000001000'",
+                                "embedUrl", "'https://www.youtube.com/embed/00000001000'",
+                                "thumbnailUrl", "'https://img.youtube.com/vi/00000001000/hqdefault.jpg'"))
+        );
+    }
+
+    /**
+     * 사이트맵 항목 SQL (CompanyRepositoryCustomImpl과 동일)
+     */
+    private static String sitemapEntries() {
+        return ("SELECT 'post' AS kind, p.id AS id, b.type AS board_type, p.updated_at AS last_modified "
+                + "FROM post p JOIN board b ON b.id = p.board_id "
+                + "WHERE b.company_id = :companyId AND p.is_hidden = false "
+                + "UNION ALL "
+                + "SELECT 'product', id, NULL, updated_at FROM product "
+                + "WHERE company_id = :companyId AND is_hidden = false "
+                + "UNION ALL "
+                + "SELECT 'youtube', id, NULL, updated_at FROM youtube_video "
+                + "WHERE company_id = :companyId AND is_hidden = false")
+                .replace(":companyId", String.valueOf(COMPANY_ID));
+    }
+
+    /**
+     * 파생 쿼리/사용자 정의 구현 케이스
+     */
+    private static PlanCase sql(Class<?> repository, String method, Budget budget, String sql) {
+        return new PlanCase(repository.getSimpleName() + "#" + method, sql, budget, false);
+    }
+
+    /**
+     * @Query 메서드 케이스 (이름 있는 파라미터를 SQL 리터럴로 치환)
+     */
+    private static PlanCase query(Class<?> repository, String method, Budget budget, Map<String, String> values) {
+        String sql = Arrays.stream(repository.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .map(candidate -> candidate.getAnnotation(Query.class))
+                .filter(annotation -> annotation != null)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("@Query 메서드 없음: " + repository.getSimpleName() + "#" + method))
+                .value();
+
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        String bound = matcher.replaceAll(match -> {
+            String value = values.get(match.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("파라미터 값 없음: " + method + "(" + match.group(1) + ")");
+            }
+            return Matcher.quoteReplacement(value);
+        });
+        return sql(repository, method, budget, bound);
+    }
+
+    /**
+     * 대용량 테이블 순차 스캔 허용 (테이블 전체 처리가 목적인 배치 쿼리)
+     */
+    private static PlanCase withFullScan(PlanCase planCase) {
+        return new PlanCase(planCase.name(), planCase.sql(), planCase.budget(), true);
+    }
+
+    private void assertPlan(PlanCase planCase) throws Exception {
+        JsonNode explain = explain(planCase.sql());
+        writeReport(planCase, explain);
+
+        JsonNode plan = explain.path("Plan");
+        List<String> seqScans = new ArrayList<>();
+        collectSeqScans(plan, seqScans);
+        double cost = plan.path("Total Cost").asDouble();
+        long buffers = plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+        String details = planCase.sql() + "\n" + explain.toPrettyString();
+        Files.writeString(reportDir().resolve("budgets.tsv"),
+                String.format("%s\t%s\t%.1f\t%.1f\t%d\t%d%n", planCase.name(), planCase.budget(),
+                        cost, planCase.budget().maxCost, buffers, planCase.budget().maxBuffers),
+                StandardOpenOption.APPEND);
+
+        if (!planCase.fullScan()) {
+            assertThat(seqScans)
+                    .withFailMessage("%s: 대용량 테이블 순차 스캔 %s\n%s", planCase.name(), seqScans, details)
+                    .isEmpty();
+        }
+        assertThat(cost)
+                .withFailMessage("%s: 예상 비용 %.1f > 예산 %.1f (%s)\n%s",
+                        planCase.name(), cost, planCase.budget().maxCost, planCase.budget(), details)
+                .isLessThanOrEqualTo(planCase.budget().maxCost);
+        assertThat(buffers)
+                .withFailMessage("%s: 읽은 버퍼 %d > 예산 %d (%s)\n%s",
+                        planCase.name(), buffers, planCase.budget().maxBuffers, planCase.budget(), details)
+                .isLessThanOrEqualTo(planCase.budget().maxBuffers);
+    }
+
+    /**
+     * EXPLAIN (ANALYZE, BUFFERS) 실행 후 롤백 (변경 쿼리도 실제 실행되므로)
+     */
+    private static JsonNode explain(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            resultSet.next();
+            return OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0);
+        } finally {
+            connection.rollback();
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && LARGE_TABLES.contains(relation)) {
+            seqScans.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+
+    private static void writeReport(PlanCase planCase, JsonNode explain) throws Exception {
+        Path dir = reportDir();
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(planCase.name().replace('#', '.') + ".json"),
+                planCase.sql() + "\n\n" + explain.toPrettyString());
+    }
+
+    private static Path reportDir() {
+        return Path.of(System.getProperty("queryPlan.reportDir", "build/reports/query-plans"));
+    }
+
+    /**
+     * domain 패키지의 리포지토리 인터페이스(*Repository, *RepositoryCustom)에 선언한 메서드
+     */
+    private static Set<String> declaredRepositoryMethods() throws Exception {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> {
+            String className = reader.getClassMetadata().getClassName();
+            return className.endsWith("Repository") || className.endsWith("RepositoryCustom");
+        });
+
+        Set<String> methods = new TreeSet<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("com.nalsil.bear.domain")) {
+            Class<?> repository = Class.forName(definition.getBeanClassName());
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isSynthetic() && !method.isDefault()) {
+                    methods.add(repository.getSimpleName() + "#" + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,116 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.admin.Admin;
+import com.nalsil.bear.domain.admin.AdminRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdminService 단위 테스트
+ * BCrypt 해시/검증이 논블로킹 스레드가 아닌 blockingScheduler에서 실행되는지 검증
+ * (blockHoundTest 실행 시 논블로킹 스레드에서 BCrypt를 호출하면 실패)
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminServiceTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private Scheduler blockingScheduler;
+    private AdminService adminService;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        blockingScheduler = Schedulers.newBoundedElastic(2, 100, "test-blocking");
+        adminService = new AdminService(adminRepository, passwordEncoder, blockingScheduler);
+
+        admin = Admin.builder()
+                .id(1L)
+                .username("admin")
+                .passwordHash(passwordEncoder.encode("password123"))
+                .role("ADMIN")
+                .companyId(1L)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("관리자 인증 - 논블로킹 스레드에서 호출해도 비밀번호 검증은 blocking 스케줄러에서 실행")
+    void testAuthenticate_OffloadsPasswordCheck() {
+        // Given
+        AtomicReference<String> verifiedOn = new AtomicReference<>();
+        AdminService tracingService = new AdminService(adminRepository, new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                verifiedOn.set(Thread.currentThread().getName());
+                return super.matches(rawPassword, encodedPassword);
+            }
+        }, blockingScheduler);
+        when(adminRepository.findByUsername("admin")).thenReturn(Mono.just(admin));
+        when(adminRepository.updateLastLoginAt(anyLong(), any(LocalDateTime.class))).thenReturn(Mono.just(1));
+
+        // When
+        Mono<Admin> result = tracingService.authenticate("admin", "password123")
+                .subscribeOn(Schedulers.parallel());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(admin)
+                .verifyComplete();
+        assertThat(verifiedOn.get()).startsWith("test-blocking");
+    }
+
+    @Test
+    @DisplayName("관리자 인증 - 비밀번호 불일치 시 empty")
+    void testAuthenticate_WrongPassword() {
+        // Given
+        when(adminRepository.findByUsername("admin")).thenReturn(Mono.just(admin));
+
+        // When & Then
+        StepVerifier.create(adminService.authenticate("admin", "wrong").subscribeOn(Schedulers.parallel()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 - 새 비밀번호 해시 후 저장")
+    void testChangePassword_Success() {
+        // Given
+        when(adminRepository.findById(1L)).thenReturn(Mono.just(admin));
+        when(adminRepository.save(any(Admin.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Mono<Boolean> result = adminService.changePassword(1L, "password123", "newPassword456")
+                .subscribeOn(Schedulers.parallel());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(true)
+                .verifyComplete();
+        assertThat(passwordEncoder.matches("newPassword456", admin.getPasswordHash())).isTrue();
+    }
+}
@@ -0,0 +1,113 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostRepository;
+import com.nalsil.bear.exception.UnauthorizedAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoardAccessAuthorizer 단위 테스트
+ * 게시판 소속 캐시와 게시글 소속 확인 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardAccessAuthorizerTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private BoardAccessAuthorizer boardAccessAuthorizer;
+
+    private Board noticeBoard;
+
+    @BeforeEach
+    void setUp() {
+        boardAccessAuthorizer = new BoardAccessAuthorizer(boardRepository, postRepository, Duration.ofMinutes(10));
+
+        noticeBoard = Board.builder()
+                .id(1L)
+                .companyId(1L)
+                .name("공지사항")
+                .type("notice")
+                .build();
+    }
+
+    @Test
+    @DisplayName("게시판 확인 - 두 번째 요청부터 캐시 사용")
+    void testRequireBoard_Cached() {
+        // Given
+        when(boardRepository.findById(1L)).thenReturn(Mono.just(noticeBoard));
+
+        // When & Then
+        StepVerifier.create(boardAccessAuthorizer.requireBoard(1L, 1L))
+                .expectNext(noticeBoard)
+                .verifyComplete();
+        StepVerifier.create(boardAccessAuthorizer.requireBoard(1L, 1L))
+                .expectNext(noticeBoard)
+                .verifyComplete();
+
+        verify(boardRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("게시판 확인 - 다른 기업 게시판이면 권한 없음")
+    void testRequireBoard_OtherCompany() {
+        // Given
+        when(boardRepository.findById(1L)).thenReturn(Mono.just(noticeBoard));
+
+        // When & Then
+        StepVerifier.create(boardAccessAuthorizer.requireBoard(2L, 1L))
+                .expectError(UnauthorizedAccessException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("게시판 확인 - 존재하지 않는 게시판이면 권한 없음")
+    void testRequireBoard_NotFound() {
+        // Given
+        when(boardRepository.findById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(boardAccessAuthorizer.requireBoard(1L, 999L))
+                .expectError(UnauthorizedAccessException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("게시글 확인 - 조인 쿼리 결과가 있으면 게시글 반환, 없으면 권한 없음")
+    void testRequirePost() {
+        // Given
+        Post post = Post.builder()
+                .id(10L)
+                .boardId(1L)
+                .title("공지")
+                .build();
+        when(postRepository.findOwnedPost(10L, 1L, 1L)).thenReturn(Mono.just(post));
+        when(postRepository.findOwnedPost(10L, 1L, 2L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(boardAccessAuthorizer.requirePost(1L, 1L, 10L))
+                .expectNext(post)
+                .verifyComplete();
+        StepVerifier.create(boardAccessAuthorizer.requirePost(2L, 1L, 10L))
+                .expectError(UnauthorizedAccessException.class)
+                .verify();
+    }
+}
@@ -2,11 +2,11 @@ package com.nalsil.bear.service;
 
 import com.nalsil.bear.domain.board.Board;
 import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.support.TestCacheManagers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -27,7 +27,9 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
-    @InjectMocks
+    @Mock
+    private TenantReadModel tenantReadModel;
+
     private BoardService boardService;
 
     private Board noticeBoard;
@@ -35,6 +37,8 @@ class BoardServiceTest {
 
     @BeforeEach
     void setUp() {
+        boardService = new BoardService(boardRepository, tenantReadModel, TestCacheManagers.l1Only());
+
         // 테스트용 게시판 데이터 준비
         noticeBoard = Board.builder()
                 .id(1L)
@@ -95,7 +99,7 @@ class BoardServiceTest {
     @DisplayName("기업 ID와 타입으로 게시판 조회 - 성공")
     void testGetBoardByCompanyIdAndType_Success() {
         // Given
-        when(boardRepository.findByCompanyIdAndType(1L, "notice"))
+        when(tenantReadModel.getBoard(1L, "notice"))
                 .thenReturn(Mono.just(noticeBoard));
 
         // When
@@ -114,7 +118,7 @@ class BoardServiceTest {
     @DisplayName("기업 ID와 타입으로 게시판 조회 - 존재하지 않음")
     void testGetBoardByCompanyIdAndType_NotFound() {
         // Given
-        when(boardRepository.findByCompanyIdAndType(anyLong(), anyString()))
+        when(tenantReadModel.getBoard(anyLong(), anyString()))
                 .thenReturn(Mono.empty());
 
         // When
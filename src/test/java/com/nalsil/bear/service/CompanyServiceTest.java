@@ -3,21 +3,27 @@ package com.nalsil.bear.service;
 import com.nalsil.bear.domain.company.Company;
 import com.nalsil.bear.domain.company.CompanyRepository;
 import com.nalsil.bear.exception.CompanyNotFoundException;
+import com.nalsil.bear.support.TestCacheManagers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -30,13 +36,18 @@ class CompanyServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
-    @InjectMocks
+    private KnownTenantRegistry knownTenantRegistry;
+
     private CompanyService companyService;
 
     private Company testCompany;
 
     @BeforeEach
     void setUp() {
+        knownTenantRegistry = new KnownTenantRegistry(companyRepository, new SimpleMeterRegistry(),
+                Duration.ofMinutes(5), 100);
+        companyService = new CompanyService(companyRepository, knownTenantRegistry, TestCacheManagers.l1Only());
+
         // 테스트용 기업 데이터 준비
         testCompany = Company.builder()
                 .id(1L)
@@ -92,6 +103,52 @@ class CompanyServiceTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("기업 코드로 활성화된 기업 조회 - 없는 코드는 부정 캐시로 다시 조회하지 않음")
+    void testGetActiveCompanyByCode_NegativeCache() {
+        // Given
+        when(companyRepository.findByCodeAndIsActive("non-existent", true))
+                .thenReturn(Mono.empty());
+
+        // When: 두 번 조회
+        StepVerifier.create(companyService.getActiveCompanyByCode("non-existent"))
+                .expectError(CompanyNotFoundException.class)
+                .verify();
+        StepVerifier.create(companyService.getActiveCompanyByCode("non-existent"))
+                .expectError(CompanyNotFoundException.class)
+                .verify();
+
+        // Then
+        verify(companyRepository, times(1)).findByCodeAndIsActive("non-existent", true);
+    }
+
+    @Test
+    @DisplayName("기업 코드로 활성화된 기업 조회 - 적재 이후 추가된 기업은 활성 기업 코드 집합에 없어도 DB로 확인")
+    void testGetActiveCompanyByCode_AddedAfterRefresh() {
+        // Given: 적재 시점에는 company-a가 없었음
+        when(companyRepository.findActiveCodes()).thenReturn(Flux.just("company-b"));
+        StepVerifier.create(knownTenantRegistry.refresh()).verifyComplete();
+        when(companyRepository.findByCodeAndIsActive("company-a", true)).thenReturn(Mono.just(testCompany));
+
+        // When & Then
+        StepVerifier.create(companyService.getActiveCompanyByCode("company-a"))
+                .expectNextMatches(company -> company.getCode().equals("company-a"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("기업 코드로 활성화된 기업 조회 - 형식이 잘못된 코드는 DB 조회 없이 실패")
+    void testGetActiveCompanyByCode_InvalidCode() {
+        // When
+        Mono<Company> result = companyService.getActiveCompanyByCode("wp-login.php");
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(CompanyNotFoundException.class)
+                .verify();
+        verify(companyRepository, never()).findByCodeAndIsActive(anyString(), anyBoolean());
+    }
+
     @Test
     @DisplayName("기업 코드로 활성화된 기업 조회 - 비활성화된 기업")
     void testGetActiveCompanyByCode_Inactive() {
@@ -174,4 +231,22 @@ class CompanyServiceTest {
                 .expectError(CompanyNotFoundException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("기업 ID로 조회 - 반환된 기업을 변경해도 캐시된 기업은 유지")
+    void testGetCompanyById_ReturnsCopy() {
+        // Given
+        when(companyRepository.findById(1L))
+                .thenReturn(Mono.just(testCompany));
+        companyService.getCompanyById(1L).block().setName("변경된 이름");
+
+        // When
+        Mono<Company> result = companyService.getCompanyById(1L);
+
+        // Then: 두 번째 조회는 캐시에서 응답하며 변경 전 이름 유지
+        StepVerifier.create(result)
+                .expectNextMatches(company -> company.getName().equals("테크솔루션 주식회사"))
+                .verifyComplete();
+        verify(companyRepository, times(1)).findById(1L);
+    }
 }
@@ -0,0 +1,116 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.company.CompanyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * KnownTenantRegistry 단위 테스트
+ * 활성 기업 코드 확인, 집합에 없는 코드의 DB 확인 위임, 부정 캐시, 거부 카운터 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class KnownTenantRegistryTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KnownTenantRegistry knownTenantRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        knownTenantRegistry = new KnownTenantRegistry(companyRepository, meterRegistry, Duration.ofMinutes(5), 2);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("tenant.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("적재 후 - 활성 기업 코드는 통과, 집합에 없는 코드는 DB 확인 대상, 형식 오류는 거부")
+    void testCheck_Loaded() {
+        // Given
+        when(companyRepository.findActiveCodes()).thenReturn(Flux.just("company-a", "company-b"));
+        StepVerifier.create(knownTenantRegistry.refresh()).verifyComplete();
+
+        // When & Then
+        assertThat(knownTenantRegistry.check("company-a")).isEqualTo(KnownTenantRegistry.Verdict.KNOWN);
+        // 적재 이후 추가된 기업일 수 있으므로 다음 적재까지 거부하지 않음
+        assertThat(knownTenantRegistry.check("company-new")).isEqualTo(KnownTenantRegistry.Verdict.UNVERIFIED);
+        assertThat(knownTenantRegistry.check("wp-login.php")).isEqualTo(KnownTenantRegistry.Verdict.UNKNOWN);
+        assertThat(knownTenantRegistry.check(".env")).isEqualTo(KnownTenantRegistry.Verdict.UNKNOWN);
+        assertThat(rejected("invalid")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 후 - DB로 없음이 확인된 코드는 부정 캐시로 거부")
+    void testCheck_LoadedNegative() {
+        // Given
+        when(companyRepository.findActiveCodes()).thenReturn(Flux.just("company-a"));
+        StepVerifier.create(knownTenantRegistry.refresh()).verifyComplete();
+
+        // When
+        knownTenantRegistry.recordMissing("wp-admin");
+
+        // Then
+        assertThat(knownTenantRegistry.check("wp-admin")).isEqualTo(KnownTenantRegistry.Verdict.UNKNOWN);
+        assertThat(rejected("negative")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 전 - DB 확인 전에는 판단하지 않고, 없음이 확인된 코드는 부정 캐시로 거부")
+    void testCheck_NotLoaded() {
+        // Given
+        assertThat(knownTenantRegistry.isLoaded()).isFalse();
+        assertThat(knownTenantRegistry.check("company-x")).isEqualTo(KnownTenantRegistry.Verdict.UNVERIFIED);
+
+        // When
+        knownTenantRegistry.recordMissing("company-x");
+
+        // Then
+        assertThat(knownTenantRegistry.check("company-x")).isEqualTo(KnownTenantRegistry.Verdict.UNKNOWN);
+        assertThat(rejected("negative")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("부정 캐시 - 상한을 넘지 않음")
+    void testRecordMissing_Bounded() {
+        // When: 상한 2개
+        knownTenantRegistry.recordMissing("scan-1");
+        knownTenantRegistry.recordMissing("scan-2");
+        knownTenantRegistry.recordMissing("scan-3");
+
+        // Then
+        assertThat(meterRegistry.get("tenant.negative.size").gauge().value()).isLessThanOrEqualTo(2);
+        assertThat(knownTenantRegistry.check("scan-3")).isEqualTo(KnownTenantRegistry.Verdict.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("다시 적재 - 새로 활성화된 기업은 부정 캐시에서 제거")
+    void testRefresh_ClearsNegativeEntries() {
+        // Given
+        knownTenantRegistry.recordMissing("company-new");
+        when(companyRepository.findActiveCodes()).thenReturn(Flux.just("company-a", "company-new"));
+
+        // When
+        StepVerifier.create(knownTenantRegistry.refresh()).verifyComplete();
+
+        // Then
+        assertThat(knownTenantRegistry.check("company-new")).isEqualTo(KnownTenantRegistry.Verdict.KNOWN);
+        assertThat(meterRegistry.get("tenant.negative.size").gauge().value()).isZero();
+    }
+}
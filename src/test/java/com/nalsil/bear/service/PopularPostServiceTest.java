@@ -0,0 +1,207 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.post.PopularPostSnapshot;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostPopularityRepository;
+import com.nalsil.bear.dto.response.PopularPostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PopularPostService 단위 테스트
+ * 감쇠 점수 기반 상위 K 순위 유지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PopularPostServiceTest {
+
+    @Mock
+    private PostPopularityRepository postPopularityRepository;
+
+    private PopularPostService popularPostService;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        popularPostService = new PopularPostService(postPopularityRepository, 2, Duration.ofHours(24));
+        board = Board.builder().id(1L).companyId(10L).type("notice").name("공지사항").build();
+    }
+
+    private Post post(long id) {
+        return Post.builder().id(id).boardId(1L).title("게시글 " + id).isHidden(false).build();
+    }
+
+    @Test
+    @DisplayName("조회 수가 많은 순으로 상위 K개만 유지")
+    void testRecordView_TopK() {
+        // Given
+        view(post(1L), 1);
+        view(post(2L), 3);
+        view(post(3L), 2);
+
+        // When
+        List<PopularPostResponse> popular = popularPostService.getPopularPostsByBoardId(1L);
+
+        // Then
+        assertThat(popular).extracting(PopularPostResponse::getPostId).containsExactly(2L, 3L);
+        assertThat(popularPostService.getPopularPostsByCompanyId(10L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("숨김 처리된 게시글은 제외하고 다음 순위로 채움")
+    void testRefresh_Hidden() {
+        // Given
+        view(post(1L), 1);
+        view(post(2L), 3);
+        view(post(3L), 2);
+        Post hidden = post(2L);
+        hidden.setIsHidden(true);
+
+        // When
+        StepVerifier.create(popularPostService.refresh(hidden)).verifyComplete();
+
+        // Then
+        assertThat(popularPostService.getPopularPostsByBoardId(1L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("숨김 해제 - 체크포인트 점수로 순위에 복원")
+    void testRefresh_Unhidden() {
+        // Given: 게시글 2를 숨김 처리해 순위에서 제외
+        view(post(1L), 1);
+        view(post(2L), 3);
+        Post hidden = post(2L);
+        hidden.setIsHidden(true);
+        StepVerifier.create(popularPostService.refresh(hidden)).verifyComplete();
+        when(postPopularityRepository.findVisibleSnapshot(2L)).thenReturn(Mono.just(PopularPostSnapshot.builder()
+                .postId(2L).boardId(1L).boardType("notice").companyId(10L).title("게시글 2")
+                .score(3.0).scoredAt(LocalDateTime.now()).build()));
+
+        // When: 숨김 해제
+        StepVerifier.create(popularPostService.refresh(post(2L))).verifyComplete();
+
+        // Then
+        assertThat(popularPostService.getPopularPostsByBoardId(1L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("조회 기록이 없는 게시판 - 빈 목록")
+    void testGetPopularPosts_Empty() {
+        assertThat(popularPostService.getPopularPostsByBoardId(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 지난 체크포인트 이후 증가분만 합산 저장하고 다른 노드 점수를 순위에 반영")
+    void testCheckpoint_MergesIncrements() {
+        // Given: 다른 노드 조회분이 합산된 게시글 9
+        view(post(1L), 1);
+        view(post(2L), 3);
+        when(postPopularityRepository.merge(anyLong(), anyDouble(), any(LocalDateTime.class), anyDouble()))
+                .thenReturn(Mono.just(1));
+        when(postPopularityRepository.deleteDecayedBelow(any(LocalDateTime.class), anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(0));
+        when(postPopularityRepository.findVisibleSnapshots()).thenReturn(Flux.just(PopularPostSnapshot.builder()
+                .postId(9L).boardId(1L).boardType("notice").companyId(10L).title("게시글 9")
+                .score(100.0).scoredAt(LocalDateTime.now()).build()));
+
+        // When: 체크포인트 두 번 (두 번째 전에 게시글 2를 한 번 더 조회)
+        StepVerifier.create(popularPostService.checkpoint()).verifyComplete();
+        view(post(2L), 1);
+        StepVerifier.create(popularPostService.checkpoint()).verifyComplete();
+
+        // Then: 증가분만 저장 (게시글 2는 3 → 1), 합산 점수 순위
+        verify(postPopularityRepository).merge(eq(1L), doubleThat(score -> Math.abs(score - 1) < 0.01), any(), anyDouble());
+        verify(postPopularityRepository).merge(eq(2L), doubleThat(score -> Math.abs(score - 3) < 0.01), any(), anyDouble());
+        verify(postPopularityRepository).merge(eq(2L), doubleThat(score -> Math.abs(score - 1) < 0.01), any(), anyDouble());
+        verify(postPopularityRepository, times(3)).merge(anyLong(), anyDouble(), any(), anyDouble());
+        assertThat(popularPostService.getPopularPostsByBoardId(1L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(9L, 2L);
+    }
+
+    @Test
+    @DisplayName("체크포인트 실패 - 저장하지 못한 증가분은 다음 체크포인트에서 다시 저장")
+    void testCheckpoint_RetriesFailedIncrements() {
+        // Given
+        view(post(1L), 2);
+        when(postPopularityRepository.merge(anyLong(), anyDouble(), any(LocalDateTime.class), anyDouble()))
+                .thenReturn(Mono.error(new IllegalStateException("DB 연결 실패")), Mono.just(1));
+        when(postPopularityRepository.deleteDecayedBelow(any(LocalDateTime.class), anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(0));
+        when(postPopularityRepository.findVisibleSnapshots()).thenReturn(Flux.empty());
+
+        // When
+        StepVerifier.create(popularPostService.checkpoint()).verifyComplete();
+        StepVerifier.create(popularPostService.checkpoint()).verifyComplete();
+
+        // Then: 같은 증가분을 두 번 시도
+        verify(postPopularityRepository, times(2))
+                .merge(eq(1L), doubleThat(score -> Math.abs(score - 2) < 0.01), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("동시 조회 기록 - 잠금 없이 모든 조회가 점수와 순위에 반영")
+    void testRecordView_Concurrent() throws InterruptedException {
+        // Given: 게시글 1~3을 각각 1000, 2000, 3000번씩 4개 스레드에서 나누어 조회
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 250; i++) {
+                    view(post(1L), 1);
+                    view(post(2L), 2);
+                    view(post(3L), 3);
+                }
+            });
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then: 순위와 체크포인트 점수(조회 수)가 모두 반영
+        assertThat(popularPostService.getPopularPostsByBoardId(1L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(3L, 2L);
+        assertThat(popularPostService.getPopularPostsByCompanyId(10L))
+                .extracting(PopularPostResponse::getPostId).containsExactly(3L, 2L);
+
+        when(postPopularityRepository.merge(anyLong(), anyDouble(), any(LocalDateTime.class), anyDouble()))
+                .thenReturn(Mono.just(1));
+        when(postPopularityRepository.deleteDecayedBelow(any(LocalDateTime.class), anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(0));
+        when(postPopularityRepository.findVisibleSnapshots()).thenReturn(Flux.empty());
+        StepVerifier.create(popularPostService.checkpoint()).verifyComplete();
+        verify(postPopularityRepository).merge(eq(3L), doubleThat(score -> Math.abs(score - 3000) < 1), any(), anyDouble());
+        verify(postPopularityRepository).merge(eq(2L), doubleThat(score -> Math.abs(score - 2000) < 1), any(), anyDouble());
+    }
+
+    private void view(Post post, int times) {
+        for (int i = 0; i < times; i++) {
+            popularPostService.recordView(board, post);
+        }
+    }
+}
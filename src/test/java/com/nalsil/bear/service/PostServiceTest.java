@@ -9,12 +9,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +35,9 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PopularPostService popularPostService;
+
     @InjectMocks
     private PostService postService;
 
@@ -84,6 +93,27 @@ class PostServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("게시판 ID로 게시글 페이지 조회 - 목록과 전체 개수")
+    void testGetVisiblePostPageByBoardId_Success() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(postRepository.findVisiblePageByBoardId(1L, pageable))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(testPost1, testPost2), pageable, 5)));
+
+        // When
+        Mono<Page<Post>> result = postService.getVisiblePostPageByBoardId(1L, pageable);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(page ->
+                        page.getContent().size() == 2 &&
+                        page.getTotalElements() == 5 &&
+                        page.getTotalPages() == 3
+                )
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("게시판 ID로 게시글 목록 조회 - 빈 결과")
     void testGetVisiblePostsByBoardId_Empty() {
@@ -104,11 +134,11 @@ class PostServiceTest {
     @DisplayName("게시글 ID와 숨김 여부로 조회 - 성공")
     void testGetPostByIdAndIsHidden_Success() {
         // Given
-        when(postRepository.findByIdAndIsHidden(1L, false))
+        when(postRepository.findByIdAndBoardIdAndIsHidden(1L, 1L, false))
                 .thenReturn(Mono.just(testPost1));
 
         // When
-        Mono<Post> result = postService.getPostByIdAndIsHidden(1L, false);
+        Mono<Post> result = postService.getPostByIdAndIsHidden(1L, 1L, false);
 
         // Then
         StepVerifier.create(result)
@@ -123,11 +153,11 @@ class PostServiceTest {
     @DisplayName("게시글 ID와 숨김 여부로 조회 - 존재하지 않음")
     void testGetPostByIdAndIsHidden_NotFound() {
         // Given
-        when(postRepository.findByIdAndIsHidden(anyLong(), anyBoolean()))
+        when(postRepository.findByIdAndBoardIdAndIsHidden(anyLong(), anyLong(), anyBoolean()))
                 .thenReturn(Mono.empty());
 
         // When
-        Mono<Post> result = postService.getPostByIdAndIsHidden(999L, false);
+        Mono<Post> result = postService.getPostByIdAndIsHidden(1L, 999L, false);
 
         // Then
         StepVerifier.create(result)
@@ -138,17 +168,17 @@ class PostServiceTest {
     @DisplayName("조회수 증가 - 성공")
     void testIncrementViewCount_Success() {
         // Given
-        when(postRepository.incrementViewCount(1L))
+        when(postRepository.incrementViewCount(1L, 1L))
                 .thenReturn(Mono.just(1));
 
         // When
-        Mono<Void> result = postService.incrementViewCount(1L);
+        Mono<Void> result = postService.incrementViewCount(1L, 1L);
 
         // Then
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(postRepository).incrementViewCount(1L);
+        verify(postRepository).incrementViewCount(1L, 1L);
     }
 
     @Test
@@ -182,4 +212,70 @@ class PostServiceTest {
                 .expectNext(0L)
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("게시글 수정 - 수정 폼 컬럼만 UPDATE 후 저장된 행으로 인기 게시글 반영")
+    void testUpdatePost_Success() {
+        // Given: 폼의 숨김 여부는 비어 있고(기존 값 유지) 저장된 행은 숨김
+        Post changes = Post.builder().id(1L).boardId(1L).version(3L)
+                .title("수정된 제목").content("수정된 내용").updatedAt(LocalDateTime.now()).build();
+        Post stored = Post.builder().id(1L).boardId(1L).version(4L)
+                .title("수정된 제목").content("수정된 내용").isHidden(true).build();
+        when(postRepository.updateContent(eq(1L), eq(1L), eq(3L), eq("수정된 제목"), eq("수정된 내용"),
+                isNull(), isNull(), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1));
+        when(postRepository.findByIdAndBoardId(1L, 1L)).thenReturn(Mono.just(stored));
+        when(popularPostService.refresh(stored)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(postService.updatePost(changes))
+                .expectNext(changes)
+                .verifyComplete();
+        verify(popularPostService).refresh(stored);
+    }
+
+    @Test
+    @DisplayName("게시글 숨김 해제 - 저장된 행으로 인기 게시글 복원")
+    void testUpdatePostHidden_Unhide() {
+        // Given
+        Post stored = Post.builder().id(5L).boardId(2L).version(1L).title("제목").isHidden(false).build();
+        when(postRepository.updateHidden(eq(5L), eq(2L), eq(0L), eq(false), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1));
+        when(postRepository.findByIdAndBoardId(5L, 2L)).thenReturn(Mono.just(stored));
+        when(popularPostService.refresh(stored)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(postService.updatePostHidden(2L, 5L, 0L, false))
+                .expectNext(true)
+                .verifyComplete();
+        verify(popularPostService).refresh(stored);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 다른 관리자가 먼저 수정하면 충돌")
+    void testUpdatePost_Conflict() {
+        // Given: 버전 불일치로 0행 수정, 게시글은 존재
+        Post changes = Post.builder().id(1L).boardId(1L).version(3L).title("제목").content("내용").build();
+        when(postRepository.updateContent(anyLong(), anyLong(), anyLong(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(0));
+        when(postRepository.existsByIdAndBoardId(1L, 1L)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(postService.updatePost(changes))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("게시글 숨김 변경 - 게시판에 없는 게시글이면 empty")
+    void testUpdatePostHidden_NotInBoard() {
+        // Given
+        when(postRepository.updateHidden(eq(5L), eq(2L), eq(0L), eq(true), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(0));
+        when(postRepository.existsByIdAndBoardId(5L, 2L)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(postService.updatePostHidden(2L, 5L, 0L, true))
+                .verifyComplete();
+    }
 }
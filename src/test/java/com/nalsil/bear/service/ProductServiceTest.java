@@ -30,6 +30,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private TenantReadModel tenantReadModel;
+
     @InjectMocks
     private ProductService productService;
 
@@ -69,7 +72,7 @@ class ProductServiceTest {
     void testGetVisibleProductsByCompanyId_Success() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        when(productRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(1L, false, pageable))
+        when(tenantReadModel.getVisibleProducts(1L, null, pageable))
                 .thenReturn(Flux.just(testProduct1, testProduct2));
 
         // When
@@ -94,8 +97,7 @@ class ProductServiceTest {
     void testGetVisibleProductsByCompanyId_Empty() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        when(productRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(
-                anyLong(), anyBoolean(), any(Pageable.class)))
+        when(tenantReadModel.getVisibleProducts(anyLong(), isNull(), any(Pageable.class)))
                 .thenReturn(Flux.empty());
 
         // When
@@ -111,8 +113,7 @@ class ProductServiceTest {
     void testGetVisibleProductsByCompanyIdAndCategory_Success() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        when(productRepository.findByCompanyIdAndCategoryAndIsHiddenOrderByDisplayOrderAsc(
-                1L, "전자제품", false, pageable))
+        when(tenantReadModel.getVisibleProducts(1L, "전자제품", pageable))
                 .thenReturn(Flux.just(testProduct1, testProduct2));
 
         // When
@@ -136,7 +137,7 @@ class ProductServiceTest {
     @DisplayName("기업 ID로 상품 개수 조회 (숨김 제외) - 성공")
     void testCountVisibleProductsByCompanyId_Success() {
         // Given
-        when(productRepository.countByCompanyIdAndIsHidden(1L, false))
+        when(tenantReadModel.countVisibleProducts(1L, null))
                 .thenReturn(Mono.just(2L));
 
         // When
@@ -152,7 +153,7 @@ class ProductServiceTest {
     @DisplayName("기업 ID로 상품 개수 조회 - 0개")
     void testCountVisibleProductsByCompanyId_Zero() {
         // Given
-        when(productRepository.countByCompanyIdAndIsHidden(anyLong(), anyBoolean()))
+        when(tenantReadModel.countVisibleProducts(anyLong(), isNull()))
                 .thenReturn(Mono.just(0L));
 
         // When
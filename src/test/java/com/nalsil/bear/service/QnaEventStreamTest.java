@@ -0,0 +1,113 @@
+package com.nalsil.bear.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QnaEventStream 단위 테스트
+ * 기업별 이벤트 전달, 연결별 버퍼 상한, heartbeat/최대 유지 시간 검증
+ */
+class QnaEventStreamTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QnaEventStream qnaEventStream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        qnaEventStream = new QnaEventStream(new R2dbcProperties(), new ObjectMapper(), meterRegistry,
+                2, Duration.ofSeconds(20), Duration.ofMinutes(30), Duration.ofSeconds(5));
+    }
+
+    private static QnaEventStream.QnaEvent created(long id, long companyId) {
+        return new QnaEventStream.QnaEvent("question-created", id, companyId, "질문 " + id, false, false, 1);
+    }
+
+    @Test
+    @DisplayName("NOTIFY 페이로드 - 같은 기업 관리자에게만 SSE로 전달")
+    void testStream_FiltersByCompany() {
+        StepVerifier.create(qnaEventStream.stream(1L))
+                .assertNext(ready -> assertThat(ready.comment()).isEqualTo("connected"))
+                .then(() -> {
+                    qnaEventStream.handle("{\"type\":\"question-created\",\"id\":10,\"companyId\":2,\"title\":\"다른 기업\",\"answered\":false,\"hidden\":false,\"unansweredDelta\":1}");
+                    qnaEventStream.handle("{\"type\":\"question-updated\",\"id\":11,\"companyId\":1,\"title\":\"배송 문의\",\"answered\":true,\"hidden\":false,\"unansweredDelta\":-1}");
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("question-updated");
+                    assertThat(event.id()).isEqualTo("11");
+                    assertThat(event.data().answered()).isTrue();
+                    assertThat(event.data().unansweredDelta()).isEqualTo(-1);
+                })
+                .thenCancel()
+                .verify();
+
+        assertThat(meterRegistry.get("qna.events.connections").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 연결 - 버퍼를 넘으면 오래된 이벤트부터 버림")
+    void testStream_BoundedBuffer() {
+        StepVerifier.create(qnaEventStream.stream(1L), 1)
+                .expectNextCount(1)
+                .then(() -> {
+                    // 1은 전송 대기, 2~5 중 버퍼(2개)에 남는 것은 4, 5
+                    for (long id = 1; id <= 5; id++) {
+                        qnaEventStream.publish(created(id, 1L));
+                    }
+                })
+                .thenRequest(3)
+                .assertNext(event -> assertThat(event.data().id()).isEqualTo(1L))
+                .assertNext(event -> assertThat(event.data().id()).isEqualTo(4L))
+                .assertNext(event -> assertThat(event.data().id()).isEqualTo(5L))
+                .thenCancel()
+                .verify();
+
+        assertThat(meterRegistry.get("qna.events.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("잘못된 페이로드 - 무시하고 스트림 유지")
+    void testHandle_InvalidPayload() {
+        StepVerifier.create(qnaEventStream.stream(1L))
+                .expectNextCount(1)
+                .then(() -> {
+                    qnaEventStream.handle("not-json");
+                    qnaEventStream.publish(created(7L, 1L));
+                })
+                .assertNext(event -> assertThat(event.data().id()).isEqualTo(7L))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("유휴 연결 - heartbeat 전송 후 최대 유지 시간이 지나면 종료")
+    void testStream_HeartbeatAndLifetime() {
+        StepVerifier.withVirtualTime(() -> qnaEventStream.stream(1L))
+                .expectNextCount(1)
+                .thenAwait(Duration.ofSeconds(20))
+                .assertNext(event -> assertThat(event.comment()).isEqualTo("keepalive"))
+                .thenAwait(Duration.ofMinutes(30))
+                .thenConsumeWhile(event -> "keepalive".equals(event.comment()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("LISTEN 채널 - schema.sql 트리거의 NOTIFY 채널과 같음")
+    void testChannel_MatchesTrigger() throws Exception {
+        // 테스트 리소스의 H2 schema.sql이 아닌 운영 스키마
+        String schema = Files.readString(Path.of("src/main/resources/schema.sql"));
+
+        assertThat(schema).contains("pg_notify(''" + QnaEventStream.CHANNEL + "''");
+    }
+}
@@ -0,0 +1,188 @@
+package com.nalsil.bear.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.nalsil.bear.domain.admin.Admin;
+import com.nalsil.bear.domain.admin.AdminRepository;
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.qna.Qna;
+import com.nalsil.bear.domain.qna.QnaNotification;
+import com.nalsil.bear.domain.qna.QnaNotificationRepository;
+import com.nalsil.bear.domain.qna.QnaRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * QnaNotificationDispatcher 단위 테스트
+ * 로컬 SMTP 대체 서버(GreenMail)로 outbox 일괄 발송, 재시도, dead letter 처리 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class QnaNotificationDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private QnaNotificationRepository qnaNotificationRepository;
+
+    @Mock
+    private QnaRepository qnaRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private Qna qna;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = Company.builder().id(1L).code("companyA").name("A기업").email("contact@a.com").build();
+        qna = Qna.builder()
+                .id(10L)
+                .companyId(1L)
+                .questionTitle("배송 문의")
+                .questionBody("언제 도착하나요?")
+                .askerEmail("asker@example.com")
+                .answerBody("내일 도착합니다.")
+                .build();
+    }
+
+    private QnaNotificationDispatcher dispatcher(int smtpPort, int maxAttempts) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        mailSender.setDefaultEncoding("UTF-8");
+        return new QnaNotificationDispatcher(qnaNotificationRepository, qnaRepository, companyRepository,
+                adminRepository, mailSender, Schedulers.boundedElastic(), "no-reply@bear.local", 50, maxAttempts,
+                Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    private QnaNotification pending(String eventType, int attempts) {
+        QnaNotification notification = QnaNotification.pending(qna, eventType);
+        notification.setId(100L);
+        notification.setAttempts(attempts);
+        when(qnaNotificationRepository.findDue(any(), anyInt())).thenReturn(Flux.just(notification));
+        when(qnaNotificationRepository.claim(anyLong(), any(), any())).thenReturn(Mono.just(1));
+        when(qnaNotificationRepository.save(any(QnaNotification.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(qnaRepository.findByIdAndCompanyId(10L, 1L)).thenReturn(Mono.just(qna));
+        when(companyRepository.findById(1L)).thenReturn(Mono.just(company));
+        return notification;
+    }
+
+    private QnaNotification savedNotification() {
+        ArgumentCaptor<QnaNotification> captor = ArgumentCaptor.forClass(QnaNotification.class);
+        verify(qnaNotificationRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("새 질문 알림 - 기업 관리자에게 발송 후 SENT 처리")
+    void testDispatch_QuestionCreated() throws Exception {
+        // Given
+        pending(QnaNotification.EVENT_QUESTION_CREATED, 0);
+        when(adminRepository.findByCompanyId(1L))
+                .thenReturn(Flux.just(Admin.builder().id(1L).companyId(1L).email("admin@a.com").build()));
+
+        // When
+        StepVerifier.create(dispatcher(ServerSetupTest.SMTP.getPort(), 8).dispatch())
+                .verifyComplete();
+
+        // Then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("admin@a.com");
+        assertThat(received[0].getSubject()).contains("새 질문", "배송 문의");
+        assertThat(savedNotification().getStatus()).isEqualTo(QnaNotification.STATUS_SENT);
+    }
+
+    @Test
+    @DisplayName("답변 알림 - 질문자 이메일로 발송")
+    void testDispatch_Answered() throws Exception {
+        // Given
+        pending(QnaNotification.EVENT_ANSWERED, 0);
+
+        // When
+        StepVerifier.create(dispatcher(ServerSetupTest.SMTP.getPort(), 8).dispatch())
+                .verifyComplete();
+
+        // Then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("asker@example.com");
+        assertThat(GreenMailUtil.getBody(received[0])).isNotBlank();
+        assertThat(savedNotification().getSentAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 - 시도 횟수 증가 후 백오프 재시도 예약")
+    void testDispatch_RetryWithBackoff() {
+        // Given: 닫힌 포트로 발송
+        pending(QnaNotification.EVENT_ANSWERED, 0);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        StepVerifier.create(dispatcher(1, 8).dispatch())
+                .verifyComplete();
+
+        // Then
+        QnaNotification saved = savedNotification();
+        assertThat(saved.getStatus()).isEqualTo(QnaNotification.STATUS_PENDING);
+        assertThat(saved.getAttempts()).isEqualTo(1);
+        assertThat(saved.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(saved.getLastError()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 - DEAD 처리")
+    void testDispatch_DeadLetter() {
+        // Given: 마지막 시도
+        pending(QnaNotification.EVENT_ANSWERED, 2);
+
+        // When
+        StepVerifier.create(dispatcher(1, 3).dispatch())
+                .verifyComplete();
+
+        // Then
+        QnaNotification saved = savedNotification();
+        assertThat(saved.getStatus()).isEqualTo(QnaNotification.STATUS_DEAD);
+        assertThat(saved.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간 - 2배씩 증가하고 최대값으로 제한")
+    void testBackoff() {
+        QnaNotificationDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 8);
+
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.nalsil.bear.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QnaSubmissionGuard 단위 테스트
+ * 기업별 IP/이메일 등록 한도와 같은 본문 반복 차단 검증
+ */
+class QnaSubmissionGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private QnaSubmissionGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new QnaSubmissionGuard(meterRegistry, Duration.ofMinutes(10), 3, 2,
+                Duration.ofHours(1), 1000, clock::get);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.find("qna.submission.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 질문자의 같은 본문 반복 - 공백/대소문자가 달라도 중복으로 거부")
+    void testAdmit_Duplicate() {
+        // Given
+        assertThat(guard.admit(1L, "10.0.0.1", "a@example.com", "배송은 언제 되나요?")).isEqualTo(QnaSubmissionGuard.Decision.ACCEPTED);
+
+        // When
+        QnaSubmissionGuard.Decision decision = guard.admit(1L, "10.0.0.2", " A@Example.com", "  배송은   언제 되나요? ");
+
+        // Then
+        assertThat(decision).isEqualTo(QnaSubmissionGuard.Decision.DUPLICATE);
+        assertThat(rejected("duplicate")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 본문 - 다른 질문자, 다른 기업이거나 차단 기간이 지나면 허용")
+    void testAdmit_DuplicateScope() {
+        // Given
+        guard.admit(1L, "10.0.0.1", "a@example.com", "환불 문의");
+
+        // When & Then
+        assertThat(guard.admit(1L, "10.0.0.2", "b@example.com", "환불 문의")).isEqualTo(QnaSubmissionGuard.Decision.ACCEPTED);
+        assertThat(guard.admit(2L, "10.0.0.1", "a@example.com", "환불 문의")).isEqualTo(QnaSubmissionGuard.Decision.ACCEPTED);
+
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        assertThat(guard.admit(1L, "10.0.0.1", "a@example.com", "환불 문의")).isEqualTo(QnaSubmissionGuard.Decision.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("IP 한도 초과 - 구간이 지나면 다시 허용")
+    void testAdmit_IpRateLimited() {
+        // Given: IP당 3건
+        for (int i = 0; i < 3; i++) {
+            assertThat(guard.admit(1L, "10.0.0.1", "user" + i + "@example.com", "질문 " + i).isAccepted()).isTrue();
+        }
+
+        // When
+        QnaSubmissionGuard.Decision decision = guard.admit(1L, "10.0.0.1", "other@example.com", "질문 3");
+
+        // Then
+        assertThat(decision).isEqualTo(QnaSubmissionGuard.Decision.IP_RATE_LIMITED);
+        assertThat(rejected("ip_rate_limited")).isEqualTo(1.0);
+
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertThat(guard.admit(1L, "10.0.0.1", "other@example.com", "질문 3").isAccepted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이메일 한도 초과 - 대소문자가 달라도 같은 이메일로 집계")
+    void testAdmit_EmailRateLimited() {
+        // Given: 이메일당 2건
+        guard.admit(1L, "10.0.0.1", "a@example.com", "질문 1");
+        guard.admit(1L, "10.0.0.2", "A@Example.com", "질문 2");
+
+        // When
+        QnaSubmissionGuard.Decision decision = guard.admit(1L, "10.0.0.3", "a@example.com", "질문 3");
+
+        // Then
+        assertThat(decision).isEqualTo(QnaSubmissionGuard.Decision.EMAIL_RATE_LIMITED);
+        assertThat(rejected("email_rate_limited")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("본문 해시 기록 취소 - 같은 질문 다시 제출 가능")
+    void testForget() {
+        // Given
+        guard.admit(1L, "10.0.0.1", "a@example.com", "설치 문의");
+
+        // When
+        guard.forget(1L, "a@example.com", "설치 문의");
+
+        // Then
+        assertThat(guard.admit(1L, "10.0.0.1", "a@example.com", "설치 문의")).isEqualTo(QnaSubmissionGuard.Decision.ACCEPTED);
+    }
+}
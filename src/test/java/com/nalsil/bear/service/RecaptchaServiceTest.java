@@ -0,0 +1,169 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecaptchaService 단위 테스트
+ * 로컬 스텁 서버(reactor-netty)로 검증 결과, 시간 초과, 회로 차단, 토큰 재사용 차단 검증
+ */
+class RecaptchaServiceTest {
+
+    private static final String SUCCESS = "{\"success\":true,\"score\":0.9,\"action\":\"submit\",\"hostname\":\"localhost\"}";
+    private static final String LOW_SCORE = "{\"success\":true,\"score\":0.1,\"action\":\"submit\"}";
+    private static final String OTHER_ACTION = "{\"success\":true,\"score\":0.9,\"action\":\"login\"}";
+
+    private DisposableServer stubServer;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> body = new AtomicReference<>(SUCCESS);
+    private final AtomicReference<Duration> delay = new AtomicReference<>(Duration.ZERO);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stubServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/siteverify", (request, response) -> {
+                    hits.incrementAndGet();
+                    return request.receive().then()
+                            .then(response.status(status.get())
+                                    .header("Content-Type", "application/json")
+                                    .sendString(Mono.just(body.get()).delayElement(delay.get()))
+                                    .then());
+                }))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.disposeNow();
+    }
+
+    private RecaptchaService service(boolean failOpen) {
+        return new RecaptchaService(WebClient.builder(), meterRegistry, true, "site-key", "secret",
+                "http://localhost:" + stubServer.port() + "/siteverify",
+                Duration.ofMillis(300), failOpen, 0.5, "submit", Duration.ofMinutes(2), 2, Duration.ofMinutes(1));
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.find("recaptcha.verification").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    @DisplayName("검증 성공 - 점수가 기준 이상이면 통과")
+    void testVerify_Success() {
+        StepVerifier.create(service(false).verify("token-1", "127.0.0.1"))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(count("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 거부 - 점수가 기준 미만")
+    void testVerify_LowScore() {
+        body.set(LOW_SCORE);
+
+        StepVerifier.create(service(false).verify("token-1", null))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 거부 - v3 action이 폼 action과 다름")
+    void testVerify_ActionMismatch() {
+        body.set(OTHER_ACTION);
+
+        StepVerifier.create(service(false).verify("token-1", null))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 재사용 - 검증 서버 호출 없이 거부")
+    void testVerify_Replay() {
+        RecaptchaService service = service(false);
+
+        StepVerifier.create(service.verify("token-1", null)).expectNext(true).verifyComplete();
+        StepVerifier.create(service.verify("token-1", null)).expectNext(false).verifyComplete();
+
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(count("replay")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 초과 - fail-closed 설정이면 거부")
+    void testVerify_TimeoutFailClosed() {
+        delay.set(Duration.ofSeconds(2));
+
+        StepVerifier.create(service(false).verify("token-1", null))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 서버 오류 - fail-open 설정이면 통과")
+    void testVerify_ErrorFailOpen() {
+        status.set(503);
+
+        StepVerifier.create(service(true).verify("token-1", null))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(count("error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패 - 회로가 열려 검증 서버를 호출하지 않음")
+    void testVerify_CircuitOpen() {
+        status.set(500);
+        RecaptchaService service = service(false);
+
+        StepVerifier.create(service.verify("token-1", null)).expectNext(false).verifyComplete();
+        StepVerifier.create(service.verify("token-2", null)).expectNext(false).verifyComplete();
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        StepVerifier.create(service.verify("token-3", null)).expectNext(false).verifyComplete();
+
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(count("circuit_open")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 비활성화 - 토큰 없이 통과")
+    void testVerify_Disabled() {
+        RecaptchaService service = new RecaptchaService(WebClient.builder(), meterRegistry, false, "", "", "",
+                Duration.ofSeconds(1), false, 0.5, "submit", Duration.ofMinutes(2), 5, Duration.ofSeconds(30));
+
+        StepVerifier.create(service.verify(null, null))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(service.getSiteKey()).isNull();
+        assertThat(hits.get()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.common.ContentStats;
+import com.nalsil.bear.domain.company.Company;
+import com.nalsil.bear.domain.company.CompanyRepository;
+import com.nalsil.bear.domain.company.SitemapEntry;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SitemapService 단위 테스트
+ * 사이트맵 분할 범위, URL/피드 XML 작성 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class SitemapServiceTest {
+
+    private static final String BASE = "https://bear.example.com";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 31, 9, 30);
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TenantReadModel tenantReadModel;
+
+    private SitemapService sitemapService(int maxUrlsPerFile) {
+        return new SitemapService(companyRepository, postRepository, tenantReadModel, "", maxUrlsPerFile, 30);
+    }
+
+    private final Company company = Company.builder().id(1L).code("company-a").name("테크솔루션").build();
+
+    private final Board board = Board.builder().id(1L).companyId(1L).name("공지사항").type("notice").build();
+
+    private String join(Flux<String> fragments) {
+        return String.join("", fragments.collectList().block());
+    }
+
+    @Test
+    @DisplayName("사이트맵 구성 - 파일당 상한을 넘으면 인덱스로 분할")
+    void testGetPlan_Indexed() {
+        // Given: 고정 페이지 7개(홈, 소개, 상품, 영상, FAQ, QnA, 게시판 1개) + 상세 페이지 10개, 파일당 5개
+        when(companyRepository.findSitemapStats(1L)).thenReturn(Mono.just(new ContentStats(10, UPDATED_AT, 55)));
+        when(tenantReadModel.getBoardTypes(1L)).thenReturn(Mono.just(List.of(board.getType())));
+
+        // When & Then
+        StepVerifier.create(sitemapService(5).getPlan(company))
+                .assertNext(plan -> {
+                    assertThat(plan.totalUrls()).isEqualTo(17);
+                    assertThat(plan.isIndexed()).isTrue();
+                    assertThat(plan.pageCount()).isEqualTo(4);
+                    assertThat(plan.lastModified()).isEqualTo(UPDATED_AT);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("분할 사이트맵 - 고정 페이지 다음 상세 페이지 범위만 조회")
+    void testUrlset_Page() {
+        // Given: 2번째 파일은 전체 목록의 6~10번째 (고정 페이지 2개 + 상세 페이지 3개)
+        SitemapService.SitemapPlan plan = new SitemapService.SitemapPlan(
+                List.of("notice"), new ContentStats(10, UPDATED_AT, 55), 5);
+        when(companyRepository.findSitemapEntries(1L, 0, 3)).thenReturn(Flux.just(
+                new SitemapEntry(SitemapEntry.POST, 1L, "notice", UPDATED_AT),
+                new SitemapEntry(SitemapEntry.PRODUCT, 2L, null, UPDATED_AT),
+                new SitemapEntry(SitemapEntry.YOUTUBE, 3L, null, null)));
+
+        // When
+        String xml = join(sitemapService(5).urlset(BASE, company, plan, 2));
+
+        // Then
+        verify(companyRepository).findSitemapEntries(1L, 0, 3);
+        assertThat(xml).startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<urlset");
+        assertThat(xml).contains(
+                "<loc>https://bear.example.com/company-a/qna</loc>",
+                "<loc>https://bear.example.com/company-a/board/notice</loc>",
+                "<loc>https://bear.example.com/company-a/board/notice/1</loc><lastmod>2025-01-31T09:30:00",
+                "<loc>https://bear.example.com/company-a/products/2</loc>",
+                "<url><loc>https://bear.example.com/company-a/youtube/3</loc></url>");
+        assertThat(xml).doesNotContain("/company-a/faq<");
+        assertThat(xml).endsWith("</urlset>\n");
+    }
+
+    @Test
+    @DisplayName("사이트맵 인덱스 - 분할 파일 목록")
+    void testSitemapIndex() {
+        // Given
+        SitemapService.SitemapPlan plan = new SitemapService.SitemapPlan(
+                List.of(), new ContentStats(10, UPDATED_AT, 55), 5);
+
+        // When
+        String xml = join(sitemapService(5).sitemapIndex(BASE, company, plan));
+
+        // Then: 고정 페이지 6개 + 상세 페이지 10개 → 4개 파일
+        assertThat(xml).contains("<sitemapindex",
+                "<loc>https://bear.example.com/company-a/sitemap-1.xml</loc>",
+                "<loc>https://bear.example.com/company-a/sitemap-4.xml</loc>");
+        assertThat(xml).doesNotContain("sitemap-5.xml");
+    }
+
+    @Test
+    @DisplayName("RSS 피드 - 제목과 본문 요약을 이스케이프")
+    void testRss_EscapesContent() {
+        // Given
+        Post post = Post.builder()
+                .id(7L)
+                .boardId(1L)
+                .title("신제품 <출시> & 안내")
+                .content("첫 줄\n\n둘째 줄")
+                .author("관리자")
+                .createdAt(UPDATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+        when(postRepository.findByBoardIdAndIsHiddenOrderByCreatedAtDesc(eq(1L), eq(false), any(Pageable.class)))
+                .thenReturn(Flux.just(post));
+
+        // When
+        String xml = join(sitemapService(5).rss(BASE, company, board, new ContentStats(1, UPDATED_AT, 7)));
+
+        // Then
+        assertThat(xml).contains(
+                "<title>테크솔루션 - 공지사항</title>",
+                "<link>https://bear.example.com/company-a/board/notice</link>",
+                "<title>신제품 &lt;출시&gt; &amp; 안내</title>",
+                "<guid isPermaLink=\"true\">https://bear.example.com/company-a/board/notice/7</guid>",
+                "<description>첫 줄 둘째 줄</description>");
+        assertThat(xml).endsWith("</channel>\n</rss>\n");
+    }
+}
@@ -0,0 +1,157 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.board.BoardRepository;
+import com.nalsil.bear.domain.faq.FaqRepository;
+import com.nalsil.bear.domain.product.Product;
+import com.nalsil.bear.domain.product.ProductRepository;
+import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import com.nalsil.bear.dto.response.ProductCategoryFacetResponse;
+import com.nalsil.bear.support.TestCacheManagers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * TenantReadModel 단위 테스트
+ * 상품 카테고리 패싯(카테고리별 공개 상품 개수)의 증분 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantReadModelTest {
+
+    @Mock
+    private FaqRepository faqRepository;
+
+    @Mock
+    private YoutubeVideoRepository youtubeVideoRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private TenantReadModel tenantReadModel;
+
+    @BeforeEach
+    void setUp() {
+        tenantReadModel = new TenantReadModel(faqRepository, youtubeVideoRepository, boardRepository,
+                productRepository, TestCacheManagers.l1Only(), DataSize.ofMegabytes(64), Duration.ofMinutes(10));
+
+        // 기업 1의 공개 상품: 전자제품 2개, 가구 1개
+        when(faqRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(1L, false)).thenReturn(Flux.empty());
+        when(youtubeVideoRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(1L, false)).thenReturn(Flux.empty());
+        when(boardRepository.findByCompanyId(1L)).thenReturn(Flux.empty());
+        when(productRepository.findByCompanyIdAndIsHiddenOrderByDisplayOrderAsc(any(), any(), any(Pageable.class)))
+                .thenReturn(Flux.just(
+                        product(1L, "전자제품", 1, false),
+                        product(2L, "가구", 2, false),
+                        product(3L, "전자제품", 3, false)));
+    }
+
+    private Product product(long id, String category, int displayOrder, boolean hidden) {
+        return Product.builder()
+                .id(id)
+                .companyId(1L)
+                .name("상품 " + id)
+                .category(category)
+                .displayOrder(displayOrder)
+                .isHidden(hidden)
+                .build();
+    }
+
+    private List<ProductCategoryFacetResponse> facets() {
+        return tenantReadModel.getProductFacets(1L).collectList().block();
+    }
+
+    @Test
+    @DisplayName("카테고리 패싯 - 가나다순 카테고리와 공개 상품 개수")
+    void testGetProductFacets() {
+        // When
+        List<ProductCategoryFacetResponse> facets = facets();
+
+        // Then
+        assertThat(facets).extracting(ProductCategoryFacetResponse::getCategory).containsExactly("가구", "전자제품");
+        assertThat(facets).extracting(ProductCategoryFacetResponse::getCount).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("상품 숨김 - 마지막 상품이 숨겨진 카테고리는 패싯에서 제외")
+    void testApplyProduct_Hidden() {
+        // Given
+        facets();
+
+        // When
+        tenantReadModel.applyProduct(product(2L, "가구", 2, true));
+
+        // Then
+        assertThat(facets()).extracting(ProductCategoryFacetResponse::getCategory).containsExactly("전자제품");
+        assertThat(tenantReadModel.countVisibleProducts(1L, null).block()).isEqualTo(2L);
+        assertThat(tenantReadModel.getVisibleProduct(1L, 2L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 생성/카테고리 변경 - 개수와 표시 순서 갱신")
+    void testApplyProduct_CreateAndMove() {
+        // Given
+        facets();
+
+        // When
+        tenantReadModel.applyProduct(product(4L, "가구", 0, false));
+        tenantReadModel.applyProduct(product(3L, "가구", 3, false));
+
+        // Then
+        List<ProductCategoryFacetResponse> facets = facets();
+        assertThat(facets).extracting(ProductCategoryFacetResponse::getCategory).containsExactly("가구", "전자제품");
+        assertThat(facets).extracting(ProductCategoryFacetResponse::getCount).containsExactly(3L, 1L);
+        assertThat(tenantReadModel.getVisibleProducts(1L, "가구", PageRequest.of(0, 10)).collectList().block())
+                .extracting(Product::getId).containsExactly(4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("상품 삭제 - 카테고리 개수 감소")
+    void testRemoveProduct() {
+        // Given
+        facets();
+
+        // When
+        tenantReadModel.removeProduct(1L, 1L);
+
+        // Then
+        assertThat(facets()).extracting(ProductCategoryFacetResponse::getCount).containsExactly(1L, 1L);
+        assertThat(tenantReadModel.countVisibleProducts(1L, "전자제품").block()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반환된 상품 변경 - 스냅샷에는 영향 없음")
+    void testGetVisibleProduct_ReturnsCopy() {
+        // Given
+        Product returned = tenantReadModel.getVisibleProduct(1L, 1L).block();
+
+        // When: 조회 결과와 반영에 넘긴 상품을 호출 측에서 변경
+        returned.setName("변경된 이름");
+        returned.setCategory("가구");
+        Product applied = product(4L, "가구", 4, false);
+        tenantReadModel.applyProduct(applied);
+        applied.setIsHidden(true);
+
+        // Then
+        assertThat(tenantReadModel.getVisibleProduct(1L, 1L).block().getName()).isEqualTo("상품 1");
+        assertThat(tenantReadModel.getVisibleProducts(1L, "전자제품", Pageable.unpaged()).collectList().block())
+                .extracting(Product::getId).containsExactly(1L, 3L);
+        assertThat(tenantReadModel.getVisibleProduct(1L, 4L).block().getIsHidden()).isFalse();
+    }
+}
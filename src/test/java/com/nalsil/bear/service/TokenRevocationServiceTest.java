@@ -0,0 +1,128 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.admin.RevokedToken;
+import com.nalsil.bear.domain.admin.RevokedTokenRepository;
+import com.nalsil.bear.util.DataSourceRoutingContextHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * TokenRevocationService 단위 테스트
+ * 토큰 폐기 즉시 반영, 다른 노드 폐기 동기화 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 1000, 0.001, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 현재 노드에 즉시 반영하고 저장")
+    void testRevoke() {
+        // Given
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        when(revokedTokenRepository.insertIfAbsent(eq("jti-1"), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1));
+
+        // When
+        StepVerifier.create(tokenRevocationService.revoke("jti-1", 1L, expiresAt)).verifyComplete();
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked("jti-1")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("jti-2")).isFalse();
+        assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 저장 실패 - 오류를 전달하고 현재 노드에도 반영하지 않음")
+    void testRevoke_StoreFailed() {
+        // Given: 읽기 전용 연결 등으로 저장 실패
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        when(revokedTokenRepository.insertIfAbsent(eq("jti-1"), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Mono.error(new IllegalStateException("read-only transaction")));
+
+        // When & Then
+        StepVerifier.create(tokenRevocationService.revoke("jti-1", 1L, expiresAt))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(tokenRevocationService.isRevoked("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 복제본 라우팅 요청이어도 주 DB에서 저장")
+    void testRevoke_RoutesToPrimary() {
+        // Given
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        AtomicReference<DataSourceRoutingContextHolder.Route> route = new AtomicReference<>();
+        when(revokedTokenRepository.insertIfAbsent(eq("jti-1"), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(DataSourceRoutingContextHolder.getCurrentRoute().doOnNext(route::set).thenReturn(1));
+
+        // When & Then: 바깥(필터)에서 복제본을 지정해도 주 DB로 실행
+        StepVerifier.create(tokenRevocationService.revoke("jti-1", 1L, expiresAt)
+                        .contextWrite(ctx -> DataSourceRoutingContextHolder.setRoute(ctx, DataSourceRoutingContextHolder.Route.REPLICA)))
+                .verifyComplete();
+        assertThat(route.get()).isEqualTo(DataSourceRoutingContextHolder.Route.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("토큰 ID가 없는 이전 형식 토큰은 폐기하지 않음")
+    void testRevoke_WithoutTokenId() {
+        StepVerifier.create(tokenRevocationService.revoke(null, 1L, Instant.now())).verifyComplete();
+
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("동기화 - 다른 노드에서 폐기한 토큰 반영, 이후에는 증분 조회")
+    void testSync() {
+        // Given
+        RevokedToken token = RevokedToken.builder()
+                .jti("jti-other-node")
+                .adminId(2L)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .revokedAt(LocalDateTime.now())
+                .build();
+        when(revokedTokenRepository.findActiveRevokedSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(token))
+                .thenReturn(Flux.empty());
+
+        // When: 기동 시 전체 적재 + 다음 주기 증분 동기화
+        StepVerifier.create(tokenRevocationService.sync()).verifyComplete();
+        StepVerifier.create(tokenRevocationService.sync()).verifyComplete();
+
+        // Then: 첫 조회는 전체, 두 번째는 직전 조회 시각 - 겹침 구간부터
+        assertThat(tokenRevocationService.isRevoked("jti-other-node")).isTrue();
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findActiveRevokedSince(since.capture(), any(LocalDateTime.class));
+        assertThat(since.getAllValues().get(0).getYear()).isEqualTo(1970);
+        assertThat(since.getAllValues().get(1)).isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+}
@@ -0,0 +1,80 @@
+package com.nalsil.bear.service;
+
+import com.nalsil.bear.domain.youtube.YoutubeVideo;
+import com.nalsil.bear.domain.youtube.YoutubeVideoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * YoutubeMetadataBackfill 단위 테스트
+ * 키셋 묶음 진행, 해석할 수 없는 URL 건너뛰기, 스냅샷 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class YoutubeMetadataBackfillTest {
+
+    @Mock
+    private YoutubeVideoRepository youtubeVideoRepository;
+
+    @Mock
+    private TenantReadModel tenantReadModel;
+
+    private YoutubeVideo video(long id, long companyId, String url) {
+        return YoutubeVideo.builder().id(id).companyId(companyId).videoUrl(url).build();
+    }
+
+    @Test
+    @DisplayName("메타데이터 일괄 채우기 - 묶음 단위로 진행하고 잘못된 URL은 건너뜀")
+    void testBackfill() {
+        // Given: 묶음 크기 2, 3개 행 (그중 1개는 유튜브 URL이 아님)
+        YoutubeMetadataBackfill backfill = new YoutubeMetadataBackfill(youtubeVideoRepository, tenantReadModel, 2, true);
+        when(youtubeVideoRepository.findWithoutVideoIdAfter(0L, 2)).thenReturn(Flux.just(
+                video(1L, 1L, "https://youtu.be/dQw4w9WgXcQ"),
+                video(2L, 1L, "https://example.com/video")));
+        when(youtubeVideoRepository.findWithoutVideoIdAfter(2L, 2)).thenReturn(Flux.just(
+                video(3L, 2L, "https://www.youtube.com/shorts/aBcDeFgHiJk")));
+        when(youtubeVideoRepository.updateMetadata(1L, "https://youtu.be/dQw4w9WgXcQ", "dQw4w9WgXcQ",
+                "https://www.youtube.com/embed/dQw4w9WgXcQ", "https://img.youtube.com/vi/dQw4w9WgXcQ/hqdefault.jpg"))
+                .thenReturn(Mono.just(1));
+        when(youtubeVideoRepository.updateMetadata(3L, "https://www.youtube.com/shorts/aBcDeFgHiJk", "aBcDeFgHiJk",
+                "https://www.youtube.com/embed/aBcDeFgHiJk", "https://img.youtube.com/vi/aBcDeFgHiJk/hqdefault.jpg"))
+                .thenReturn(Mono.just(1));
+        when(tenantReadModel.refresh(1L)).thenReturn(Mono.empty());
+        when(tenantReadModel.refresh(2L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(backfill.backfill())
+                .expectNext(2L)
+                .verifyComplete();
+        verify(youtubeVideoRepository, never()).updateMetadata(eq(2L), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메타데이터 일괄 채우기 - 그 사이 관리자가 수정한 행(0건 변경)은 집계/스냅샷 갱신 제외")
+    void testBackfill_ConcurrentlyEdited() {
+        // Given: 읽은 뒤 관리자가 URL을 바꿔 조건부 UPDATE가 0건
+        YoutubeMetadataBackfill backfill = new YoutubeMetadataBackfill(youtubeVideoRepository, tenantReadModel, 2, true);
+        when(youtubeVideoRepository.findWithoutVideoIdAfter(0L, 2)).thenReturn(Flux.just(
+                video(1L, 1L, "https://youtu.be/dQw4w9WgXcQ")));
+        when(youtubeVideoRepository.updateMetadata(1L, "https://youtu.be/dQw4w9WgXcQ", "dQw4w9WgXcQ",
+                "https://www.youtube.com/embed/dQw4w9WgXcQ", "https://img.youtube.com/vi/dQw4w9WgXcQ/hqdefault.jpg"))
+                .thenReturn(Mono.just(0));
+
+        // When & Then
+        StepVerifier.create(backfill.backfill())
+                .expectNext(0L)
+                .verifyComplete();
+        verify(tenantReadModel, never()).refresh(any());
+    }
+}
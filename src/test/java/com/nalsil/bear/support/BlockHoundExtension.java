@@ -0,0 +1,52 @@
+package com.nalsil.bear.support;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.blockhound.BlockHound;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BlockHound 테스트 확장
+ *
+ * ./gradlew blockHoundTest 실행 시 자동 등록되어(junit.jupiter.extensions.autodetection.enabled)
+ * Netty 이벤트 루프, Reactor parallel/single 스레드 등 논블로킹 스레드에서 블로킹 호출이 일어나면 테스트를 실패시킵니다.
+ * (Mono.block(), 동기 파일/소켓 입출력, Thread.sleep 등)
+ *
+ * BCrypt 해시/검증은 입출력은 없지만 수십~수백 ms CPU를 점유하므로 블로킹 호출로 취급합니다.
+ * 블로킹 작업은 blockingScheduler(BlockingSchedulerConfig)에서 실행해야 합니다.
+ *
+ * MockServer 기반 테스트는 요청을 테스트 스레드에서 처리하므로, 이벤트 루프 경로는 실제 서버를 띄우는
+ * AdminLoginServerTest(RANDOM_PORT)가 검사하고 설치 여부는 BlockHoundSanityTest가 확인합니다.
+ */
+public class BlockHoundExtension implements BeforeAllCallback {
+
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    /**
+     * 이 JVM에 BlockHound가 설치되었는지 여부 (blockHoundTest 실행 시에만 true)
+     *
+     * @return 설치 여부
+     */
+    public static boolean isInstalled() {
+        return INSTALLED.get();
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!INSTALLED.compareAndSet(false, true)) {
+            return;
+        }
+        BlockHound.install(builder -> builder
+                .markAsBlocking(BCryptPasswordEncoder.class, "encode", "(Ljava/lang/CharSequence;)Ljava/lang/String;")
+                .markAsBlocking(BCryptPasswordEncoder.class, "matches", "(Ljava/lang/CharSequence;Ljava/lang/String;)Z")
+                // JWT ID 생성(UUID.randomUUID)의 /dev/urandom 읽기는 대기하지 않으므로 허용
+                .allowBlockingCallsInside("java.util.UUID", "randomUUID")
+                // 테스트용 H2 인메모리 DB는 드라이버가 호출 스레드에서 동기 실행하므로 허용 (운영 PostgreSQL 드라이버는 논블로킹)
+                .allowBlockingCallsInside("org.h2.command.Command", "executeQuery")
+                .allowBlockingCallsInside("org.h2.command.Command", "executeUpdate")
+                // 콘솔 로그 출력은 허용 (테스트 로그가 논블로킹 스레드에서 기록되는 경우)
+                .allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "subAppend"));
+    }
+}
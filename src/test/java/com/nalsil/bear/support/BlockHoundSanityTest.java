@@ -0,0 +1,95 @@
+package com.nalsil.bear.support;
+
+import com.nalsil.bear.domain.board.Board;
+import com.nalsil.bear.domain.post.Post;
+import com.nalsil.bear.domain.post.PostPopularityRepository;
+import com.nalsil.bear.service.PopularPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * BlockHound 설치 확인 테스트
+ * blockHoundTest에서 논블로킹 스레드의 블로킹 호출이 실제로 거부되는지 검증 (일반 test에서는 건너뜀)
+ */
+class BlockHoundSanityTest {
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(BlockHoundExtension.isInstalled(), "BlockHound는 ./gradlew blockHoundTest에서만 설치됨");
+    }
+
+    @Test
+    @DisplayName("논블로킹 스레드의 Thread.sleep - 거부")
+    void testSleepOnParallel_Rejected() {
+        // Given
+        Mono<Long> blocking = Mono.fromCallable(() -> {
+            Thread.sleep(10);
+            return 1L;
+        }).subscribeOn(Schedulers.parallel());
+
+        // When & Then
+        StepVerifier.create(blocking)
+                .expectError(BlockingOperationError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("논블로킹 스레드의 BCrypt 해시 - 블로킹 호출로 거부")
+    void testBcryptOnParallel_Rejected() {
+        // Given
+        Mono<String> blocking = Mono.fromCallable(() -> new BCryptPasswordEncoder().encode("password"))
+                .subscribeOn(Schedulers.parallel());
+
+        // When & Then
+        StepVerifier.create(blocking)
+                .expectError(BlockingOperationError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("논블로킹 스레드의 인기 게시글 조회 기록 - 잠금 없이 허용")
+    void testRecordViewOnParallel_Allowed() {
+        // Given
+        PopularPostService popularPostService =
+                new PopularPostService(mock(PostPopularityRepository.class), 5, Duration.ofHours(24));
+        Board board = Board.builder().id(1L).companyId(10L).type("notice").name("공지사항").build();
+        Mono<Integer> views = Mono.fromCallable(() -> {
+            for (long postId = 1; postId <= 100; postId++) {
+                popularPostService.recordView(board, Post.builder().id(postId).boardId(1L).title("게시글").build());
+                popularPostService.remove(postId - 1);
+            }
+            return popularPostService.getPopularPostsByBoardId(1L).size();
+        }).subscribeOn(Schedulers.parallel());
+
+        // When & Then
+        StepVerifier.create(views)
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("블로킹 허용 스레드의 Thread.sleep - 허용")
+    void testSleepOnBoundedElastic_Allowed() {
+        // Given
+        Mono<Long> blocking = Mono.fromCallable(() -> {
+            Thread.sleep(10);
+            return 1L;
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        // When & Then
+        StepVerifier.create(blocking)
+                .expectNext(1L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,119 @@
+package com.nalsil.bear.support;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * 실행 계획/파티셔닝 테스트용 대량 데이터 (PostgreSQL)
+ *
+ * 기업 200개, 게시판 800개, 게시글 20만, QnA 10만, 상품 4만, FAQ/영상 2만 등 운영 DB 규모의 데이터입니다.
+ * 조회 대상 상수는 아래 배치 규칙으로 정해집니다.
+ * - 게시판 i는 기업 (i - 1) / 4 + 1, 게시글 i는 게시판 i % 800 + 1
+ * - QnA/FAQ/상품/영상 i는 기업 i % 200 + 1
+ */
+public final class LargeTenantDataset {
+
+    /**
+     * 조회 대상 기업 ID
+     */
+    public static final long COMPANY_ID = 17;
+
+    /**
+     * 조회 대상 게시판 ID (기업 17의 첫 게시판)
+     */
+    public static final long BOARD_ID = 65;
+
+    /**
+     * 조회 대상 게시글 ID (게시판 65)
+     */
+    public static final long POST_ID = 864;
+
+    /**
+     * 조회 대상 QnA ID (기업 17)
+     */
+    public static final long QNA_ID = 216;
+
+    /**
+     * 시드 데이터
+     * 행 번호 i를 기업/게시판에 나머지로 배정하여 같은 기업의 행이 여러 페이지에 흩어지게 합니다. (운영 DB와 같은 분포)
+     */
+    private static final String SEED = """
+            SET session_replication_role = replica;
+
+            INSERT INTO company (code, name, is_active)
+            SELECT 'company-' || i, '기업 ' || i, i % 20 <> 0 FROM generate_series(1, 200) i;
+
+            INSERT INTO admin (username, password_hash, name, email, role, company_id)
+            SELECT 'admin-' || c || '-' || n, 'hash', '관리자', 'admin' || c || '@example.com', 'ADMIN', c
+            FROM generate_series(1, 200) c, generate_series(1, 2) n;
+            INSERT INTO admin (username, password_hash, name, email, role)
+            SELECT 'superadmin-' || n, 'hash', '슈퍼관리자', 'super@example.com', 'SUPER_ADMIN' FROM generate_series(1, 2) n;
+
+            INSERT INTO board (company_id, name, type)
+            SELECT (i - 1) / 4 + 1, '게시판 ' || i, (ARRAY['notice', 'press', 'free', 'gallery'])[(i - 1) % 4 + 1]
+            FROM generate_series(1, 800) i;
+
+            INSERT INTO post (board_id, title, content, author, view_count, is_hidden, created_at, updated_at)
+            SELECT i % 800 + 1, '게시글 ' || i, repeat('본문 ', 40), '작성자', i % 1000, i % 10 = 0,
+                   now() - i * interval '1 minute', now() - i * interval '1 minute'
+            FROM generate_series(1, 200000) i;
+
+            INSERT INTO post_popularity (post_id, score, scored_at)
+            SELECT i * 10, (i % 100) / 10.0, CASE WHEN i % 100 = 0 THEN now() - interval '1 hour' ELSE now() END
+            FROM generate_series(1, 20000) i;
+
+            INSERT INTO faq (company_id, category, question, answer, display_order, is_hidden)
+            SELECT i % 200 + 1, 'category-' || (i / 200) % 5, '질문 ' || i, repeat('답변 ', 40), i / 200, i % 20 = 0
+            FROM generate_series(1, 20000) i;
+
+            INSERT INTO qna (company_id, question_title, question_body, asker_email, answer_body,
+                             is_answered, is_hidden, created_at, answered_at)
+            SELECT i % 200 + 1, '질문 ' || i, repeat('질문 본문 ', 20), 'user' || i % 5000 || '@example.com',
+                   CASE WHEN i % 3 <> 0 THEN repeat('답변 ', 20) END, i % 3 <> 0, i % 20 = 0,
+                   now() - i * interval '1 minute',
+                   CASE WHEN i % 3 <> 0 THEN now() - i * interval '1 minute' + interval '1 hour' END
+            FROM generate_series(1, 100000) i;
+
+            INSERT INTO qna_notification_outbox (company_id, qna_id, event_type, status, attempts, next_attempt_at, sent_at)
+            SELECT i % 200 + 1, i, 'QUESTION_CREATED', CASE WHEN i % 1000 = 0 THEN 'PENDING' ELSE 'SENT' END, 1,
+                   now() - i * interval '1 minute', CASE WHEN i % 1000 <> 0 THEN now() - i * interval '1 minute' END
+            FROM generate_series(1, 20000) i;
+
+            INSERT INTO youtube_video (company_id, video_url, title, thumbnail_url, display_order, is_hidden, video_id, embed_url)
+            SELECT i % 200 + 1, 'https://www.youtube.com/watch?v=' || v, '영상 ' || i,
+                   'https://img.youtube.com/vi/' || v || '/hqdefault.jpg', i / 200, i % 20 = 0,
+                   CASE WHEN i % 1000 <> 0 THEN v END,
+                   CASE WHEN i % 1000 <> 0 THEN 'https://www.youtube.com/embed/' || v END
+            FROM (SELECT i, lpad(i::text, 11, '0') AS v FROM generate_series(1, 20000) i) videos;
+
+            INSERT INTO product (company_id, name, category, description, price, display_order, is_hidden)
+            SELECT i % 200 + 1, '상품 ' || i, 'category-' || (i / 200) % 10, repeat('설명 ', 40), 10000 + i, i / 200, i % 10 = 0
+            FROM generate_series(1, 40000) i;
+
+            INSERT INTO revoked_token (jti, admin_id, expires_at, revoked_at)
+            SELECT md5(i::text), i % 400 + 1, now() - i * interval '1.7 seconds' + interval '1 day',
+                   now() - i * interval '1.7 seconds'
+            FROM generate_series(1, 50000) i;
+
+            SET session_replication_role = DEFAULT;
+            """;
+
+    private LargeTenantDataset() {
+    }
+
+    /**
+     * 운영 스키마 적용, 데이터 적재 후 통계 갱신 (자동 커밋 연결)
+     *
+     * @param connection PostgreSQL 연결
+     */
+    public static void load(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            // 테스트 리소스의 schema.sql은 H2용이므로 운영 스키마를 파일에서 읽음
+            statement.execute(Files.readString(Path.of("src/main/resources/schema.sql")));
+            statement.execute(SEED);
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nalsil.bear.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nalsil.bear.cache.NoSharedCacheStore;
+import com.nalsil.bear.cache.SharedCacheStore;
+import com.nalsil.bear.cache.TieredCacheManager;
+import com.nalsil.bear.config.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 단위 테스트용 TieredCacheManager 생성
+ */
+public final class TestCacheManagers {
+
+    private TestCacheManagers() {
+    }
+
+    /**
+     * L1만 사용하는 캐시 (기본 영역 설정, 테스트마다 새로 생성)
+     */
+    public static TieredCacheManager l1Only() {
+        return create(new NoSharedCacheStore(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * 지정한 공유 저장소를 L2로 사용하는 캐시
+     *
+     * @param sharedStore L2 공유 저장소
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public static TieredCacheManager create(SharedCacheStore sharedStore, MeterRegistry meterRegistry) {
+        return create(new CacheProperties(), sharedStore, meterRegistry);
+    }
+
+    /**
+     * 지정한 설정과 공유 저장소로 캐시 생성
+     *
+     * @param properties 캐시 설정
+     * @param sharedStore L2 공유 저장소
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public static TieredCacheManager create(CacheProperties properties, SharedCacheStore sharedStore,
+                                            MeterRegistry meterRegistry) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new TieredCacheManager(properties, sharedStore, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.nalsil.bear.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ClientIpResolver 단위 테스트
+ * 직접 연결 주소와 신뢰하는 프록시의 X-Forwarded-For 처리 검증
+ */
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "192.168.1.10"));
+
+    private static MockServerHttpRequest request(String peer, String... forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.post("/company-a/qna")
+                .remoteAddress(new InetSocketAddress(peer, 443));
+        if (forwardedFor.length > 0) {
+            builder.header("X-Forwarded-For", forwardedFor);
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 - 오른쪽부터 신뢰하지 않는 첫 주소 사용")
+    void testResolve_TrustedProxy() {
+        // 클라이언트가 보낸 첫 값(위조 가능)은 무시
+        assertThat(resolver.resolve(request("10.1.2.3", "1.1.1.1, 203.0.113.7, 10.2.0.1")))
+                .isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("192.168.1.10", "203.0.113.8")))
+                .isEqualTo("203.0.113.8");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소 - X-Forwarded-For 무시")
+    void testResolve_UntrustedPeer() {
+        assertThat(resolver.resolve(request("198.51.100.4", "203.0.113.7")))
+                .isEqualTo("198.51.100.4");
+        assertThat(resolver.resolve(request("192.168.1.11", "203.0.113.7")))
+                .isEqualTo("192.168.1.11");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시지만 클라이언트 주소를 알 수 없음 - null")
+    void testResolve_TrustedProxyWithoutClient() {
+        assertThat(resolver.resolve(request("10.1.2.3"))).isNull();
+        assertThat(resolver.resolve(request("10.1.2.3", "10.2.0.1"))).isNull();
+        assertThat(resolver.resolve(request("10.1.2.3", "unknown"))).isNull();
+    }
+
+    @Test
+    @DisplayName("trusted-proxies 미설정 - 직접 연결 주소 사용, 사설망 프록시 경유는 null")
+    void testResolve_NoTrustedProxies() {
+        ClientIpResolver direct = new ClientIpResolver(List.of());
+
+        assertThat(direct.resolve(request("198.51.100.4"))).isEqualTo("198.51.100.4");
+        // 외부에서 직접 보낸 X-Forwarded-For로는 IP 제한을 피할 수 없음
+        assertThat(direct.resolve(request("198.51.100.4", "203.0.113.7"))).isEqualTo("198.51.100.4");
+        assertThat(direct.resolve(request("10.1.2.3", "203.0.113.7"))).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 trusted-proxies 값 - 시작 시 예외")
+    void testInvalidTrustedProxy() {
+        assertThatThrownBy(() -> new ClientIpResolver(List.of("proxy.internal")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ClientIpResolver(List.of("10.0.0.0/33")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.nalsil.bear.util;
+
+import com.nalsil.bear.exception.NotModifiedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConditionalGetSupport 단위 테스트
+ * ETag 기반 조건부 GET 처리 검증
+ */
+class ConditionalGetSupportTest {
+
+    private final ConditionalGetSupport conditionalGetSupport = new ConditionalGetSupport("1");
+
+    @Test
+    @DisplayName("If-None-Match 없음 - ETag와 Cache-Control 설정 후 정상 진행")
+    void testCheckNotModified_FirstRequest() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/company-a/products/1"));
+
+        // When & Then
+        StepVerifier.create(conditionalGetSupport.checkNotModified(exchange, null, 1L, "content"))
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().getETag()).startsWith("W/\"");
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).contains("no-cache");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 - NotModifiedException 및 304 상태")
+    void testCheckNotModified_Matched() {
+        // Given
+        String etag = conditionalGetSupport.buildEtag(1L, "content");
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/company-a/products/1").ifNoneMatch(etag));
+
+        // When & Then
+        StepVerifier.create(conditionalGetSupport.checkNotModified(exchange, null, 1L, "content"))
+                .expectError(NotModifiedException.class)
+                .verify();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("내용 변경 - 이전 ETag로 요청해도 정상 진행")
+    void testCheckNotModified_Changed() {
+        // Given
+        String oldEtag = conditionalGetSupport.buildEtag(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/company-a/products/1").ifNoneMatch(oldEtag));
+
+        // When & Then
+        StepVerifier.create(conditionalGetSupport.checkNotModified(exchange, null, 1L, LocalDateTime.of(2025, 1, 2, 0, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("ETag 형식 - SHA-256 앞 128비트를 16진수로 표현한 약한 ETag")
+    void testBuildEtag_Format() {
+        // When
+        String etag = conditionalGetSupport.buildEtag(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        // Then
+        assertThat(etag).matches("W/\"[0-9a-f]{32}\"");
+        assertThat(conditionalGetSupport.buildEtag(1L, LocalDateTime.of(2025, 1, 1, 0, 0))).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("ETag 구분 - 값 경계, 버전, 템플릿 버전이 다르면 다른 ETag")
+    void testBuildEtag_Distinct() {
+        // When & Then: 이어 붙인 문자열이 같아도 구성 값 경계가 다르면 구분
+        assertThat(conditionalGetSupport.buildEtag("ab", "c"))
+                .isNotEqualTo(conditionalGetSupport.buildEtag("a", "bc"));
+        assertThat(conditionalGetSupport.buildEtag(1L, 1L))
+                .isNotEqualTo(conditionalGetSupport.buildEtag(1L, 2L));
+        assertThat(new ConditionalGetSupport("2").buildEtag(1L, 1L))
+                .isNotEqualTo(conditionalGetSupport.buildEtag(1L, 1L));
+    }
+}
@@ -0,0 +1,65 @@
+package com.nalsil.bear.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DebugSamplingTurboFilter 단위 테스트
+ * 대상 패키지 DEBUG 로그만 샘플링하고 나머지는 그대로 통과시키는지 검증
+ */
+class DebugSamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private DebugSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new DebugSamplingTurboFilter();
+        filter.setLoggerPrefix("com.nalsil.bear");
+    }
+
+    private FilterReply decide(String loggerName, Level level, String format) {
+        Logger logger = loggerContext.getLogger(loggerName);
+        return filter.decide(null, logger, level, format, null, null);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 - 대상 패키지 DEBUG 로그는 모두 버림")
+    void testDecide_DropsDebug() {
+        // Given
+        filter.setSampleRate(0.0);
+
+        // When & Then
+        assertThat(decide("com.nalsil.bear.service.PostService", Level.DEBUG, "Found post: {}")).isEqualTo(FilterReply.DENY);
+        assertThat(decide("com.nalsil.bear.service.PostService", Level.TRACE, "trace")).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 - INFO 이상, 다른 패키지, 레벨 확인 호출은 그대로 통과")
+    void testDecide_PassesOthers() {
+        // Given
+        filter.setSampleRate(0.0);
+
+        // When & Then
+        assertThat(decide("com.nalsil.bear.service.PostService", Level.INFO, "Creating post")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("org.springframework.web", Level.DEBUG, "request")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("com.nalsil.bear.service.PostService", Level.DEBUG, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 1 - 모두 통과")
+    void testDecide_FullRate() {
+        // Given
+        filter.setSampleRate(1.0);
+
+        // When & Then
+        assertThat(decide("com.nalsil.bear.service.PostService", Level.DEBUG, "Found post: {}")).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
@@ -0,0 +1,64 @@
+package com.nalsil.bear.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestTimings 단위 테스트
+ * Reactor Context를 통한 단계별 시간 기록과 Server-Timing 헤더 형식 검증
+ */
+class RequestTimingsTest {
+
+    @Test
+    @DisplayName("요청 컨텍스트가 있으면 단계별로 기록")
+    void testTime_RecordsPhases() {
+        // Given
+        RequestTimings timings = new RequestTimings();
+        Mono<String> tenant = RequestTimings.time(RequestTimings.TENANT, "company-a", Mono.just("company"));
+        Flux<Integer> posts = RequestTimings.time(RequestTimings.DB, "PostRepository.findByBoardId", Flux.just(1, 2));
+        Mono<Long> count = RequestTimings.time(RequestTimings.DB, "PostRepository.countByBoardId", Mono.just(2L));
+
+        // When
+        StepVerifier.create(tenant.thenMany(posts).then(count)
+                        .contextWrite(context -> context.put(RequestTimings.CONTEXT_KEY, timings)))
+                .expectNext(2L)
+                .verifyComplete();
+
+        // Then
+        assertThat(timings.totals()).containsKeys(RequestTimings.TENANT, RequestTimings.DB);
+        String header = timings.toServerTimingHeader();
+        assertThat(header).startsWith("tenant;dur=");
+        assertThat(header).contains("db;dur=", "desc=\"2 calls\"",
+                "db-1;dur=", "desc=\"PostRepository.findByBoardId\"",
+                "db-2;dur=", "desc=\"PostRepository.countByBoardId\"",
+                "total;dur=");
+        assertThat(header).doesNotContain("render");
+    }
+
+    @Test
+    @DisplayName("요청 컨텍스트가 없으면 측정 없이 그대로 실행")
+    void testTime_WithoutContext() {
+        StepVerifier.create(RequestTimings.time(RequestTimings.DB, "PostRepository.findById", Mono.just("post")))
+                .expectNext("post")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("렌더링 중 헤더 작성 - 첫 청크까지의 시간으로 표시")
+    void testToServerTimingHeader_RenderInProgress() {
+        // Given
+        RequestTimings timings = new RequestTimings();
+        timings.markRenderStarted();
+
+        // When
+        String header = timings.toServerTimingHeader();
+
+        // Then
+        assertThat(header).contains("render;dur=", "desc=\"until first chunk\"");
+    }
+}
@@ -0,0 +1,68 @@
+package com.nalsil.bear.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RevocationFilter 단위 테스트
+ * 폐기 여부 판정, 만료 정리, 예상 항목 수 초과 시 확장 검증
+ */
+class RevocationFilterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long EXPIRES_AT = NOW + 60_000;
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기로 판정")
+    void testIsRevoked() {
+        // Given
+        RevocationFilter filter = new RevocationFilter(1000, 0.001);
+        filter.add("revoked-jti", EXPIRES_AT);
+
+        // When & Then
+        assertThat(filter.isRevoked("revoked-jti", NOW)).isTrue();
+        assertThat(filter.isRevoked("other-jti", NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 폐기 판정 해제 후 정리")
+    void testPurgeExpired() {
+        // Given
+        RevocationFilter filter = new RevocationFilter(1000, 0.001);
+        filter.add("expired-jti", NOW - 1);
+        filter.add("active-jti", EXPIRES_AT);
+
+        // When
+        int purged = filter.purgeExpired(NOW);
+
+        // Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(filter.size()).isEqualTo(1);
+        assertThat(filter.isRevoked("expired-jti", NOW)).isFalse();
+        assertThat(filter.isRevoked("active-jti", NOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 항목 수를 넘어도 모든 폐기 토큰을 판정하고 오탐이 없음")
+    void testAdd_BeyondExpectedInsertions() {
+        // Given: 예상 100개, 실제 1000개
+        RevocationFilter filter = new RevocationFilter(100, 0.01);
+        String[] revoked = new String[1000];
+        for (int i = 0; i < revoked.length; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+            filter.add(revoked[i], EXPIRES_AT);
+        }
+
+        // When & Then
+        for (String tokenId : revoked) {
+            assertThat(filter.isRevoked(tokenId, NOW)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.isRevoked(UUID.randomUUID().toString(), NOW)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nalsil.bear.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * YoutubeUrlParser 단위 테스트
+ * 지원 URL 형식별 영상 ID 추출과 잘못된 URL 거부 검증
+ */
+class YoutubeUrlParserTest {
+
+    private static final String VIDEO_ID = "dQw4w9WgXcQ";
+
+    @ParameterizedTest
+    @DisplayName("지원 형식에서 영상 ID 추출")
+    @ValueSource(strings = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&t=42s",
+            "https://www.youtube.com/watch?feature=share&v=dQw4w9WgXcQ",
+            "http://youtube.com/watch?v=dQw4w9WgXcQ#comments",
+            "https://m.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://music.youtube.com/watch?v=dQw4w9WgXcQ&list=RD",
+            "www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "HTTPS://WWW.YOUTUBE.COM/watch?v=dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ?si=abc",
+            "https://www.youtube.com/shorts/dQw4w9WgXcQ",
+            "https://youtube.com/shorts/dQw4w9WgXcQ?feature=share",
+            "https://www.youtube.com/embed/dQw4w9WgXcQ",
+            "https://www.youtube-nocookie.com/embed/dQw4w9WgXcQ?rel=0",
+            "https://www.youtube.com/live/dQw4w9WgXcQ",
+            "  https://www.youtube.com/watch?v=dQw4w9WgXcQ  "
+    })
+    void testExtractVideoId_Supported(String url) {
+        assertThat(YoutubeUrlParser.extractVideoId(url)).isEqualTo(VIDEO_ID);
+    }
+
+    @ParameterizedTest
+    @DisplayName("유튜브 URL이 아니거나 ID 형식이 아니면 null")
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "https://example.com/watch?v=dQw4w9WgXcQ",
+            "https://notyoutube.com/watch?v=dQw4w9WgXcQ",
+            "https://youtube.com.evil.com/watch?v=dQw4w9WgXcQ",
+            "https://www.youtube.com/watch?v=short",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQextra",
+            "https://www.youtube.com/watch?list=RD",
+            "https://www.youtube.com/watch#v=dQw4w9WgXcQ",
+            "https://www.youtube.com/channel/UCabcdefghij",
+            "https://youtu.be/"
+    })
+    void testExtractVideoId_Rejected(String url) {
+        assertThat(YoutubeUrlParser.extractVideoId(url)).isNull();
+    }
+
+    @Test
+    @DisplayName("embed/썸네일 URL 작성")
+    void testEmbedAndThumbnailUrl() {
+        assertThat(YoutubeUrlParser.embedUrl(VIDEO_ID)).isEqualTo("https://www.youtube.com/embed/dQw4w9WgXcQ");
+        assertThat(YoutubeUrlParser.thumbnailUrl(VIDEO_ID)).isEqualTo("https://img.youtube.com/vi/dQw4w9WgXcQ/hqdefault.jpg");
+        assertThat(YoutubeUrlParser.embedUrl(null)).isNull();
+        assertThat(YoutubeUrlParser.thumbnailUrl(null)).isNull();
+    }
+}
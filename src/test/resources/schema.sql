@@ -33,6 +33,14 @@ CREATE TABLE IF NOT EXISTS admin (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Revoked token table
+CREATE TABLE IF NOT EXISTS revoked_token (
+    jti VARCHAR(64) PRIMARY KEY,
+    admin_id BIGINT,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Board table
 CREATE TABLE IF NOT EXISTS board (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -52,10 +60,18 @@ CREATE TABLE IF NOT EXISTS post (
     view_count INTEGER DEFAULT 0,
     file_path VARCHAR(500),
     is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Post popularity table
+CREATE TABLE IF NOT EXISTS post_popularity (
+    post_id BIGINT PRIMARY KEY REFERENCES post(id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    scored_at TIMESTAMP NOT NULL
+);
+
 -- FAQ table
 CREATE TABLE IF NOT EXISTS faq (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -79,10 +95,25 @@ CREATE TABLE IF NOT EXISTS qna (
     answerer_id BIGINT REFERENCES admin(id) ON DELETE SET NULL,
     is_answered BOOLEAN DEFAULT FALSE,
     is_hidden BOOLEAN DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     answered_at TIMESTAMP
 );
 
+-- QnA notification outbox table
+CREATE TABLE IF NOT EXISTS qna_notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    company_id BIGINT NOT NULL REFERENCES company(id) ON DELETE CASCADE,
+    qna_id BIGINT NOT NULL REFERENCES qna(id) ON DELETE CASCADE,
+    event_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
 -- YouTube Video table
 CREATE TABLE IF NOT EXISTS youtube_video (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -90,10 +121,13 @@ CREATE TABLE IF NOT EXISTS youtube_video (
     video_url VARCHAR(500) NOT NULL,
     title VARCHAR(200) NOT NULL,
     description TEXT,
+    video_id VARCHAR(20),
+    embed_url VARCHAR(100),
     thumbnail_url VARCHAR(500),
     display_order INTEGER DEFAULT 0,
     is_hidden BOOLEAN DEFAULT FALSE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 -- Product table